@@ -0,0 +1,327 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.cache.annotation.CacheableAll;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} applying bulk caching to methods annotated with {@link CacheableAll}.
+ *
+ * Cached values for all keys are retrieved from each {@link Cache} in a single operation, the method is invoked
+ * with only the keys that were not cached, and the loaded values are stored in each {@link Cache} in a single
+ * operation. Values found in a {@link Cache} are also stored in the preceding {@link Cache caches} that missed them.
+ * Bulk operations use {@link GemfireCache#getAll(Collection)} and {@link GemfireCache#putAll(Map)};
+ * other {@link Cache} implementations are accessed one key at a time.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.annotation.CacheableAll
+ * @since 2.5.0
+ */
+public class CacheableAllInterceptor implements MethodInterceptor {
+
+	private final Map<Method, CacheableAllMetadata> metadataCache = new ConcurrentHashMap<>();
+
+	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+	private final Supplier<CacheManager> cacheManagerSupplier;
+
+	/**
+	 * Constructs a new instance of {@link CacheableAllInterceptor} initialized with the given {@link CacheManager}.
+	 *
+	 * @param cacheManager {@link CacheManager} used to resolve the {@link Cache caches}.
+	 * @throws IllegalArgumentException if {@link CacheManager} is {@literal null}.
+	 */
+	public CacheableAllInterceptor(@NonNull CacheManager cacheManager) {
+
+		Assert.notNull(cacheManager, "CacheManager must not be null");
+
+		this.cacheManagerSupplier = () -> cacheManager;
+	}
+
+	/**
+	 * Constructs a new instance of {@link CacheableAllInterceptor} initialized with the given {@link Supplier}
+	 * used to lazily resolve the {@link CacheManager}.
+	 *
+	 * @param cacheManagerSupplier {@link Supplier} used to resolve the {@link CacheManager}.
+	 * @throws IllegalArgumentException if {@link Supplier} is {@literal null}.
+	 */
+	public CacheableAllInterceptor(@NonNull Supplier<CacheManager> cacheManagerSupplier) {
+
+		Assert.notNull(cacheManagerSupplier, "CacheManager Supplier must not be null");
+
+		this.cacheManagerSupplier = cacheManagerSupplier;
+	}
+
+	protected CacheManager getCacheManager() {
+		return this.cacheManagerSupplier.get();
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		CacheableAllMetadata metadata = resolveMetadata(invocation);
+
+		Object[] arguments = invocation.getArguments();
+
+		Collection<?> keys = metadata != null ? (Collection<?>) arguments[metadata.keyParameterIndex] : null;
+
+		if (keys == null || keys.isEmpty()) {
+			return invocation.proceed();
+		}
+
+		List<Cache> caches = resolveCaches(metadata);
+
+		Map<Object, Object> cachedValues = new HashMap<>();
+
+		Set<Object> missingKeys = new LinkedHashSet<>(keys);
+
+		for (int index = 0; index < caches.size() && !missingKeys.isEmpty(); index++) {
+
+			Map<Object, Object> values = getAll(caches.get(index), missingKeys);
+
+			if (!values.isEmpty()) {
+
+				for (Cache precedingCache : caches.subList(0, index)) {
+					putAll(precedingCache, values);
+				}
+
+				cachedValues.putAll(values);
+				missingKeys.removeAll(values.keySet());
+			}
+		}
+
+		Map<?, ?> loadedValues = new HashMap<>();
+
+		if (!missingKeys.isEmpty()) {
+
+			arguments[metadata.keyParameterIndex] = metadata.newKeysArgument(missingKeys);
+
+			Object result = invocation.proceed();
+
+			if (result != null && !(result instanceof Map)) {
+				throw newIllegalStateException("Return value of @CacheableAll method [%1$s] must be a Map; was [%2$s]",
+					invocation.getMethod(), result.getClass().getName());
+			}
+
+			loadedValues = result != null ? (Map<?, ?>) result : loadedValues;
+
+			for (Cache cache : caches) {
+				putAll(cache, loadedValues);
+			}
+		}
+
+		Map<Object, Object> values = new LinkedHashMap<>();
+
+		for (Object key : keys) {
+			if (cachedValues.containsKey(key)) {
+				values.put(key, cachedValues.get(key));
+			}
+			else if (loadedValues.containsKey(key)) {
+				values.put(key, loadedValues.get(key));
+			}
+		}
+
+		loadedValues.forEach(values::putIfAbsent);
+
+		return values;
+	}
+
+	private CacheableAllMetadata resolveMetadata(MethodInvocation invocation) {
+
+		Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+
+		Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+
+		CacheableAllMetadata metadata = this.metadataCache.get(method);
+
+		if (metadata == null) {
+
+			CacheableAll cacheableAll = AnnotatedElementUtils.findMergedAnnotation(method, CacheableAll.class);
+
+			cacheableAll = cacheableAll != null ? cacheableAll
+				: AnnotatedElementUtils.findMergedAnnotation(invocation.getMethod(), CacheableAll.class);
+
+			if (cacheableAll == null) {
+				return null;
+			}
+
+			metadata = newMetadata(method, cacheableAll);
+
+			this.metadataCache.put(method, metadata);
+		}
+
+		return metadata;
+	}
+
+	private CacheableAllMetadata newMetadata(Method method, CacheableAll cacheableAll) {
+
+		if (ObjectUtils.isEmpty(cacheableAll.cacheNames())) {
+			throw newIllegalStateException("@CacheableAll method [%s] must declare at least one cache name", method);
+		}
+
+		if (!Map.class.isAssignableFrom(method.getReturnType())
+				|| !method.getReturnType().isAssignableFrom(LinkedHashMap.class)) {
+
+			throw newIllegalStateException("@CacheableAll method [%1$s] must return a Map; was [%2$s]",
+				method, method.getReturnType().getName());
+		}
+
+		int keyParameterIndex = resolveKeyParameterIndex(method, cacheableAll.keyParam());
+
+		Class<?> keyParameterType = method.getParameterTypes()[keyParameterIndex];
+
+		if (!keyParameterType.isAssignableFrom(ArrayList.class)
+				&& !keyParameterType.isAssignableFrom(LinkedHashSet.class)) {
+
+			throw newIllegalStateException("Keys parameter of @CacheableAll method [%1$s] must be a Collection,"
+				+ " List or Set; was [%2$s]", method, keyParameterType.getName());
+		}
+
+		return new CacheableAllMetadata(cacheableAll.cacheNames(), keyParameterIndex, keyParameterType);
+	}
+
+	private int resolveKeyParameterIndex(Method method, String keyParam) {
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		if (StringUtils.hasText(keyParam)) {
+
+			String[] parameterNames = this.parameterNameDiscoverer.getParameterNames(method);
+
+			for (int index = 0, length = parameterNames != null ? parameterNames.length : 0; index < length; index++) {
+				if (keyParam.equals(parameterNames[index])) {
+					return index;
+				}
+			}
+
+			throw newIllegalStateException("@CacheableAll method [%1$s] has no parameter named [%2$s]",
+				method, keyParam);
+		}
+
+		for (int index = 0; index < parameterTypes.length; index++) {
+			if (Collection.class.isAssignableFrom(parameterTypes[index])) {
+				return index;
+			}
+		}
+
+		throw newIllegalStateException(
+			"@CacheableAll method [%s] must declare a Collection parameter containing the keys", method);
+	}
+
+	private List<Cache> resolveCaches(CacheableAllMetadata metadata) {
+
+		List<Cache> caches = new ArrayList<>(metadata.cacheNames.length);
+
+		for (String cacheName : metadata.cacheNames) {
+
+			Cache cache = getCacheManager().getCache(cacheName);
+
+			if (cache == null) {
+				throw newIllegalStateException("Cache [%s] not found", cacheName);
+			}
+
+			caches.add(cache);
+		}
+
+		return caches;
+	}
+
+	private Map<Object, Object> getAll(Cache cache, Collection<?> keys) {
+
+		if (cache instanceof GemfireCache) {
+			return ((GemfireCache) cache).getAll(keys);
+		}
+
+		Map<Object, Object> values = new HashMap<>();
+
+		for (Object key : keys) {
+
+			Cache.ValueWrapper valueWrapper = cache.get(key);
+
+			if (valueWrapper != null) {
+				values.put(key, valueWrapper.get());
+			}
+		}
+
+		return values;
+	}
+
+	private void putAll(Cache cache, Map<?, ?> values) {
+
+		if (cache instanceof GemfireCache) {
+			((GemfireCache) cache).putAll(values);
+		}
+		else {
+			values.forEach((key, value) -> {
+				if (value != null) {
+					cache.put(key, value);
+				}
+			});
+		}
+	}
+
+	private static class CacheableAllMetadata {
+
+		private final String[] cacheNames;
+
+		private final int keyParameterIndex;
+
+		private final Class<?> keyParameterType;
+
+		private CacheableAllMetadata(String[] cacheNames, int keyParameterIndex, Class<?> keyParameterType) {
+			this.cacheNames = cacheNames;
+			this.keyParameterIndex = keyParameterIndex;
+			this.keyParameterType = keyParameterType;
+		}
+
+		private Collection<Object> newKeysArgument(Set<Object> keys) {
+
+			return this.keyParameterType.isAssignableFrom(ArrayList.class)
+				? new ArrayList<>(keys)
+				: new LinkedHashSet<>(keys);
+		}
+	}
+}
@@ -17,13 +17,30 @@
 
 package org.springframework.data.gemfire.cache;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
 /**
@@ -37,6 +54,22 @@ import org.springframework.util.Assert;
  */
 public class GemfireCache implements Cache {
 
+	private static final int DEFAULT_EXECUTOR_QUEUE_CAPACITY = 1024;
+
+	private static final Executor DEFAULT_EXECUTOR = newDefaultExecutor();
+
+	private static final Logger logger = LoggerFactory.getLogger(GemfireCache.class);
+
+	private volatile double refreshAheadRatio;
+
+	private volatile long refreshAheadTimeToLive;
+
+	private volatile long nextRefreshAheadPruneTime;
+
+	private volatile Executor executor = DEFAULT_EXECUTOR;
+
+	private final Map<Object, RefreshAheadEntry> refreshAheadEntries = new ConcurrentHashMap<>();
+
 	private final Region region;
 
 	/**
@@ -53,6 +86,28 @@ public class GemfireCache implements Cache {
 		return new GemfireCache(region);
 	}
 
+	private static Executor newDefaultExecutor() {
+
+		int poolSize = Runtime.getRuntime().availableProcessors();
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(DEFAULT_EXECUTOR_QUEUE_CAPACITY), runnable -> {
+
+				Thread thread = new Thread(runnable,
+					String.format("GemfireCache-Executor-%d", threadNumber.incrementAndGet()));
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
 	/**
 	 * Constructs an instance of {@link GemFireCache} initialized with the given GemFire {@link Region}.
 	 * The {@link Region} will function as the backing store and implementation for
@@ -66,6 +121,125 @@ public class GemfireCache implements Cache {
 		this.region = region;
 	}
 
+	/**
+	 * Sets the {@link Executor} used to asynchronously retrieve and refresh cache values.
+	 *
+	 * Defaults to a bounded pool of daemon threads, sized to the number of available processors, shared by all
+	 * {@link GemfireCache GemfireCaches}. Cache operations, which may block on the network, therefore never run
+	 * on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param executor {@link Executor} used to asynchronously retrieve and refresh cache values.
+	 * @throws IllegalArgumentException if {@link Executor} is {@literal null}.
+	 * @since 2.5.0
+	 */
+	public void setExecutor(@NonNull Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	protected Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Sets the fraction of the time-to-live (TTL) at the end of which cache values loaded by
+	 * {@link #get(Object, Callable)} are asynchronously reloaded.
+	 *
+	 * For example, a ratio of {@literal 0.2} reloads a value once it is read in the last 20% of its TTL, while
+	 * readers keep getting the current value. Defaults to {@literal 0}, which disables refresh-ahead.
+	 *
+	 * Refresh-ahead requires a value loader, so it only applies to {@link #get(Object, Callable)}, which is used
+	 * by {@literal @Cacheable(sync = true)}. Values read with {@link #get(Object)}, as by {@literal @Cacheable}
+	 * without {@literal sync}, are never refreshed ahead of their expiration.
+	 *
+	 * @param refreshAheadRatio fraction of the TTL at the end of which values are reloaded; must be greater than
+	 * or equal to {@literal 0} and less than {@literal 1}.
+	 * @throws IllegalArgumentException if the ratio is less than {@literal 0} or greater than equal to {@literal 1}.
+	 * @see #setRefreshAheadTimeToLive(long)
+	 * @since 2.5.0
+	 */
+	public void setRefreshAheadRatio(double refreshAheadRatio) {
+
+		Assert.isTrue(refreshAheadRatio >= 0.0d && refreshAheadRatio < 1.0d, () -> String.format(
+			"Refresh-ahead ratio [%s] must be greater than equal to 0 and less than 1", refreshAheadRatio));
+
+		this.refreshAheadRatio = refreshAheadRatio;
+	}
+
+	protected double getRefreshAheadRatio() {
+		return this.refreshAheadRatio;
+	}
+
+	/**
+	 * Sets the time-to-live (TTL) in milliseconds of the cache values used to determine when to refresh
+	 * a value ahead of its expiration.
+	 *
+	 * Defaults to {@literal 0}, which uses the entry time-to-live expiration configured on the {@link Region}.
+	 * Client {@link Region Regions} must set the TTL explicitly since expiration is configured on the servers;
+	 * loading values fails with an {@link IllegalStateException} when refresh-ahead is enabled
+	 * and no TTL can be resolved.
+	 *
+	 * @param refreshAheadTimeToLive TTL in milliseconds of the cache values.
+	 * @see #setRefreshAheadRatio(double)
+	 * @since 2.5.0
+	 */
+	public void setRefreshAheadTimeToLive(long refreshAheadTimeToLive) {
+		this.refreshAheadTimeToLive = Math.max(refreshAheadTimeToLive, 0L);
+	}
+
+	protected long getRefreshAheadTimeToLive() {
+
+		long refreshAheadTimeToLive = this.refreshAheadTimeToLive;
+
+		if (refreshAheadTimeToLive <= 0L && getNativeCache().getAttributes() != null) {
+
+			ExpirationAttributes entryTimeToLive = getNativeCache().getAttributes().getEntryTimeToLive();
+
+			refreshAheadTimeToLive = entryTimeToLive != null ? entryTimeToLive.getTimeout() * 1000L : 0L;
+		}
+
+		return refreshAheadTimeToLive;
+	}
+
+	/**
+	 * Resolves the time-to-live (TTL) in milliseconds used to refresh cache values ahead of their expiration.
+	 *
+	 * @return the resolved TTL, or {@literal 0} if refresh-ahead is disabled.
+	 * @throws IllegalStateException if refresh-ahead is enabled and neither an explicit TTL nor an entry TTL
+	 * on the {@link Region} is configured.
+	 * @see #setRefreshAheadTimeToLive(long)
+	 * @since 2.5.0
+	 */
+	protected long resolveRefreshAheadTimeToLive() {
+
+		if (isRefreshAheadEnabled()) {
+
+			long refreshAheadTimeToLive = getRefreshAheadTimeToLive();
+
+			Assert.state(refreshAheadTimeToLive > 0L, () -> String.format(
+				"Refresh-ahead is enabled for cache [%s] but no time-to-live is configured on the cache or the Region",
+					getName()));
+
+			return refreshAheadTimeToLive;
+		}
+
+		return 0L;
+	}
+
+	/**
+	 * Determines whether cache values loaded by {@link #get(Object, Callable)} are refreshed ahead of
+	 * their expiration.
+	 *
+	 * @return a boolean value indicating whether refresh-ahead is enabled.
+	 * @see #setRefreshAheadRatio(double)
+	 * @since 2.5.0
+	 */
+	public boolean isRefreshAheadEnabled() {
+		return getRefreshAheadRatio() > 0.0d;
+	}
+
 	/**
 	 * Returns the GemFire {@link Region} used as the implementation for this Spring {@link Cache}.
 	 *
@@ -93,6 +267,7 @@ public class GemfireCache implements Cache {
 	 */
 	public void clear() {
 		getNativeCache().clear();
+		this.refreshAheadEntries.clear();
 	}
 
 	/**
@@ -103,6 +278,7 @@ public class GemfireCache implements Cache {
 	 */
 	public void evict(Object key) {
 		getNativeCache().remove(key);
+		this.refreshAheadEntries.remove(key);
 	}
 
 	/**
@@ -115,11 +291,54 @@ public class GemfireCache implements Cache {
 	 * @see org.apache.geode.cache.Region#get(Object)
 	 */
 	public ValueWrapper get(Object key) {
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
 
 		return (value != null ? new SimpleValueWrapper(value) : null);
 	}
 
+	/**
+	 * Returns the cache values for the given keys using a single {@link Region#getAll(Collection)} operation.
+	 *
+	 * Keys without a cached value are not present in the returned {@link Map}.
+	 *
+	 * @param keys {@link Collection} of keys identifying the values to retrieve from the cache.
+	 * @return a {@link Map} of the keys and values cached with the given keys.
+	 * @see org.apache.geode.cache.Region#getAll(Collection)
+	 * @since 2.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<Object, Object> getAll(Collection<?> keys) {
+
+		Map<Object, Object> values = new LinkedHashMap<>();
+
+		if (!keys.isEmpty()) {
+
+			Map<Object, Object> regionValues = getNativeCache().getAll(keys);
+
+			if (regionValues != null) {
+				regionValues.forEach((key, value) -> {
+					if (value != null) {
+						values.put(key, value);
+					}
+				});
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Looks up the cache value for the given key.
+	 *
+	 * @param key key identifying the the value to retrieve from the cache.
+	 * @return the value cached with the given key or {@literal null} if no value is cached.
+	 * @see org.apache.geode.cache.Region#get(Object)
+	 * @since 2.5.0
+	 */
+	protected Object lookup(Object key) {
+		return getNativeCache().get(key);
+	}
+
 	/**
 	 * Returns the cache value for the given key cast to the specified {@link Class} type.
 	 *
@@ -132,7 +351,7 @@ public class GemfireCache implements Cache {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Class<T> type) {
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
 
 		if (value != null && type != null && !type.isInstance(value)) {
 			throw new IllegalStateException(String.format(
@@ -156,10 +375,13 @@ public class GemfireCache implements Cache {
 	 * if the value for key is {@literal null}.
 	 * @throws org.springframework.cache.Cache.ValueRetrievalException if an error occurs while trying to
 	 * load a value for given key using the {@link Callable}.
+	 * @throws IllegalStateException if refresh-ahead is enabled and no time-to-live can be resolved.
 	 * @see #get(Object, Class)
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Callable<T> valueLoader) {
+		long refreshAheadTimeToLive = resolveRefreshAheadTimeToLive();
+
 		T value = (T) get(key, Object.class);
 
 		if (value == null) {
@@ -170,6 +392,15 @@ public class GemfireCache implements Cache {
 					try {
 						value = valueLoader.call();
 						put(key, value);
+
+						if (refreshAheadTimeToLive > 0L && value != null) {
+
+							long now = System.currentTimeMillis();
+
+							pruneRefreshAheadEntries(now, refreshAheadTimeToLive);
+
+							this.refreshAheadEntries.put(key, new RefreshAheadEntry(now));
+						}
 					}
 					catch (Exception e) {
 						throw new ValueRetrievalException(key, valueLoader, e);
@@ -177,10 +408,140 @@ public class GemfireCache implements Cache {
 				}
 			}
 		}
+		else if (refreshAheadTimeToLive > 0L) {
+			refreshAheadIfNecessary(key, valueLoader, refreshAheadTimeToLive);
+		}
 
 		return value;
 	}
 
+	/**
+	 * Asynchronously reloads the cache value for the given key using the given {@link Callable} when
+	 * the value was loaded in the last {@link #getRefreshAheadRatio() fraction} of its time-to-live.
+	 *
+	 * Only values loaded by this cache are refreshed, and values are no longer tracked once their TTL has
+	 * elapsed. At most one reload per key is in progress at any time. Readers keep getting the current value
+	 * until the reloaded value is stored.
+	 *
+	 * @param key key identifying the value to refresh.
+	 * @param valueLoader {@link Callable} used to reload the value.
+	 * @param timeToLive TTL in milliseconds of the cache values.
+	 */
+	private void refreshAheadIfNecessary(Object key, Callable<?> valueLoader, long timeToLive) {
+
+		RefreshAheadEntry entry = this.refreshAheadEntries.get(key);
+
+		if (entry != null) {
+
+			long now = System.currentTimeMillis();
+
+			long refreshTime = entry.loadedTime + (long) (timeToLive * (1.0d - getRefreshAheadRatio()));
+
+			if (entry.isExpired(now, timeToLive)) {
+				this.refreshAheadEntries.remove(key, entry);
+			}
+			else if (now >= refreshTime && entry.refreshing.compareAndSet(false, true)) {
+				try {
+					getExecutor().execute(() -> refresh(key, valueLoader, entry));
+				}
+				catch (RejectedExecutionException cause) {
+					entry.refreshing.set(false);
+					logger.warn(String.format("Refresh of cache value for key [%1$s] in cache [%2$s] was rejected",
+						key, getName()), cause);
+				}
+			}
+		}
+	}
+
+	private void refresh(Object key, Callable<?> valueLoader, RefreshAheadEntry entry) {
+
+		try {
+
+			Object value = valueLoader.call();
+
+			if (value != null) {
+				put(key, value);
+				entry.loadedTime = System.currentTimeMillis();
+			}
+			else {
+				this.refreshAheadEntries.remove(key, entry);
+			}
+		}
+		catch (Exception cause) {
+			logger.warn(String.format("Failed to refresh cache value for key [%1$s] in cache [%2$s]",
+				key, getName()), cause);
+		}
+		finally {
+			entry.refreshing.set(false);
+		}
+	}
+
+	/**
+	 * Removes tracked entries whose time-to-live has elapsed, at most once per time-to-live, so that keys
+	 * expired or destroyed in the {@link Region} are not tracked indefinitely.
+	 */
+	private void pruneRefreshAheadEntries(long now, long timeToLive) {
+
+		long nextPruneTime = this.nextRefreshAheadPruneTime;
+
+		if (now >= nextPruneTime) {
+
+			this.nextRefreshAheadPruneTime = now + timeToLive;
+
+			this.refreshAheadEntries.values().removeIf(entry -> entry.isExpired(now, timeToLive));
+		}
+	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key wrapped in an instance of
+	 * {@link org.springframework.cache.Cache.ValueWrapper} using the configured {@link Executor}.
+	 *
+	 * If the {@link Executor} rejects the retrieval, the value is retrieved on the calling {@link Thread}.
+	 *
+	 * @param key key identifying the value to retrieve from the cache.
+	 * @return a {@link CompletableFuture} completed with the value cached with the given key, or {@literal null}
+	 * if no value is cached.
+	 * @see #get(Object)
+	 * @see #setExecutor(Executor)
+	 * @since 2.5.0
+	 */
+	public CompletableFuture<ValueWrapper> retrieve(Object key) {
+
+		try {
+			return CompletableFuture.supplyAsync(() -> get(key), getExecutor());
+		}
+		catch (RejectedExecutionException ignore) {
+			return CompletableFuture.completedFuture(get(key));
+		}
+	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key using the configured {@link Executor}.
+	 * If the value is {@literal null}, then the provided {@link Callable} {@code valueLoader} will be called
+	 * to obtain a value and add the entry to this cache.
+	 *
+	 * If the {@link Executor} rejects the retrieval, the value is retrieved on the calling {@link Thread}.
+	 *
+	 * @param <T> {@link Class} type of the value.
+	 * @param key key identifying the value to retrieve from the cache.
+	 * @param valueLoader {@link Callable} object used to load a value if the entry identified by the key
+	 * does not already have value.
+	 * @return a {@link CompletableFuture} completed with the cache value of the given key or a value obtained
+	 * by calling the {@link Callable} object.
+	 * @see #get(Object, Callable)
+	 * @see #setExecutor(Executor)
+	 * @since 2.5.0
+	 */
+	public <T> CompletableFuture<T> retrieve(Object key, Callable<T> valueLoader) {
+
+		try {
+			return CompletableFuture.supplyAsync(() -> get(key, valueLoader), getExecutor());
+		}
+		catch (RejectedExecutionException ignore) {
+			return CompletableFuture.completedFuture(get(key, valueLoader));
+		}
+	}
+
 	/**
 	 * Stores the given value in the cache referenced by the given key.  This operation will only store the value
 	 * if the value is not {@literal null}.
@@ -211,4 +572,43 @@ public class GemfireCache implements Cache {
 
 		return (existingValue != null ? new SimpleValueWrapper(existingValue) : null);
 	}
+
+	/**
+	 * Stores the given keys and values in the cache using a single {@link Region#putAll(Map)} operation.
+	 * Entries with a {@literal null} value are not stored.
+	 *
+	 * @param values {@link Map} of keys and values to store in the cache.
+	 * @see org.apache.geode.cache.Region#putAll(Map)
+	 * @since 2.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public void putAll(Map<?, ?> values) {
+
+		Map<Object, Object> nonNullValues = new LinkedHashMap<>();
+
+		values.forEach((key, value) -> {
+			if (value != null) {
+				nonNullValues.put(key, value);
+			}
+		});
+
+		if (!nonNullValues.isEmpty()) {
+			getNativeCache().putAll(nonNullValues);
+		}
+	}
+
+	private static class RefreshAheadEntry {
+
+		private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+		private volatile long loadedTime;
+
+		private RefreshAheadEntry(long loadedTime) {
+			this.loadedTime = loadedTime;
+		}
+
+		private boolean isExpired(long now, long timeToLive) {
+			return !this.refreshing.get() && now >= this.loadedTime + timeToLive;
+		}
+	}
 }
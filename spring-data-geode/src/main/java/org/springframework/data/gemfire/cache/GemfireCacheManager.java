@@ -20,6 +20,7 @@ package org.springframework.data.gemfire.cache;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.geode.cache.GemFireCache;
@@ -57,6 +58,16 @@ public class GemfireCacheManager extends AbstractCacheManager {
 
 	private Set<String> cacheNames;
 
+	private int nearCacheMaxSize;
+
+	private long nearCacheTimeToLive;
+
+	private double refreshAheadRatio;
+
+	private long refreshAheadTimeToLive;
+
+	private Executor executor;
+
 	/* (non-Javadoc) */
 	@SuppressWarnings("all")
 	<T extends GemFireCache> T assertGemFireCacheAvailable(T gemfireCache) {
@@ -146,7 +157,31 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	 * @see org.apache.geode.cache.Region
 	 */
 	protected GemfireCache newGemfireCache(Region<?, ?> region) {
-		return GemfireCache.wrap(region);
+
+		GemfireCache gemfireCache;
+
+		if (isNearCacheEnabled()) {
+
+			TwoLevelGemfireCache twoLevelGemfireCache =
+				new TwoLevelGemfireCache(region, getNearCacheMaxSize(), getNearCacheTimeToLive());
+
+			twoLevelGemfireCache.afterPropertiesSet();
+
+			gemfireCache = twoLevelGemfireCache;
+		}
+		else {
+			gemfireCache = GemfireCache.wrap(region);
+		}
+
+		gemfireCache.setRefreshAheadRatio(getRefreshAheadRatio());
+		gemfireCache.setRefreshAheadTimeToLive(getRefreshAheadTimeToLive());
+		gemfireCache.resolveRefreshAheadTimeToLive();
+
+		if (getExecutor() != null) {
+			gemfireCache.setExecutor(getExecutor());
+		}
+
+		return gemfireCache;
 	}
 
 	/* (non-Javadoc) */
@@ -249,4 +284,94 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	protected Set<Region<?, ?>> getRegions() {
 		return this.regions;
 	}
+
+	/**
+	 * Sets the maximum number of entries in the near (L1) cache kept in front of each {@link Region}.
+	 *
+	 * When greater than {@literal 0}, this {@link CacheManager} creates {@link TwoLevelGemfireCache} instances
+	 * caching values on-heap in front of the {@link Region}. Defaults to {@literal 0}, which disables the near cache.
+	 *
+	 * @param nearCacheMaxSize maximum number of entries in the near cache of each Spring {@link Cache}.
+	 * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache
+	 * @since 2.5.0
+	 */
+	public void setNearCacheMaxSize(int nearCacheMaxSize) {
+		this.nearCacheMaxSize = nearCacheMaxSize;
+	}
+
+	protected int getNearCacheMaxSize() {
+		return this.nearCacheMaxSize;
+	}
+
+	/**
+	 * Sets the number of milliseconds an entry is kept in the near (L1) cache.
+	 *
+	 * Defaults to {@literal 0}, which keeps entries until evicted or invalidated.
+	 *
+	 * @param nearCacheTimeToLive number of milliseconds an entry is kept in the near cache.
+	 * @see #setNearCacheMaxSize(int)
+	 * @since 2.5.0
+	 */
+	public void setNearCacheTimeToLive(long nearCacheTimeToLive) {
+		this.nearCacheTimeToLive = nearCacheTimeToLive;
+	}
+
+	protected long getNearCacheTimeToLive() {
+		return this.nearCacheTimeToLive;
+	}
+
+	protected boolean isNearCacheEnabled() {
+		return getNearCacheMaxSize() > 0;
+	}
+
+	/**
+	 * Sets the {@link Executor} used by each Spring {@link Cache} to asynchronously retrieve and refresh values.
+	 *
+	 * @param executor {@link Executor} used to asynchronously retrieve and refresh cache values.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setExecutor(Executor)
+	 * @since 2.5.0
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	protected Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Sets the fraction of the time-to-live at the end of which each Spring {@link Cache} asynchronously reloads
+	 * values loaded by {@link Cache#get(Object, java.util.concurrent.Callable)}.
+	 *
+	 * Defaults to {@literal 0}, which disables refresh-ahead.
+	 *
+	 * @param refreshAheadRatio fraction of the time-to-live at the end of which values are reloaded.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshAheadRatio(double)
+	 * @since 2.5.0
+	 */
+	public void setRefreshAheadRatio(double refreshAheadRatio) {
+		this.refreshAheadRatio = refreshAheadRatio;
+	}
+
+	protected double getRefreshAheadRatio() {
+		return this.refreshAheadRatio;
+	}
+
+	/**
+	 * Sets the time-to-live in milliseconds of the values in each Spring {@link Cache} used to determine
+	 * when to refresh a value ahead of its expiration.
+	 *
+	 * Defaults to {@literal 0}, which uses the entry time-to-live expiration configured on each {@link Region}.
+	 *
+	 * @param refreshAheadTimeToLive time-to-live in milliseconds of the cache values.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshAheadTimeToLive(long)
+	 * @since 2.5.0
+	 */
+	public void setRefreshAheadTimeToLive(long refreshAheadTimeToLive) {
+		this.refreshAheadTimeToLive = refreshAheadTimeToLive;
+	}
+
+	protected long getRefreshAheadTimeToLive() {
+		return this.refreshAheadTimeToLive;
+	}
 }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.gemfire.util.LruCache;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link GemfireCache} extension adding a bounded, on-heap, {@literal near} (L1) cache in front of
+ * the backing {@link Region} (L2).
+ *
+ * Values read from the {@link Region} are kept in the L1 cache, which evicts the least recently used entries beyond
+ * its maximum size and optionally expires entries after a time-to-live (TTL). Writes invalidate the L1 entry
+ * rather than populate it. L1 entries are invalidated by a {@link org.apache.geode.cache.CacheListener}
+ * on the {@link Region}. For a client {@link Region}, interest in all keys is registered without values when
+ * the {@link Pool} has subscriptions enabled so that servers push invalidations for changes made by other clients.
+ *
+ * A TTL is required when the {@link org.apache.geode.cache.CacheListener} cannot observe all changes, which is
+ * the case for a peer {@link DataPolicy#PARTITION} {@link Region}, including accessors, since changes to buckets
+ * hosted on other members are not delivered to the local listener, and for a client {@link Region}
+ * whose {@link Pool} does not have subscriptions enabled.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.util.LruCache
+ * @since 2.5.0
+ */
+public class TwoLevelGemfireCache extends GemfireCache implements InitializingBean {
+
+	public static final int DEFAULT_NEAR_CACHE_MAX_SIZE = 10000;
+
+	private static final Logger logger = LoggerFactory.getLogger(TwoLevelGemfireCache.class);
+
+	private final AtomicBoolean initialized = new AtomicBoolean(false);
+
+	private final LongAdder regionHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private final LruCache<Object, Object> nearCache;
+
+	/**
+	 * Constructs a new instance of {@link TwoLevelGemfireCache} initialized with the given {@link Region},
+	 * maximum L1 cache size and L1 time-to-live.
+	 *
+	 * {@link #afterPropertiesSet()} must be called to register L1 invalidation before the cache is used.
+	 *
+	 * @param region {@link Region} backing the Spring {@link org.springframework.cache.Cache}.
+	 * @param maxSize maximum number of entries in the L1 cache; must be greater than {@literal 0}.
+	 * @param timeToLive number of milliseconds an entry is kept in the L1 cache; {@literal 0} keeps entries
+	 * until evicted or invalidated.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}, {@code maxSize} is less than {@literal 1}
+	 * or {@code timeToLive} is less than {@literal 0}.
+	 */
+	public TwoLevelGemfireCache(Region<?, ?> region, int maxSize, long timeToLive) {
+
+		super(region);
+
+		Assert.isTrue(maxSize > 0, () -> String.format("Near cache maximum size [%d] must be greater than 0", maxSize));
+		Assert.isTrue(timeToLive >= 0,
+			() -> String.format("Near cache time-to-live [%d] must be greater than equal to 0", timeToLive));
+
+		this.nearCache = new LruCache<>(maxSize, timeToLive);
+	}
+
+	/**
+	 * Registers a {@link org.apache.geode.cache.CacheListener} on the {@link Region} invalidating L1 entries and,
+	 * for a client {@link Region} whose {@link Pool} has subscriptions enabled, registers interest in all keys.
+	 *
+	 * @throws IllegalStateException if the {@link Region} is a peer {@link DataPolicy#PARTITION} {@link Region}
+	 * or a client {@link Region} without subscriptions and no time-to-live was configured.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void afterPropertiesSet() {
+
+		if (this.initialized.compareAndSet(false, true)) {
+
+			Region<Object, Object> region = (Region<Object, Object>) getNativeCache();
+
+			boolean client = RegionUtils.isClient(region);
+
+			if (client) {
+
+				String poolName = region.getAttributes().getPoolName();
+
+				Pool pool = StringUtils.hasText(poolName) ? PoolManager.find(poolName) : null;
+
+				boolean subscriptionEnabled = pool != null && pool.getSubscriptionEnabled();
+
+				Assert.state(subscriptionEnabled || getTimeToLive() > 0, () -> String.format(
+					"Pool [%1$s] of client Region [%2$s] does not have subscriptions enabled;"
+						+ " a near cache time-to-live is required", poolName, region.getFullPath()));
+
+				region.getAttributesMutator().addCacheListener(new NearCacheInvalidatingCacheListener());
+
+				if (subscriptionEnabled) {
+					region.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+				}
+				else if (logger.isWarnEnabled()) {
+					logger.warn("Pool [{}] of client Region [{}] does not have subscriptions enabled;"
+						+ " near cache entries changed by other clients will only expire after the TTL",
+							poolName, region.getFullPath());
+				}
+			}
+			else {
+
+				Assert.state(!isPartition(region) || getTimeToLive() > 0, () -> String.format(
+					"PARTITION Region [%s] does not notify the near cache of changes to buckets hosted on"
+						+ " other members; a near cache time-to-live is required", region.getFullPath()));
+
+				region.getAttributesMutator().addCacheListener(new NearCacheInvalidatingCacheListener());
+			}
+		}
+	}
+
+	private boolean isPartition(Region<?, ?> region) {
+
+		DataPolicy dataPolicy = region.getAttributes() != null ? region.getAttributes().getDataPolicy() : null;
+
+		return dataPolicy != null && dataPolicy.withPartitioning();
+	}
+
+	public int getMaxSize() {
+		return this.nearCache.getMaxSize();
+	}
+
+	public long getTimeToLive() {
+		return this.nearCache.getTimeToLive();
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		return this.nearCache.get(key, this::regionLookup);
+	}
+
+	private Object regionLookup(Object key) {
+
+		Object value = super.lookup(key);
+
+		if (value != null) {
+			this.regionHits.increment();
+		}
+		else {
+			this.misses.increment();
+		}
+
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAll(Collection<?> keys) {
+		return this.nearCache.getAll(keys, this::regionGetAll);
+	}
+
+	private Map<Object, Object> regionGetAll(Collection<Object> keys) {
+
+		Map<Object, Object> regionValues = super.getAll(keys);
+
+		this.regionHits.add(regionValues.size());
+		this.misses.add(keys.size() - regionValues.size());
+
+		return regionValues;
+	}
+
+	// writes invalidate rather than populate the L1 cache since concurrent writes may complete out of order
+	@Override
+	public void put(Object key, Object value) {
+		super.put(key, value);
+		invalidate(key);
+	}
+
+	@Override
+	public void putAll(Map<?, ?> values) {
+
+		super.putAll(values);
+		values.keySet().forEach(this::invalidate);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+
+		ValueWrapper existingValue = super.putIfAbsent(key, value);
+
+		invalidate(key);
+
+		return existingValue;
+	}
+
+	@Override
+	public void evict(Object key) {
+		super.evict(key);
+		invalidate(key);
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		invalidateAll();
+	}
+
+	/**
+	 * Removes the entry with the given key from the L1 cache.
+	 *
+	 * A value for the key being read from the {@link Region} concurrently with the invalidation is not cached.
+	 *
+	 * @param key key of the entry to remove.
+	 */
+	public void invalidate(Object key) {
+		this.nearCache.invalidate(key);
+	}
+
+	/**
+	 * Removes all entries from the L1 cache.
+	 */
+	public void invalidateAll() {
+		this.nearCache.invalidateAll();
+	}
+
+	/**
+	 * Returns the number of entries in the L1 cache.
+	 *
+	 * @return the number of entries in the L1 cache.
+	 */
+	public int getNearCacheSize() {
+		return this.nearCache.size();
+	}
+
+	public long getNearCacheHitCount() {
+		return this.nearCache.getHitCount();
+	}
+
+	public long getRegionHitCount() {
+		return this.regionHits.sum();
+	}
+
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Returns the ratio of lookups served by the L1 cache to all lookups.
+	 *
+	 * @return the ratio of lookups served by the L1 cache to all lookups.
+	 */
+	public double getNearCacheHitRatio() {
+		return ratio(getNearCacheHitCount());
+	}
+
+	/**
+	 * Returns the ratio of lookups served by the {@link Region} (L2) to all lookups.
+	 *
+	 * @return the ratio of lookups served by the {@link Region} (L2) to all lookups.
+	 */
+	public double getRegionHitRatio() {
+		return ratio(getRegionHitCount());
+	}
+
+	private double ratio(long count) {
+
+		long lookups = getNearCacheHitCount() + getRegionHitCount() + getMissCount();
+
+		return lookups > 0 ? (double) count / lookups : 0.0d;
+	}
+
+	private class NearCacheInvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			invalidateAll();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			invalidateAll();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			invalidateAll();
+		}
+	}
+}
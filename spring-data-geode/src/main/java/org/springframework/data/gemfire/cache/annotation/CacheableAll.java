@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * The {@link CacheableAll} annotation declares that the results of a method loading values for
+ * a {@link java.util.Collection} of keys are cached per key.
+ *
+ * The annotated method must accept the keys as a {@link java.util.Collection} parameter and return
+ * a {@link java.util.Map} of keys to values. On invocation, cached values for all keys are retrieved with
+ * a single {@link org.apache.geode.cache.Region#getAll(java.util.Collection)} operation, the method is invoked
+ * with only the keys that were not cached, and the values it returns are cached with a single
+ * {@link org.apache.geode.cache.Region#putAll(java.util.Map)} operation. The method is not invoked at all
+ * when all keys are cached.
+ *
+ * When multiple caches are named, they are consulted in order, and values found in a later cache are also stored
+ * in the earlier caches that missed them.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.cache.CacheableAllInterceptor
+ * @see org.springframework.data.gemfire.cache.GemfireCache#getAll(java.util.Collection)
+ * @see org.springframework.data.gemfire.cache.GemfireCache#putAll(java.util.Map)
+ * @since 2.5.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface CacheableAll {
+
+	/**
+	 * Alias for {@link #cacheNames()}.
+	 *
+	 * @return the names of the caches in which the method results are stored.
+	 */
+	@AliasFor("cacheNames")
+	String[] value() default {};
+
+	/**
+	 * Names of the caches in which the method results are stored.
+	 *
+	 * Caches are checked in order; values loaded by the method are stored in all caches.
+	 *
+	 * @return the names of the caches in which the method results are stored.
+	 */
+	@AliasFor("value")
+	String[] cacheNames() default {};
+
+	/**
+	 * Name of the {@link java.util.Collection} method parameter containing the keys.
+	 *
+	 * Defaults to the first {@link java.util.Collection} parameter of the method.
+	 *
+	 * @return the name of the {@link java.util.Collection} method parameter containing the keys.
+	 */
+	String keyParam() default "";
+
+}
@@ -48,4 +48,51 @@ import org.springframework.context.annotation.Import;
 @SuppressWarnings("unused")
 public @interface EnableGemfireCaching {
 
+	/**
+	 * Maximum number of entries in the on-heap, near (L1) cache kept in front of each
+	 * {@link org.apache.geode.cache.Region} used as a Spring {@link org.springframework.cache.Cache}.
+	 *
+	 * Defaults to {@literal 0}, which disables the near cache.
+	 *
+	 * @return the maximum number of entries in the near cache of each Spring {@link org.springframework.cache.Cache}.
+	 * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache
+	 */
+	int nearCacheMaxSize() default 0;
+
+	/**
+	 * Number of milliseconds an entry is kept in the near (L1) cache.
+	 *
+	 * Defaults to {@literal 0}, which keeps entries until evicted or invalidated.
+	 *
+	 * @return the number of milliseconds an entry is kept in the near cache.
+	 */
+	long nearCacheTimeToLive() default 0L;
+
+	/**
+	 * Fraction of the time-to-live at the end of which values loaded by
+	 * {@link org.springframework.cache.Cache#get(Object, java.util.concurrent.Callable)} are asynchronously reloaded,
+	 * while readers keep getting the current value.
+	 *
+	 * Only {@literal @Cacheable(sync = true)} methods use
+	 * {@link org.springframework.cache.Cache#get(Object, java.util.concurrent.Callable)}, so values cached
+	 * by other {@literal @Cacheable} methods are not refreshed ahead of their expiration.
+	 *
+	 * Defaults to {@literal 0}, which disables refresh-ahead.
+	 *
+	 * @return the fraction of the time-to-live at the end of which values are reloaded.
+	 * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshAheadRatio(double)
+	 */
+	double refreshAheadRatio() default 0.0d;
+
+	/**
+	 * Time-to-live in milliseconds of the cache values used to determine when to refresh a value ahead of
+	 * its expiration.
+	 *
+	 * Defaults to {@literal 0}, which uses the entry time-to-live expiration configured on the
+	 * {@link org.apache.geode.cache.Region}.
+	 *
+	 * @return the time-to-live in milliseconds of the cache values.
+	 */
+	long refreshAheadTimeToLive() default 0L;
+
 }
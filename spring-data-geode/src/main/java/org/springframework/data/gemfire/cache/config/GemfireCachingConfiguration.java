@@ -16,12 +16,26 @@
 
 package org.springframework.data.gemfire.cache.config;
 
+import java.util.Optional;
+
 import org.apache.geode.cache.GemFireCache;
 
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.cache.CacheableAllInterceptor;
 import org.springframework.data.gemfire.cache.GemfireCacheManager;
+import org.springframework.data.gemfire.cache.annotation.CacheableAll;
 
 /**
  * The {@link GemfireCachingConfiguration} class is a Spring {@link Configuration @Configuration} class
@@ -40,7 +54,9 @@ import org.springframework.data.gemfire.cache.GemfireCacheManager;
  * @see org.springframework.cache.annotation.EnableCaching
  * @see org.springframework.context.annotation.Bean
  * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.data.gemfire.cache.CacheableAllInterceptor
  * @see org.springframework.data.gemfire.cache.GemfireCacheManager
+ * @see org.springframework.data.gemfire.cache.annotation.CacheableAll
  * @see org.springframework.data.gemfire.cache.config.EnableGemfireCaching
  * @see <a href="https://docs.spring.io/spring/docs/current/spring-framework-reference/htmlsingle/#cache">Cache Abstraction</a>
  * @see <a href="https://docs.spring.io/spring/docs/current/spring-framework-reference/htmlsingle/#cache-store-configuration-gemfire">GemFire-based Cache</a>
@@ -50,7 +66,28 @@ import org.springframework.data.gemfire.cache.GemfireCacheManager;
 @Configuration
 @EnableCaching
 @SuppressWarnings("unused")
-public class GemfireCachingConfiguration {
+public class GemfireCachingConfiguration implements ImportAware {
+
+	private int nearCacheMaxSize;
+
+	private long nearCacheTimeToLive;
+
+	private double refreshAheadRatio;
+
+	private long refreshAheadTimeToLive;
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		Optional.ofNullable(importMetadata.getAnnotationAttributes(EnableGemfireCaching.class.getName()))
+			.map(AnnotationAttributes::fromMap)
+			.ifPresent(enableGemfireCachingAttributes -> {
+				this.nearCacheMaxSize = enableGemfireCachingAttributes.getNumber("nearCacheMaxSize");
+				this.nearCacheTimeToLive = enableGemfireCachingAttributes.getNumber("nearCacheTimeToLive");
+				this.refreshAheadRatio = enableGemfireCachingAttributes.getNumber("refreshAheadRatio");
+				this.refreshAheadTimeToLive = enableGemfireCachingAttributes.getNumber("refreshAheadTimeToLive");
+			});
+	}
 
 	/**
 	 * SDG's {@link GemfireCacheManager} used to position Pivotal GemFire or Apache Geode as the caching provider
@@ -66,7 +103,28 @@ public class GemfireCachingConfiguration {
 		GemfireCacheManager gemfireCacheManager = new GemfireCacheManager();
 
 		gemfireCacheManager.setCache(gemfireCache);
+		gemfireCacheManager.setNearCacheMaxSize(this.nearCacheMaxSize);
+		gemfireCacheManager.setNearCacheTimeToLive(this.nearCacheTimeToLive);
+		gemfireCacheManager.setRefreshAheadRatio(this.refreshAheadRatio);
+		gemfireCacheManager.setRefreshAheadTimeToLive(this.refreshAheadTimeToLive);
 
 		return gemfireCacheManager;
 	}
+
+	/**
+	 * Declares and registers an AOP {@link Advisor} applying the {@link CacheableAllInterceptor} to all methods
+	 * annotated with {@link CacheableAll @CacheableAll}.
+	 *
+	 * @param cacheManager {@link ObjectProvider} used to lazily resolve the {@link CacheManager}.
+	 * @return the {@link CacheableAll @CacheableAll} {@link Advisor}.
+	 * @see org.springframework.data.gemfire.cache.CacheableAllInterceptor
+	 * @see org.springframework.data.gemfire.cache.annotation.CacheableAll
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public Advisor cacheableAllAdvisor(ObjectProvider<CacheManager> cacheManager) {
+
+		return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, CacheableAll.class, true),
+			new CacheableAllInterceptor(cacheManager::getObject));
+	}
 }
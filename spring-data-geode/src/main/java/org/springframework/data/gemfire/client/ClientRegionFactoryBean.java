@@ -19,7 +19,18 @@ import static java.util.Arrays.stream;
 import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.geode.cache.CacheListener;
@@ -30,6 +41,7 @@ import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.client.ClientCache;
@@ -40,6 +52,8 @@ import org.apache.geode.compression.Compressor;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.gemfire.ConfigurableRegionFactoryBean;
 import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.client.support.PoolManagerPoolResolver;
@@ -77,19 +91,24 @@ import org.springframework.util.StringUtils;
  * @see org.apache.geode.compression.Compressor
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
+ * @see org.springframework.context.ApplicationEventPublisherAware
  * @see org.springframework.data.gemfire.ConfigurableRegionFactoryBean
  * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
  * @see org.springframework.data.gemfire.eviction.EvictingRegionFactoryBean
  * @see org.springframework.data.gemfire.expiration.ExpiringRegionFactoryBean
+ * @see org.springframework.data.gemfire.client.InterestRegistrationApplicationEvent
  * @see org.springframework.data.gemfire.support.SmartLifecycleSupport
  */
 @SuppressWarnings("unused")
 public class ClientRegionFactoryBean<K, V> extends ConfigurableRegionFactoryBean<K, V>
-		implements SmartLifecycleSupport, EvictingRegionFactoryBean, ExpiringRegionFactoryBean<K, V>, DisposableBean {
+		implements SmartLifecycleSupport, EvictingRegionFactoryBean, ExpiringRegionFactoryBean<K, V>, DisposableBean,
+			ApplicationEventPublisherAware {
 
 	public static final String DEFAULT_POOL_NAME = "DEFAULT";
 	public static final String GEMFIRE_POOL_NAME = GemfireConstants.DEFAULT_GEMFIRE_POOL_NAME;
 
+	protected static final int DEFAULT_INTEREST_REGISTRATION_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
 	protected static final PoolResolver DEFAULT_POOL_RESOLVER = new PoolManagerPoolResolver();
 
 	private boolean close = false;
@@ -131,6 +150,16 @@ public class ClientRegionFactoryBean<K, V> extends ConfigurableRegionFactoryBean
 
 	private Interest<K>[] interests;
 
+	private boolean interestRegistrationAsync = false;
+
+	private int interestRegistrationParallelism = DEFAULT_INTEREST_REGISTRATION_PARALLELISM;
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private Executor interestRegistrationExecutor;
+
+	private volatile CompletableFuture<Region<K, V>> interestRegistration = new CompletableFuture<>();
+
 	private Float loadFactor;
 
 	private PoolResolver poolResolver = DEFAULT_POOL_RESOLVER;
@@ -412,23 +441,145 @@ public class ClientRegionFactoryBean<K, V> extends ConfigurableRegionFactoryBean
 		registerInterests(getRegion());
 	}
 
-	@SuppressWarnings("unchecked")
 	private Region<K, V> registerInterests(Region<K, V> region) {
 
+		List<Runnable> interestRegistrations = resolveInterestRegistrations(region);
+
+		if (interestRegistrations.isEmpty()) {
+			this.interestRegistration = CompletableFuture.completedFuture(region);
+		}
+		else if (isInterestRegistrationAsync() || this.interestRegistrationExecutor != null) {
+
+			this.interestRegistration = registerInterestsInParallel(region, interestRegistrations);
+
+			if (!isInterestRegistrationAsync()) {
+				try {
+					this.interestRegistration.join();
+				}
+				catch (CompletionException cause) {
+					throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause() : cause;
+				}
+			}
+		}
+		else {
+			try {
+				interestRegistrations.forEach(Runnable::run);
+				this.interestRegistration = CompletableFuture.completedFuture(region);
+				publishInterestRegistrationEvent(region, null);
+			}
+			catch (RuntimeException cause) {
+				publishInterestRegistrationEvent(region, cause);
+				throw cause;
+			}
+		}
+
+		return region;
+	}
+
+	/**
+	 * Resolves the {@link Runnable registrations} for the configured {@link Interest Interests}.
+	 *
+	 * {@link Interest Interests} in individual keys sharing the same {@link InterestResultPolicy}, durability
+	 * and receive values setting are batched into a single {@link Region#registerInterestForKeys} call.
+	 *
+	 * @param region client {@link Region} in which to register the {@link Interest Interests}.
+	 * @return a {@link List} of {@link Runnable registrations}.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Runnable> resolveInterestRegistrations(Region<K, V> region) {
+
+		List<Runnable> interestRegistrations = new ArrayList<>();
+
+		Map<List<Object>, List<K>> batchedKeys = new LinkedHashMap<>();
+
 		stream(nullSafeArray(getInterests(), Interest.class)).forEach(interest -> {
 
 			if (interest.isRegexType()) {
-				region.registerInterestRegex((String) interest.getKey(), interest.getPolicy(),
-					interest.isDurable(), interest.isReceiveValues());
+				interestRegistrations.add(() -> region.registerInterestRegex((String) interest.getKey(),
+					interest.getPolicy(), interest.isDurable(), interest.isReceiveValues()));
+			}
+			else if (isBatchableKey(interest.getKey())) {
+				batchedKeys.computeIfAbsent(Arrays.asList(interest.getPolicy(), interest.isDurable(),
+					interest.isReceiveValues()), settings -> new ArrayList<>()).add((K) interest.getKey());
 			}
 			else {
-				region.registerInterest(((Interest<K>) interest).getKey(), interest.getPolicy(),
-					interest.isDurable(), interest.isReceiveValues());
+				interestRegistrations.add(() -> region.registerInterest(((Interest<K>) interest).getKey(),
+					interest.getPolicy(), interest.isDurable(), interest.isReceiveValues()));
 			}
+		});
+
+		batchedKeys.forEach((settings, keys) -> {
+
+			InterestResultPolicy policy = (InterestResultPolicy) settings.get(0);
+
+			boolean durable = (Boolean) settings.get(1);
+			boolean receiveValues = (Boolean) settings.get(2);
 
+			interestRegistrations.add(keys.size() == 1
+				? () -> region.registerInterest(keys.get(0), policy, durable, receiveValues)
+				: () -> region.registerInterestForKeys(keys, policy, durable, receiveValues));
 		});
 
-		return region;
+		return interestRegistrations;
+	}
+
+	private boolean isBatchableKey(Object key) {
+		return key != null && !Interest.ALL_KEYS.equals(key) && !(key instanceof Iterable);
+	}
+
+	private CompletableFuture<Region<K, V>> registerInterestsInParallel(Region<K, V> region,
+			List<Runnable> interestRegistrations) {
+
+		ExecutorService managedExecutor = this.interestRegistrationExecutor == null
+			? newInterestRegistrationExecutor(region, interestRegistrations.size())
+			: null;
+
+		Executor executor = managedExecutor != null ? managedExecutor : this.interestRegistrationExecutor;
+
+		CompletableFuture<?>[] registrations = interestRegistrations.stream()
+			.map(registration -> CompletableFuture.runAsync(registration, executor))
+			.toArray(CompletableFuture[]::new);
+
+		return CompletableFuture.allOf(registrations)
+			.whenComplete((result, cause) -> {
+
+				Optional.ofNullable(managedExecutor).ifPresent(ExecutorService::shutdown);
+
+				Throwable resolvedCause = cause instanceof CompletionException && cause.getCause() != null
+					? cause.getCause()
+					: cause;
+
+				if (resolvedCause != null) {
+					getLog().error(String.format("Failed to register interests in Region [%s]",
+						region.getFullPath()), resolvedCause);
+				}
+
+				publishInterestRegistrationEvent(region, resolvedCause);
+			})
+			.thenApply(result -> region);
+	}
+
+	private ExecutorService newInterestRegistrationExecutor(Region<K, V> region, int interestRegistrationCount) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		int threadCount = Math.max(1, Math.min(interestRegistrationCount, getInterestRegistrationParallelism()));
+
+		return Executors.newFixedThreadPool(threadCount, runnable -> {
+
+			Thread thread = new Thread(runnable, String.format("%1$s-InterestRegistration-%2$d", region.getName(),
+				threadNumber.incrementAndGet()));
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	private void publishInterestRegistrationEvent(Region<K, V> region, @Nullable Throwable cause) {
+
+		Optional.ofNullable(this.applicationEventPublisher).ifPresent(publisher ->
+			publisher.publishEvent(new InterestRegistrationApplicationEvent(this, region, cause)));
 	}
 
 	/**
@@ -452,6 +603,17 @@ public class ClientRegionFactoryBean<K, V> extends ConfigurableRegionFactoryBean
 		});
 	}
 
+	/**
+	 * Sets the {@link ApplicationEventPublisher} used to publish the {@link InterestRegistrationApplicationEvent}.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish interest registration events.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
 	/**
 	 * Sets the region attributes used for the region used by this factory.
 	 * Allows maximum control in specifying the region settings. Used only when
@@ -625,6 +787,67 @@ public class ClientRegionFactoryBean<K, V> extends ConfigurableRegionFactoryBean
 		return this.interests;
 	}
 
+	/**
+	 * Configures whether {@link Interest Interests} are registered asynchronously, in the background.
+	 *
+	 * When {@literal true}, the Spring container does not wait for the {@link Interest Interests} to be registered
+	 * and the initial images to be downloaded before starting the remaining beans.  Use
+	 * {@link #getInterestRegistration()} or listen for the {@link InterestRegistrationApplicationEvent}
+	 * to determine when this {@link Region client Region} is ready.  Defaults to {@literal false}.
+	 *
+	 * @param interestRegistrationAsync boolean value indicating whether to register interests asynchronously.
+	 * @see #setInterestRegistrationExecutor(Executor)
+	 */
+	public void setInterestRegistrationAsync(boolean interestRegistrationAsync) {
+		this.interestRegistrationAsync = interestRegistrationAsync;
+	}
+
+	protected boolean isInterestRegistrationAsync() {
+		return this.interestRegistrationAsync;
+	}
+
+	/**
+	 * Configures the {@link Executor} used to register {@link Interest Interests} in parallel.
+	 *
+	 * If not set and interests are registered {@link #setInterestRegistrationAsync(boolean) asynchronously},
+	 * a bounded pool of {@link #setInterestRegistrationParallelism(int)} threads is used and shutdown
+	 * after registration completes.
+	 *
+	 * @param interestRegistrationExecutor {@link Executor} used to register {@link Interest Interests} in parallel.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setInterestRegistrationExecutor(@Nullable Executor interestRegistrationExecutor) {
+		this.interestRegistrationExecutor = interestRegistrationExecutor;
+	}
+
+	/**
+	 * Configures the maximum number of threads used to register {@link Interest Interests} in parallel
+	 * when no {@link #setInterestRegistrationExecutor(Executor) Executor} is configured.
+	 *
+	 * @param interestRegistrationParallelism maximum number of threads used to register interests.
+	 */
+	public void setInterestRegistrationParallelism(int interestRegistrationParallelism) {
+		this.interestRegistrationParallelism = interestRegistrationParallelism;
+	}
+
+	protected int getInterestRegistrationParallelism() {
+
+		return this.interestRegistrationParallelism > 0
+			? this.interestRegistrationParallelism
+			: DEFAULT_INTEREST_REGISTRATION_PARALLELISM;
+	}
+
+	/**
+	 * Returns a {@link CompletableFuture} completing when all {@link Interest Interests} have been registered
+	 * in this {@link Region client Region}.
+	 *
+	 * @return a {@link CompletableFuture} completing when all {@link Interest Interests} have been registered.
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	public @NonNull CompletableFuture<Region<K, V>> getInterestRegistration() {
+		return this.interestRegistration;
+	}
+
 	/**
 	 * Sets a {@link Class type} constraint on this {@link Region client Region's} keys.
 	 *
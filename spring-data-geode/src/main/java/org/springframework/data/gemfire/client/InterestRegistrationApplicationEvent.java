@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.client;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link InterestRegistrationApplicationEvent} class is a Spring {@link ApplicationEvent} signaling that
+ * the {@link Interest Interests} registered by a {@link ClientRegionFactoryBean} have completed registration
+ * for a client {@link Region}, including the download of the initial image determined by
+ * the {@link org.apache.geode.cache.InterestResultPolicy}.
+ *
+ * The event is used as a readiness signal when interests are registered asynchronously.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.context.ApplicationEvent
+ * @see org.springframework.data.gemfire.client.ClientRegionFactoryBean
+ * @see org.springframework.data.gemfire.client.Interest
+ * @since 2.5.0
+ */
+@SuppressWarnings("unused")
+public class InterestRegistrationApplicationEvent extends ApplicationEvent {
+
+	private final Region<?, ?> region;
+
+	private final Throwable cause;
+
+	/**
+	 * Constructs a new instance of {@link InterestRegistrationApplicationEvent}.
+	 *
+	 * @param source {@link Object source} of this event.
+	 * @param region client {@link Region} in which the {@link Interest Interests} were registered.
+	 * @param cause {@link Throwable} thrown if the registration of any {@link Interest} failed;
+	 * may be {@literal null}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	public InterestRegistrationApplicationEvent(Object source, @NonNull Region<?, ?> region,
+			@Nullable Throwable cause) {
+
+		super(source);
+
+		this.region = region;
+		this.cause = cause;
+	}
+
+	/**
+	 * Returns the {@link Throwable cause} if the registration of any {@link Interest} failed.
+	 *
+	 * @return an {@link Optional} {@link Throwable cause} if the registration of any {@link Interest} failed.
+	 */
+	public Optional<Throwable> getCause() {
+		return Optional.ofNullable(this.cause);
+	}
+
+	/**
+	 * Returns the client {@link Region} in which the {@link Interest Interests} were registered.
+	 *
+	 * @return the client {@link Region} in which the {@link Interest Interests} were registered.
+	 * @see org.apache.geode.cache.Region
+	 */
+	public @NonNull Region<?, ?> getRegion() {
+		return this.region;
+	}
+
+	/**
+	 * Determines whether all {@link Interest Interests} were registered successfully.
+	 *
+	 * @return a boolean value indicating whether all {@link Interest Interests} were registered successfully.
+	 */
+	public boolean isSuccessful() {
+		return this.cause == null;
+	}
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.compression;
+
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Apache Geode {@link Compressor} implementation that stores small and incompressible values uncompressed
+ * and compresses all other values with a pluggable {@link CompressionCodec}.
+ *
+ * Each stored value is prefixed with a 4 byte header: a 2 byte magic number, a 1 byte format version and 1 byte
+ * identifying the {@link CompressionCodec} used to compress the value, or {@literal 0} if the value is stored
+ * uncompressed.  Values smaller than the configured {@link #setThreshold(int) threshold} are always stored
+ * uncompressed.
+ *
+ * The {@link AdaptiveCompressor} tracks an exponentially weighted moving average of the compression ratio.
+ * When the average exceeds the configured {@link #setMaximumRatio(double) maximum ratio}, the values are considered
+ * incompressible (e.g. already compressed or encrypted data) and compression is bypassed, except for every
+ * {@link #setSampleInterval(int) n-th} value, which is compressed to re-evaluate the ratio.
+ *
+ * A {@link #setLegacyCompressor(Compressor) legacy} {@link Compressor} may be configured to decompress values stored
+ * without a header, for example, by Apache Geode's {@link org.apache.geode.compression.SnappyCompressor}
+ * before the {@link org.apache.geode.cache.Region} was configured with an {@link AdaptiveCompressor}. Values that do
+ * not begin with the magic number and a supported format version are decompressed with the legacy
+ * {@link Compressor}. Since a legacy value may begin with the same bytes by coincidence, the legacy
+ * {@link Compressor} is also used when the header identifies no registered {@link CompressionCodec}
+ * or the identified {@link CompressionCodec} fails to decompress the value.
+ *
+ * @author John Blum
+ * @see org.apache.geode.compression.Compressor
+ * @see org.springframework.data.gemfire.compression.CompressionCodec
+ * @see org.springframework.data.gemfire.compression.CompressionStatistics
+ * @since 2.5.0
+ */
+public class AdaptiveCompressor implements Compressor {
+
+	public static final double DEFAULT_MAXIMUM_RATIO = 0.9d;
+
+	public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+	public static final int DEFAULT_THRESHOLD = 64;
+
+	static final byte FORMAT_VERSION = 1;
+	static final byte MAGIC_NUMBER_HIGH_BYTE = (byte) 0xAD;
+	static final byte MAGIC_NUMBER_LOW_BYTE = (byte) 0xC5;
+	static final byte RAW_ID = 0;
+
+	static final int HEADER_SIZE = 4;
+
+	private static final double RATIO_WEIGHT = 0.1d;
+
+	private final AtomicLong ratio = new AtomicLong(Double.doubleToLongBits(0.0d));
+	private final AtomicLong valueCount = new AtomicLong();
+
+	private final CompressionCodec codec;
+
+	private final CompressionCodec[] codecsById = new CompressionCodec[Byte.MAX_VALUE + 1];
+
+	private final CompressionStatistics statistics = new CompressionStatistics();
+
+	private Compressor legacyCompressor;
+
+	private double maximumRatio = DEFAULT_MAXIMUM_RATIO;
+
+	private int sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+	private int threshold = DEFAULT_THRESHOLD;
+
+	/**
+	 * Constructs a new instance of {@link AdaptiveCompressor} compressing values with the given
+	 * {@link CompressionCodec}.
+	 *
+	 * Additional {@link CompressionCodec CompressionCodecs} are only used to decompress values previously compressed
+	 * with a different {@link CompressionCodec}, for example, values stored in persistent {@link
+	 * org.apache.geode.cache.Region Regions} before the {@link CompressionCodec} was changed.
+	 *
+	 * @param codec {@link CompressionCodec} used to compress values; must not be {@literal null}.
+	 * @param decompressionCodecs additional {@link CompressionCodec CompressionCodecs} used to decompress values.
+	 * @throws IllegalArgumentException if the {@link CompressionCodec} is {@literal null}
+	 * or any {@link CompressionCodec#getId() identifier} is invalid.
+	 * @see org.springframework.data.gemfire.compression.CompressionCodec
+	 */
+	public AdaptiveCompressor(CompressionCodec codec, CompressionCodec... decompressionCodecs) {
+
+		Assert.notNull(codec, "CompressionCodec must not be null");
+
+		this.codec = register(codec);
+
+		Arrays.stream(nullSafeArray(decompressionCodecs, CompressionCodec.class)).forEach(this::register);
+	}
+
+	private CompressionCodec register(CompressionCodec codec) {
+
+		byte id = codec.getId();
+
+		Assert.isTrue(id > RAW_ID,
+			() -> String.format("CompressionCodec [%1$s] identifier [%2$d] must be greater than 0", codec, id));
+
+		Assert.isTrue(this.codecsById[id] == null || this.codecsById[id] == codec,
+			() -> String.format("CompressionCodec [%1$s] identifier [%2$d] is already used by CompressionCodec [%3$s]",
+				codec, id, this.codecsById[id]));
+
+		this.codecsById[id] = codec;
+
+		return codec;
+	}
+
+	/**
+	 * Returns the {@link CompressionCodec} used to compress values.
+	 *
+	 * @return the {@link CompressionCodec} used to compress values.
+	 */
+	public CompressionCodec getCodec() {
+		return this.codec;
+	}
+
+	/**
+	 * Sets the {@link Compressor} used to decompress values stored without a header.
+	 *
+	 * @param legacyCompressor {@link Compressor} used to decompress values stored without a header;
+	 * may be {@literal null}.
+	 */
+	public void setLegacyCompressor(@Nullable Compressor legacyCompressor) {
+		this.legacyCompressor = legacyCompressor;
+	}
+
+	public @Nullable Compressor getLegacyCompressor() {
+		return this.legacyCompressor;
+	}
+
+	/**
+	 * Sets the ratio of compressed to uncompressed size above which values are considered incompressible.
+	 *
+	 * @param maximumRatio ratio between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public void setMaximumRatio(double maximumRatio) {
+
+		Assert.isTrue(maximumRatio > 0.0d && maximumRatio <= 1.0d,
+			() -> String.format("Maximum ratio [%s] must be greater than 0.0 and less than or equal to 1.0",
+				maximumRatio));
+
+		this.maximumRatio = maximumRatio;
+	}
+
+	public double getMaximumRatio() {
+		return this.maximumRatio;
+	}
+
+	/**
+	 * Returns the current moving average of the compression ratio.
+	 *
+	 * @return the current moving average of the compression ratio.
+	 */
+	public double getRatio() {
+		return Double.longBitsToDouble(this.ratio.get());
+	}
+
+	/**
+	 * Sets the interval at which values are compressed to re-evaluate the compression ratio
+	 * while compression is bypassed.
+	 *
+	 * @param sampleInterval interval greater than {@literal 0}.
+	 */
+	public void setSampleInterval(int sampleInterval) {
+
+		Assert.isTrue(sampleInterval > 0,
+			() -> String.format("Sample interval [%d] must be greater than 0", sampleInterval));
+
+		this.sampleInterval = sampleInterval;
+	}
+
+	public int getSampleInterval() {
+		return this.sampleInterval;
+	}
+
+	/**
+	 * Returns the {@link CompressionStatistics} of this {@link AdaptiveCompressor}.
+	 *
+	 * @return the {@link CompressionStatistics} of this {@link AdaptiveCompressor}.
+	 * @see org.springframework.data.gemfire.compression.CompressionStatistics
+	 */
+	public CompressionStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Sets the size in bytes below which values are stored uncompressed.
+	 *
+	 * @param threshold size in bytes.
+	 */
+	public void setThreshold(int threshold) {
+
+		Assert.isTrue(threshold >= 0, () -> String.format("Threshold [%d] must be greater than or equal to 0",
+			threshold));
+
+		this.threshold = threshold;
+	}
+
+	public int getThreshold() {
+		return this.threshold;
+	}
+
+	/**
+	 * Determines whether compression is currently bypassed because the recently compressed values
+	 * were incompressible.
+	 *
+	 * @return a boolean value indicating whether compression is currently bypassed.
+	 */
+	public boolean isBypassing() {
+		return getRatio() > getMaximumRatio();
+	}
+
+	@Override
+	public byte[] compress(byte[] input) {
+
+		if (input.length < getThreshold()) {
+			this.statistics.recordRaw();
+			return toRaw(input);
+		}
+
+		if (isBypassing() && this.valueCount.getAndIncrement() % getSampleInterval() != 0) {
+			this.statistics.recordBypassed();
+			return toRaw(input);
+		}
+
+		long startTime = System.nanoTime();
+
+		byte[] compressed = this.codec.compress(input);
+
+		this.statistics.recordCompression(input.length, compressed.length, System.nanoTime() - startTime);
+
+		recordRatio((double) compressed.length / input.length);
+
+		return compressed.length < input.length
+			? withHeader(this.codec.getId(), compressed)
+			: toRaw(input);
+	}
+
+	private void recordRatio(double sampledRatio) {
+
+		this.ratio.updateAndGet(bits -> {
+
+			double currentRatio = Double.longBitsToDouble(bits);
+
+			return Double.doubleToLongBits(currentRatio + RATIO_WEIGHT * (sampledRatio - currentRatio));
+		});
+	}
+
+	private byte[] toRaw(byte[] input) {
+		return withHeader(RAW_ID, input);
+	}
+
+	private byte[] withHeader(byte codecId, byte[] value) {
+
+		byte[] output = new byte[value.length + HEADER_SIZE];
+
+		output[0] = MAGIC_NUMBER_HIGH_BYTE;
+		output[1] = MAGIC_NUMBER_LOW_BYTE;
+		output[2] = FORMAT_VERSION;
+		output[3] = codecId;
+
+		System.arraycopy(value, 0, output, HEADER_SIZE, value.length);
+
+		return output;
+	}
+
+	private boolean hasHeader(byte[] input) {
+
+		return input.length >= HEADER_SIZE
+			&& input[0] == MAGIC_NUMBER_HIGH_BYTE
+			&& input[1] == MAGIC_NUMBER_LOW_BYTE
+			&& input[2] == FORMAT_VERSION;
+	}
+
+	@Override
+	public byte[] decompress(byte[] input) {
+
+		boolean header = hasHeader(input);
+
+		if (header && input[3] == RAW_ID) {
+			return Arrays.copyOfRange(input, HEADER_SIZE, input.length);
+		}
+
+		byte id = header ? input[3] : RAW_ID;
+
+		CompressionCodec codec = id > RAW_ID ? this.codecsById[id] : null;
+
+		Compressor legacyCompressor = getLegacyCompressor();
+
+		long startTime = System.nanoTime();
+
+		byte[] output;
+
+		if (codec == null) {
+
+			if (legacyCompressor == null) {
+				throw new CompressionException(header
+					? String.format("No CompressionCodec registered for identifier [%d]", id)
+					: String.format("Compressed value is missing the header of format version [%d]"
+						+ " and no legacy Compressor is configured", FORMAT_VERSION));
+			}
+
+			output = legacyCompressor.decompress(input);
+		}
+		else {
+			try {
+				output = codec.decompress(Arrays.copyOfRange(input, HEADER_SIZE, input.length));
+			}
+			catch (RuntimeException cause) {
+
+				if (legacyCompressor == null) {
+					throw cause;
+				}
+
+				output = decompressLegacy(legacyCompressor, input, cause);
+			}
+		}
+
+		this.statistics.recordDecompression(System.nanoTime() - startTime);
+
+		return output;
+	}
+
+	private byte[] decompressLegacy(Compressor legacyCompressor, byte[] input, RuntimeException codecFailure) {
+
+		try {
+			return legacyCompressor.decompress(input);
+		}
+		catch (RuntimeException cause) {
+			codecFailure.addSuppressed(cause);
+			throw codecFailure;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[codec = %2$s, threshold = %3$d, maximumRatio = %4$s]",
+			getClass().getSimpleName(), getCodec(), getThreshold(), getMaximumRatio());
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.compression;
+
+/**
+ * The {@link CompressionCodec} interface defines a pluggable compression algorithm used by
+ * the {@link AdaptiveCompressor} to compress and decompress {@link org.apache.geode.cache.Region} values.
+ *
+ * Implementations must be thread-safe.  The {@link #getId() identifier} is stored with each compressed value
+ * and must be unique among the codecs used by an application and stable across restarts, since persistent
+ * {@link org.apache.geode.cache.Region Regions} store compressed values on disk.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
+ * @see org.springframework.data.gemfire.compression.DeflaterCompressionCodec
+ * @see org.springframework.data.gemfire.compression.SnappyCompressionCodec
+ * @since 2.5.0
+ */
+public interface CompressionCodec {
+
+	/**
+	 * Returns the identifier of this {@link CompressionCodec} stored with each compressed value.
+	 *
+	 * Identifiers {@literal 1} through {@literal 15} are reserved for codecs provided by Spring Data for Apache Geode.
+	 * The identifier {@literal 0} denotes an uncompressed value and must not be used.
+	 *
+	 * @return the identifier of this {@link CompressionCodec}.
+	 */
+	byte getId();
+
+	/**
+	 * Compresses the given bytes.
+	 *
+	 * @param input array of bytes to compress.
+	 * @return the compressed bytes.
+	 */
+	byte[] compress(byte[] input);
+
+	/**
+	 * Decompresses the given bytes.
+	 *
+	 * @param input array of compressed bytes.
+	 * @return the decompressed bytes.
+	 */
+	byte[] decompress(byte[] input);
+
+}
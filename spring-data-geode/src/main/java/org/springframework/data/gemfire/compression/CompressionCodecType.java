@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.compression;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link CompressionCodecType} enum defines the {@link CompressionCodec CompressionCodecs}
+ * provided by Spring Data for Apache Geode.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.compression.CompressionCodec
+ * @see org.springframework.data.gemfire.compression.DeflaterCompressionCodec
+ * @see org.springframework.data.gemfire.compression.SnappyCompressionCodec
+ * @since 2.5.0
+ */
+public enum CompressionCodecType {
+
+	DEFLATE {
+
+		@Override
+		public CompressionCodec newCompressionCodec(int level, @Nullable Resource dictionary) {
+			return new DeflaterCompressionCodec(level, dictionary);
+		}
+	},
+
+	SNAPPY {
+
+		@Override
+		public CompressionCodec newCompressionCodec(int level, @Nullable Resource dictionary) {
+			return new SnappyCompressionCodec();
+		}
+	};
+
+	/**
+	 * Constructs a new {@link CompressionCodec} of this type.
+	 *
+	 * @param level compression level; ignored by codecs that do not support compression levels.
+	 * @param dictionary {@link Resource} containing a preset dictionary; may be {@literal null};
+	 * ignored by codecs that do not support dictionaries.
+	 * @return a new {@link CompressionCodec} of this type.
+	 */
+	public abstract CompressionCodec newCompressionCodec(int level, @Nullable Resource dictionary);
+
+}
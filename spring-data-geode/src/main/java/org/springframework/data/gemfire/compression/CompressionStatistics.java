@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.compression;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link CompressionStatistics} class records the compression ratio and CPU time
+ * of an {@link AdaptiveCompressor}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
+ * @since 2.5.0
+ */
+public class CompressionStatistics {
+
+	private final LongAdder bypassedCount = new LongAdder();
+	private final LongAdder compressedBytes = new LongAdder();
+	private final LongAdder compressedCount = new LongAdder();
+	private final LongAdder compressionTime = new LongAdder();
+	private final LongAdder decompressionCount = new LongAdder();
+	private final LongAdder decompressionTime = new LongAdder();
+	private final LongAdder incompressibleCount = new LongAdder();
+	private final LongAdder rawCount = new LongAdder();
+	private final LongAdder uncompressedBytes = new LongAdder();
+
+	void recordBypassed() {
+		this.bypassedCount.increment();
+	}
+
+	void recordCompression(int uncompressedSize, int compressedSize, long compressionTimeNanos) {
+
+		this.compressionTime.add(compressionTimeNanos);
+		this.uncompressedBytes.add(uncompressedSize);
+
+		if (compressedSize < uncompressedSize) {
+			this.compressedCount.increment();
+			this.compressedBytes.add(compressedSize);
+		}
+		else {
+			this.incompressibleCount.increment();
+			this.compressedBytes.add(uncompressedSize);
+		}
+	}
+
+	void recordDecompression(long decompressionTimeNanos) {
+		this.decompressionCount.increment();
+		this.decompressionTime.add(decompressionTimeNanos);
+	}
+
+	void recordRaw() {
+		this.rawCount.increment();
+	}
+
+	/**
+	 * Returns the number of values stored uncompressed without a compression attempt because
+	 * the recently sampled values were incompressible.
+	 *
+	 * @return the number of bypassed values.
+	 */
+	public long getBypassedCount() {
+		return this.bypassedCount.sum();
+	}
+
+	/**
+	 * Returns the total size in bytes of the values resulting from compression attempts.
+	 *
+	 * @return the total size in bytes of the values resulting from compression attempts.
+	 */
+	public long getCompressedBytes() {
+		return this.compressedBytes.sum();
+	}
+
+	/**
+	 * Returns the number of values stored compressed.
+	 *
+	 * @return the number of compressed values.
+	 */
+	public long getCompressedCount() {
+		return this.compressedCount.sum();
+	}
+
+	/**
+	 * Returns the ratio of compressed to uncompressed bytes for all compression attempts.
+	 *
+	 * A value of {@literal 0.25} means compressed values are a quarter of their original size.
+	 * Returns {@literal 1.0} if no compression was attempted.
+	 *
+	 * @return the compression ratio.
+	 */
+	public double getCompressionRatio() {
+
+		long uncompressedBytes = getUncompressedBytes();
+
+		return uncompressedBytes > 0 ? (double) getCompressedBytes() / uncompressedBytes : 1.0d;
+	}
+
+	/**
+	 * Returns the total time spent compressing values.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value.
+	 * @return the total time spent compressing values.
+	 */
+	public long getCompressionTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.compressionTime.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of compressed values that were decompressed.
+	 *
+	 * @return the number of decompressed values.
+	 */
+	public long getDecompressionCount() {
+		return this.decompressionCount.sum();
+	}
+
+	/**
+	 * Returns the total time spent decompressing values.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned value.
+	 * @return the total time spent decompressing values.
+	 */
+	public long getDecompressionTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.decompressionTime.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of values stored uncompressed because compression did not reduce their size.
+	 *
+	 * @return the number of incompressible values.
+	 */
+	public long getIncompressibleCount() {
+		return this.incompressibleCount.sum();
+	}
+
+	/**
+	 * Returns the number of values stored uncompressed because their size was below the threshold.
+	 *
+	 * @return the number of values below the threshold.
+	 */
+	public long getRawCount() {
+		return this.rawCount.sum();
+	}
+
+	/**
+	 * Returns the total size in bytes of all values for which compression was attempted.
+	 *
+	 * @return the total size in bytes of all values for which compression was attempted.
+	 */
+	public long getUncompressedBytes() {
+		return this.uncompressedBytes.sum();
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("{ compressed = %1$d, incompressible = %2$d, bypassed = %3$d, raw = %4$d,"
+				+ " ratio = %5$.3f, compressionTime = %6$d ms, decompressionTime = %7$d ms }",
+			getCompressedCount(), getIncompressibleCount(), getBypassedCount(), getRawCount(), getCompressionRatio(),
+			getCompressionTime(TimeUnit.MILLISECONDS), getDecompressionTime(TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.compression;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.geode.compression.CompressionException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link CompressionCodec} implementation using the JDK's {@link Deflater} and {@link Inflater}
+ * at a configurable compression level and with an optional preset dictionary.
+ *
+ * A preset dictionary containing byte sequences common to the values stored in a {@link org.apache.geode.cache.Region}
+ * (for example, PDX type metadata and field names) significantly improves the compression of small values.
+ * Use {@link #trainDictionary(Iterable, int)} to build a dictionary from representative sample values.
+ *
+ * @author John Blum
+ * @see java.util.zip.Deflater
+ * @see java.util.zip.Inflater
+ * @see org.springframework.data.gemfire.compression.CompressionCodec
+ * @since 2.5.0
+ */
+public class DeflaterCompressionCodec implements CompressionCodec {
+
+	public static final byte ID = 2;
+
+	public static final int DEFAULT_DICTIONARY_SIZE = 32 * 1024;
+
+	private static final int LENGTH_HEADER_SIZE = Integer.BYTES;
+
+	/**
+	 * Builds a preset dictionary from the given sample values.
+	 *
+	 * Deflate matches strings closer to the end of the dictionary with shorter codes, so the most recent samples
+	 * are placed at the end of the dictionary and older samples are dropped once the maximum size is reached.
+	 *
+	 * @param samples {@link Iterable} of representative sample values.
+	 * @param maximumSize maximum size of the dictionary in bytes; must not exceed {@literal 32 KB}.
+	 * @return the dictionary.
+	 * @throws IllegalArgumentException if the maximum size is not between {@literal 1} and {@literal 32 KB}.
+	 */
+	public static byte[] trainDictionary(Iterable<byte[]> samples, int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0 && maximumSize <= DEFAULT_DICTIONARY_SIZE,
+			() -> String.format("Dictionary size [%1$d] must be between 1 and %2$d", maximumSize,
+				DEFAULT_DICTIONARY_SIZE));
+
+		Deque<byte[]> retainedSamples = new ArrayDeque<>();
+
+		int size = 0;
+
+		for (byte[] sample : samples) {
+			if (sample != null && sample.length > 0) {
+
+				retainedSamples.addLast(sample);
+				size += sample.length;
+
+				while (size - retainedSamples.peekFirst().length >= maximumSize) {
+					size -= retainedSamples.removeFirst().length;
+				}
+			}
+		}
+
+		ByteArrayOutputStream dictionary = new ByteArrayOutputStream(Math.min(size, maximumSize));
+
+		retainedSamples.forEach(sample -> dictionary.write(sample, 0, sample.length));
+
+		byte[] bytes = dictionary.toByteArray();
+
+		return bytes.length > maximumSize
+			? Arrays.copyOfRange(bytes, bytes.length - maximumSize, bytes.length)
+			: bytes;
+	}
+
+	private final byte[] dictionary;
+
+	private final int level;
+
+	private final ThreadLocal<Deflater> deflater;
+
+	private final ThreadLocal<Inflater> inflater = ThreadLocal.withInitial(Inflater::new);
+
+	/**
+	 * Constructs a new instance of {@link DeflaterCompressionCodec} using the {@link Deflater#DEFAULT_COMPRESSION}
+	 * level and no dictionary.
+	 */
+	public DeflaterCompressionCodec() {
+		this(Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * Constructs a new instance of {@link DeflaterCompressionCodec} using the given compression level
+	 * and no dictionary.
+	 *
+	 * @param level compression level between {@literal 0} and {@literal 9},
+	 * or {@link Deflater#DEFAULT_COMPRESSION}.
+	 */
+	public DeflaterCompressionCodec(int level) {
+		this(level, (byte[]) null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link DeflaterCompressionCodec} using the given compression level
+	 * and a dictionary loaded from the given {@link Resource}.
+	 *
+	 * @param level compression level between {@literal 0} and {@literal 9},
+	 * or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param dictionary {@link Resource} containing the preset dictionary; may be {@literal null}.
+	 * @throws IllegalArgumentException if the dictionary cannot be read.
+	 */
+	public DeflaterCompressionCodec(int level, @Nullable Resource dictionary) {
+		this(level, readDictionary(dictionary));
+	}
+
+	/**
+	 * Constructs a new instance of {@link DeflaterCompressionCodec} using the given compression level
+	 * and preset dictionary.
+	 *
+	 * @param level compression level between {@literal 0} and {@literal 9},
+	 * or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param dictionary preset dictionary; may be {@literal null}.
+	 * @throws IllegalArgumentException if the compression level is not valid.
+	 */
+	public DeflaterCompressionCodec(int level, @Nullable byte[] dictionary) {
+
+		Assert.isTrue(level == Deflater.DEFAULT_COMPRESSION
+			|| (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION),
+				() -> String.format("Compression level [%d] must be between 0 and 9, or -1", level));
+
+		this.level = level;
+		this.dictionary = dictionary != null && dictionary.length > 0 ? dictionary.clone() : null;
+		this.deflater = ThreadLocal.withInitial(() -> new Deflater(this.level));
+	}
+
+	private static byte[] readDictionary(@Nullable Resource dictionary) {
+
+		if (dictionary == null) {
+			return null;
+		}
+
+		try (InputStream in = dictionary.getInputStream()) {
+			return StreamUtils.copyToByteArray(in);
+		}
+		catch (IOException cause) {
+			throw newIllegalArgumentException(cause, "Failed to read compression dictionary [%s]", dictionary);
+		}
+	}
+
+	/**
+	 * Determines whether this codec uses a preset dictionary.
+	 *
+	 * @return a boolean value indicating whether this codec uses a preset dictionary.
+	 */
+	public boolean hasDictionary() {
+		return this.dictionary != null;
+	}
+
+	@Override
+	public byte getId() {
+		return ID;
+	}
+
+	/**
+	 * Returns the compression level.
+	 *
+	 * @return the compression level.
+	 */
+	public int getLevel() {
+		return this.level;
+	}
+
+	@Override
+	public byte[] compress(byte[] input) {
+
+		Deflater deflater = this.deflater.get();
+
+		try {
+
+			if (hasDictionary()) {
+				deflater.setDictionary(this.dictionary);
+			}
+
+			deflater.setInput(input);
+			deflater.finish();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+
+			byte[] lengthHeader = ByteBuffer.allocate(LENGTH_HEADER_SIZE).putInt(input.length).array();
+
+			out.write(lengthHeader, 0, lengthHeader.length);
+
+			byte[] buffer = new byte[Math.max(64, Math.min(input.length, 8192))];
+
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+
+			return out.toByteArray();
+		}
+		finally {
+			deflater.reset();
+		}
+	}
+
+	@Override
+	public byte[] decompress(byte[] input) {
+
+		Inflater inflater = this.inflater.get();
+
+		try {
+
+			int length = ByteBuffer.wrap(input, 0, LENGTH_HEADER_SIZE).getInt();
+
+			byte[] output = new byte[length];
+
+			inflater.setInput(input, LENGTH_HEADER_SIZE, input.length - LENGTH_HEADER_SIZE);
+
+			int offset = 0;
+
+			while (offset < length) {
+
+				int count = inflater.inflate(output, offset, length - offset);
+
+				if (count == 0) {
+					if (inflater.needsDictionary()) {
+
+						if (!hasDictionary()) {
+							throw new CompressionException("Value was compressed with a dictionary"
+								+ " but no dictionary is configured");
+						}
+
+						inflater.setDictionary(this.dictionary);
+					}
+					else if (inflater.finished() || inflater.needsInput()) {
+						break;
+					}
+				}
+
+				offset += count;
+			}
+
+			if (offset != length) {
+				throw new CompressionException(String.format("Expected [%1$d] bytes but decompressed [%2$d]",
+					length, offset));
+			}
+
+			return output;
+		}
+		catch (DataFormatException | IllegalArgumentException cause) {
+			throw new CompressionException("Failed to decompress value", cause);
+		}
+		finally {
+			inflater.reset();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Deflater[level = %1$d, dictionary = %2$s]", getLevel(), hasDictionary());
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.compression;
+
+import org.apache.geode.compression.SnappyCompressor;
+
+/**
+ * {@link CompressionCodec} implementation using Apache Geode's {@link SnappyCompressor}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.compression.SnappyCompressor
+ * @see org.springframework.data.gemfire.compression.CompressionCodec
+ * @since 2.5.0
+ */
+public class SnappyCompressionCodec implements CompressionCodec {
+
+	public static final byte ID = 1;
+
+	private final SnappyCompressor snappyCompressor = new SnappyCompressor();
+
+	@Override
+	public byte getId() {
+		return ID;
+	}
+
+	@Override
+	public byte[] compress(byte[] input) {
+		return this.snappyCompressor.compress(input);
+	}
+
+	@Override
+	public byte[] decompress(byte[] input) {
+		return this.snappyCompressor.decompress(input);
+	}
+
+	@Override
+	public String toString() {
+		return "Snappy";
+	}
+}
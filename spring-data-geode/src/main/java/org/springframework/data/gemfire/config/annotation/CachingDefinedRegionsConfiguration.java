@@ -58,10 +58,12 @@ import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.config.annotation.support.CacheTypeAwareRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndex;
 import org.springframework.data.gemfire.support.CompositeLifecycle;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.StreamUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -284,12 +286,17 @@ public class CachingDefinedRegionsConfiguration extends AbstractAnnotationConfig
 	@Bean
 	public BeanPostProcessor cachingAnnotationsRegionBeanRegistrar(ConfigurableBeanFactory beanFactory) {
 
+		GemFireMetadataIndex metadataIndex = GemFireMetadataIndex.load(beanFactory.getBeanClassLoader());
+
 		return new BeanPostProcessor() {
 
 			@Nullable @Override
 			public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
 
-				if (isNotInfrastructureBean(bean)) {
+				if (isNotInfrastructureBean(bean)
+						&& metadataIndex.isCandidate(ClassUtils.getUserClass(bean),
+							GemFireMetadataIndex.CACHING_STEREOTYPE)) {
+
 					registerRegionBeans(getCacheNameResolver().resolveCacheNames(bean.getClass()), beanFactory);
 				}
 
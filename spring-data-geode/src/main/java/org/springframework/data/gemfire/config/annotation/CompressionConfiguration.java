@@ -22,26 +22,37 @@ import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.compression.Compressor;
 import org.apache.geode.compression.SnappyCompressor;
 
 import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportAware;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.ResolvableRegionFactoryBean;
+import org.springframework.data.gemfire.compression.AdaptiveCompressor;
+import org.springframework.data.gemfire.compression.CompressionCodec;
+import org.springframework.data.gemfire.compression.CompressionCodecType;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.SpringUtils;
@@ -57,6 +68,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.context.annotation.Bean
  * @see org.springframework.context.annotation.Configuration
  * @see org.springframework.context.annotation.ImportAware
+ * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
  * @see org.springframework.data.gemfire.config.annotation.EnableCompression
  * @see org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport
  * @since 2.0.2
@@ -69,6 +81,8 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 
 	private String compressorBeanName = SNAPPY_COMPRESSOR_BEAN_NAME;
 
+	private final List<CompressionPolicyMetaData> compressionPolicies = new ArrayList<>();
+
 	private Set<String> regionNames = new HashSet<>();
 
 	/**
@@ -94,6 +108,17 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 			.orElse(SNAPPY_COMPRESSOR_BEAN_NAME);
 	}
 
+	public void addCompressionPolicy(CompressionPolicyMetaData compressionPolicy) {
+
+		if (compressionPolicy != null) {
+			this.compressionPolicies.add(compressionPolicy);
+		}
+	}
+
+	protected List<CompressionPolicyMetaData> getCompressionPolicies() {
+		return Collections.unmodifiableList(this.compressionPolicies);
+	}
+
 	public void setRegionNames(String[] regionNames) {
 		setRegionNames(asSet(nullSafeArray(regionNames, String.class)));
 	}
@@ -118,6 +143,13 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 
 			setRegionNames(resolveProperty(cacheCompressionProperty("region-names"),
 				String[].class, enableCompressionAttributes.getStringArray("regionNames")));
+
+			AnnotationAttributes[] policies = nullSafeArray(enableCompressionAttributes.getAnnotationArray("policies"),
+				AnnotationAttributes.class);
+
+			for (AnnotationAttributes compressionPolicyAttributes : policies) {
+				addCompressionPolicy(CompressionPolicyMetaData.from(compressionPolicyAttributes));
+			}
 		}
 	}
 
@@ -131,18 +163,98 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 
 		String resolvedCompressorBeanName = resolveCompressorBeanName();
 
+		List<CompressionPolicyMetaData> compressionPolicies = getCompressionPolicies();
+
 		return beanFactory ->
-			stream(nullSafeArray(beanFactory.getBeanDefinitionNames(), String.class)).forEach(beanName ->
-				Optional.of(beanFactory.getBeanDefinition(beanName))
-					.filter(beanDefinition -> isTargetedRegionBean(beanName, beanDefinition, beanFactory))
-					.ifPresent(beanDefinition -> SpringUtils.setPropertyReference(
-						beanDefinition, "compressor", resolvedCompressorBeanName)));
+			stream(nullSafeArray(beanFactory.getBeanDefinitionNames(), String.class)).forEach(beanName -> {
+
+				BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+
+				if (isRegionBean(beanDefinition, beanFactory)) {
+
+					Collection<String> beanNames = resolveBeanNames(beanName, beanDefinition, beanFactory);
+
+					Optional<CompressionPolicyMetaData> compressionPolicy =
+						resolveCompressionPolicy(compressionPolicies, beanNames,
+							isNamedRegion(beanName, beanDefinition, beanFactory));
+
+					if (compressionPolicy.isPresent()) {
+						SpringUtils.setPropertyReference(beanDefinition, "compressor",
+							registerAdaptiveCompressor(beanName, compressionPolicy.get(), resolvedCompressorBeanName,
+								beanFactory));
+					}
+					else if (isNamedRegion(beanName, beanDefinition, beanFactory)) {
+						SpringUtils.setPropertyReference(beanDefinition, "compressor", resolvedCompressorBeanName);
+					}
+				}
+			});
 	}
 
-	private boolean isTargetedRegionBean(String beanName, BeanDefinition beanDefinition,
+	private Optional<CompressionPolicyMetaData> resolveCompressionPolicy(
+			List<CompressionPolicyMetaData> compressionPolicies, Collection<String> beanNames, boolean namedRegion) {
+
+		Optional<CompressionPolicyMetaData> namedCompressionPolicy = compressionPolicies.stream()
+			.filter(compressionPolicy -> compressionPolicy.isNamed(beanNames))
+			.findFirst();
+
+		return namedCompressionPolicy.isPresent() || !namedRegion
+			? namedCompressionPolicy
+			: compressionPolicies.stream().filter(CompressionPolicyMetaData::isDefault).findFirst();
+	}
+
+	private String registerAdaptiveCompressor(String regionBeanName, CompressionPolicyMetaData compressionPolicy,
+			String legacyCompressorBeanName, ConfigurableListableBeanFactory beanFactory) {
+
+		BeanDefinitionBuilder compressorBuilder = BeanDefinitionBuilder.genericBeanDefinition(AdaptiveCompressor.class,
+			() -> newAdaptiveCompressor(compressionPolicy, beanFactory));
+
+		compressorBuilder.addPropertyReference("legacyCompressor", legacyCompressorBeanName);
+		compressorBuilder.addPropertyValue("maximumRatio", compressionPolicy.getMaximumRatio());
+		compressorBuilder.addPropertyValue("threshold", compressionPolicy.getThreshold());
+
+		String compressorBeanName = generateCompressorBeanName(regionBeanName, beanFactory);
+
+		((BeanDefinitionRegistry) beanFactory).registerBeanDefinition(compressorBeanName,
+			compressorBuilder.getBeanDefinition());
+
+		return compressorBeanName;
+	}
+
+	/**
+	 * Constructs a new {@link AdaptiveCompressor} compressing values with the {@link CompressionCodec}
+	 * of the {@link CompressionPolicyMetaData policy} and decompressing values compressed with any of the built-in
+	 * {@link CompressionCodec CompressionCodecs}, so that existing values remain readable after the codec changes.
+	 * The built-in decompression {@link CompressionCodec CompressionCodecs} are configured with the level
+	 * and dictionary of the {@link CompressionPolicyMetaData policy}, since values compressed with a dictionary
+	 * cannot be decompressed without it.
+	 */
+	private AdaptiveCompressor newAdaptiveCompressor(CompressionPolicyMetaData compressionPolicy,
 			ConfigurableListableBeanFactory beanFactory) {
 
-		return isNamedRegion(beanName, beanDefinition, beanFactory) && isRegionBean(beanDefinition, beanFactory);
+		CompressionCodec codec = StringUtils.hasText(compressionPolicy.getCodecBeanName())
+			? beanFactory.getBean(compressionPolicy.getCodecBeanName(), CompressionCodec.class)
+			: compressionPolicy.newCompressionCodec(beanFactory.getBeanClassLoader());
+
+		CompressionCodec[] decompressionCodecs = Stream.of(CompressionCodecType.values())
+			.map(codecType -> compressionPolicy.newCompressionCodec(codecType, beanFactory.getBeanClassLoader()))
+			.filter(decompressionCodec -> decompressionCodec.getId() != codec.getId())
+			.toArray(CompressionCodec[]::new);
+
+		return new AdaptiveCompressor(codec, decompressionCodecs);
+	}
+
+	private String generateCompressorBeanName(String regionBeanName, ConfigurableListableBeanFactory beanFactory) {
+
+		String compressorBeanName = regionBeanName + "Compressor";
+		String generatedBeanName = compressorBeanName;
+
+		for (int count = 1; beanFactory.containsBeanDefinition(generatedBeanName)
+				|| beanFactory.containsBean(generatedBeanName); count++) {
+
+			generatedBeanName = compressorBeanName + BeanFactoryUtils.GENERATED_BEAN_NAME_SEPARATOR + count;
+		}
+
+		return generatedBeanName;
 	}
 
 	private boolean isRegionBean(BeanDefinition beanDefinition, ConfigurableListableBeanFactory beanFactory) {
@@ -184,4 +296,81 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 
 		return beanNames;
 	}
+
+	/**
+	 * {@link CompressionPolicyMetaData} captures the configuration of a single
+	 * {@link EnableCompression.CompressionPolicy}.
+	 *
+	 * @see org.springframework.data.gemfire.config.annotation.EnableCompression.CompressionPolicy
+	 */
+	protected static class CompressionPolicyMetaData {
+
+		protected static CompressionPolicyMetaData from(AnnotationAttributes compressionPolicyAttributes) {
+
+			return new CompressionPolicyMetaData(compressionPolicyAttributes.getEnum("codec"),
+				compressionPolicyAttributes.getString("codecBeanName"),
+				compressionPolicyAttributes.getString("dictionary"),
+				compressionPolicyAttributes.getNumber("level"),
+				compressionPolicyAttributes.getNumber("maximumRatio"),
+				compressionPolicyAttributes.getStringArray("regionNames"),
+				compressionPolicyAttributes.getNumber("threshold"));
+		}
+
+		private final CompressionCodecType codec;
+
+		private final double maximumRatio;
+
+		private final int level;
+		private final int threshold;
+
+		private final Set<String> regionNames;
+
+		private final String codecBeanName;
+		private final String dictionary;
+
+		protected CompressionPolicyMetaData(CompressionCodecType codec, String codecBeanName, String dictionary,
+				int level, double maximumRatio, String[] regionNames, int threshold) {
+
+			this.codec = codec != null ? codec : CompressionCodecType.SNAPPY;
+			this.codecBeanName = codecBeanName;
+			this.dictionary = dictionary;
+			this.level = level;
+			this.maximumRatio = maximumRatio;
+			this.regionNames = asSet(nullSafeArray(regionNames, String.class));
+			this.threshold = threshold;
+		}
+
+		protected String getCodecBeanName() {
+			return this.codecBeanName;
+		}
+
+		protected double getMaximumRatio() {
+			return this.maximumRatio;
+		}
+
+		protected int getThreshold() {
+			return this.threshold;
+		}
+
+		protected boolean isDefault() {
+			return this.regionNames.isEmpty();
+		}
+
+		protected boolean isNamed(Collection<String> beanNames) {
+			return CollectionUtils.containsAny(this.regionNames, beanNames.toArray());
+		}
+
+		protected CompressionCodec newCompressionCodec(ClassLoader classLoader) {
+			return newCompressionCodec(this.codec, classLoader);
+		}
+
+		protected CompressionCodec newCompressionCodec(CompressionCodecType codecType, ClassLoader classLoader) {
+
+			Resource dictionary = StringUtils.hasText(this.dictionary)
+				? new DefaultResourceLoader(classLoader).getResource(this.dictionary)
+				: null;
+
+			return codecType.newCompressionCodec(this.level, dictionary);
+		}
+	}
 }
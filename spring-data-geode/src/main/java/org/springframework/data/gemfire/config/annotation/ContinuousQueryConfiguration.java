@@ -40,11 +40,13 @@ import org.springframework.context.annotation.ImportAware;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
+import org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndex;
 import org.springframework.data.gemfire.listener.ContinuousQueryDefinition;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
 import org.springframework.data.gemfire.util.CacheUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ErrorHandler;
 import org.springframework.util.StringUtils;
 
@@ -141,6 +143,14 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 
 					Object resolvedBean = resolveTargetObject(bean);
 
+					Class<?> resolvedBeanType = ClassUtils.getUserClass(resolvedBean);
+
+					if (!GemFireMetadataIndex.load(getBeanClassLoader())
+							.isCandidate(resolvedBeanType, GemFireMetadataIndex.CONTINUOUS_QUERY_STEREOTYPE)) {
+
+						return bean;
+					}
+
 					List<ContinuousQueryDefinition> definitions = stream(resolvedBean.getClass().getMethods())
 						.filter(method -> method.isAnnotationPresent(ContinuousQuery.class))
 						.map(method -> ContinuousQueryDefinition.from(resolvedBean, method))
@@ -29,6 +29,8 @@ import org.apache.geode.cache.Region;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.compression.AdaptiveCompressor;
+import org.springframework.data.gemfire.compression.CompressionCodecType;
 
 /**
  * The {@link EnableCompression} annotation marks a Spring {@link Configuration @Configuration} annotated application
@@ -37,6 +39,7 @@ import org.springframework.context.annotation.Import;
  * @author John Blum
  * @see java.lang.annotation.Annotation
  * @see org.springframework.context.annotation.Import
+ * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
  * @see org.springframework.data.gemfire.config.annotation.CompressionConfiguration
  */
 @Target(ElementType.TYPE)
@@ -67,4 +70,85 @@ public @interface EnableCompression {
 	 */
 	String[] regionNames() default {};
 
+	/**
+	 * Defines individual {@link Region} compression policies or customizes the default compression policy applied
+	 * to all {@link Region Regions} identified by {@link #regionNames()}.
+	 *
+	 * {@link Region Regions} configured with a compression policy use an {@link AdaptiveCompressor}, which stores
+	 * small and incompressible values uncompressed.  {@link Region Regions} without a matching compression policy
+	 * use the {@link org.apache.geode.compression.Compressor} identified by {@link #compressorBeanName()}.
+	 *
+	 * Defaults to empty.
+	 */
+	CompressionPolicy[] policies() default {};
+
+	/**
+	 * Definition for a specific compression policy that can be applied to 1 or more {@link Region Regions}.
+	 *
+	 * A compression policy defines the {@link org.springframework.data.gemfire.compression.CompressionCodec} used to
+	 * compress {@link Region} values along with the thresholds used by the {@link AdaptiveCompressor} to decide
+	 * whether to store a value uncompressed.
+	 */
+	@interface CompressionPolicy {
+
+		/**
+		 * Type of {@link org.springframework.data.gemfire.compression.CompressionCodec} used to compress
+		 * {@link Region} values.
+		 *
+		 * Defaults to {@link CompressionCodecType#SNAPPY}.
+		 *
+		 * @see org.springframework.data.gemfire.compression.CompressionCodecType
+		 */
+		CompressionCodecType codec() default CompressionCodecType.SNAPPY;
+
+		/**
+		 * Name of a Spring bean of type {@link org.springframework.data.gemfire.compression.CompressionCodec}
+		 * defined in the Spring application context used to compress {@link Region} values, for example,
+		 * an LZ4 or Zstandard codec.  Overrides {@link #codec()}.
+		 *
+		 * Defaults to empty.
+		 */
+		String codecBeanName() default "";
+
+		/**
+		 * Location of a {@link org.springframework.core.io.Resource} containing a preset dictionary
+		 * for the {@link CompressionCodecType#DEFLATE} codec.
+		 *
+		 * Defaults to empty.
+		 *
+		 * @see org.springframework.data.gemfire.compression.DeflaterCompressionCodec#trainDictionary(Iterable, int)
+		 */
+		String dictionary() default "";
+
+		/**
+		 * Compression level used by the {@link CompressionCodecType#DEFLATE} codec.
+		 *
+		 * Defaults to {@literal -1}, the default compression level.
+		 */
+		int level() default -1;
+
+		/**
+		 * Ratio of compressed to uncompressed size above which values are considered incompressible
+		 * and compression is bypassed.
+		 *
+		 * Defaults to {@link AdaptiveCompressor#DEFAULT_MAXIMUM_RATIO}.
+		 */
+		double maximumRatio() default AdaptiveCompressor.DEFAULT_MAXIMUM_RATIO;
+
+		/**
+		 * Names of all the {@link Region Regions} in which this compression policy will be applied.
+		 *
+		 * Defaults to empty, which applies this compression policy to all compressed {@link Region Regions}
+		 * not named by another compression policy.
+		 */
+		String[] regionNames() default {};
+
+		/**
+		 * Size in bytes below which values are stored uncompressed.
+		 *
+		 * Defaults to {@link AdaptiveCompressor#DEFAULT_THRESHOLD}.
+		 */
+		int threshold() default AdaptiveCompressor.DEFAULT_THRESHOLD;
+
+	}
 }
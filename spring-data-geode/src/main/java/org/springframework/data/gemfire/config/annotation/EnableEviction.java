@@ -32,6 +32,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.gemfire.eviction.EvictionActionType;
 import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.data.gemfire.eviction.ObjectSizerType;
 
 /**
  * The {@link EnableEviction} annotation marks a Spring {@link Configuration @Configuration} annotated class
@@ -91,6 +92,19 @@ public @interface EnableEviction {
 		 */
 		int maximum() default EvictionAttributes.DEFAULT_ENTRIES_MAXIMUM;
 
+		/**
+		 * Type of {@link ObjectSizer} used to size {@link Region} entry values when no {@link #objectSizerName()}
+		 * is configured.
+		 *
+		 * {@link ObjectSizerType#MAPPING} sizes application domain objects using the entity mapping metadata,
+		 * which is considerably faster than reflection.
+		 *
+		 * Defaults to {@link ObjectSizerType#DEFAULT}.
+		 *
+		 * @see org.springframework.data.gemfire.eviction.ObjectSizerType
+		 */
+		ObjectSizerType objectSizer() default ObjectSizerType.DEFAULT;
+
 		/**
 		 * Name of a Spring bean of type {@link ObjectSizer} defined in the Spring application context
 		 * used to size {@link Region} entry values.
@@ -82,6 +82,19 @@ public @interface EnableStatistics {
 	 */
 	int archiveFileSizeLimit() default StatisticsConfiguration.DEFAULT_ARCHIVE_FILE_SIZE_LIMIT;
 
+	/**
+	 * Boolean instructing Spring Data to record {@link org.springframework.data.repository.Repository} method
+	 * invocations, {@link org.springframework.data.gemfire.function.annotation.GemfireFunction Function} executions
+	 * made through Function execution interfaces and Continuous Query event dispatch in custom Apache Geode Statistics,
+	 * which are sampled and archived together with the system's own statistics.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.data.gemfire.stats.enable-data-access-statistics} property
+	 * in {@literal application.properties}.
+	 */
+	boolean enableDataAccessStatistics() default StatisticsConfiguration.DEFAULT_ENABLE_DATA_ACCESS_STATISTICS;
+
 	/**
 	 * Boolean instructing the system to track time-based statistics for the distributed system and caching.
 	 * Disabled by default for performance reasons and not recommended for production environments.
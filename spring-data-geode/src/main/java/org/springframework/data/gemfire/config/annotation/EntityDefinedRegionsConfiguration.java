@@ -60,6 +60,7 @@ import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.config.annotation.support.CacheTypeAwareRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner;
+import org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndex;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
@@ -180,6 +181,7 @@ public class EntityDefinedRegionsConfiguration extends AbstractAnnotationConfigS
 			CompositeTypeFilter.composeOr(resolveRegionAnnotatedPersistentEntityTypeFilters());
 
 		return GemFireComponentClassTypeScanner.from(resolvedBasePackages).with(resolveBeanClassLoader())
+			.withIndexedStereotype(GemFireMetadataIndex.ENTITY_STEREOTYPE)
 			.withExcludes(resolveExcludes(enableEntityDefinedRegionsAttributes))
 			.withIncludes(CompositeTypeFilter.composeAnd(resolvedIncludesTypeFilter,
 				resolvedRegionAnnotatedPersistentEntityTypeFilter));
@@ -51,6 +51,8 @@ import org.springframework.data.gemfire.eviction.EvictingRegionFactoryBean;
 import org.springframework.data.gemfire.eviction.EvictionActionType;
 import org.springframework.data.gemfire.eviction.EvictionAttributesFactoryBean;
 import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.data.gemfire.eviction.ObjectSizerType;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -294,7 +296,8 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 			return from(evictionPolicyAttributes.getEnum("type"),
 				(Integer) evictionPolicyAttributes.get("maximum"),
 				evictionPolicyAttributes.getEnum("action"),
-				resolveObjectSizer(evictionPolicyAttributes.getString("objectSizerName"), applicationContext),
+				resolveObjectSizer(evictionPolicyAttributes.getString("objectSizerName"),
+					evictionPolicyAttributes.getEnum("objectSizer"), applicationContext),
 				evictionPolicyAttributes.getStringArray("regionNames"));
 		}
 
@@ -302,7 +305,8 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 				ApplicationContext applicationContext) {
 
 			return from(evictionPolicy.type(), evictionPolicy.maximum(), evictionPolicy.action(),
-				resolveObjectSizer(evictionPolicy.objectSizerName(), applicationContext), evictionPolicy.regionNames());
+				resolveObjectSizer(evictionPolicy.objectSizerName(), evictionPolicy.objectSizer(), applicationContext),
+				evictionPolicy.regionNames());
 		}
 
 		protected static EvictionPolicyMetaData from(EvictionPolicyType type, int maximum, EvictionActionType action,
@@ -324,11 +328,25 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 		}
 
 		protected static ObjectSizer resolveObjectSizer(String objectSizerName, ApplicationContext applicationContext) {
+			return resolveObjectSizer(objectSizerName, ObjectSizerType.DEFAULT, applicationContext);
+		}
+
+		protected static ObjectSizer resolveObjectSizer(String objectSizerName, ObjectSizerType objectSizerType,
+				ApplicationContext applicationContext) {
 
 			boolean resolvable = StringUtils.hasText(objectSizerName)
 				&& applicationContext.containsBean(objectSizerName);
 
-			return resolvable ? applicationContext.getBean(objectSizerName, ObjectSizer.class) : null;
+			return resolvable ? applicationContext.getBean(objectSizerName, ObjectSizer.class)
+				: objectSizerType != null
+				? objectSizerType.newObjectSizer(() -> resolveMappingContext(applicationContext))
+				: null;
+		}
+
+		private static GemfireMappingContext resolveMappingContext(ApplicationContext applicationContext) {
+
+			return applicationContext.getBeanProvider(GemfireMappingContext.class)
+				.getIfUnique(GemfireMappingContext::new);
 		}
 
 		/**
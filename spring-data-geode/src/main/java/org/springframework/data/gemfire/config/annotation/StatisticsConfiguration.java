@@ -20,8 +20,12 @@ import java.lang.annotation.Annotation;
 import java.util.Map;
 import java.util.Properties;
 
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport;
+import org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder;
 import org.springframework.data.gemfire.util.PropertiesBuilder;
 
 /**
@@ -29,14 +33,18 @@ import org.springframework.data.gemfire.util.PropertiesBuilder;
  * additional configuration using Pivotal GemFire/Apache Geode {@link Properties} to configure
  * Pivotal GemFire/Apache Geode Statistics.
  *
+ * Additionally registers a {@link DataAccessStatisticsRecorder} bean when data access statistics are enabled.
+ *
  * @author John Blum
  * @see org.springframework.context.annotation.ImportBeanDefinitionRegistrar
  * @see org.springframework.data.gemfire.config.annotation.EnableStatistics
  * @see org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport
+ * @see org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder
  * @since 1.9.0
  */
 public class StatisticsConfiguration extends EmbeddedServiceConfigurationSupport {
 
+	public static final boolean DEFAULT_ENABLE_DATA_ACCESS_STATISTICS = false;
 	public static final boolean DEFAULT_ENABLE_TIME_STATISTICS = false;
 
 	public static final int DEFAULT_ARCHIVE_DISK_SPACE_LIMIT = 0;
@@ -54,6 +62,19 @@ public class StatisticsConfiguration extends EmbeddedServiceConfigurationSupport
 		return EnableStatistics.class;
 	}
 
+	@Override
+	protected void registerBeanDefinitions(AnnotationMetadata importingClassMetadata,
+			Map<String, Object> annotationAttributes, BeanDefinitionRegistry registry) {
+
+		boolean enableDataAccessStatistics = resolveProperty(statsProperty("enable-data-access-statistics"),
+			Boolean.TRUE.equals(annotationAttributes.get("enableDataAccessStatistics")));
+
+		if (enableDataAccessStatistics) {
+			registry.registerBeanDefinition(generateBeanName(DataAccessStatisticsRecorder.class),
+				BeanDefinitionBuilder.genericBeanDefinition(DataAccessStatisticsRecorder.class).getBeanDefinition());
+		}
+	}
+
 	@Override
 	protected Properties toGemFireProperties(Map<String, Object> annotationAttributes) {
 
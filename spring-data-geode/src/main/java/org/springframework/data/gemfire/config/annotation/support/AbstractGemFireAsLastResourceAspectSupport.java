@@ -19,7 +19,10 @@ package org.springframework.data.gemfire.config.annotation.support;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newRuntimeException;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Hashtable;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -510,19 +513,34 @@ public class AbstractGemFireAsLastResourceAspectSupport implements Ordered {
 		return (T) this;
 	}
 
+	/**
+	 * The {@link GemFireConnectionHolder} class holds the GemFire JCA ResourceAdapter {@link GFConnection}
+	 * bound to the current {@link Thread}.
+	 *
+	 * Nested transactional calls participating in the same JTA transaction reuse the bound {@link GFConnection},
+	 * which is only closed and unbound when the outermost call of that transaction completes. A nested call
+	 * running in a different JTA transaction (e.g. {@literal REQUIRES_NEW}) binds a new {@link GFConnection}
+	 * until it completes, after which the {@link GFConnection} of the enclosing transaction is restored.
+	 */
 	protected static class GemFireConnectionHolder {
 
-		private static final ThreadLocal<GFConnection> gemfireConnection = new ThreadLocal<>();
+		private static final ThreadLocal<Deque<GemFireConnectionReference>> gemfireConnection = new ThreadLocal<>();
 
 		public static GFConnection acquire(GFConnectionFactory connectionFactory) {
-			return acquire(connectionFactory, DEFAULT_THROW_ON_ERROR, NO_OP_LOGGER);
+			return acquire(connectionFactory, null, DEFAULT_THROW_ON_ERROR, NO_OP_LOGGER);
 		}
 
-		public static GFConnection acquire(GFConnectionFactory connectionFactory, boolean throwOnError,
-				Consumer<String> logger) {
+		public static GFConnection acquire(GFConnectionFactory connectionFactory, Object transactionKey,
+				boolean throwOnError, Consumer<String> logger) {
+
+			GemFireConnectionReference connectionReference = peek();
+
+			if (connectionReference != null && connectionReference.isBoundTo(transactionKey)) {
+				return connectionReference.retain();
+			}
 
 			try {
-				return of(connectionFactory.getConnection());
+				return push(connectionFactory.getConnection(), transactionKey);
 			}
 			catch (ResourceException cause) {
 
@@ -542,13 +560,29 @@ public class AbstractGemFireAsLastResourceAspectSupport implements Ordered {
 
 		/* (non-Javadoc) */
 		public static GFConnection of(GFConnection connection) {
-			gemfireConnection.set(connection);
-			return connection;
+
+			gemfireConnection.remove();
+
+			return push(connection, null);
 		}
 
 		/* (non-Javadoc) */
 		public static Optional<GFConnection> get() {
-			return Optional.ofNullable(gemfireConnection.get());
+			return Optional.ofNullable(peek()).map(GemFireConnectionReference::getConnection);
+		}
+
+		/**
+		 * Determines whether a {@link GFConnection} bound to the current {@link Thread} is used by
+		 * the JTA transaction identified by the given {@link Object transaction key}.
+		 *
+		 * @param transactionKey {@link Object} identifying the current JTA transaction; may be {@literal null}.
+		 * @return a boolean value indicating whether a bound {@link GFConnection} would be reused.
+		 */
+		public static boolean isBound(Object transactionKey) {
+
+			GemFireConnectionReference connectionReference = peek();
+
+			return connectionReference != null && connectionReference.isBoundTo(transactionKey);
 		}
 
 		public static void close() {
@@ -558,9 +592,21 @@ public class AbstractGemFireAsLastResourceAspectSupport implements Ordered {
 		/* (non-Javadoc) */
 		public static void close(boolean throwOnError, Consumer<String> logger) {
 
-			get().ifPresent(connection -> {
+			Deque<GemFireConnectionReference> connectionReferences = gemfireConnection.get();
+
+			GemFireConnectionReference connectionReference =
+				connectionReferences != null ? connectionReferences.peek() : null;
+
+			if (connectionReference != null && connectionReference.release()) {
+
+				connectionReferences.pop();
+
+				if (connectionReferences.isEmpty()) {
+					gemfireConnection.remove();
+				}
+
 				try {
-					connection.close();
+					connectionReference.getConnection().close();
 				}
 				catch (ResourceException cause) {
 
@@ -573,7 +619,66 @@ public class AbstractGemFireAsLastResourceAspectSupport implements Ordered {
 						logger.accept(message);
 					}
 				}
-			});
+			}
+		}
+
+		private static GemFireConnectionReference peek() {
+
+			Deque<GemFireConnectionReference> connectionReferences = gemfireConnection.get();
+
+			return connectionReferences != null ? connectionReferences.peek() : null;
+		}
+
+		private static GFConnection push(GFConnection connection, Object transactionKey) {
+
+			if (connection != null) {
+
+				Deque<GemFireConnectionReference> connectionReferences = gemfireConnection.get();
+
+				if (connectionReferences == null) {
+					connectionReferences = new ArrayDeque<>();
+					gemfireConnection.set(connectionReferences);
+				}
+
+				connectionReferences.push(new GemFireConnectionReference(connection, transactionKey));
+			}
+
+			return connection;
+		}
+	}
+
+	/**
+	 * Reference to a {@link Thread}-bound {@link GFConnection} used by a JTA transaction, counting the nested
+	 * transactional calls using it.
+	 */
+	private static final class GemFireConnectionReference {
+
+		private final GFConnection connection;
+
+		private int referenceCount = 1;
+
+		private final Object transactionKey;
+
+		private GemFireConnectionReference(GFConnection connection, Object transactionKey) {
+			this.connection = connection;
+			this.transactionKey = transactionKey;
+		}
+
+		GFConnection getConnection() {
+			return this.connection;
+		}
+
+		boolean isBoundTo(Object transactionKey) {
+			return Objects.equals(this.transactionKey, transactionKey);
+		}
+
+		GFConnection retain() {
+			this.referenceCount++;
+			return this.connection;
+		}
+
+		boolean release() {
+			return --this.referenceCount <= 0;
 		}
 	}
 }
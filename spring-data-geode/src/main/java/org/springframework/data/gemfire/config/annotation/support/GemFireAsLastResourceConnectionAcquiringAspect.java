@@ -18,8 +18,14 @@ package org.springframework.data.gemfire.config.annotation.support;
 
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newRuntimeException;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
 import javax.naming.NamingException;
+import javax.transaction.TransactionSynchronizationRegistry;
 
+import org.apache.geode.ra.GFConnection;
 import org.apache.geode.ra.GFConnectionFactory;
 
 import org.aspectj.lang.annotation.Aspect;
@@ -46,11 +52,28 @@ public class GemFireAsLastResourceConnectionAcquiringAspect extends AbstractGemF
 
 	private static final int DEFAULT_ORDER = 2048000;
 
+	protected static final String DEFAULT_TRANSACTION_SYNCHRONIZATION_REGISTRY_JNDI_NAME =
+		"java:comp/TransactionSynchronizationRegistry";
+
+	@Autowired(required = false)
+	private volatile GFConnectionFactory gemfireConnectionFactory;
+
+	private final ConnectionAcquisitionMetrics connectionAcquisitionMetrics = new ConnectionAcquisitionMetrics();
+
 	@Autowired(required = false)
-	private GFConnectionFactory gemfireConnectionFactory;
+	private volatile TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+	private volatile boolean transactionSynchronizationRegistryResolved;
+
+	private final Object connectionFactoryMonitor = new Object();
+
+	private final Object transactionSynchronizationRegistryMonitor = new Object();
 
 	/**
 	 * Acquires (opens) a GemFire JCA ResourceAdapter Connection after the Spring CMT/JTA Transaction begins.
+	 *
+	 * A GemFire Connection already bound to the current {@link Thread} by an enclosing transactional call is reused
+	 * as long as both calls participate in the same JTA transaction.
 	 */
 	@Before("atTransactionalType() || atTransactionalMethod()")
 	public void doGemFireConnectionFactoryGetConnection() {
@@ -58,32 +81,133 @@ public class GemFireAsLastResourceConnectionAcquiringAspect extends AbstractGemF
 		logTraceInfo("Acquiring GemFire Connection from GemFire JCA ResourceAdapter registered at [%s]...",
 			resolveGemFireJcaResourceAdapterJndiName());
 
-		GemFireConnectionHolder.acquire(resolveGemFireConnectionFactory(), isThrowOnError(), this::logError);
+		Object transactionKey = resolveTransactionKey();
+
+		boolean reuse = GemFireConnectionHolder.isBound(transactionKey);
+
+		long startTime = System.nanoTime();
+
+		try {
+
+			GFConnection connection = GemFireConnectionHolder.acquire(resolveGemFireConnectionFactory(),
+				transactionKey, isThrowOnError(), this::logError);
+
+			if (reuse) {
+				this.connectionAcquisitionMetrics.recordReuse();
+			}
+			else {
+				this.connectionAcquisitionMetrics.recordAcquisition(System.nanoTime() - startTime, connection != null);
+			}
+		}
+		catch (RuntimeException cause) {
+			this.connectionAcquisitionMetrics.recordAcquisition(System.nanoTime() - startTime, false);
+			throw cause;
+		}
 	}
 
-	/* (non-Javadoc) */
-	synchronized GFConnectionFactory resolveGemFireConnectionFactory() {
+	/**
+	 * Resolves the {@link GFConnectionFactory} either from autowiring or a JNDI lookup.
+	 *
+	 * Once resolved, the {@link GFConnectionFactory} is read without locking.
+	 *
+	 * @return the resolved {@link GFConnectionFactory}.
+	 * @see org.apache.geode.ra.GFConnectionFactory
+	 */
+	GFConnectionFactory resolveGemFireConnectionFactory() {
 
 		GFConnectionFactory connectionFactory = getGemFireConnectionFactory();
 
 		if (connectionFactory == null) {
+			synchronized (this.connectionFactoryMonitor) {
 
-			String resolvedGemFireJcaResourceAdapterJndiName = resolveGemFireJcaResourceAdapterJndiName();
+				connectionFactory = this.gemfireConnectionFactory;
 
-			try {
-				connectionFactory = this.gemfireConnectionFactory =
-					(GFConnectionFactory) resolveContext().lookup(resolvedGemFireJcaResourceAdapterJndiName);
-			}
-			catch (NamingException cause) {
-				throw newRuntimeException(cause,
-					"Failed to resolve a GFConnectionFactory from the configured JNDI context name [%s]",
-						resolvedGemFireJcaResourceAdapterJndiName);
+				if (connectionFactory == null) {
+
+					String resolvedGemFireJcaResourceAdapterJndiName = resolveGemFireJcaResourceAdapterJndiName();
+
+					try {
+						connectionFactory = this.gemfireConnectionFactory =
+							(GFConnectionFactory) resolveContext().lookup(resolvedGemFireJcaResourceAdapterJndiName);
+					}
+					catch (NamingException cause) {
+						throw newRuntimeException(cause,
+							"Failed to resolve a GFConnectionFactory from the configured JNDI context name [%s]",
+								resolvedGemFireJcaResourceAdapterJndiName);
+					}
+				}
 			}
 		}
 
 		return connectionFactory;
 	}
 
+	/**
+	 * Resolves the {@link Object key} identifying the JTA transaction associated with the current {@link Thread}
+	 * from the {@link TransactionSynchronizationRegistry}.
+	 *
+	 * @return the {@link Object key} identifying the current JTA transaction, or {@literal null} if there is
+	 * no JTA transaction or the {@link TransactionSynchronizationRegistry} could not be resolved.
+	 * @see javax.transaction.TransactionSynchronizationRegistry#getTransactionKey()
+	 */
+	Object resolveTransactionKey() {
+
+		TransactionSynchronizationRegistry transactionSynchronizationRegistry =
+			resolveTransactionSynchronizationRegistry();
+
+		return transactionSynchronizationRegistry != null
+			? transactionSynchronizationRegistry.getTransactionKey()
+			: null;
+	}
+
+	/**
+	 * Resolves the {@link TransactionSynchronizationRegistry} either from autowiring or a JNDI lookup.
+	 *
+	 * The JNDI lookup is only attempted once. When the {@link TransactionSynchronizationRegistry} cannot be resolved,
+	 * all transactional calls on the same {@link Thread} share the bound GemFire Connection.
+	 *
+	 * @return the resolved {@link TransactionSynchronizationRegistry}; may be {@literal null}.
+	 * @see javax.transaction.TransactionSynchronizationRegistry
+	 */
+	TransactionSynchronizationRegistry resolveTransactionSynchronizationRegistry() {
+
+		TransactionSynchronizationRegistry transactionSynchronizationRegistry = this.transactionSynchronizationRegistry;
+
+		if (transactionSynchronizationRegistry == null && !this.transactionSynchronizationRegistryResolved) {
+			synchronized (this.transactionSynchronizationRegistryMonitor) {
+
+				transactionSynchronizationRegistry = this.transactionSynchronizationRegistry;
+
+				if (transactionSynchronizationRegistry == null && !this.transactionSynchronizationRegistryResolved) {
+					try {
+						transactionSynchronizationRegistry = this.transactionSynchronizationRegistry =
+							(TransactionSynchronizationRegistry) resolveContext()
+								.lookup(DEFAULT_TRANSACTION_SYNCHRONIZATION_REGISTRY_JNDI_NAME);
+					}
+					catch (NamingException | RuntimeException cause) {
+						logWarning("Failed to resolve a TransactionSynchronizationRegistry from JNDI context"
+							+ " name [%1$s]; nested JTA transactions will share the GemFire Connection: %2$s",
+								DEFAULT_TRANSACTION_SYNCHRONIZATION_REGISTRY_JNDI_NAME, cause.getMessage());
+					}
+					finally {
+						this.transactionSynchronizationRegistryResolved = true;
+					}
+				}
+			}
+		}
+
+		return transactionSynchronizationRegistry;
+	}
+
+	/**
+	 * Returns the {@link ConnectionAcquisitionMetrics} recording the latency and failures of GemFire Connections
+	 * acquired from the GemFire JCA ResourceAdapter by this Aspect.
+	 *
+	 * @return the {@link ConnectionAcquisitionMetrics} for this Aspect.
+	 */
+	public ConnectionAcquisitionMetrics getConnectionAcquisitionMetrics() {
+		return this.connectionAcquisitionMetrics;
+	}
 
 	/**
 	 * Returns the default order used by this AOP Aspect in the chain of Aspects configured
@@ -103,7 +227,108 @@ public class GemFireAsLastResourceConnectionAcquiringAspect extends AbstractGemF
 	 * @return a reference to the configured {@link GFConnectionFactory} instance; may be {@literal null}.
 	 * @see org.apache.geode.ra.GFConnectionFactory
 	 */
-	public synchronized GFConnectionFactory getGemFireConnectionFactory() {
+	public GFConnectionFactory getGemFireConnectionFactory() {
 		return this.gemfireConnectionFactory;
 	}
+
+	/**
+	 * The {@link ConnectionAcquisitionMetrics} class records the number, latency and failures of GemFire Connections
+	 * acquired from the GemFire JCA ResourceAdapter, along with the number of Connections reused by nested
+	 * transactional calls.
+	 */
+	public static class ConnectionAcquisitionMetrics {
+
+		private final LongAccumulator maxAcquisitionTime = new LongAccumulator(Math::max, 0L);
+
+		private final LongAdder acquisitionCount = new LongAdder();
+		private final LongAdder failureCount = new LongAdder();
+		private final LongAdder reuseCount = new LongAdder();
+		private final LongAdder totalAcquisitionTime = new LongAdder();
+
+		void recordAcquisition(long acquisitionTimeNanos, boolean successful) {
+
+			this.acquisitionCount.increment();
+			this.maxAcquisitionTime.accumulate(acquisitionTimeNanos);
+			this.totalAcquisitionTime.add(acquisitionTimeNanos);
+
+			if (!successful) {
+				this.failureCount.increment();
+			}
+		}
+
+		void recordReuse() {
+			this.reuseCount.increment();
+		}
+
+		/**
+		 * Returns the number of GemFire Connections acquired from the GemFire JCA ResourceAdapter,
+		 * including failed attempts.
+		 *
+		 * @return the number of GemFire Connection acquisitions.
+		 */
+		public long getAcquisitionCount() {
+			return this.acquisitionCount.sum();
+		}
+
+		/**
+		 * Returns the average time taken to acquire a GemFire Connection.
+		 *
+		 * @param timeUnit {@link TimeUnit} of the returned value.
+		 * @return the average time taken to acquire a GemFire Connection.
+		 */
+		public long getAverageAcquisitionTime(TimeUnit timeUnit) {
+
+			long acquisitionCount = getAcquisitionCount();
+
+			return acquisitionCount > 0 ? getTotalAcquisitionTime(timeUnit) / acquisitionCount : 0L;
+		}
+
+		/**
+		 * Returns the number of failed attempts to acquire a GemFire Connection.
+		 *
+		 * @return the number of failed GemFire Connection acquisitions.
+		 */
+		public long getFailureCount() {
+			return this.failureCount.sum();
+		}
+
+		/**
+		 * Returns the maximum time taken to acquire a GemFire Connection.
+		 *
+		 * @param timeUnit {@link TimeUnit} of the returned value.
+		 * @return the maximum time taken to acquire a GemFire Connection.
+		 */
+		public long getMaxAcquisitionTime(TimeUnit timeUnit) {
+			return timeUnit.convert(this.maxAcquisitionTime.get(), TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Returns the number of times a GemFire Connection bound to the current {@link Thread} was reused
+		 * by a nested transactional call.
+		 *
+		 * @return the number of reused GemFire Connections.
+		 */
+		public long getReuseCount() {
+			return this.reuseCount.sum();
+		}
+
+		/**
+		 * Returns the total time spent acquiring GemFire Connections.
+		 *
+		 * @param timeUnit {@link TimeUnit} of the returned value.
+		 * @return the total time spent acquiring GemFire Connections.
+		 */
+		public long getTotalAcquisitionTime(TimeUnit timeUnit) {
+			return timeUnit.convert(this.totalAcquisitionTime.sum(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public String toString() {
+
+			return String.format("%1$s{acquisitions = %2$d, failures = %3$d, reuses = %4$d, averageTime = %5$d us,"
+					+ " maxTime = %6$d us}", getClass().getSimpleName(), getAcquisitionCount(), getFailureCount(),
+				getReuseCount(), getAverageAcquisitionTime(TimeUnit.MICROSECONDS),
+				getMaxAcquisitionTime(TimeUnit.MICROSECONDS));
+		}
+	}
 }
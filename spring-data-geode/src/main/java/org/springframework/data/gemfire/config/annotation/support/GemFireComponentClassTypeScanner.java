@@ -21,6 +21,7 @@ import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -28,11 +29,16 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.filter.TypeFilter;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -87,6 +93,8 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 
 	private ConfigurableApplicationContext applicationContext;
 
+	private String indexedStereotype;
+
 	private Set<TypeFilter> excludes = new HashSet<>();
 	private Set<TypeFilter> includes = new HashSet<>();
 
@@ -208,25 +216,60 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 		ClassPathScanningCandidateComponentProvider componentProvider =
 			newClassPathScanningCandidateComponentProvider();
 
-		stream(this.spliterator(), true)
-			.flatMap(packageName -> componentProvider.findCandidateComponents(packageName).stream())
-			.forEach(beanDefinition ->
-				Optional.ofNullable(beanDefinition.getBeanClassName())
-					.filter(StringUtils::hasText)
-					.ifPresent(beanClassName -> {
-						try {
-							componentClasses.add(ClassUtils.forName(beanClassName, entityClassLoader));
-						}
-						catch (ClassNotFoundException ignore) {
-							logger.warn(String.format("Class for component type [%s] not found",
-								beanDefinition.getBeanClassName()));
-						}
-					})
-			);
+		Stream<String> componentClassNames = resolveIndexedCandidateComponentClassNames(entityClassLoader)
+			.filter(indexedClassNames ->
+				componentProvider instanceof IndexAwareClassPathScanningCandidateComponentProvider)
+			.map(indexedClassNames -> indexedClassNames.parallelStream()
+				.filter(className -> isCandidateComponent(
+					(IndexAwareClassPathScanningCandidateComponentProvider) componentProvider, className)))
+			.orElseGet(() -> stream(this.spliterator(), true)
+				.flatMap(packageName -> componentProvider.findCandidateComponents(packageName).stream())
+				.map(BeanDefinition::getBeanClassName));
+
+		componentClassNames
+			.filter(StringUtils::hasText)
+			.forEach(componentClassName -> {
+				try {
+					componentClasses.add(ClassUtils.forName(componentClassName, entityClassLoader));
+				}
+				catch (ClassNotFoundException ignore) {
+					logger.warn(String.format("Class for component type [%s] not found", componentClassName));
+				}
+			});
 
 		return componentClasses;
 	}
 
+	/**
+	 * Resolves the names of candidate component classes in the base packages from the {@link GemFireMetadataIndex}
+	 * when an {@link #withIndexedStereotype(String) indexed stereotype} was configured and every classpath root
+	 * containing the base packages is covered by the index.
+	 *
+	 * @param classLoader {@link ClassLoader} used to load the {@link GemFireMetadataIndex}.
+	 * @return an {@link Optional} {@link Set} of candidate component class names, or {@link Optional#empty()}
+	 * if the classpath must be scanned.
+	 * @see org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndex
+	 */
+	protected Optional<Set<String>> resolveIndexedCandidateComponentClassNames(ClassLoader classLoader) {
+
+		return Optional.ofNullable(this.indexedStereotype)
+			.flatMap(stereotype -> GemFireMetadataIndex.load(classLoader)
+				.getCandidateTypes(classLoader, getBasePackages(), stereotype));
+	}
+
+	private boolean isCandidateComponent(IndexAwareClassPathScanningCandidateComponentProvider componentProvider,
+			String className) {
+
+		try {
+			return componentProvider.isCandidateComponentType(componentProvider.getMetadataReaderFactory()
+				.getMetadataReader(className));
+		}
+		catch (IOException ignore) {
+			logger.warn(String.format("Class for component type [%s] not found", className));
+			return false;
+		}
+	}
+
 	/**
 	 * Constructs a new instance of the {@link ClassPathScanningCandidateComponentProvider} initialized with
 	 * no default filters.
@@ -253,7 +296,9 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 			boolean useDefaultFilters) {
 
 		ClassPathScanningCandidateComponentProvider componentProvider =
-			new ClassPathScanningCandidateComponentProvider(useDefaultFilters, getEnvironment());
+			new IndexAwareClassPathScanningCandidateComponentProvider(useDefaultFilters, getEnvironment());
+
+		componentProvider.setResourceLoader(new PathMatchingResourcePatternResolver(getEntityClassLoader()));
 
 		this.excludes.forEach(componentProvider::addExcludeFilter);
 		this.includes.forEach(componentProvider::addIncludeFilter);
@@ -271,6 +316,11 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 		return this;
 	}
 
+	public GemFireComponentClassTypeScanner withIndexedStereotype(String indexedStereotype) {
+		this.indexedStereotype = indexedStereotype;
+		return this;
+	}
+
 	public GemFireComponentClassTypeScanner withExcludes(TypeFilter... excludes) {
 		return withExcludes(asSet(nullSafeArray(excludes, TypeFilter.class)));
 	}
@@ -288,4 +338,24 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 		stream(nullSafeIterable(includes).spliterator(), false).forEach(this.includes::add);
 		return this;
 	}
+
+	/**
+	 * {@link ClassPathScanningCandidateComponentProvider} extension used to apply the exclude/include filters
+	 * and candidate component rules to a {@link Class type} listed in the {@link GemFireMetadataIndex}.
+	 */
+	protected static class IndexAwareClassPathScanningCandidateComponentProvider
+			extends ClassPathScanningCandidateComponentProvider {
+
+		protected IndexAwareClassPathScanningCandidateComponentProvider(boolean useDefaultFilters,
+				Environment environment) {
+
+			super(useDefaultFilters, environment);
+		}
+
+		protected boolean isCandidateComponentType(MetadataReader metadataReader) throws IOException {
+
+			return isCandidateComponent(metadataReader)
+				&& isCandidateComponent(new ScannedGenericBeanDefinition(metadataReader));
+		}
+	}
 }
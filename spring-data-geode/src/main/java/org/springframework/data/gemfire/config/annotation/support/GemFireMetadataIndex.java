@@ -0,0 +1,310 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link GemFireMetadataIndex} class is a read-only view of the {@literal META-INF/spring-data-geode.components}
+ * metadata index files written at build time by the {@link GemFireMetadataIndexProcessor}.
+ *
+ * The index records, per application {@link Class type}, the stereotypes (e.g. {@literal entity}, {@literal caching},
+ * {@literal function}) that SDG would otherwise discover by scanning the classpath or introspecting bean classes
+ * with reflection on startup.
+ *
+ * The index is only authoritative for the classpath roots (directories or JAR files) that contain an index file.
+ * For any {@link Class type} or package loaded from a classpath root without an index, callers must fall back to
+ * runtime scanning and introspection.  Setting the {@literal spring.data.gemfire.index.ignore} System or
+ * {@link SpringProperties Spring} property to {@literal true} disables the index entirely.
+ *
+ * @author John Blum
+ * @see java.lang.ClassLoader
+ * @see org.springframework.core.SpringProperties
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndexProcessor
+ * @since 2.5.0
+ */
+public class GemFireMetadataIndex {
+
+	public static final String CACHING_STEREOTYPE = "caching";
+	public static final String CONTINUOUS_QUERY_STEREOTYPE = "continuous-query";
+	public static final String ENTITY_STEREOTYPE = "entity";
+	public static final String FUNCTION_STEREOTYPE = "function";
+	public static final String IGNORE_INDEX_PROPERTY = "spring.data.gemfire.index.ignore";
+	public static final String INDEX_LOCATION = "META-INF/spring-data-geode.components";
+	public static final String INDEX_STEREOTYPE = "index";
+
+	private static final GemFireMetadataIndex EMPTY = new GemFireMetadataIndex(Collections.emptyMap(),
+		Collections.emptySet());
+
+	private static final ConcurrentMap<ClassLoader, GemFireMetadataIndex> cache = new ConcurrentReferenceHashMap<>();
+
+	private static final Logger logger = LoggerFactory.getLogger(GemFireMetadataIndex.class);
+
+	/**
+	 * Loads the {@link GemFireMetadataIndex} from all {@literal META-INF/spring-data-geode.components} resources
+	 * visible to the given {@link ClassLoader}.
+	 *
+	 * The loaded index is cached per {@link ClassLoader}.
+	 *
+	 * @param classLoader {@link ClassLoader} used to find the index resources; may be {@literal null}.
+	 * @return the {@link GemFireMetadataIndex}; never {@literal null}.  The index will be
+	 * {@link #isPresent() absent} if no index resources were found or the index has been disabled.
+	 * @see java.lang.ClassLoader
+	 */
+	public static @NonNull GemFireMetadataIndex load(@Nullable ClassLoader classLoader) {
+
+		if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+			return EMPTY;
+		}
+
+		ClassLoader resolvedClassLoader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+
+		return resolvedClassLoader != null
+			? cache.computeIfAbsent(resolvedClassLoader, GemFireMetadataIndex::doLoad)
+			: EMPTY;
+	}
+
+	private static GemFireMetadataIndex doLoad(ClassLoader classLoader) {
+
+		Map<String, Set<String>> stereotypesByType = new HashMap<>();
+
+		Set<String> indexedRoots = new HashSet<>();
+
+		try {
+
+			Enumeration<URL> indexResources = classLoader.getResources(INDEX_LOCATION);
+
+			while (indexResources.hasMoreElements()) {
+
+				URL indexResource = indexResources.nextElement();
+
+				Properties index = new Properties();
+
+				try (InputStream in = indexResource.openStream()) {
+					index.load(in);
+				}
+
+				index.stringPropertyNames().forEach(typeName ->
+					stereotypesByType.computeIfAbsent(typeName, key -> new HashSet<>())
+						.addAll(StringUtils.commaDelimitedListToSet(index.getProperty(typeName))));
+
+				toRoot(indexResource, INDEX_LOCATION).ifPresent(indexedRoots::add);
+			}
+		}
+		catch (IOException cause) {
+
+			logger.warn("Failed to load [{}]; falling back to classpath scanning: {}",
+				INDEX_LOCATION, cause.getMessage());
+
+			return EMPTY;
+		}
+
+		return indexedRoots.isEmpty() ? EMPTY : new GemFireMetadataIndex(stereotypesByType, indexedRoots);
+	}
+
+	/**
+	 * Clears the cache of loaded {@link GemFireMetadataIndex indexes}.
+	 */
+	public static void clearCache() {
+		cache.clear();
+	}
+
+	static Optional<String> toRoot(@Nullable URL resource, String resourcePath) {
+
+		return Optional.ofNullable(resource)
+			.map(URL::toString)
+			.map(resourceLocation -> StringUtils.trimTrailingCharacter(resourceLocation, '/'))
+			.filter(resourceLocation -> resourceLocation.endsWith(resourcePath))
+			.map(resourceLocation -> resourceLocation.substring(0, resourceLocation.length() - resourcePath.length()));
+	}
+
+	private final Map<ClassLoader, Map<String, Boolean>> indexedPackages = new ConcurrentReferenceHashMap<>();
+
+	private final Map<Class<?>, Boolean> indexedTypes =
+		new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+	private final Map<String, Set<String>> stereotypesByType;
+
+	private final Set<String> indexedRoots;
+
+	/**
+	 * Constructs a new instance of {@link GemFireMetadataIndex} initialized with the given indexed {@link Class types}
+	 * and their stereotypes along with the classpath roots covered by the index.
+	 *
+	 * @param stereotypesByType {@link Map} of fully-qualified {@link Class type} names to stereotypes.
+	 * @param indexedRoots {@link Set} of classpath roots containing an index file.
+	 */
+	GemFireMetadataIndex(Map<String, Set<String>> stereotypesByType, Set<String> indexedRoots) {
+		this.stereotypesByType = stereotypesByType;
+		this.indexedRoots = indexedRoots;
+	}
+
+	/**
+	 * Determines whether any index resources were found.
+	 *
+	 * @return a boolean value indicating whether any index resources were found.
+	 */
+	public boolean isPresent() {
+		return !this.indexedRoots.isEmpty();
+	}
+
+	/**
+	 * Determines whether the given {@link Class type} must be introspected for the given {@link String stereotype}.
+	 *
+	 * Returns {@literal true} if the index lists the {@link Class type} with the {@link String stereotype}, or if
+	 * the {@link Class type} was loaded from a classpath root that is not covered by the index, in which case
+	 * nothing is known about the {@link Class type} and it must be introspected.
+	 *
+	 * Whether a {@link Class type} was loaded from a classpath root covered by the index is resolved once
+	 * per package, or once per {@link Class type} when its package is split across indexed and unindexed roots.
+	 *
+	 * @param type {@link Class} to evaluate; may be {@literal null}.
+	 * @param stereotype {@link String} containing the stereotype.
+	 * @return a boolean value indicating whether the {@link Class type} must be introspected.
+	 */
+	public boolean isCandidate(@Nullable Class<?> type, String stereotype) {
+
+		if (type == null) {
+			return false;
+		}
+
+		return !isPresent() || hasStereotype(type.getName(), stereotype) || !isIndexed(type);
+	}
+
+	private boolean isIndexed(Class<?> type) {
+
+		ClassLoader classLoader = type.getClassLoader();
+
+		if (classLoader == null) {
+			return false;
+		}
+
+		boolean packageIndexed = this.indexedPackages
+			.computeIfAbsent(classLoader, key -> new ConcurrentHashMap<>())
+			.computeIfAbsent(ClassUtils.getPackageName(type), packageName -> isIndexed(classLoader, packageName));
+
+		return packageIndexed || this.indexedTypes.computeIfAbsent(type, this::isLoadedFromIndexedRoot);
+	}
+
+	private boolean isLoadedFromIndexedRoot(Class<?> type) {
+
+		String classResourcePath = ClassUtils.convertClassNameToResourcePath(type.getName())
+			+ ClassUtils.CLASS_FILE_SUFFIX;
+
+		URL classResource = type.getClassLoader().getResource(classResourcePath);
+
+		return toRoot(classResource, classResourcePath)
+			.filter(this.indexedRoots::contains)
+			.isPresent();
+	}
+
+	/**
+	 * Returns the {@link Set} of fully-qualified {@link Class type} names listed with the given
+	 * {@link String stereotype} in the given base packages (including sub-packages).
+	 *
+	 * Returns {@link Optional#empty()} if any classpath root containing one of the base packages is not covered by
+	 * the index, in which case the caller must scan the classpath.
+	 *
+	 * @param classLoader {@link ClassLoader} used to resolve the base packages.
+	 * @param basePackages {@link Iterable} of base packages.
+	 * @param stereotype {@link String} containing the stereotype.
+	 * @return an {@link Optional} {@link Set} of candidate {@link Class type} names.
+	 */
+	public Optional<Set<String>> getCandidateTypes(ClassLoader classLoader, Iterable<String> basePackages,
+			String stereotype) {
+
+		if (!isPresent()) {
+			return Optional.empty();
+		}
+
+		Set<String> candidateTypes = new HashSet<>();
+
+		for (String basePackage : basePackages) {
+
+			if (!isIndexed(classLoader, basePackage)) {
+				return Optional.empty();
+			}
+
+			String packagePrefix = basePackage + ".";
+
+			this.stereotypesByType.forEach((typeName, stereotypes) -> {
+				if (typeName.startsWith(packagePrefix) && stereotypes.contains(stereotype)) {
+					candidateTypes.add(typeName);
+				}
+			});
+		}
+
+		return Optional.of(candidateTypes);
+	}
+
+	boolean hasStereotype(String typeName, String stereotype) {
+		return this.stereotypesByType.getOrDefault(typeName, Collections.emptySet()).contains(stereotype);
+	}
+
+	private boolean isIndexed(ClassLoader classLoader, String basePackage) {
+
+		if (!StringUtils.hasText(basePackage)) {
+			return false;
+		}
+
+		String packagePath = ClassUtils.convertClassNameToResourcePath(basePackage);
+
+		try {
+
+			Enumeration<URL> packageResources = classLoader.getResources(packagePath);
+
+			boolean found = false;
+
+			while (packageResources.hasMoreElements()) {
+
+				Optional<String> root = toRoot(packageResources.nextElement(), packagePath);
+
+				if (!root.filter(this.indexedRoots::contains).isPresent()) {
+					return false;
+				}
+
+				found = true;
+			}
+
+			return found;
+		}
+		catch (IOException ignore) {
+			return false;
+		}
+	}
+}
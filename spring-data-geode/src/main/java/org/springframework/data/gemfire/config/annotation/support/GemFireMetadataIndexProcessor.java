@@ -0,0 +1,270 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * The {@link GemFireMetadataIndexProcessor} class is a Java annotation processor that writes
+ * the {@literal META-INF/spring-data-geode.components} metadata index read by {@link GemFireMetadataIndex}
+ * on startup.
+ *
+ * The processor records each application {@link Class type} that is a persistent entity mapped to a Region,
+ * declares indexed properties, uses Spring's or JSR-107's caching annotations, or declares
+ * {@literal @GemfireFunction} or {@literal @ContinuousQuery} annotated methods.  Annotations are matched by name,
+ * following meta-annotations as well as the superclass and interface hierarchy.
+ *
+ * The processor is opt-in; add it to the compiler's annotation processor path (e.g. {@literal -processor}).
+ * Entries from a previous (incremental) compilation are retained.
+ *
+ * @author John Blum
+ * @see javax.annotation.processing.AbstractProcessor
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndex
+ * @since 2.5.0
+ */
+@SupportedAnnotationTypes("*")
+public class GemFireMetadataIndexProcessor extends AbstractProcessor {
+
+	private static final Set<String> CACHING_ANNOTATION_TYPE_NAMES = new HashSet<>(Arrays.asList(
+		"org.springframework.cache.annotation.CacheConfig",
+		"org.springframework.cache.annotation.CacheEvict",
+		"org.springframework.cache.annotation.CachePut",
+		"org.springframework.cache.annotation.Cacheable",
+		"org.springframework.cache.annotation.Caching",
+		"javax.cache.annotation.CacheDefaults",
+		"javax.cache.annotation.CachePut",
+		"javax.cache.annotation.CacheRemove",
+		"javax.cache.annotation.CacheRemoveAll",
+		"javax.cache.annotation.CacheResult"
+	));
+
+	private static final String CONTINUOUS_QUERY_ANNOTATION_TYPE_NAME =
+		"org.springframework.data.gemfire.listener.annotation.ContinuousQuery";
+
+	private static final String FUNCTION_ANNOTATION_TYPE_NAME =
+		"org.springframework.data.gemfire.function.annotation.GemfireFunction";
+
+	private static final Set<String> INDEX_ANNOTATION_TYPE_NAMES = new HashSet<>(Arrays.asList(
+		"org.springframework.data.gemfire.mapping.annotation.Indexed",
+		"org.springframework.data.gemfire.mapping.annotation.LuceneIndexed"
+	));
+
+	private static final String REGION_ANNOTATION_TYPE_NAME =
+		"org.springframework.data.gemfire.mapping.annotation.Region";
+
+	private final Map<String, Set<String>> stereotypesByType = new TreeMap<>();
+
+	private final Set<String> processedTypeNames = new HashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+
+		for (Element element : roundEnvironment.getRootElements()) {
+			index(element);
+		}
+
+		if (roundEnvironment.processingOver()) {
+			writeIndex();
+		}
+
+		return false;
+	}
+
+	private void index(Element element) {
+
+		if (element instanceof TypeElement) {
+
+			TypeElement type = (TypeElement) element;
+
+			String typeName = getBinaryName(type);
+
+			Set<String> stereotypes = new TreeSet<>();
+
+			collectStereotypes(type, stereotypes, new HashSet<>());
+
+			this.processedTypeNames.add(typeName);
+
+			if (!stereotypes.isEmpty() && type.getKind() != ElementKind.ANNOTATION_TYPE) {
+				this.stereotypesByType.put(typeName, stereotypes);
+			}
+
+			for (Element enclosedElement : type.getEnclosedElements()) {
+				index(enclosedElement);
+			}
+		}
+	}
+
+	private void collectStereotypes(TypeElement type, Set<String> stereotypes, Set<String> visitedTypes) {
+
+		if (!visitedTypes.add(type.getQualifiedName().toString())) {
+			return;
+		}
+
+		if (isAnnotated(type, Collections.singleton(REGION_ANNOTATION_TYPE_NAME))) {
+			stereotypes.add(GemFireMetadataIndex.ENTITY_STEREOTYPE);
+		}
+
+		if (isAnnotated(type, CACHING_ANNOTATION_TYPE_NAMES)) {
+			stereotypes.add(GemFireMetadataIndex.CACHING_STEREOTYPE);
+		}
+
+		for (Element member : type.getEnclosedElements()) {
+
+			if (member.getKind() == ElementKind.METHOD) {
+
+				if (isAnnotated(member, CACHING_ANNOTATION_TYPE_NAMES)) {
+					stereotypes.add(GemFireMetadataIndex.CACHING_STEREOTYPE);
+				}
+
+				if (isAnnotated(member, Collections.singleton(CONTINUOUS_QUERY_ANNOTATION_TYPE_NAME))) {
+					stereotypes.add(GemFireMetadataIndex.CONTINUOUS_QUERY_STEREOTYPE);
+				}
+
+				if (isAnnotated(member, Collections.singleton(FUNCTION_ANNOTATION_TYPE_NAME))) {
+					stereotypes.add(GemFireMetadataIndex.FUNCTION_STEREOTYPE);
+				}
+			}
+
+			if ((member.getKind() == ElementKind.FIELD || member.getKind() == ElementKind.METHOD)
+					&& isAnnotated(member, INDEX_ANNOTATION_TYPE_NAMES)) {
+
+				stereotypes.add(GemFireMetadataIndex.INDEX_STEREOTYPE);
+			}
+		}
+
+		collectStereotypes(type.getSuperclass(), stereotypes, visitedTypes);
+
+		for (TypeMirror interfaceType : type.getInterfaces()) {
+			collectStereotypes(interfaceType, stereotypes, visitedTypes);
+		}
+	}
+
+	private void collectStereotypes(TypeMirror type, Set<String> stereotypes, Set<String> visitedTypes) {
+
+		if (type.getKind() == TypeKind.DECLARED) {
+			collectStereotypes((TypeElement) ((DeclaredType) type).asElement(), stereotypes, visitedTypes);
+		}
+	}
+
+	private boolean isAnnotated(Element element, Set<String> annotationTypeNames) {
+		return isAnnotated(element, annotationTypeNames, new HashSet<>());
+	}
+
+	private boolean isAnnotated(Element element, Set<String> annotationTypeNames, Set<String> visitedAnnotationTypes) {
+
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+
+			String annotationTypeName = annotationType.getQualifiedName().toString();
+
+			if (annotationTypeNames.contains(annotationTypeName)) {
+				return true;
+			}
+
+			if (!annotationTypeName.startsWith("java.lang.annotation.")
+					&& visitedAnnotationTypes.add(annotationTypeName)
+					&& isAnnotated(annotationType, annotationTypeNames, visitedAnnotationTypes)) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private String getBinaryName(TypeElement type) {
+		return this.processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private void writeIndex() {
+
+		Properties index = readExistingIndex();
+
+		this.stereotypesByType.forEach((typeName, stereotypes) ->
+			index.setProperty(typeName, String.join(",", stereotypes)));
+
+		if (!index.isEmpty()) {
+			try {
+
+				FileObject indexFile = this.processingEnv.getFiler()
+					.createResource(StandardLocation.CLASS_OUTPUT, "", GemFireMetadataIndex.INDEX_LOCATION);
+
+				try (OutputStream out = indexFile.openOutputStream()) {
+					index.store(out, null);
+				}
+			}
+			catch (IOException cause) {
+				this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					String.format("Failed to write [%1$s]: %2$s", GemFireMetadataIndex.INDEX_LOCATION,
+						cause.getMessage()));
+			}
+		}
+	}
+
+	private Properties readExistingIndex() {
+
+		Properties index = new Properties();
+
+		try {
+
+			FileObject existingIndexFile = this.processingEnv.getFiler()
+				.getResource(StandardLocation.CLASS_OUTPUT, "", GemFireMetadataIndex.INDEX_LOCATION);
+
+			try (InputStream in = existingIndexFile.openInputStream()) {
+				index.load(in);
+			}
+		}
+		catch (IOException | IllegalArgumentException ignore) {
+			// the index does not exist or is not readable in this compilation; write a new index
+		}
+
+		// entries for types (re)compiled in this compilation are replaced
+		this.processedTypeNames.forEach(index::remove);
+
+		return index;
+	}
+}
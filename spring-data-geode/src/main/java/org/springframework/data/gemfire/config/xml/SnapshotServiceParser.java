@@ -56,6 +56,9 @@ class SnapshotServiceParser extends AbstractSingleBeanDefinitionParser {
 		ParsingUtils.setCacheReference(element, builder);
 		ParsingUtils.setRegionReference(element, builder);
 		ParsingUtils.setPropertyValue(element, builder, "suppress-import-on-init");
+		ParsingUtils.setPropertyValue(element, builder, "parallelism");
+		ParsingUtils.setPropertyValue(element, builder, "batch-size");
+		ParsingUtils.setPropertyValue(element, builder, "compress");
 		builder.addPropertyValue("exports", parseExports(element, parserContext));
 		builder.addPropertyValue("imports", parseImports(element, parserContext));
 	}
@@ -51,6 +51,8 @@ class TransactionManagerParser extends AbstractSingleBeanDefinitionParser {
 	protected void doParse(Element element, BeanDefinitionBuilder builder) {
 		super.doParse(element, builder);
 
+		ParsingUtils.setPropertyValue(element, builder, "bypass-read-only-transactions",
+			"bypassReadOnlyTransactions");
 		ParsingUtils.setPropertyValue(element, builder, "copy-on-read", "copyOnRead");
 		builder.addPropertyReference("cache", ParsingUtils.resolveCacheReference(element));
 	}
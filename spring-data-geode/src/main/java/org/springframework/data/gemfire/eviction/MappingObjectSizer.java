@@ -0,0 +1,475 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.eviction;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.cache.util.ObjectSizer;
+import org.apache.geode.internal.size.ReflectionSingleObjectSizer;
+
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Apache Geode {@link ObjectSizer} implementation that sizes application domain objects using the
+ * {@link GemfirePersistentEntity persistent entity} metadata from the {@link GemfireMappingContext}.
+ *
+ * Only types already managed by the {@link GemfireMappingContext} are sized as entities.  Sizing an object never
+ * registers its type as a new {@link GemfirePersistentEntity persistent entity}.
+ *
+ * The shallow size of each type is computed once from the type's field layout and cached.  A type registered
+ * with the {@link GemfireMappingContext} after it was first sized is sized as an entity from then on.  Only
+ * the persistent properties of reference type are traversed when sizing an entity, using the (generated)
+ * {@link PersistentPropertyAccessor} of the entity rather than reflection.  {@link String Strings}, arrays,
+ * {@link Collection Collections} and {@link Map Maps} are sized without traversing their internal structure.
+ * All other types are sized with the configured fallback {@link ObjectSizer}, which defaults to
+ * {@link ObjectSizer#REFLECTION_SIZE}.
+ *
+ * Optionally, the sizes of entities can be {@link #setSamplingInterval(int) sampled}, in which case only every n-th
+ * instance of an entity type is sized and the average size of the sampled instances is returned for the others.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+ * @since 2.5.0
+ */
+public class MappingObjectSizer implements ObjectSizer {
+
+	public static final int DEFAULT_MAXIMUM_DEPTH = 16;
+
+	protected static final boolean COMPACT_STRINGS =
+		!String.valueOf(System.getProperty("java.specification.version")).startsWith("1.");
+
+	private static final ReflectionSingleObjectSizer SINGLE_OBJECT_SIZER = new ReflectionSingleObjectSizer();
+
+	protected static final long ARRAY_HEADER_SIZE = SINGLE_OBJECT_SIZER.sizeof(new byte[0]);
+	protected static final long HASH_ENTRY_SIZE =
+		ReflectionSingleObjectSizer.roundUpSize(ReflectionSingleObjectSizer.OBJECT_SIZE + Integer.BYTES
+			+ 3L * ReflectionSingleObjectSizer.REFERENCE_SIZE);
+	protected static final long REFERENCE_SIZE = ReflectionSingleObjectSizer.REFERENCE_SIZE;
+	protected static final long STRING_SIZE = ReflectionSingleObjectSizer.sizeof(String.class);
+
+	private int maximumDepth = DEFAULT_MAXIMUM_DEPTH;
+	private int samplingInterval = 0;
+
+	private final GemfireMappingContext mappingContext;
+
+	private final Map<Class<?>, TypeSize> typeSizes = new ConcurrentHashMap<>();
+
+	private final ObjectSizer fallbackObjectSizer;
+
+	/**
+	 * Constructs a new instance of {@link MappingObjectSizer} initialized with the given
+	 * {@link GemfireMappingContext} and using {@link ObjectSizer#REFLECTION_SIZE} to size non-entity types.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} used to resolve entity metadata; must not be {@literal null}.
+	 * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+	 */
+	public MappingObjectSizer(@NonNull GemfireMappingContext mappingContext) {
+		this(mappingContext, ObjectSizer.REFLECTION_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link MappingObjectSizer} initialized with the given
+	 * {@link GemfireMappingContext} and fallback {@link ObjectSizer} used to size non-entity types.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} used to resolve entity metadata; must not be {@literal null}.
+	 * @param fallbackObjectSizer {@link ObjectSizer} used to size non-entity types; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link GemfireMappingContext} or fallback {@link ObjectSizer}
+	 * is {@literal null}.
+	 * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+	 * @see org.apache.geode.cache.util.ObjectSizer
+	 */
+	public MappingObjectSizer(@NonNull GemfireMappingContext mappingContext,
+			@NonNull ObjectSizer fallbackObjectSizer) {
+
+		Assert.notNull(mappingContext, "GemfireMappingContext must not be null");
+		Assert.notNull(fallbackObjectSizer, "Fallback ObjectSizer must not be null");
+
+		this.mappingContext = mappingContext;
+		this.fallbackObjectSizer = fallbackObjectSizer;
+	}
+
+	protected GemfireMappingContext getMappingContext() {
+		return this.mappingContext;
+	}
+
+	/**
+	 * Sets the maximum depth of the object graph traversed when sizing an object.  Objects nested deeper are not sized.
+	 *
+	 * @param maximumDepth maximum depth of the object graph traversed; must be greater than {@literal 0}.
+	 */
+	public void setMaximumDepth(int maximumDepth) {
+
+		Assert.isTrue(maximumDepth > 0, () -> String.format("Maximum depth [%d] must be greater than 0",
+			maximumDepth));
+
+		this.maximumDepth = maximumDepth;
+	}
+
+	public int getMaximumDepth() {
+		return this.maximumDepth;
+	}
+
+	/**
+	 * Sets the interval at which entities are sized.  The average size of the sized instances of an entity type
+	 * is returned for all other instances of that type.
+	 *
+	 * Defaults to {@literal 0}, which sizes every instance.
+	 *
+	 * @param samplingInterval interval at which entities are sized; {@literal 0} or {@literal 1} sizes every instance.
+	 */
+	public void setSamplingInterval(int samplingInterval) {
+
+		Assert.isTrue(samplingInterval >= 0, () -> String.format("Sampling interval [%d] must not be negative",
+			samplingInterval));
+
+		this.samplingInterval = samplingInterval;
+	}
+
+	public int getSamplingInterval() {
+		return this.samplingInterval;
+	}
+
+	@Override
+	public int sizeof(Object value) {
+
+		if (value == null) {
+			return 0;
+		}
+
+		long size = isSampled(value)
+			? resolveTypeSize(value.getClass())
+				.sampledSizeOf(getSamplingInterval(), () -> sizeOf(value, new SizingContext()))
+			: sizeOf(value, new SizingContext());
+
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	private boolean isSampled(Object value) {
+
+		return getSamplingInterval() > 1
+			&& !(value instanceof String)
+			&& !value.getClass().isArray()
+			&& resolveTypeSize(value.getClass()).isEntity();
+	}
+
+	long sizeOf(@Nullable Object value, SizingContext context) {
+
+		if (value == null || value instanceof Enum || value instanceof Class) {
+			return 0L;
+		}
+
+		if (value instanceof String) {
+			return sizeOfString((String) value);
+		}
+
+		Class<?> type = value.getClass();
+
+		if (type.isArray()) {
+			return sizeOfArray(value, context);
+		}
+
+		TypeSize typeSize = resolveTypeSize(type);
+
+		if (typeSize.isLeaf()) {
+			return typeSize.getShallowSize();
+		}
+
+		if (!context.enter(value, getMaximumDepth())) {
+			return 0L;
+		}
+
+		try {
+			if (typeSize.isEntity()) {
+				return sizeOfEntity(value, typeSize, context);
+			}
+			else if (value instanceof Collection) {
+				return sizeOfCollection((Collection<?>) value, typeSize, context);
+			}
+			else if (value instanceof Map) {
+				return sizeOfMap((Map<?, ?>) value, typeSize, context);
+			}
+			else {
+				return this.fallbackObjectSizer.sizeof(value);
+			}
+		}
+		finally {
+			context.exit();
+		}
+	}
+
+	private long sizeOfArray(Object array, SizingContext context) {
+
+		long size = SINGLE_OBJECT_SIZER.sizeof(array);
+
+		if (!array.getClass().getComponentType().isPrimitive() && context.enter(array, getMaximumDepth())) {
+			try {
+				for (int index = 0, length = Array.getLength(array); index < length; index++) {
+					size += sizeOf(Array.get(array, index), context);
+				}
+			}
+			finally {
+				context.exit();
+			}
+		}
+
+		return size;
+	}
+
+	private long sizeOfCollection(Collection<?> collection, TypeSize typeSize, SizingContext context) {
+
+		int size = collection.size();
+
+		long collectionSize = typeSize.getShallowSize() + sizeOfReferenceArray(size);
+
+		if (collection instanceof Set) {
+			collectionSize += size * HASH_ENTRY_SIZE;
+		}
+
+		for (Object element : collection) {
+			collectionSize += sizeOf(element, context);
+		}
+
+		return collectionSize;
+	}
+
+	private long sizeOfEntity(Object entity, TypeSize typeSize, SizingContext context) {
+
+		long size = typeSize.getShallowSize();
+
+		PersistentPropertyAccessor<?> propertyAccessor = typeSize.getEntity().getPropertyAccessor(entity);
+
+		for (GemfirePersistentProperty property : typeSize.getReferenceProperties()) {
+			size += sizeOf(propertyAccessor.getProperty(property), context);
+		}
+
+		return size;
+	}
+
+	private long sizeOfMap(Map<?, ?> map, TypeSize typeSize, SizingContext context) {
+
+		int size = map.size();
+
+		long mapSize = typeSize.getShallowSize() + sizeOfReferenceArray(size) + size * HASH_ENTRY_SIZE;
+
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			mapSize += sizeOf(entry.getKey(), context);
+			mapSize += sizeOf(entry.getValue(), context);
+		}
+
+		return mapSize;
+	}
+
+	private long sizeOfReferenceArray(int length) {
+		return ReflectionSingleObjectSizer.roundUpSize(ARRAY_HEADER_SIZE + length * REFERENCE_SIZE);
+	}
+
+	private long sizeOfString(String value) {
+
+		int bytesPerCharacter = COMPACT_STRINGS && isLatin1(value) ? 1 : 2;
+
+		return STRING_SIZE
+			+ ReflectionSingleObjectSizer.roundUpSize(ARRAY_HEADER_SIZE + (long) value.length() * bytesPerCharacter);
+	}
+
+	private boolean isLatin1(String value) {
+
+		for (int index = 0, length = value.length(); index < length; index++) {
+			if (value.charAt(index) > 0xFF) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Resolves the cached {@link TypeSize} of the given type.
+	 *
+	 * An application type that was not an entity when its {@link TypeSize} was cached is checked again on each call,
+	 * and its {@link TypeSize} is recomputed once the type has been registered with the {@link GemfireMappingContext},
+	 * for example, by a repository initialized after the type was first sized.  JDK types are never checked again.
+	 */
+	TypeSize resolveTypeSize(Class<?> type) {
+
+		TypeSize typeSize = this.typeSizes.computeIfAbsent(type, this::newTypeSize);
+
+		if (!typeSize.isEntity() && !typeSize.isLeaf() && !type.getName().startsWith("java.")
+				&& getMappingContext().hasPersistentEntityFor(type)) {
+
+			typeSize = newTypeSize(type);
+			this.typeSizes.put(type, typeSize);
+		}
+
+		return typeSize;
+	}
+
+	private TypeSize newTypeSize(Class<?> type) {
+
+		long shallowSize = ReflectionSingleObjectSizer.sizeof(type);
+
+		if (isLeafType(type)) {
+			return new TypeSize(shallowSize, null, Collections.emptyList(), true);
+		}
+
+		GemfirePersistentEntity<?> entity = resolvePersistentEntity(type);
+
+		if (entity != null) {
+
+			List<GemfirePersistentProperty> referenceProperties = new ArrayList<>();
+
+			entity.doWithProperties((GemfirePersistentProperty property) -> {
+				if (!property.getType().isPrimitive()) {
+					referenceProperties.add(property);
+				}
+			});
+
+			return new TypeSize(shallowSize, entity, referenceProperties, referenceProperties.isEmpty());
+		}
+
+		return new TypeSize(shallowSize, null, Collections.emptyList(), false);
+	}
+
+	private boolean isLeafType(Class<?> type) {
+
+		return Number.class.getPackage().equals(type.getPackage())
+			&& (Number.class.isAssignableFrom(type) || Boolean.class.equals(type) || Character.class.equals(type));
+	}
+
+	private @Nullable GemfirePersistentEntity<?> resolvePersistentEntity(Class<?> type) {
+
+		GemfireMappingContext mappingContext = getMappingContext();
+
+		return mappingContext.hasPersistentEntityFor(type) ? mappingContext.getPersistentEntity(type) : null;
+	}
+
+	/**
+	 * Cached size metadata for a single type.
+	 */
+	static class TypeSize {
+
+		private final boolean leaf;
+
+		private final long shallowSize;
+
+		private final AtomicLong sampleCount = new AtomicLong();
+
+		private final GemfirePersistentEntity<?> entity;
+
+		private final List<GemfirePersistentProperty> referenceProperties;
+
+		private final LongAdder sampledSize = new LongAdder();
+		private final LongAdder sampledCount = new LongAdder();
+
+		TypeSize(long shallowSize, @Nullable GemfirePersistentEntity<?> entity,
+				List<GemfirePersistentProperty> referenceProperties, boolean leaf) {
+
+			this.shallowSize = shallowSize;
+			this.entity = entity;
+			this.referenceProperties = referenceProperties;
+			this.leaf = leaf;
+		}
+
+		GemfirePersistentEntity<?> getEntity() {
+			return this.entity;
+		}
+
+		boolean isEntity() {
+			return this.entity != null;
+		}
+
+		boolean isLeaf() {
+			return this.leaf;
+		}
+
+		List<GemfirePersistentProperty> getReferenceProperties() {
+			return this.referenceProperties;
+		}
+
+		long getShallowSize() {
+			return this.shallowSize;
+		}
+
+		long sampledSizeOf(int samplingInterval, LongSupplier sizer) {
+
+			long count = this.sampleCount.getAndIncrement();
+
+			if (count % samplingInterval == 0) {
+
+				long size = sizer.getAsLong();
+
+				this.sampledSize.add(size);
+				this.sampledCount.increment();
+
+				return size;
+			}
+
+			long sampledCount = this.sampledCount.sum();
+
+			return sampledCount > 0 ? this.sampledSize.sum() / sampledCount : sizer.getAsLong();
+		}
+	}
+
+	/**
+	 * Tracks the objects visited and the depth while sizing a single object graph.
+	 */
+	static class SizingContext {
+
+		private int depth;
+
+		private Set<Object> visited;
+
+		boolean enter(Object value, int maximumDepth) {
+
+			if (this.depth >= maximumDepth) {
+				return false;
+			}
+
+			if (this.visited == null) {
+				this.visited = Collections.newSetFromMap(new IdentityHashMap<>());
+			}
+
+			if (this.visited.add(value)) {
+				this.depth++;
+				return true;
+			}
+
+			return false;
+		}
+
+		void exit() {
+			this.depth--;
+		}
+	}
+}
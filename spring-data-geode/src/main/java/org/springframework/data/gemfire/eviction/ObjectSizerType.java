@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.eviction;
+
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+
+/**
+ * The {@link ObjectSizerType} enum is an enumeration of the {@link ObjectSizer} implementations used to size
+ * {@link org.apache.geode.cache.Region} entry values for memory based Eviction.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see org.springframework.data.gemfire.eviction.MappingObjectSizer
+ * @since 2.5.0
+ */
+@SuppressWarnings("unused")
+public enum ObjectSizerType {
+
+	DEFAULT {
+
+		@Override
+		public ObjectSizer newObjectSizer(Supplier<GemfireMappingContext> mappingContext) {
+			return null;
+		}
+	},
+
+	MAPPING {
+
+		@Override
+		public ObjectSizer newObjectSizer(Supplier<GemfireMappingContext> mappingContext) {
+			return new MappingObjectSizer(mappingContext.get());
+		}
+	},
+
+	REFLECTION {
+
+		@Override
+		public ObjectSizer newObjectSizer(Supplier<GemfireMappingContext> mappingContext) {
+			return ObjectSizer.REFLECTION_SIZE;
+		}
+	},
+
+	SIZE_CLASS_ONCE {
+
+		@Override
+		public ObjectSizer newObjectSizer(Supplier<GemfireMappingContext> mappingContext) {
+			return ObjectSizer.SIZE_CLASS_ONCE;
+		}
+	};
+
+	/**
+	 * Returns the {@link ObjectSizer} of this type.
+	 *
+	 * @param mappingContext {@link Supplier} of the {@link GemfireMappingContext} used by the
+	 * {@link #MAPPING} {@link ObjectSizer}.
+	 * @return the {@link ObjectSizer} of this type, or {@literal null} for {@link #DEFAULT},
+	 * in which case Apache Geode's default {@link ObjectSizer} is used.
+	 */
+	public abstract ObjectSizer newObjectSizer(Supplier<GemfireMappingContext> mappingContext);
+
+}
@@ -16,18 +16,24 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.util.ObjectSizer;
 
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
  * Sends {@link Collection} {@link Function} results using a {@link ResultSender} in chunks
- * determined by {@code batchSize}.
+ * determined by {@code batchSize} and {@code batchBytes}.
+ *
+ * When {@code batchBytes} is greater than {@literal 0}, a chunk is sent once the estimated size of its elements,
+ * as determined by {@link ObjectSizer#DEFAULT}, reaches {@code batchBytes}, even if the chunk contains fewer than
+ * {@code batchSize} elements.
  *
  * @author David Turanski
  * @author Udo Kohlmeyer
@@ -38,6 +44,8 @@ class BatchingResultSender {
 
 	private final int batchSize;
 
+	private final long batchBytes;
+
 	private ResultSender<Object> resultSender;
 
 	/**
@@ -51,11 +59,29 @@ class BatchingResultSender {
 	 * @see org.apache.geode.cache.execute.ResultSender
 	 */
 	public BatchingResultSender(int batchSize, ResultSender<Object> resultSender) {
+		this(batchSize, 0L, resultSender);
+	}
+
+	/**
+	 * Constructs a new instance of {@link BatchingResultSender} initialized with the given {@link Integer batch size},
+	 * {@link Long batch size in bytes} and {@link ResultSender} object used to delegate all send operations.
+	 *
+	 * @param batchSize {@link Integer} specifying the configured batch size.
+	 * @param batchBytes {@link Long} specifying the configured, estimated batch size in bytes.
+	 * @param resultSender {@link ResultSender} used to delegate all send operations.
+	 * @throws IllegalArgumentException if {@link ResultSender} is {@literal null}
+	 * or {@code batchSize} or {@code batchBytes} is less than {@literal 0}.
+	 * @see org.apache.geode.cache.execute.ResultSender
+	 * @since 2.5.0
+	 */
+	public BatchingResultSender(int batchSize, long batchBytes, ResultSender<Object> resultSender) {
 
 		Assert.notNull(resultSender, "ResultSender must not be null");
 		Assert.isTrue(batchSize >= 0, "batchSize must be greater than equal to 0");
+		Assert.isTrue(batchBytes >= 0, "batchBytes must be greater than equal to 0");
 
 		this.batchSize = batchSize;
+		this.batchBytes = batchBytes;
 		this.resultSender = resultSender;
 	}
 
@@ -69,6 +95,17 @@ class BatchingResultSender {
 		return this.batchSize;
 	}
 
+	/**
+	 * Returns the configured, estimated {@link Long batch size in bytes} of this batching {@link ResultSender}.
+	 *
+	 * @return a {@link Long} value specifying the configured, estimated {@link Long batch size in bytes}
+	 * of this batching {@link ResultSender}.
+	 * @since 2.5.0
+	 */
+	public long getBatchBytes() {
+		return this.batchBytes;
+	}
+
 	/**
 	 * Returns a reference to the configured {@link ResultSender} used to send {@link Function} results.
 	 *
@@ -84,7 +121,7 @@ class BatchingResultSender {
 	}
 
 	protected boolean isBatchingEnabled() {
-		return getBatchSize() > 0;
+		return getBatchSize() > 0 || getBatchBytes() > 0;
 	}
 
 	protected boolean doNotSendChunks(boolean resultSetIsEmpty) {
@@ -93,38 +130,82 @@ class BatchingResultSender {
 
 	public void sendResults(Iterable<?> result) {
 
-		ResultSender<Object> resultSender = getResultSender();
-
 		if (doNotSendChunks(!result.iterator().hasNext())) {
-			resultSender.lastResult(result);
+			getResultSender().lastResult(result);
 		}
 		else {
+			sendChunks(result.iterator());
+		}
+	}
 
-			int batchSize = getBatchSize();
+	/**
+	 * Sends the results from the given {@link Iterator}, consuming the {@link Iterator} lazily, one chunk at a time.
+	 *
+	 * When batching is disabled, all results are collected into a single {@link List}.
+	 *
+	 * @param result {@link Iterator} of results to send.
+	 * @since 2.5.0
+	 */
+	public void sendResults(Iterator<?> result) {
 
-			List<Object> chunk = new ArrayList<>(batchSize);
+		if (isBatchingDisabled()) {
 
-			for (Iterator<?> it = result.iterator(); it.hasNext(); ) {
+			List<Object> results = new ArrayList<>();
 
-				if (chunk.size() < batchSize) {
-					chunk.add(it.next());
-				}
+			result.forEachRemaining(results::add);
 
-				if (chunk.size() == batchSize || !it.hasNext()) {
+			getResultSender().lastResult(results);
+		}
+		else if (!result.hasNext()) {
+			getResultSender().lastResult(Collections.emptyList());
+		}
+		else {
+			sendChunks(result);
+		}
+	}
 
-					if (it.hasNext()) {
-						resultSender.sendResult(chunk);
-					}
-					else {
-						resultSender.lastResult(chunk);
-					}
+	private void sendChunks(Iterator<?> it) {
 
-					chunk.clear();
-				}
+		ResultSender<Object> resultSender = getResultSender();
+
+		int batchSize = getBatchSize();
+
+		long batchBytes = getBatchBytes();
+
+		List<Object> chunk = newChunk(batchSize);
+
+		long chunkBytes = 0L;
+
+		while (it.hasNext()) {
+
+			Object element = it.next();
+
+			chunk.add(element);
+
+			chunkBytes += batchBytes > 0 ? sizeOf(element) : 0L;
+
+			boolean chunkIsFull = (batchSize > 0 && chunk.size() >= batchSize)
+				|| (batchBytes > 0 && chunkBytes >= batchBytes);
+
+			if (!it.hasNext()) {
+				resultSender.lastResult(chunk);
+			}
+			else if (chunkIsFull) {
+				resultSender.sendResult(chunk);
+				chunk = newChunk(batchSize);
+				chunkBytes = 0L;
 			}
 		}
 	}
 
+	private List<Object> newChunk(int batchSize) {
+		return new ArrayList<>(batchSize > 0 ? batchSize : 16);
+	}
+
+	private long sizeOf(Object element) {
+		return element != null ? ObjectSizer.DEFAULT.sizeof(element) : 0L;
+	}
+
 	public void sendArrayResults(Object result) {
 
 		Assert.isTrue(ObjectUtils.isArray(result),
@@ -134,7 +215,8 @@ class BatchingResultSender {
 
 		ResultSender<Object> resultSender = getResultSender();
 
-		if (doNotSendChunks(arrayLength == 0)) {
+		// array results are only chunked by count
+		if (doNotSendChunks(arrayLength == 0) || getBatchSize() == 0) {
 			resultSender.lastResult(result);
 		}
 		else {
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.data.gemfire.util.LruCache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link FunctionResultCache} is a bounded, {@literal LRU} cache of {@link Function} results keyed by
+ * the {@link Function#getId() Function ID}, the {@link Function} arguments and, for {@link Function Functions}
+ * executed on a {@link org.apache.geode.cache.Region}, the {@link org.apache.geode.cache.Region} and filter.
+ *
+ * Cached results optionally expire after a time-to-live (TTL). All cached results are invalidated when
+ * an entry in a dependent {@link org.apache.geode.cache.Region} is created, updated, invalidated or destroyed,
+ * or when a dependent {@link org.apache.geode.cache.Region} is cleared, invalidated or destroyed.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.gemfire.function.PojoFunctionWrapper
+ * @see org.springframework.data.gemfire.util.LruCache
+ * @since 2.5.0
+ */
+public class FunctionResultCache {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final LruCache<Key, Object> results;
+
+	/**
+	 * Constructs a new instance of {@link FunctionResultCache} initialized with the given maximum number
+	 * of cached results and time-to-live.
+	 *
+	 * @param maxSize maximum number of cached results; must be greater than {@literal 0}.
+	 * @param timeToLive number of milliseconds a result is cached; {@literal 0} caches results until evicted
+	 * or invalidated.
+	 * @throws IllegalArgumentException if {@code maxSize} is less than {@literal 1}
+	 * or {@code timeToLive} is less than {@literal 0}.
+	 */
+	public FunctionResultCache(int maxSize, long timeToLive) {
+		this.results = new LruCache<>(maxSize, timeToLive);
+	}
+
+	public int getMaxSize() {
+		return this.results.getMaxSize();
+	}
+
+	public long getTimeToLive() {
+		return this.results.getTimeToLive();
+	}
+
+	/**
+	 * Returns the cached result for the {@link Function} execution described by the given {@link FunctionContext}
+	 * or computes and caches the result using the given {@link Supplier} on a cache miss.
+	 *
+	 * {@literal null} results are not cached.
+	 *
+	 * @param functionContext {@link FunctionContext} of the {@link Function} execution.
+	 * @param resultSupplier {@link Supplier} computing the {@link Function} result.
+	 * @return the cached or computed {@link Function} result.
+	 */
+	public @Nullable Object get(@NonNull FunctionContext<?> functionContext, @NonNull Supplier<Object> resultSupplier) {
+		return this.results.get(Key.of(functionContext), key -> resultSupplier.get());
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void invalidateAll() {
+		this.results.invalidateAll();
+	}
+
+	public int size() {
+		return this.results.size();
+	}
+
+	public long getEvictionCount() {
+		return this.results.getEvictionCount();
+	}
+
+	public long getHitCount() {
+		return this.results.getHitCount();
+	}
+
+	public long getMissCount() {
+		return this.results.getMissCount();
+	}
+
+	/**
+	 * Returns the ratio of cache hits to cache lookups.
+	 *
+	 * @return the ratio of cache hits to cache lookups, or {@literal 0.0} if no lookups have been performed.
+	 */
+	public double getHitRatio() {
+
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+
+		return lookups > 0 ? (double) hits / lookups : 0.0d;
+	}
+
+	/**
+	 * Returns a new {@link org.apache.geode.cache.CacheListener} that invalidates all cached results
+	 * on any change to the {@link org.apache.geode.cache.Region} to which the listener is added.
+	 *
+	 * @return a new {@link org.apache.geode.cache.CacheListener} invalidating this cache.
+	 * @see org.apache.geode.cache.util.CacheListenerAdapter
+	 */
+	public @NonNull CacheListenerAdapter<Object, Object> newInvalidatingCacheListener() {
+		return new InvalidatingCacheListener(this);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[size = %2$d, hitRatio = %3$.2f]", getClass().getSimpleName(), size(),
+			getHitRatio());
+	}
+
+	static class Key {
+
+		static Key of(FunctionContext<?> functionContext) {
+
+			String regionPath = null;
+
+			Set<?> filter = Collections.emptySet();
+
+			if (functionContext instanceof RegionFunctionContext) {
+
+				RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+				regionPath = regionFunctionContext.getDataSet().getFullPath();
+
+				filter = regionFunctionContext.getFilter() != null
+					? new HashSet<>(regionFunctionContext.getFilter())
+					: filter;
+			}
+
+			return new Key(functionContext.getFunctionId(), functionContext.getArguments(), regionPath, filter);
+		}
+
+		private final Object[] arguments;
+
+		private final Set<?> filter;
+
+		private final String functionId;
+
+		private final String regionPath;
+
+		Key(String functionId, Object arguments, String regionPath, Set<?> filter) {
+			this.functionId = functionId;
+			this.arguments = new Object[] { arguments };
+			this.regionPath = regionPath;
+			this.filter = filter;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) obj;
+
+			return this.functionId.equals(that.functionId)
+				&& Arrays.deepEquals(this.arguments, that.arguments)
+				&& (this.regionPath != null ? this.regionPath.equals(that.regionPath) : that.regionPath == null)
+				&& this.filter.equals(that.filter);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int hashValue = 17;
+
+			hashValue = 37 * hashValue + this.functionId.hashCode();
+			hashValue = 37 * hashValue + Arrays.deepHashCode(this.arguments);
+			hashValue = 37 * hashValue + (this.regionPath != null ? this.regionPath.hashCode() : 0);
+			hashValue = 37 * hashValue + this.filter.hashCode();
+
+			return hashValue;
+		}
+	}
+
+	private static class InvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		private final FunctionResultCache resultCache;
+
+		private InvalidatingCacheListener(FunctionResultCache resultCache) {
+			this.resultCache = resultCache;
+		}
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+			this.resultCache.invalidateAll();
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			this.resultCache.invalidateAll();
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			this.resultCache.invalidateAll();
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			this.resultCache.invalidateAll();
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			this.resultCache.invalidateAll();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			this.resultCache.invalidateAll();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			this.resultCache.invalidateAll();
+		}
+	}
+}
@@ -37,6 +37,7 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.gemfire.function.annotation.GemfireFunction;
+import org.springframework.data.gemfire.util.CacheUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
@@ -239,6 +240,8 @@ public abstract class GemfireFunctionUtils {
 			new PojoFunctionWrapper(target, method, resolveFunctionId(gemfireFunctionAttributes));
 
 		configureBatchSize(target, method, gemfireFunctionAttributes, function);
+		configureBatchBytes(target, method, gemfireFunctionAttributes, function);
+		configureResultCache(gemfireFunctionAttributes, function);
 		configureHighAvailability(gemfireFunctionAttributes, function);
 		configureHasResult(gemfireFunctionAttributes, function);
 		configureOptimizeForWrite(gemfireFunctionAttributes, function);
@@ -269,6 +272,44 @@ public abstract class GemfireFunctionUtils {
 		}
 	}
 
+	static void configureBatchBytes(Object target, Method method, AnnotationAttributes gemfireFunctionAttributes,
+			PojoFunctionWrapper function) {
+
+		if (gemfireFunctionAttributes.containsKey("batchBytes")) {
+
+			long batchBytes = gemfireFunctionAttributes.getNumber("batchBytes");
+
+			Assert.isTrue(batchBytes >= 0,
+				String.format("%1$s.batchBytes [%2$d] specified on [%3$s.%4$s] must be a non-negative value",
+					GemfireFunction.class.getSimpleName(), batchBytes, target.getClass().getName(), method.getName()));
+
+			function.setBatchBytes(batchBytes);
+		}
+	}
+
+	static void configureResultCache(AnnotationAttributes gemfireFunctionAttributes, PojoFunctionWrapper function) {
+
+		if (gemfireFunctionAttributes.containsKey("cacheResults")
+				&& Boolean.TRUE.equals(gemfireFunctionAttributes.getBoolean("cacheResults"))) {
+
+			int maxSize = gemfireFunctionAttributes.containsKey("cacheMaxSize")
+				? gemfireFunctionAttributes.<Integer>getNumber("cacheMaxSize")
+				: FunctionResultCache.DEFAULT_MAX_SIZE;
+
+			long timeToLive = gemfireFunctionAttributes.containsKey("cacheTtl")
+				? gemfireFunctionAttributes.<Long>getNumber("cacheTtl")
+				: 0L;
+
+			String[] dependentRegions = gemfireFunctionAttributes.containsKey("dependentRegions")
+				? gemfireFunctionAttributes.getStringArray("dependentRegions")
+				: new String[0];
+
+			function.setResultCache(new FunctionResultCache(maxSize, timeToLive));
+			function.setDependentRegions(dependentRegions);
+			function.initializeResultCache(CacheUtils.resolveGemFireCache());
+		}
+	}
+
 	static void configureHighAvailability(AnnotationAttributes gemfireFunctionAttributes,
 			PojoFunctionWrapper function) {
 
@@ -391,6 +432,23 @@ public abstract class GemfireFunctionUtils {
 		}
 	}
 
+	/**
+	 * {@link PojoFunctionWrapper#close() Closes} every registered {@link PojoFunctionWrapper}
+	 * that invokes a {@link Method} on the given {@link Object target object}.
+	 *
+	 * @param target {@link Object target object} of the {@link Function Functions} to close.
+	 * @see org.springframework.data.gemfire.function.PojoFunctionWrapper#close()
+	 * @since 2.5.0
+	 */
+	public static void closeFunctionsForPojo(Object target) {
+
+		FunctionService.getRegisteredFunctions().values().stream()
+			.filter(PojoFunctionWrapper.class::isInstance)
+			.map(PojoFunctionWrapper.class::cast)
+			.filter(function -> function.getTarget() == target)
+			.forEach(PojoFunctionWrapper::close);
+	}
+
 	/**
 	 * Determine the order position of a an annotated method parameter
 	 *
@@ -13,18 +13,27 @@
 package org.springframework.data.gemfire.function;
 
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionContext;
 import org.apache.geode.cache.execute.ResultSender;
 import org.apache.geode.management.internal.security.ResourcePermissions;
 import org.apache.geode.security.ResourcePermission;
 
+import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -57,9 +66,18 @@ public class PojoFunctionWrapper implements Function {
 	private volatile boolean HA;
 	private volatile boolean hasResult;
 	private volatile boolean optimizeForWrite;
+	private volatile boolean resultCacheDisabled;
 
 	private volatile int batchSize;
 
+	private volatile long batchBytes;
+
+	private volatile FunctionResultCache resultCache;
+
+	private volatile String[] dependentRegions = {};
+
+	private final Map<Region, CacheListener> invalidatingCacheListeners = new ConcurrentHashMap<>();
+
 	private Collection<ResourcePermission> requiredPermissions = asSet(ResourcePermissions.DATA_WRITE);
 
 	private final FunctionArgumentResolver functionArgumentResolver;
@@ -105,6 +123,44 @@ public class PojoFunctionWrapper implements Function {
 		return this.batchSize;
 	}
 
+	public void setBatchBytes(long batchBytes) {
+		this.batchBytes = batchBytes;
+	}
+
+	public long getBatchBytes() {
+		return this.batchBytes;
+	}
+
+	/**
+	 * Sets the {@link FunctionResultCache} used to cache the results of this {@link Function}.
+	 *
+	 * @param resultCache {@link FunctionResultCache} used to cache the results of this {@link Function}.
+	 * @see org.springframework.data.gemfire.function.FunctionResultCache
+	 * @since 2.5.0
+	 */
+	public void setResultCache(FunctionResultCache resultCache) {
+		this.resultCache = resultCache;
+	}
+
+	public FunctionResultCache getResultCache() {
+		return this.resultCache;
+	}
+
+	/**
+	 * Sets the names of the {@link Region Regions} on which the results of this {@link Function} depend.
+	 * Cached results are invalidated when the data in any of these {@link Region Regions} changes.
+	 *
+	 * @param dependentRegions names of the {@link Region Regions} on which the results of this {@link Function} depend.
+	 * @since 2.5.0
+	 */
+	public void setDependentRegions(String... dependentRegions) {
+		this.dependentRegions = dependentRegions != null ? dependentRegions : new String[0];
+	}
+
+	public String[] getDependentRegions() {
+		return this.dependentRegions;
+	}
+
 	public void setHA(boolean HA) {
 		this.HA = HA;
 	}
@@ -152,13 +208,165 @@ public class PojoFunctionWrapper implements Function {
 
 		Object[] args = this.functionArgumentResolver.resolveFunctionArguments(functionContext);
 
-		Object result = invokeTargetMethod(args);
+		FunctionResultCache resultCache = this.resultCache;
+
+		Object result;
+
+		if (resultCache != null && !this.resultCacheDisabled && isCacheable()
+				&& registerInvalidatingCacheListeners(functionContext.getCache(), resultCache)) {
+
+			result = resultCache.get(functionContext, () -> invokeTargetMethod(args));
+		}
+		else {
+			result = invokeTargetMethod(args);
+		}
 
 		if (hasResult()) {
 			sendResults(functionContext.getResultSender(), result);
 		}
 	}
 
+	private boolean isCacheable() {
+
+		Class<?> returnType = this.method.getReturnType();
+
+		return hasResult()
+			&& !void.class.equals(returnType)
+			&& !Stream.class.isAssignableFrom(returnType)
+			&& !Iterator.class.isAssignableFrom(returnType);
+	}
+
+	/**
+	 * Validates the dependent {@link Region Regions} that already exist in the given {@link GemFireCache}
+	 * and registers a {@link CacheListener} invalidating the {@link FunctionResultCache} on each of them.
+	 *
+	 * This is called once when this {@link Function} is registered, so a misconfigured dependent {@link Region}
+	 * fails on startup rather than on execution.
+	 *
+	 * @param cache {@link GemFireCache} containing the dependent {@link Region Regions}; may be {@literal null}.
+	 * @throws IllegalStateException if a dependent {@link Region} is not a {@literal REPLICATE} or {@literal LOCAL}
+	 * {@link Region} and cached results do not expire.
+	 * @since 2.5.0
+	 */
+	public void initializeResultCache(GemFireCache cache) {
+
+		FunctionResultCache resultCache = this.resultCache;
+
+		if (cache != null && resultCache != null) {
+			for (String regionName : this.dependentRegions) {
+
+				Region<?, ?> region = cache.getRegion(regionName);
+
+				if (region != null && !registerInvalidatingCacheListener(region, resultCache)) {
+					throw newIllegalStateException("%s", newDependentRegionNotObservedMessage(region));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Registers a {@link CacheListener} invalidating the {@link FunctionResultCache} on each dependent {@link Region}.
+	 *
+	 * A dependent {@link Region} created after this {@link Function} was registered is validated on its first use.
+	 * If it is not a {@literal REPLICATE} or {@literal LOCAL} {@link Region} and cached results do not expire,
+	 * an error is logged once and results of this {@link Function} are no longer cached.
+	 *
+	 * @return {@literal false} if a dependent {@link Region} does not exist yet or cannot be observed, in which case
+	 * the result of this execution must not be cached.
+	 * @see #initializeResultCache(GemFireCache)
+	 */
+	private boolean registerInvalidatingCacheListeners(GemFireCache cache, FunctionResultCache resultCache) {
+
+		boolean dependentRegionsExist = true;
+
+		for (String regionName : this.dependentRegions) {
+
+			Region<?, ?> region = cache.getRegion(regionName);
+
+			if (region == null) {
+				logger.warn("Dependent Region [{}] of Function [{}] was not found; result is not cached",
+					regionName, getId());
+				dependentRegionsExist = false;
+			}
+			else if (!registerInvalidatingCacheListener(region, resultCache)) {
+				this.resultCacheDisabled = true;
+				logger.error("{}; results are no longer cached", newDependentRegionNotObservedMessage(region));
+				return false;
+			}
+		}
+
+		return dependentRegionsExist;
+	}
+
+	/**
+	 * A {@link CacheListener} only observes all changes to a {@literal REPLICATE} or {@literal LOCAL} {@link Region}.
+	 * Any other dependent {@link Region}, such as a {@literal PARTITION} or client {@link Region}, requires
+	 * cached results to expire.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean registerInvalidatingCacheListener(Region region, FunctionResultCache resultCache) {
+
+		if (!this.invalidatingCacheListeners.containsKey(region)) {
+
+			if (!isInvalidatedByLocalCacheListener(region) && resultCache.getTimeToLive() <= 0) {
+				return false;
+			}
+
+			this.invalidatingCacheListeners.computeIfAbsent(region, it -> {
+
+				CacheListener<Object, Object> cacheListener = resultCache.newInvalidatingCacheListener();
+
+				it.getAttributesMutator().addCacheListener(cacheListener);
+
+				return cacheListener;
+			});
+		}
+
+		return true;
+	}
+
+	private String newDependentRegionNotObservedMessage(Region<?, ?> region) {
+
+		return String.format("Dependent Region [%1$s] of Function [%2$s] is not a REPLICATE or LOCAL Region,"
+			+ " so changes made on other members are not observed; set cacheTtl", region.getFullPath(), getId());
+	}
+
+	private boolean isInvalidatedByLocalCacheListener(Region<?, ?> region) {
+
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+		return !RegionUtils.isClient(region)
+			&& (regionAttributes.getDataPolicy().withReplication() || regionAttributes.getScope().isLocal());
+	}
+
+	/**
+	 * Removes the {@link CacheListener CacheListeners} invalidating the {@link FunctionResultCache}
+	 * from the dependent {@link Region Regions} and invalidates all cached results.
+	 *
+	 * @since 2.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public void close() {
+
+		this.invalidatingCacheListeners.forEach((region, cacheListener) -> {
+			if (!region.isDestroyed()) {
+				region.getAttributesMutator().removeCacheListener(cacheListener);
+			}
+		});
+
+		this.invalidatingCacheListeners.clear();
+
+		FunctionResultCache resultCache = this.resultCache;
+
+		if (resultCache != null) {
+			resultCache.invalidateAll();
+		}
+	}
+
+	Object getTarget() {
+		return this.target;
+	}
+
 	protected final Object invokeTargetMethod(Object[] args) {
 
 		if (logger.isDebugEnabled()) {
@@ -183,14 +391,44 @@ public class PojoFunctionWrapper implements Function {
 		}
 		else {
 			if (ObjectUtils.isArray(result)) {
-				new BatchingResultSender(this.batchSize, resultSender).sendArrayResults(result);
+				newBatchingResultSender(resultSender).sendArrayResults(result);
 			}
 			else if (Iterable.class.isAssignableFrom(result.getClass())) {
-				new BatchingResultSender(this.batchSize, resultSender).sendResults((Iterable<?>) result);
+				newBatchingResultSender(resultSender).sendResults((Iterable<?>) result);
+			}
+			else if (result instanceof Stream) {
+				try (Stream<?> stream = (Stream<?>) result) {
+					newBatchingResultSender(resultSender).sendResults(stream.iterator());
+				}
+			}
+			else if (result instanceof Iterator) {
+				try {
+					newBatchingResultSender(resultSender).sendResults((Iterator<?>) result);
+				}
+				finally {
+					close(result);
+				}
 			}
 			else {
 				resultSender.lastResult(result);
 			}
 		}
 	}
+
+	private void close(Object result) {
+
+		if (result instanceof AutoCloseable) {
+			try {
+				((AutoCloseable) result).close();
+			}
+			catch (Exception cause) {
+				logger.warn(String.format("Failed to close result [%s] of Function [%s]",
+					result.getClass().getName(), getId()), cause);
+			}
+		}
+	}
+
+	private BatchingResultSender newBatchingResultSender(ResultSender<Object> resultSender) {
+		return new BatchingResultSender(this.batchSize, this.batchBytes, resultSender);
+	}
 }
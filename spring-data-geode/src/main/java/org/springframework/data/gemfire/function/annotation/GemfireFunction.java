@@ -51,6 +51,61 @@ public @interface GemfireFunction {
 	 */
 	int batchSize() default 0;
 
+	/**
+	 * Controls the estimated size in bytes of the results sent at one time.
+	 *
+	 * Results are sent once the estimated size of the batch reaches this size, even if the batch contains fewer
+	 * than {@link #batchSize()} results. Applies to {@link Iterable}, {@link java.util.Iterator}
+	 * and {@link java.util.stream.Stream} results.
+	 *
+	 * @return a long value indicating the estimated size in bytes of the results sent at one time.
+	 */
+	long batchBytes() default 0L;
+
+	/**
+	 * Configures whether the results of the {@link Function} are cached and returned for subsequent executions
+	 * with equal arguments, filter and {@link org.apache.geode.cache.Region}.
+	 *
+	 * Only enable result caching for read-only, idempotent {@link Function Functions}.
+	 * {@link java.util.stream.Stream} and {@link java.util.Iterator} results are never cached.
+	 *
+	 * @return a boolean value indicating whether the results of the {@link Function} are cached.
+	 * @see org.springframework.data.gemfire.function.FunctionResultCache
+	 */
+	boolean cacheResults() default false;
+
+	/**
+	 * Maximum number of cached results. The least recently used results are evicted first.
+	 *
+	 * @return the maximum number of cached results.
+	 * @see #cacheResults()
+	 */
+	int cacheMaxSize() default 1000;
+
+	/**
+	 * Number of milliseconds a result is cached. Defaults to {@literal 0}, which caches results until evicted
+	 * or invalidated.
+	 *
+	 * @return the number of milliseconds a result is cached.
+	 * @see #cacheResults()
+	 */
+	long cacheTtl() default 0L;
+
+	/**
+	 * Names of the {@link org.apache.geode.cache.Region Regions} on which the results of the {@link Function} depend.
+	 * All cached results are invalidated when the data in any of these {@link org.apache.geode.cache.Region Regions}
+	 * changes.
+	 *
+	 * Changes are observed by a local {@link org.apache.geode.cache.CacheListener}, which only sees all changes
+	 * to {@literal REPLICATE} and {@literal LOCAL} {@link org.apache.geode.cache.Region Regions}. Any other
+	 * dependent {@link org.apache.geode.cache.Region} requires {@link #cacheTtl()} to be set.
+	 *
+	 * @return the names of the {@link org.apache.geode.cache.Region Regions} on which the results
+	 * of the {@link Function} depend.
+	 * @see #cacheResults()
+	 */
+	String[] dependentRegions() default {};
+
 	/**
 	 * Attribute used to configure whether the {@link Function} is HA (Highly Available).
 	 *
@@ -47,4 +47,28 @@ public @interface OnRegion {
 	 */
 	String resultCollector() default "";
 
+	/**
+	 * Number of milliseconds to wait for concurrent, filtered Function executions to coalesce into
+	 * a single Function execution with the union of the filter keys.
+	 *
+	 * Only methods annotated with {@link Batched} are batched. The results of a batched Function execution
+	 * are returned to each caller by key. Therefore, a batched Function must return {@link java.util.Map Maps}
+	 * or {@link java.util.Map.Entry Map entries} keyed by filter key.
+	 *
+	 * Defaults to {@literal 0}, which disables batching.
+	 *
+	 * @return the number of milliseconds to wait for concurrent Function executions to batch.
+	 */
+	long batchWindow() default 0L;
+
+	/**
+	 * Maximum number of filter keys in a batched Function execution.
+	 *
+	 * Defaults to {@literal 500}.
+	 *
+	 * @return the maximum number of filter keys in a batched Function execution.
+	 * @see #batchWindow()
+	 */
+	int maxBatch() default 500;
+
 }
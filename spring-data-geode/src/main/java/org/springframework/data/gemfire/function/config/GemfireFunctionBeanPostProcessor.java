@@ -22,27 +22,45 @@ import java.lang.reflect.Modifier;
 import org.apache.geode.cache.execute.Function;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndex;
 import org.springframework.data.gemfire.function.GemfireFunctionUtils;
 import org.springframework.data.gemfire.function.annotation.GemfireFunction;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
  * Spring {@link BeanPostProcessor} that discovers bean components configured as {@link Function} implementations,
  * i.e. beans containing {@link Method methods} annotated with {@link GemfireFunction}.
  *
+ * When such a bean is destroyed, the {@link Function Functions} registered for its methods are closed.
+ *
  * @author David Turanski
  * @author John Blum
  * @see java.lang.annotation.Annotation
  * @see java.lang.reflect.Method
  * @see org.apache.geode.cache.execute.Function
  * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor
  * @see org.springframework.data.gemfire.function.annotation.GemfireFunction
  */
-public class GemfireFunctionBeanPostProcessor implements BeanPostProcessor {
+public class GemfireFunctionBeanPostProcessor implements BeanClassLoaderAware, DestructionAwareBeanPostProcessor {
+
+	private ClassLoader beanClassLoader;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanClassLoaderAware#setBeanClassLoader(java.lang.ClassLoader)
+	 */
+	@Override
+	public void setBeanClassLoader(ClassLoader beanClassLoader) {
+		this.beanClassLoader = beanClassLoader;
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -51,11 +69,39 @@ public class GemfireFunctionBeanPostProcessor implements BeanPostProcessor {
 	@Override
 	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
 
-		registerAnyDeclaredGemfireFunctionAnnotatedMethods(bean);
+		if (isGemfireFunctionCandidate(bean)) {
+			registerAnyDeclaredGemfireFunctionAnnotatedMethods(bean);
+		}
 
 		return bean;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see DestructionAwareBeanPostProcessor#postProcessBeforeDestruction(Object, String)
+	 */
+	@Override
+	public void postProcessBeforeDestruction(Object bean, String beanName) throws BeansException {
+		GemfireFunctionUtils.closeFunctionsForPojo(bean);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see DestructionAwareBeanPostProcessor#requiresDestruction(Object)
+	 */
+	@Override
+	public boolean requiresDestruction(Object bean) {
+		return isGemfireFunctionCandidate(bean);
+	}
+
+	private boolean isGemfireFunctionCandidate(Object bean) {
+
+		Class<?> beanType = ClassUtils.getUserClass(bean);
+
+		return GemFireMetadataIndex.load(this.beanClassLoader)
+			.isCandidate(beanType, GemFireMetadataIndex.FUNCTION_STEREOTYPE);
+	}
+
 	private void registerAnyDeclaredGemfireFunctionAnnotatedMethods(Object bean) {
 
 		stream(nullSafeArray(ReflectionUtils.getAllDeclaredMethods(bean.getClass()), Method.class)).forEach(method -> {
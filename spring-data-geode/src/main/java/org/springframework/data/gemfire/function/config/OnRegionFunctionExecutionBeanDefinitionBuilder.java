@@ -17,6 +17,9 @@
 
 package org.springframework.data.gemfire.function.config;
 
+import java.util.Optional;
+
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.data.gemfire.function.execution.GemfireOnRegionFunctionTemplate;
@@ -32,6 +35,27 @@ class OnRegionFunctionExecutionBeanDefinitionBuilder extends AbstractFunctionExe
 		super(configuration);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.function.config.AbstractFunctionExecutionBeanDefinitionBuilder
+	 * 	#build(org.springframework.beans.factory.support.BeanDefinitionRegistry)
+	 */
+	@Override
+	BeanDefinition build(BeanDefinitionRegistry registry) {
+
+		BeanDefinition functionProxyFactoryBeanDefinition = super.build(registry);
+
+		Optional.ofNullable(this.configuration.getAttribute("batchWindow"))
+			.ifPresent(batchWindow -> functionProxyFactoryBeanDefinition.getPropertyValues()
+				.addPropertyValue("batchWindow", batchWindow));
+
+		Optional.ofNullable(this.configuration.getAttribute("maxBatch"))
+			.ifPresent(maxBatch -> functionProxyFactoryBeanDefinition.getPropertyValues()
+				.addPropertyValue("maxBatch", maxBatch));
+
+		return functionProxyFactoryBeanDefinition;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.gemfire.function.config.AbstractFunctionExecutionBeanDefinitionBuilder
@@ -13,11 +13,16 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.gemfire.statistics.DataAccessStatistics;
+import org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -43,6 +48,8 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 
 	private final Class<?> functionExecutionInterface;
 
+	private DataAccessStatisticsRecorder statisticsRecorder;
+
 	private FunctionExecutionMethodMetadata<MethodMetadata> methodMetadata;
 
 	private final GemfireFunctionOperations gemfireFunctionOperations;
@@ -93,6 +100,24 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 		return this.gemfireFunctionOperations;
 	}
 
+	/**
+	 * Sets the {@link DataAccessStatisticsRecorder} used to record Function executions in Apache Geode
+	 * {@link org.apache.geode.Statistics}.
+	 *
+	 * If not set, a {@link DataAccessStatisticsRecorder} bean is resolved from the Spring {@link BeanFactory},
+	 * if present.
+	 *
+	 * @param statisticsRecorder {@link DataAccessStatisticsRecorder} used to record Function executions.
+	 * @see org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder
+	 */
+	public void setStatisticsRecorder(DataAccessStatisticsRecorder statisticsRecorder) {
+		this.statisticsRecorder = statisticsRecorder;
+	}
+
+	protected Optional<DataAccessStatisticsRecorder> getStatisticsRecorder() {
+		return Optional.ofNullable(this.statisticsRecorder);
+	}
+
 	@Override
 	public Object invoke(MethodInvocation invocation) {
 
@@ -113,6 +138,28 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 			.getMethodMetadata(method)
 			.getFunctionId();
 
+		Optional<DataAccessStatistics> statistics = getStatisticsRecorder()
+			.map(statisticsRecorder -> statisticsRecorder.getStatistics(
+				DataAccessStatisticsRecorder.FUNCTION_EXECUTION_STATISTICS_TYPE_NAME, functionId));
+
+		if (statistics.isPresent()) {
+
+			long startTime = statistics.get().startInvocation();
+
+			try {
+
+				Object result = getGemfireFunctionOperations().execute(functionId, args);
+
+				statistics.get().endInvocation(startTime, DataAccessStatistics.countResults(result));
+
+				return result;
+			}
+			catch (RuntimeException cause) {
+				statistics.get().failInvocation(startTime);
+				throw cause;
+			}
+		}
+
 		return getGemfireFunctionOperations().execute(functionId, args);
 	}
 
@@ -167,6 +214,13 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 
 		if (!this.initialized) {
 
+			if (this.statisticsRecorder == null) {
+				this.statisticsRecorder = Optional.ofNullable(getBeanFactory())
+					.map(beanFactory -> beanFactory.getBeanProvider(DataAccessStatisticsRecorder.class))
+					.map(ObjectProvider::getIfUnique)
+					.orElse(null);
+			}
+
 			ProxyFactory proxyFactory = new ProxyFactory(getFunctionExecutionInterface(), this);
 
 			this.functionExecutionProxy = proxyFactory.getProxy(getBeanClassLoader());
@@ -12,12 +12,35 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ServerConnectivityException;
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionInvocationTargetException;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.Assert;
 
 /**
@@ -32,7 +55,20 @@ import org.springframework.util.Assert;
  * @see org.springframework.data.gemfire.function.execution.AbstractFunctionTemplate
  * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionOperations
  */
-public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate implements GemfireOnRegionOperations {
+public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate
+		implements GemfireOnRegionOperations, DisposableBean {
+
+	protected static final int DEFAULT_BULK_CHUNK_SIZE = 1000;
+	protected static final int DEFAULT_BULK_PARALLELISM = Runtime.getRuntime().availableProcessors();
+	protected static final int DEFAULT_BULK_RETRY_ATTEMPTS = 1;
+
+	private volatile int bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
+	private volatile int bulkParallelism = DEFAULT_BULK_PARALLELISM;
+	private volatile int bulkRetryAttempts = DEFAULT_BULK_RETRY_ATTEMPTS;
+
+	private volatile Executor bulkExecutor;
+
+	private ExecutorService managedBulkExecutor;
 
 	private final Region<?, ?> region;
 
@@ -60,6 +96,95 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 		return this.region;
 	}
 
+	/**
+	 * Sets the maximum number of keys in each chunk of a {@link #executeInBulk(String, Set, Object...) bulk}
+	 * {@link Function} execution.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @param bulkChunkSize maximum number of keys in each chunk of a bulk {@link Function} execution.
+	 */
+	public void setBulkChunkSize(int bulkChunkSize) {
+		this.bulkChunkSize = bulkChunkSize;
+	}
+
+	public int getBulkChunkSize() {
+		return Math.max(1, this.bulkChunkSize);
+	}
+
+	/**
+	 * Sets the maximum number of chunks of a {@link #executeInBulk(String, Set, Object...) bulk}
+	 * {@link Function} execution executed concurrently.
+	 *
+	 * Defaults to the number of available processors.
+	 *
+	 * @param bulkParallelism maximum number of chunks executed concurrently.
+	 */
+	public void setBulkParallelism(int bulkParallelism) {
+		this.bulkParallelism = bulkParallelism;
+	}
+
+	public int getBulkParallelism() {
+		return Math.max(1, this.bulkParallelism);
+	}
+
+	/**
+	 * Sets the number of times a failed chunk of a {@link #executeInBulk(String, Set, Object...) bulk}
+	 * {@link Function} execution is retried before the bulk {@link Function} execution fails.
+	 *
+	 * Defaults to {@literal 1}.
+	 *
+	 * @param bulkRetryAttempts number of times a failed chunk is retried.
+	 */
+	public void setBulkRetryAttempts(int bulkRetryAttempts) {
+		this.bulkRetryAttempts = bulkRetryAttempts;
+	}
+
+	public int getBulkRetryAttempts() {
+		return Math.max(0, this.bulkRetryAttempts);
+	}
+
+	/**
+	 * Sets the {@link Executor} used to execute the chunks of a {@link #executeInBulk(String, Set, Object...) bulk}
+	 * {@link Function} execution.
+	 *
+	 * Defaults to a fixed thread pool of {@link #getBulkParallelism()} threads, created on first use and shared
+	 * by all bulk {@link Function} executions of this template.
+	 *
+	 * @param bulkExecutor {@link Executor} used to execute the chunks of a bulk {@link Function} execution.
+	 */
+	public void setBulkExecutor(Executor bulkExecutor) {
+		this.bulkExecutor = bulkExecutor;
+	}
+
+	protected synchronized Executor getBulkExecutor() {
+
+		Executor bulkExecutor = this.bulkExecutor;
+
+		if (bulkExecutor == null) {
+
+			if (this.managedBulkExecutor == null) {
+				this.managedBulkExecutor = newBulkExecutor(getBulkParallelism());
+			}
+
+			bulkExecutor = this.managedBulkExecutor;
+		}
+
+		return bulkExecutor;
+	}
+
+	/**
+	 * Shuts down the thread pool created by this template for bulk {@link Function} executions, if any.
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		if (this.managedBulkExecutor != null) {
+			this.managedBulkExecutor.shutdownNow();
+			this.managedBulkExecutor = null;
+		}
+	}
+
 	@Override
 	public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
 
@@ -88,4 +213,196 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 			.setFunctionId(functionId)
 			.setTimeout(getTimeout()), false);
 	}
+
+	@Override
+	public <T> Stream<T> executeInBulk(String functionId, Set<?> keys, Object... args) {
+
+		List<Set<Object>> chunks = chunk(keys);
+
+		if (chunks.isEmpty()) {
+			return Stream.empty();
+		}
+
+		if (chunks.size() < 2) {
+			return StreamSupport.stream(this.<T>executeChunk(functionId, chunks.get(0), args).spliterator(), false);
+		}
+
+		Queue<Set<Object>> pendingChunks = new ConcurrentLinkedQueue<>(chunks);
+
+		BlockingQueue<ChunkResult<T>> chunkResults = new LinkedBlockingQueue<>();
+
+		AtomicBoolean cancelled = new AtomicBoolean(false);
+
+		Executor executor = getBulkExecutor();
+
+		for (int worker = 0, workers = Math.min(chunks.size(), getBulkParallelism()); worker < workers; worker++) {
+			executor.execute(() -> {
+				for (Set<Object> chunk = pendingChunks.poll(); chunk != null && !cancelled.get();
+						chunk = pendingChunks.poll()) {
+					try {
+						chunkResults.add(new ChunkResult<>(executeChunk(functionId, chunk, args), null));
+					}
+					catch (Throwable cause) {
+						chunkResults.add(new ChunkResult<>(null, cause));
+					}
+				}
+			});
+		}
+
+		// Results are collected before returning so that no chunk keeps running after the caller
+		// has dropped the Stream
+		List<T> results = new ArrayList<>();
+
+		try {
+			for (int index = 0, size = chunks.size(); index < size; index++) {
+				takeChunkResults(chunkResults, cancelled).forEach(results::add);
+			}
+		}
+		finally {
+			cancelled.set(true);
+		}
+
+		return results.stream();
+	}
+
+	/**
+	 * Splits the given {@link Set} of keys into chunks of at most {@link #getBulkChunkSize()} keys.
+	 *
+	 * When the {@link Region} is a {@literal PARTITION} Region, the keys are first grouped by the primary member
+	 * hosting each key, as determined by the {@link org.apache.geode.cache.PartitionResolver}, if any,
+	 * so that each chunk only targets a single member.
+	 *
+	 * @param keys {@link Set} of keys to split.
+	 * @return a {@link List} of chunks.
+	 */
+	List<Set<Object>> chunk(Set<?> keys) {
+
+		if (keys == null || keys.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<Object, List<Object>> keysByMember = new LinkedHashMap<>();
+
+		boolean partitioned = PartitionRegionHelper.isPartitionedRegion(getRegion());
+
+		for (Object key : keys) {
+
+			Object member = partitioned ? PartitionRegionHelper.getPrimaryMemberForKey(getRegion(), key) : null;
+
+			keysByMember.computeIfAbsent(member, it -> new ArrayList<>()).add(key);
+		}
+
+		int chunkSize = getBulkChunkSize();
+
+		List<Set<Object>> chunks = new ArrayList<>();
+
+		for (List<Object> memberKeys : keysByMember.values()) {
+			for (int index = 0, size = memberKeys.size(); index < size; index += chunkSize) {
+				chunks.add(new LinkedHashSet<>(memberKeys.subList(index, Math.min(size, index + chunkSize))));
+			}
+		}
+
+		return chunks;
+	}
+
+	private <T> Iterable<T> executeChunk(String functionId, Set<?> chunk, Object... args) {
+
+		for (int attempt = 0; ; attempt++) {
+			try {
+				Iterable<T> results = execute(functionId, chunk, args);
+				return results != null ? results : Collections.emptyList();
+			}
+			catch (RuntimeException cause) {
+				if (attempt >= getBulkRetryAttempts() || !isRetryable(cause)
+					|| Thread.currentThread().isInterrupted()) {
+
+
+					throw cause;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determines whether a failed chunk of a {@link #executeInBulk(String, Set, Object...) bulk} {@link Function}
+	 * execution can be retried.
+	 *
+	 * Only failures caused by losing the member executing the {@link Function}, or the connection to the server,
+	 * are retried. Failures thrown by the {@link Function} itself are not, since the {@link Function} may not be
+	 * idempotent.
+	 *
+	 * @param cause {@link RuntimeException} thrown by the chunk.
+	 * @return a boolean value indicating whether the chunk can be retried.
+	 * @see org.apache.geode.cache.client.ServerConnectivityException
+	 * @see org.apache.geode.cache.execute.FunctionInvocationTargetException
+	 */
+	protected boolean isRetryable(RuntimeException cause) {
+
+		for (Throwable current = cause; current != null; current = nextCause(current)) {
+			if (current instanceof FunctionInvocationTargetException
+				|| current instanceof ServerConnectivityException) {
+
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private Throwable nextCause(Throwable cause) {
+		return cause.getCause() != cause ? cause.getCause() : null;
+	}
+
+	private <T> Iterable<T> takeChunkResults(BlockingQueue<ChunkResult<T>> chunkResults, AtomicBoolean cancelled) {
+
+		try {
+
+			ChunkResult<T> chunkResult = chunkResults.take();
+
+			if (chunkResult.failure != null) {
+
+				cancelled.set(true);
+
+				throw chunkResult.failure instanceof RuntimeException ? (RuntimeException) chunkResult.failure
+					: newIllegalStateException(chunkResult.failure, "Bulk Function execution failed");
+			}
+
+			return chunkResult.results;
+		}
+		catch (InterruptedException cause) {
+
+			cancelled.set(true);
+			Thread.currentThread().interrupt();
+
+			throw newIllegalStateException(cause, "Interrupted while waiting for bulk Function execution results");
+		}
+	}
+
+	private ExecutorService newBulkExecutor(int threadCount) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		return Executors.newFixedThreadPool(threadCount, runnable -> {
+
+			Thread thread = new Thread(runnable, String.format("%1$s-BulkFunctionExecution-%2$d",
+				getRegion().getName(), threadNumber.incrementAndGet()));
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	private static class ChunkResult<T> {
+
+		private final Iterable<T> results;
+
+		private final Throwable failure;
+
+		private ChunkResult(Iterable<T> results, Throwable failure) {
+			this.results = results;
+			this.failure = failure;
+		}
+	}
 }
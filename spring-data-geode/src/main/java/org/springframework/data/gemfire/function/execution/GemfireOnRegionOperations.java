@@ -14,6 +14,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
@@ -48,4 +50,37 @@ public interface GemfireOnRegionOperations extends GemfireFunctionOperations {
 
 	void executeWithNoResult(String functionId, Set<?> keys, Object... args);
 
+	default <T> Stream<T> executeInBulk(Function function, Set<?> keys, Object... args) {
+		return executeInBulk(function.getId(), keys, args);
+	}
+
+	/**
+	 * Executes the {@link Function} identified by the given ID on the {@link Region} for a large {@link Set} of keys.
+	 *
+	 * The keys are split into chunks, grouped by the member hosting the keys when possible, and each chunk is executed
+	 * as a separate, filtered {@link Function} execution. The chunks are executed concurrently and the results
+	 * are collected in the order the chunks complete. The {@link Stream} is returned once all chunks have completed.
+	 * An empty {@link Set} of keys returns an empty {@link Stream} without executing the {@link Function}.
+	 *
+	 * By default, the {@link Function} is executed once with all keys, and the results are returned
+	 * as a {@link Stream}. Implementations may override this method to execute the chunks concurrently.
+	 *
+	 * @param <T> {@link Class type} of the {@link Function} results.
+	 * @param functionId {@link String} containing the ID of the {@link Function} to execute.
+	 * @param keys {@link Set} of keys used to filter the {@link Function} executions.
+	 * @param args array of {@link Object arguments} passed to each {@link Function} execution.
+	 * @return a {@link Stream} of the {@link Function} results from all chunks.
+	 * @see java.util.stream.Stream
+	 */
+	default <T> Stream<T> executeInBulk(String functionId, Set<?> keys, Object... args) {
+
+		if (keys == null || keys.isEmpty()) {
+			return Stream.empty();
+		}
+
+		Iterable<T> results = execute(functionId, keys, args);
+
+		return results != null ? StreamSupport.stream(results.spliterator(), false) : Stream.empty();
+	}
+
 }
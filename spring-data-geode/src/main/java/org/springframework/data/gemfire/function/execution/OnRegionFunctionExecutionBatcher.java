@@ -0,0 +1,396 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link OnRegionFunctionExecutionBatcher} coalesces concurrent, {@literal filtered}
+ * {@link org.apache.geode.cache.Region} {@link org.apache.geode.cache.execute.Function} executions into a single
+ * {@link org.apache.geode.cache.execute.Function} execution with the union of the filter keys.
+ *
+ * Executions of the same {@link org.apache.geode.cache.execute.Function} with equal arguments arriving within
+ * the batch window are merged until the window elapses or the batch contains the maximum number of filter keys.
+ * The results are then demultiplexed back to each caller by key. Therefore, a batched
+ * {@link org.apache.geode.cache.execute.Function} must return {@link Map Maps} or {@link Map.Entry Map entries}
+ * keyed by filter key.
+ *
+ * All batchers share a single scheduler thread that hands expired batches to a shared, bounded pool of flush threads.
+ * The scheduler thread never flushes a batch itself. When the pool is saturated, the batch is rejected
+ * and flushed by one of its waiting callers instead.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.function.annotation.OnRegion
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionOperations
+ * @see org.springframework.data.gemfire.function.execution.OnRegionFunctionProxyFactoryBean
+ * @since 2.5.0
+ */
+class OnRegionFunctionExecutionBatcher {
+
+	private static final int FLUSH_QUEUE_CAPACITY = 1024;
+
+	private static final ScheduledThreadPoolExecutor SCHEDULER = newScheduler();
+
+	private static final ExecutorService FLUSH_EXECUTOR = newFlushExecutor();
+
+	private final int maxBatch;
+
+	private final long batchWindow;
+
+	private final GemfireOnRegionOperations gemfireOnRegionOperations;
+
+	private final Map<BatchKey, Batch> batches = new HashMap<>();
+
+	private boolean shutdown;
+
+	/**
+	 * Constructs a new instance of {@link OnRegionFunctionExecutionBatcher} initialized with
+	 * the given {@link GemfireOnRegionOperations}, batch window and maximum batch size.
+	 *
+	 * @param gemfireOnRegionOperations {@link GemfireOnRegionOperations} used to execute the batched
+	 * {@link org.apache.geode.cache.execute.Function Functions}; must not be {@literal null}.
+	 * @param batchWindow {@link Long} number of milliseconds to wait for concurrent executions to batch;
+	 * must be greater than {@literal 0}.
+	 * @param maxBatch {@link Integer} maximum number of filter keys in a batch; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link GemfireOnRegionOperations} is {@literal null},
+	 * or the batch window or maximum batch size is less than {@literal 1}.
+	 */
+	OnRegionFunctionExecutionBatcher(@NonNull GemfireOnRegionOperations gemfireOnRegionOperations,
+			long batchWindow, int maxBatch) {
+
+		Assert.notNull(gemfireOnRegionOperations, "GemfireOnRegionOperations must not be null");
+		Assert.isTrue(batchWindow > 0, () -> String.format("Batch window [%d] must be greater than 0", batchWindow));
+		Assert.isTrue(maxBatch > 0, () -> String.format("Maximum batch size [%d] must be greater than 0", maxBatch));
+
+		this.gemfireOnRegionOperations = gemfireOnRegionOperations;
+		this.batchWindow = batchWindow;
+		this.maxBatch = maxBatch;
+	}
+
+	private static ScheduledThreadPoolExecutor newScheduler() {
+
+		ScheduledThreadPoolExecutor scheduler =
+			new ScheduledThreadPoolExecutor(1, newThreadFactory("OnRegionFunctionExecutionBatcher-Scheduler"));
+
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		return scheduler;
+	}
+
+	private static ExecutorService newFlushExecutor() {
+
+		int poolSize = Runtime.getRuntime().availableProcessors();
+
+		ThreadPoolExecutor flushExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(FLUSH_QUEUE_CAPACITY), newThreadFactory("OnRegionFunctionExecutionBatcher-Flush"),
+			new ThreadPoolExecutor.AbortPolicy());
+
+		flushExecutor.allowCoreThreadTimeOut(true);
+
+		return flushExecutor;
+	}
+
+	private static ThreadFactory newThreadFactory(String threadNamePrefix) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		return runnable -> {
+
+			Thread thread = new Thread(runnable, String.format("%1$s-%2$d", threadNamePrefix,
+				threadNumber.incrementAndGet()));
+
+			thread.setDaemon(true);
+
+			return thread;
+		};
+	}
+
+	long getBatchWindow() {
+		return this.batchWindow;
+	}
+
+	int getMaxBatch() {
+		return this.maxBatch;
+	}
+
+	boolean hasPendingBatches() {
+
+		synchronized (this.batches) {
+			return !this.batches.isEmpty();
+		}
+	}
+
+	/**
+	 * Executes the {@link org.apache.geode.cache.execute.Function} identified by the given ID with the given filter
+	 * and arguments as part of a batch, waiting for and returning the results for the given filter keys.
+	 *
+	 * @param functionId {@link String} containing the ID of the {@link org.apache.geode.cache.execute.Function}.
+	 * @param keys {@link Set} of filter keys.
+	 * @param args array of {@link Object arguments} passed to the {@link org.apache.geode.cache.execute.Function}.
+	 * @return the {@link Map Maps} or {@link Map.Entry Map entries} returned by the batched
+	 * {@link org.apache.geode.cache.execute.Function} execution for the given filter keys.
+	 */
+	Iterable<?> execute(@NonNull String functionId, @NonNull Set<?> keys, Object... args) {
+
+		BatchKey batchKey = new BatchKey(functionId, args);
+
+		CompletableFuture<List<Object>> result = new CompletableFuture<>();
+
+		Batch batch;
+		Batch fullBatch = null;
+
+		synchronized (this.batches) {
+
+			if (this.shutdown) {
+				throw newIllegalStateException("Function [%s] execution batcher was shutdown", functionId);
+			}
+
+			batch = this.batches.computeIfAbsent(batchKey, this::newBatch);
+
+			batch.add(keys, result);
+
+			if (batch.size() >= getMaxBatch()) {
+				this.batches.remove(batchKey);
+				fullBatch = batch;
+			}
+		}
+
+		if (fullBatch != null) {
+			fullBatch.flush();
+		}
+
+		try {
+
+			CompletableFuture.anyOf(result, batch.flushRejected).join();
+
+			if (!result.isDone()) {
+				flush(batchKey, batch);
+			}
+
+			return result.join();
+		}
+		catch (CompletionException cause) {
+			throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause() : cause;
+		}
+	}
+
+	private Batch newBatch(BatchKey batchKey) {
+
+		Batch batch = new Batch(batchKey);
+
+		batch.scheduledFlush = SCHEDULER.schedule(() -> {
+			try {
+				FLUSH_EXECUTOR.execute(() -> flush(batchKey, batch));
+			}
+			catch (RejectedExecutionException ignore) {
+				batch.flushRejected.complete(null);
+			}
+		}, getBatchWindow(), TimeUnit.MILLISECONDS);
+
+		return batch;
+	}
+
+	private void flush(BatchKey batchKey, Batch batch) {
+
+		boolean removed;
+
+		synchronized (this.batches) {
+			removed = this.batches.remove(batchKey, batch);
+		}
+
+		if (removed) {
+			batch.flush();
+		}
+	}
+
+	/**
+	 * Shuts down this batcher, failing pending executions that have not been flushed.
+	 *
+	 * The shared scheduler and flush threads are daemon threads and are not shut down.
+	 */
+	void shutdown() {
+
+		List<Batch> pendingBatches;
+
+		synchronized (this.batches) {
+			this.shutdown = true;
+			pendingBatches = new ArrayList<>(this.batches.values());
+			this.batches.clear();
+		}
+
+		pendingBatches.forEach(batch -> {
+			batch.cancelScheduledFlush();
+			batch.fail(newIllegalStateException("Function [%s] execution batcher was shutdown",
+				batch.batchKey.functionId));
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	static @NonNull List<Object> demultiplex(@NonNull Iterable<?> results, @NonNull Set<?> keys) {
+
+		List<Object> demultiplexedResults = new ArrayList<>();
+
+		for (Object result : results) {
+			if (result instanceof Map) {
+
+				Map<Object, Object> keyedResults = new LinkedHashMap<>();
+
+				((Map<Object, Object>) result).forEach((key, value) -> {
+					if (keys.contains(key)) {
+						keyedResults.put(key, value);
+					}
+				});
+
+				if (!keyedResults.isEmpty()) {
+					demultiplexedResults.add(keyedResults);
+				}
+			}
+			else if (result instanceof Map.Entry) {
+				if (keys.contains(((Map.Entry<?, ?>) result).getKey())) {
+					demultiplexedResults.add(result);
+				}
+			}
+			else if (result != null) {
+				throw newIllegalStateException(
+					"Batched Function result [%s] must be a Map or Map.Entry keyed by filter key",
+						result.getClass().getName());
+			}
+		}
+
+		return demultiplexedResults;
+	}
+
+	private class Batch {
+
+		private final AtomicBoolean flushed = new AtomicBoolean(false);
+
+		private final CompletableFuture<Void> flushRejected = new CompletableFuture<>();
+
+		private final BatchKey batchKey;
+
+		private final Map<CompletableFuture<List<Object>>, Set<?>> calls = new LinkedHashMap<>();
+
+		private final Set<Object> keys = new LinkedHashSet<>();
+
+		private volatile ScheduledFuture<?> scheduledFlush;
+
+		private Batch(BatchKey batchKey) {
+			this.batchKey = batchKey;
+		}
+
+		private void add(Set<?> keys, CompletableFuture<List<Object>> result) {
+			this.calls.put(result, keys);
+			this.keys.addAll(keys);
+		}
+
+		private int size() {
+			return this.keys.size();
+		}
+
+		private void fail(RuntimeException cause) {
+			this.calls.keySet().forEach(result -> result.completeExceptionally(cause));
+		}
+
+		private void cancelScheduledFlush() {
+
+			if (this.scheduledFlush != null) {
+				this.scheduledFlush.cancel(false);
+			}
+		}
+
+		private void flush() {
+
+			if (this.flushed.compareAndSet(false, true)) {
+
+				cancelScheduledFlush();
+
+				try {
+
+					Iterable<?> results = gemfireOnRegionOperations.execute(this.batchKey.functionId, this.keys,
+						this.batchKey.args);
+
+					Iterable<?> resolvedResults = results != null ? results : new ArrayList<>();
+
+					this.calls.forEach((result, keys) -> result.complete(demultiplex(resolvedResults, keys)));
+				}
+				catch (RuntimeException cause) {
+					fail(cause);
+				}
+			}
+		}
+	}
+
+	private static class BatchKey {
+
+		private final Object[] args;
+
+		private final String functionId;
+
+		private BatchKey(String functionId, Object[] args) {
+			this.functionId = functionId;
+			this.args = args != null ? args : new Object[0];
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof BatchKey)) {
+				return false;
+			}
+
+			BatchKey that = (BatchKey) obj;
+
+			return this.functionId.equals(that.functionId)
+				&& Arrays.deepEquals(this.args, that.args);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int hashValue = 17;
+
+			hashValue = 37 * hashValue + this.functionId.hashCode();
+			hashValue = 37 * hashValue + Arrays.deepHashCode(this.args);
+
+			return hashValue;
+		}
+	}
+}
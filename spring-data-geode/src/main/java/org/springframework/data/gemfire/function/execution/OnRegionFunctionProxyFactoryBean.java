@@ -15,13 +15,22 @@ package org.springframework.data.gemfire.function.execution;
 import java.lang.reflect.Method;
 import java.util.Set;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.gemfire.util.ArrayUtils;
 
 /**
  * @author David Turanski
  * @author John Blum
  */
-public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactoryBean {
+public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactoryBean implements DisposableBean {
+
+	protected static final int DEFAULT_MAX_BATCH = 500;
+
+	private int maxBatch = DEFAULT_MAX_BATCH;
+
+	private long batchWindow;
+
+	private volatile OnRegionFunctionExecutionBatcher batcher;
 
 	private final RegionFunctionExecutionMethodMetadata methodMetadata;
 
@@ -37,6 +46,72 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 		this.methodMetadata = new RegionFunctionExecutionMethodMetadata(serviceInterface);
 	}
 
+	/**
+	 * Sets the number of milliseconds to wait for concurrent, filtered Function executions to coalesce
+	 * into a single Function execution with the union of the filter keys.
+	 *
+	 * Only executions of methods annotated with {@link org.springframework.data.gemfire.function.annotation.Batched}
+	 * are batched.
+	 *
+	 * Defaults to {@literal 0}, which disables batching.
+	 *
+	 * @param batchWindow {@link Long} number of milliseconds to wait for concurrent Function executions to batch.
+	 * @see #setMaxBatch(int)
+	 */
+	public void setBatchWindow(long batchWindow) {
+		this.batchWindow = batchWindow;
+	}
+
+	protected long getBatchWindow() {
+		return this.batchWindow;
+	}
+
+	/**
+	 * Sets the maximum number of filter keys in a batched Function execution. A batch is executed immediately
+	 * once it contains the maximum number of filter keys.
+	 *
+	 * Defaults to {@literal 500}.
+	 *
+	 * @param maxBatch {@link Integer} maximum number of filter keys in a batched Function execution.
+	 * @see #setBatchWindow(long)
+	 */
+	public void setMaxBatch(int maxBatch) {
+		this.maxBatch = maxBatch;
+	}
+
+	protected int getMaxBatch() {
+		return this.maxBatch;
+	}
+
+	protected boolean isBatchingEnabled() {
+		return getBatchWindow() > 0;
+	}
+
+	@Override
+	protected void onInit() {
+
+		if (isBatchingEnabled() && this.batcher == null) {
+			GemfireOnRegionOperations gemfireOnRegionOperations =
+				(GemfireOnRegionOperations) getGemfireFunctionOperations();
+
+			this.batcher = new OnRegionFunctionExecutionBatcher(gemfireOnRegionOperations, getBatchWindow(),
+				Math.max(1, getMaxBatch()));
+		}
+
+		super.onInit();
+	}
+
+	@Override
+	public void destroy() {
+
+		OnRegionFunctionExecutionBatcher batcher = this.batcher;
+
+		if (batcher != null) {
+			batcher.shutdown();
+			this.batcher = null;
+		}
+	}
+
 	@Override
 	protected Iterable<?> invokeFunction(Method method, Object[] args) {
 
@@ -57,6 +132,12 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 			args = ArrayUtils.remove(args, filterArgPosition);
 		}
 
+		OnRegionFunctionExecutionBatcher batcher = this.batcher;
+
+		if (batcher != null && regionMethodMetadata.isBatched() && filter != null && !filter.isEmpty()) {
+			return batcher.execute(functionId, filter, args);
+		}
+
 		return filter != null ? gemfireOnRegionOperations.execute(functionId, filter, args)
 			: gemfireOnRegionOperations.execute(functionId, args);
 	}
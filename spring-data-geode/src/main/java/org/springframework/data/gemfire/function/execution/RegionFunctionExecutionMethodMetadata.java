@@ -16,6 +16,7 @@ import java.lang.reflect.Method;
 import java.util.Set;
 
 import org.springframework.data.gemfire.function.GemfireFunctionUtils;
+import org.springframework.data.gemfire.function.annotation.Batched;
 import org.springframework.data.gemfire.function.annotation.Filter;
 
 /**
@@ -39,16 +40,24 @@ class RegionFunctionExecutionMethodMetadata extends FunctionExecutionMethodMetad
 
 class RegionMethodMetadata extends MethodMetadata {
 
+	private final boolean batched;
+
 	private final int filterArgPosition;
 
 	public RegionMethodMetadata(Method method) {
 
 		super(method);
 
+		this.batched = method.isAnnotationPresent(Batched.class);
+
 		this.filterArgPosition = GemfireFunctionUtils.getAnnotationParameterPosition(method, Filter.class,
 			new Class<?>[] { Set.class });
 	}
 
+	public boolean isBatched() {
+		return this.batched;
+	}
+
 	public int getFilterArgPosition() {
 		return this.filterArgPosition;
 	}
@@ -40,7 +40,12 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("unused")
 public class ContinuousQueryDefinition implements InitializingBean {
 
+	public static final int DEFAULT_INITIAL_RESULTS_CHUNK_SIZE = 1000;
+
 	private final boolean durable;
+	private final boolean initialResults;
+
+	private final int initialResultsChunkSize;
 
 	private final ContinuousQueryListener listener;
 
@@ -68,7 +73,8 @@ public class ContinuousQueryDefinition implements InitializingBean {
 
 		boolean durable = continuousQuery.durable();
 
-		return new ContinuousQueryDefinition(name, query, listener, durable);
+		return new ContinuousQueryDefinition(name, query, listener, durable, continuousQuery.initialResults(),
+			continuousQuery.initialResultsChunkSize());
 	}
 
 	public ContinuousQueryDefinition(String query, ContinuousQueryListener listener) {
@@ -84,11 +90,30 @@ public class ContinuousQueryDefinition implements InitializingBean {
 	}
 
 	public ContinuousQueryDefinition(String name, String query, ContinuousQueryListener listener, boolean durable) {
+		this(name, query, listener, durable, false, DEFAULT_INITIAL_RESULTS_CHUNK_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ContinuousQueryDefinition} for a CQ that is optionally executed with
+	 * initial results delivered to the listener in chunks of the given size.
+	 *
+	 * @param name {@link String name} of the CQ; may be {@literal null}.
+	 * @param query {@link String OQL query} executed by the CQ.
+	 * @param listener {@link ContinuousQueryListener} handling CQ events.
+	 * @param durable boolean indicating whether the CQ is durable.
+	 * @param initialResults boolean indicating whether the CQ is executed with initial results.
+	 * @param initialResultsChunkSize maximum number of initial results delivered to the listener at one time.
+	 * @since 2.5.0
+	 */
+	public ContinuousQueryDefinition(String name, String query, ContinuousQueryListener listener, boolean durable,
+			boolean initialResults, int initialResultsChunkSize) {
 
 		this.name = name;
 		this.query = query;
 		this.listener = listener;
 		this.durable = durable;
+		this.initialResults = initialResults;
+		this.initialResultsChunkSize = initialResultsChunkSize;
 
 		afterPropertiesSet();
 	}
@@ -102,6 +127,26 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		return this.durable;
 	}
 
+	/**
+	 * Determines whether the CQ is executed with initial results.
+	 *
+	 * @return a boolean indicating if the CQ is executed with initial results.
+	 * @since 2.5.0
+	 */
+	public boolean isInitialResults() {
+		return this.initialResults;
+	}
+
+	/**
+	 * Returns the maximum number of initial results delivered to the listener at one time.
+	 *
+	 * @return the maximum number of initial results delivered to the listener at one time.
+	 * @since 2.5.0
+	 */
+	public int getInitialResultsChunkSize() {
+		return this.initialResultsChunkSize;
+	}
+
 	/**
 	 * Determines whether the CQ was named.
 	 *
@@ -143,6 +188,8 @@ public class ContinuousQueryDefinition implements InitializingBean {
 	public void afterPropertiesSet() {
 		Assert.hasText(query, "Query is required");
 		Assert.notNull(listener, "Listener is required");
+		Assert.isTrue(initialResultsChunkSize > 0,
+			String.format("Initial results chunk size [%d] must be greater than 0", initialResultsChunkSize));
 	}
 
 	public CqAttributes toCqAttributes(Function<ContinuousQueryListener, CqListener> listenerFunction) {
@@ -18,18 +18,25 @@ package org.springframework.data.gemfire.listener;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
+import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.query.CqAttributes;
@@ -39,6 +46,7 @@ import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.Struct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +57,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
@@ -60,6 +69,8 @@ import org.springframework.data.gemfire.client.support.DelegatingPoolAdapter;
 import org.springframework.data.gemfire.client.support.PoolManagerPoolResolver;
 import org.springframework.data.gemfire.config.annotation.ContinuousQueryListenerContainerConfigurer;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.statistics.DataAccessStatistics;
+import org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.SpringUtils;
@@ -129,6 +140,8 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
+	private DataAccessStatisticsRecorder statisticsRecorder;
+
 	private PoolResolver poolResolver = DEFAULT_POOL_RESOLVER;
 
 	private Queue<CqQuery> continuousQueries = new ConcurrentLinkedQueue<>();
@@ -146,11 +159,22 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		applyContinuousQueryListenerContainerConfigurers();
 		validateQueryService(initQueryService(eagerlyInitializePool(resolvePoolName())));
 		initExecutor();
+		initStatisticsRecorder();
 		initContinuousQueries();
 
 		this.initialized = true;
 	}
 
+	private void initStatisticsRecorder() {
+
+		if (this.statisticsRecorder == null) {
+			this.statisticsRecorder = Optional.ofNullable(getBeanFactory())
+				.map(beanFactory -> beanFactory.getBeanProvider(DataAccessStatisticsRecorder.class))
+				.map(ObjectProvider::getIfUnique)
+				.orElse(null);
+		}
+	}
+
 	/**
 	 * Applies configuration customizations to this {@link ContinuousQueryListenerContainer} from the registered
 	 * composite {@link ContinuousQueryListenerContainerConfigurer} objects.
@@ -410,6 +434,29 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		this.beanFactory = beanFactory;
 	}
 
+	/**
+	 * Sets the {@link DataAccessStatisticsRecorder} used to record the dispatch of {@link CqEvent CQ events}
+	 * in Apache Geode {@link org.apache.geode.Statistics}.
+	 *
+	 * If not set, a {@link DataAccessStatisticsRecorder} bean is resolved from the {@link BeanFactory}, if present.
+	 *
+	 * @param statisticsRecorder {@link DataAccessStatisticsRecorder} used to record CQ event dispatch.
+	 * @see org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder
+	 */
+	public void setStatisticsRecorder(@Nullable DataAccessStatisticsRecorder statisticsRecorder) {
+		this.statisticsRecorder = statisticsRecorder;
+	}
+
+	/**
+	 * Returns the {@link DataAccessStatisticsRecorder} used to record the dispatch of {@link CqEvent CQ events}.
+	 *
+	 * @return an {@link Optional} {@link DataAccessStatisticsRecorder}.
+	 * @see org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder
+	 */
+	protected Optional<DataAccessStatisticsRecorder> getStatisticsRecorder() {
+		return Optional.ofNullable(this.statisticsRecorder);
+	}
+
 	/**
 	 * Returns a reference to the configured {@link BeanFactory}.
 	 *
@@ -683,7 +730,9 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 		try {
 
-			CqAttributes attributes = definition.toCqAttributes(this::newCqListener);
+			CqAttributes attributes = definition.toCqAttributes(listener -> definition.isInitialResults()
+				? new InitialResultsCqListenerAdapter(newCqListener(listener), definition.getInitialResultsChunkSize())
+				: newCqListener(listener));
 
 			CqQuery query = definition.isNamed()
 				? newNamedContinuousQuery(definition, attributes)
@@ -740,7 +789,15 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	private void execute(CqQuery query) {
 
 		try {
-			query.execute();
+
+			InitialResultsCqListenerAdapter initialResultsListener = resolveInitialResultsListener(query);
+
+			if (initialResultsListener != null) {
+				initialResultsListener.executeWithInitialResults(query);
+			}
+			else {
+				query.execute();
+			}
 		}
 		catch (QueryException cause) {
 			throw new GemfireQueryException(String.format("Could not execute query [%1$s]; state is [%2$s]",
@@ -748,6 +805,18 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	private InitialResultsCqListenerAdapter resolveInitialResultsListener(CqQuery query) {
+
+		return Optional.ofNullable(query.getCqAttributes())
+			.map(CqAttributes::getCqListeners)
+			.map(Arrays::stream)
+			.flatMap(cqListeners -> cqListeners
+				.filter(InitialResultsCqListenerAdapter.class::isInstance)
+				.map(InitialResultsCqListenerAdapter.class::cast)
+				.findFirst())
+			.orElse(null);
+	}
+
 	/**
 	 * Asynchronously dispatches the {@link CqEvent CQ event} to the targeted {@link ContinuousQueryListener}.
 	 *
@@ -757,22 +826,48 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 * @see org.apache.geode.cache.query.CqEvent
 	 */
 	protected void dispatchEvent(ContinuousQueryListener listener, CqEvent event) {
-		getTaskExecutor().execute(() -> notify(listener, event));
+
+		Optional<DataAccessStatistics> statistics = resolveStatistics(event);
+
+		long startTime = statistics.map(DataAccessStatistics::startInvocation).orElse(0L);
+
+		try {
+			getTaskExecutor().execute(() -> notify(listener, event, statistics, startTime));
+		}
+		catch (RuntimeException cause) {
+			statistics.ifPresent(it -> it.failInvocation(startTime));
+			throw cause;
+		}
+	}
+
+	private Optional<DataAccessStatistics> resolveStatistics(CqEvent event) {
+
+		return getStatisticsRecorder().map(statisticsRecorder -> statisticsRecorder.getStatistics(
+			DataAccessStatisticsRecorder.CONTINUOUS_QUERY_STATISTICS_TYPE_NAME,
+			event.getCq() != null ? event.getCq().getName() : String.valueOf(getBeanName())));
 	}
 
 	/**
 	 * Invoke the specified {@link ContinuousQueryListener listener} to process/handle the {@link CqEvent CQ event}.
 	 *
+	 * The time recorded in the {@link DataAccessStatistics} includes the time the {@link CqEvent CQ event} was queued
+	 * for dispatch.
+	 *
 	 * @param listener {@link ContinuousQueryListener} to notify of the {@link CqEvent CQ event}.
 	 * @param event {@link CqEvent CQ event} to process/handle.
+	 * @param statistics {@link DataAccessStatistics} recording the dispatch of the {@link CqEvent CQ event}, if any.
+	 * @param startTime time at which the {@link CqEvent CQ event} was dispatched.
 	 * @see #handleListenerError(Throwable)
 	 */
-	private void notify(ContinuousQueryListener listener, CqEvent event) {
+	private void notify(ContinuousQueryListener listener, CqEvent event, Optional<DataAccessStatistics> statistics,
+			long startTime) {
 
 		try {
 			listener.onEvent(event);
+			statistics.ifPresent(it -> it.endInvocation(startTime, 1L));
 		}
 		catch (Throwable cause) {
+			statistics.ifPresent(it -> it.failInvocation(startTime));
 			handleListenerError(cause);
 		}
 	}
@@ -916,7 +1011,339 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			dispatchEvent(getListener(), event);
 		}
 
+		/**
+		 * Notifies the {@link ContinuousQueryListener} of the {@link CqEvent} on the calling thread.
+		 *
+		 * @param event {@link CqEvent} to process.
+		 */
+		protected void notifyListener(CqEvent event) {
+
+			Optional<DataAccessStatistics> statistics = resolveStatistics(event);
+
+			long startTime = statistics.map(DataAccessStatistics::startInvocation).orElse(0L);
+
+			ContinuousQueryListenerContainer.this.notify(getListener(), event, statistics, startTime);
+		}
+
 		public void close() { }
 
 	}
+
+	/**
+	 * {@link CqListener} executing a {@link CqQuery} with initial results and delivering the initial results
+	 * as {@link Operation#CREATE} events to the {@link CqListener} created by {@link #newCqListener}.
+	 *
+	 * Initial results are converted to events and delivered in chunks on a single {@link Executor} thread.
+	 * CQ events received from the servers while initial results are being delivered are buffered, and replayed
+	 * in order on the same thread after the last chunk, so the listener never sees an initial result after
+	 * a more recent change. Initial results for keys changed by a buffered CQ event are skipped.
+	 *
+	 * Buffered CQ events are coalesced per key, so only the most recent CQ event for each key is replayed.
+	 * At most {@link #getMaximumBufferedEvents()} CQ events are buffered; once the buffer is full, the thread
+	 * receiving CQ events from the servers waits until the buffered CQ events are replayed, leaving further
+	 * CQ events queued on the servers.
+	 */
+	protected class InitialResultsCqListenerAdapter implements CqListener {
+
+		protected static final int DEFAULT_MAXIMUM_BUFFERED_EVENTS = 10000;
+
+		private final CqListener delegate;
+
+		private final int chunkSize;
+		private final int maximumBufferedEvents;
+
+		private final Object lock = new Object();
+
+		private final Map<Object, BufferedCqEvent> bufferedEvents = new LinkedHashMap<>();
+
+		private final Set<Object> changedKeys = ConcurrentHashMap.newKeySet();
+
+		private boolean deliveringInitialResults;
+
+		protected InitialResultsCqListenerAdapter(CqListener delegate, int chunkSize) {
+			this(delegate, chunkSize, DEFAULT_MAXIMUM_BUFFERED_EVENTS);
+		}
+
+		protected InitialResultsCqListenerAdapter(CqListener delegate, int chunkSize, int maximumBufferedEvents) {
+
+			Assert.notNull(delegate, "CqListener is required");
+			Assert.isTrue(chunkSize > 0, () -> String.format("Chunk size [%d] must be greater than 0", chunkSize));
+			Assert.isTrue(maximumBufferedEvents > 0, () ->
+				String.format("Maximum buffered events [%d] must be greater than 0", maximumBufferedEvents));
+
+			this.delegate = delegate;
+			this.chunkSize = chunkSize;
+			this.maximumBufferedEvents = maximumBufferedEvents;
+		}
+
+		protected CqListener getDelegate() {
+			return this.delegate;
+		}
+
+		protected int getChunkSize() {
+			return this.chunkSize;
+		}
+
+		protected int getMaximumBufferedEvents() {
+			return this.maximumBufferedEvents;
+		}
+
+		void executeWithInitialResults(CqQuery query) throws QueryException {
+
+			synchronized (this.lock) {
+				this.bufferedEvents.clear();
+				this.changedKeys.clear();
+				this.deliveringInitialResults = true;
+			}
+
+			try {
+
+				Collection<?> initialResults = query.executeWithInitialResults();
+
+				getTaskExecutor().execute(() -> deliverInitialResults(query, initialResults));
+			}
+			catch (QueryException | RuntimeException cause) {
+				replayBufferedEvents();
+				throw cause;
+			}
+		}
+
+		private void deliverInitialResults(CqQuery query, Collection<?> initialResults) {
+
+			try {
+
+				List<CqEvent> chunk = new ArrayList<>(Math.min(getChunkSize(), initialResults.size()));
+
+				for (Object initialResult : initialResults) {
+
+					chunk.add(InitialResultCqEvent.from(query, initialResult));
+
+					if (chunk.size() >= getChunkSize()) {
+						deliver(chunk);
+						chunk.clear();
+					}
+				}
+
+				deliver(chunk);
+			}
+			catch (Throwable cause) {
+				handleListenerError(cause);
+			}
+			finally {
+				replayBufferedEvents();
+			}
+		}
+
+		private void deliver(List<CqEvent> chunk) {
+
+			for (CqEvent event : chunk) {
+				if (event.getKey() == null || !this.changedKeys.contains(event.getKey())) {
+					deliver(event);
+				}
+			}
+		}
+
+		/**
+		 * Delivers the {@link CqEvent} on the calling thread, so that events are delivered in order.
+		 */
+		private void deliver(CqEvent event) {
+
+			if (getDelegate() instanceof EventDispatcherAdapter) {
+				((EventDispatcherAdapter) getDelegate()).notifyListener(event);
+			}
+			else {
+				getDelegate().onEvent(event);
+			}
+		}
+
+		/**
+		 * Replays the buffered {@link CqEvent CQ events} in the order they were received, then stops buffering
+		 * once no more buffered events remain.
+		 */
+		private void replayBufferedEvents() {
+
+			while (true) {
+
+				BufferedCqEvent bufferedEvent;
+
+				synchronized (this.lock) {
+
+					Iterator<BufferedCqEvent> bufferedEvents = this.bufferedEvents.values().iterator();
+
+					if (!bufferedEvents.hasNext()) {
+						this.deliveringInitialResults = false;
+						this.changedKeys.clear();
+						this.lock.notifyAll();
+						return;
+					}
+
+					bufferedEvent = bufferedEvents.next();
+					bufferedEvents.remove();
+					this.lock.notifyAll();
+				}
+
+				try {
+					if (bufferedEvent.isError()) {
+						getDelegate().onError(bufferedEvent.getEvent());
+					}
+					else {
+						deliver(bufferedEvent.getEvent());
+					}
+				}
+				catch (Throwable cause) {
+					handleListenerError(cause);
+				}
+			}
+		}
+
+		/**
+		 * Buffers the {@link CqEvent} while initial results are being delivered, replacing a buffered
+		 * {@link CqEvent} for the same key. Waits while the buffer is full.
+		 *
+		 * @return a boolean value indicating whether the {@link CqEvent} was buffered.
+		 */
+		private boolean buffer(CqEvent event, boolean error) {
+
+			Object key = !error && event.getKey() != null ? event.getKey() : new Object();
+
+			synchronized (this.lock) {
+
+				while (this.deliveringInitialResults && !this.bufferedEvents.containsKey(key)
+						&& this.bufferedEvents.size() >= getMaximumBufferedEvents()) {
+
+					try {
+						this.lock.wait();
+					}
+					catch (InterruptedException ignore) {
+						Thread.currentThread().interrupt();
+						break;
+					}
+				}
+
+				if (this.deliveringInitialResults) {
+
+					if (!error && event.getKey() != null) {
+						this.changedKeys.add(event.getKey());
+					}
+
+					// remove first so that the replacement is replayed in the order it was received
+					this.bufferedEvents.remove(key);
+					this.bufferedEvents.put(key, new BufferedCqEvent(event, error));
+
+					return true;
+				}
+
+				return false;
+			}
+		}
+
+		@Override
+		public void onError(CqEvent event) {
+
+			if (!buffer(event, true)) {
+				getDelegate().onError(event);
+			}
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+
+			if (!buffer(event, false)) {
+				getDelegate().onEvent(event);
+			}
+		}
+
+		@Override
+		public void close() {
+			getDelegate().close();
+		}
+	}
+
+	/**
+	 * {@link CqEvent} buffered by the {@link InitialResultsCqListenerAdapter}, along with whether it was received
+	 * as an error.
+	 */
+	static class BufferedCqEvent {
+
+		private final CqEvent event;
+
+		private final boolean error;
+
+		BufferedCqEvent(CqEvent event, boolean error) {
+			this.event = event;
+			this.error = error;
+		}
+
+		CqEvent getEvent() {
+			return this.event;
+		}
+
+		boolean isError() {
+			return this.error;
+		}
+	}
+
+	/**
+	 * {@link CqEvent} created from an initial result of a {@link CqQuery} executed with initial results.
+	 */
+	static class InitialResultCqEvent implements CqEvent {
+
+		static InitialResultCqEvent from(CqQuery query, Object initialResult) {
+
+			if (initialResult instanceof Struct) {
+
+				Struct struct = (Struct) initialResult;
+
+				return new InitialResultCqEvent(query, struct.get("key"), struct.get("value"));
+			}
+
+			return new InitialResultCqEvent(query, null, initialResult);
+		}
+
+		private final CqQuery query;
+
+		private final Object key;
+		private final Object value;
+
+		InitialResultCqEvent(CqQuery query, Object key, Object value) {
+			this.query = query;
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public Operation getBaseOperation() {
+			return Operation.CREATE;
+		}
+
+		@Override
+		public Operation getQueryOperation() {
+			return Operation.CREATE;
+		}
+
+		@Override
+		public Object getKey() {
+			return this.key;
+		}
+
+		@Override
+		public Object getNewValue() {
+			return this.value;
+		}
+
+		@Override
+		public Throwable getThrowable() {
+			return null;
+		}
+
+		@Override
+		public CqQuery getCq() {
+			return this.query;
+		}
+
+		@Override
+		public byte[] getDeltaValue() {
+			return null;
+		}
+	}
 }
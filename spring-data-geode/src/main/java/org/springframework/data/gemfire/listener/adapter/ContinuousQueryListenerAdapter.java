@@ -16,12 +16,18 @@
 
 package org.springframework.data.gemfire.listener.adapter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.query.CqEvent;
@@ -83,7 +89,9 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
-	private MethodInvoker invoker;
+	private ContinuousQueryListener delegateListener;
+
+	private final Map<String, MethodInvoker> invokers = new ConcurrentHashMap<>();
 
 	private Object delegate;
 
@@ -122,7 +130,10 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		Assert.notNull(delegate, "Delegate is required");
 
 		this.delegate = delegate;
-		this.invoker = null;
+		this.delegateListener = delegate != this && delegate instanceof ContinuousQueryListener
+			? (ContinuousQueryListener) delegate
+			: null;
+		this.invokers.clear();
 	}
 
 	/**
@@ -143,7 +154,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	 */
 	public void setDefaultListenerMethod(String defaultListenerMethod) {
 		this.defaultListenerMethod = defaultListenerMethod;
-		this.invoker = null;
+		this.invokers.clear();
 	}
 
 	/**
@@ -184,20 +195,19 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		try {
 			// Determine whether the delegate is a ContinuousQueryListener implementation;
 			// If so, this adapter will simply act as a pass-through
-			if (this.delegate != this && this.delegate instanceof ContinuousQueryListener) {
-				((ContinuousQueryListener) this.delegate).onEvent(event);
+			if (this.delegateListener != null) {
+				this.delegateListener.onEvent(event);
 			}
-			// Else, find the listener method handler reflectively
+			// Else, invoke the listener method handler resolved and compiled on the first event
 			else {
 
-				String methodName = Optional.ofNullable(getListenerMethodName(event))
-					.filter(StringUtils::hasText)
-					.orElseThrow(() -> new InvalidDataAccessApiUsageException("No default listener method specified;"
-						+ " Either specify a non-null value for the 'defaultListenerMethod' property"
-						+ " or override the 'getListenerMethodName' method."));
+				String methodName = getListenerMethodName(event);
 
-				this.invoker = Optional.ofNullable(this.invoker)
-					.orElseGet(() -> new MethodInvoker(this.delegate, methodName));
+				if (!StringUtils.hasText(methodName)) {
+					throw new InvalidDataAccessApiUsageException("No default listener method specified;"
+						+ " Either specify a non-null value for the 'defaultListenerMethod' property"
+						+ " or override the 'getListenerMethodName' method.");
+				}
 
 				invokeListenerMethod(event, methodName);
 			}
@@ -224,8 +234,11 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	 * @see #getListenerMethodName
 	 */
 	protected void invokeListenerMethod(CqEvent event, String methodName) {
+
+		MethodInvoker invoker = resolveMethodInvoker(methodName);
+
 		try {
-			this.invoker.invoke(event);
+			invoker.invoke(event);
 		}
 		catch (InvocationTargetException cause) {
 			if (cause.getTargetException() instanceof DataAccessException) {
@@ -242,11 +255,41 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 	}
 
-	private class MethodInvoker {
+	/**
+	 * Resolves the {@link MethodInvoker} for the listener method with the given name on the current delegate.
+	 *
+	 * {@link MethodInvoker MethodInvokers} are cached per listener method name, so that events alternating between
+	 * listener methods do not recompile them, and are compiled again if cached for a different delegate.
+	 *
+	 * @param methodName {@link String} containing the name of the listener method.
+	 * @return the {@link MethodInvoker} for the listener method with the given name.
+	 */
+	private MethodInvoker resolveMethodInvoker(String methodName) {
+
+		Object delegate = this.delegate;
+
+		MethodInvoker invoker = this.invokers.get(methodName);
+
+		return invoker != null && invoker.delegate == delegate ? invoker
+			: this.invokers.compute(methodName, (name, cachedInvoker) ->
+				cachedInvoker != null && cachedInvoker.delegate == delegate ? cachedInvoker
+					: new MethodInvoker(delegate, name));
+	}
+
+	/**
+	 * Invokes the listener methods with the given name on the delegate.
+	 *
+	 * Each listener method is bound once to the delegate as a {@link MethodHandle}, along with the functions
+	 * extracting each method argument from the {@link CqEvent}, so that events are dispatched without
+	 * reflective lookups or {@link Method#invoke(Object, Object...)}.
+	 */
+	private static class MethodInvoker {
 
-		private final Object delegate;
+		private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+		private final List<CompiledListenerMethod> methods;
 
-		private final List<Method> methods;
+		private final Object delegate;
 
 		MethodInvoker(Object delegate, String methodName) {
 
@@ -257,7 +300,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 
 			ReflectionUtils.doWithMethods(delegateType, method -> {
 				ReflectionUtils.makeAccessible(method);
-				this.methods.add(method);
+				this.methods.add(compile(delegate, method));
 			}, method -> isValidEventMethodSignature(method, methodName));
 
 			Assert.isTrue(!this.methods.isEmpty(), String.format("Cannot find a suitable method named [%1$s#%2$s];"
@@ -265,8 +308,62 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 					delegateType.getName(), methodName));
 		}
 
+		private static CompiledListenerMethod compile(Object delegate, Method method) {
+
+			try {
+				MethodHandle methodHandle = MethodHandles.lookup().unreflect(method)
+					.bindTo(delegate)
+					.asSpreader(Object[].class, method.getParameterCount())
+					.asType(INVOKER_TYPE);
+
+				return new CompiledListenerMethod(methodHandle, newArgumentExtractors(method));
+			}
+			catch (IllegalAccessException cause) {
+				throw new IllegalStateException(String.format("Cannot access listener method [%s]", method), cause);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Function<CqEvent, Object>[] newArgumentExtractors(Method method) {
+
+			Class<?>[] parameterTypes = method.getParameterTypes();
+
+			Function<CqEvent, Object>[] argumentExtractors = new Function[parameterTypes.length];
+
+			boolean query = false;
+			boolean value = false;
+
+			for (int index = 0; index < parameterTypes.length; index++) {
+
+				Class<?> parameterType = parameterTypes[index];
+
+				if (Object.class.equals(parameterType)) {
+					argumentExtractors[index] = value ? CqEvent::getNewValue : CqEvent::getKey;
+					value = true;
+				}
+				else if (Operation.class.equals(parameterType)) {
+					argumentExtractors[index] = query ? CqEvent::getQueryOperation : CqEvent::getBaseOperation;
+					query = true;
+				}
+				else if (byte[].class.equals(parameterType)) {
+					argumentExtractors[index] = CqEvent::getDeltaValue;
+				}
+				else if (CqEvent.class.equals(parameterType)) {
+					argumentExtractors[index] = event -> event;
+				}
+				else if (CqQuery.class.equals(parameterType)) {
+					argumentExtractors[index] = CqEvent::getCq;
+				}
+				else if (Throwable.class.equals(parameterType)) {
+					argumentExtractors[index] = CqEvent::getThrowable;
+				}
+			}
+
+			return argumentExtractors;
+		}
+
 		@SuppressWarnings("all")
-		private boolean isValidEventMethodSignature(Method method, String methodName) {
+		private static boolean isValidEventMethodSignature(Method method, String methodName) {
 
 			if (isEventHandlerMethod(method, methodName)) {
 
@@ -307,7 +404,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			return false;
 		}
 
-		private boolean isEventHandlerMethod(Method method, String methodName) {
+		private static boolean isEventHandlerMethod(Method method, String methodName) {
 
 			return Optional.ofNullable(method)
 				.filter(it -> Modifier.isPublic(it.getModifiers()))
@@ -315,49 +412,39 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 				.isPresent();
 		}
 
-		void invoke(CqEvent event) throws IllegalAccessException, InvocationTargetException {
+		void invoke(CqEvent event) throws InvocationTargetException {
 
-			for (Method method : this.methods) {
-				method.invoke(this.delegate, getMethodArguments(method, event));
+			for (CompiledListenerMethod method : this.methods) {
+				method.invoke(event);
 			}
 		}
+	}
 
-		private Object[] getMethodArguments(Method method, CqEvent event) {
+	private static class CompiledListenerMethod {
 
-			Class<?>[] parameterTypes = method.getParameterTypes();
+		private final Function<CqEvent, Object>[] argumentExtractors;
 
-			Object[] args = new Object[parameterTypes.length];
+		private final MethodHandle methodHandle;
 
-			boolean query = false;
-			boolean value = false;
+		private CompiledListenerMethod(MethodHandle methodHandle, Function<CqEvent, Object>[] argumentExtractors) {
+			this.methodHandle = methodHandle;
+			this.argumentExtractors = argumentExtractors;
+		}
 
-			for (int index = 0; index < parameterTypes.length; index++) {
+		void invoke(CqEvent event) throws InvocationTargetException {
 
-				Class<?> parameterType = parameterTypes[index];
+			Object[] arguments = new Object[this.argumentExtractors.length];
 
-				if (Object.class.equals(parameterType)) {
-					args[index] = (value ? event.getNewValue() : event.getKey());
-					value = true;
-				}
-				else if (Operation.class.equals(parameterType)) {
-					args[index] = (query ? event.getQueryOperation() : event.getBaseOperation());
-					query = true;
-				}
-				else if (byte[].class.equals(parameterType)) {
-					args[index] = event.getDeltaValue();
-				}
-				else if (CqEvent.class.equals(parameterType)) {
-					args[index] = event;
-				}
-				else if (CqQuery.class.equals(parameterType)) {
-					args[index] = event.getCq();
-				}
-				else if (Throwable.class.equals(parameterType)) {
-					args[index] = event.getThrowable();
-				}
+			for (int index = 0; index < arguments.length; index++) {
+				arguments[index] = this.argumentExtractors[index].apply(event);
 			}
 
-			return args;
+			try {
+				Object ignore = (Object) this.methodHandle.invokeExact(arguments);
+			}
+			catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
 		}
 	}
 }
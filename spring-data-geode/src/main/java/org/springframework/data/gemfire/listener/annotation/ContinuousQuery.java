@@ -47,6 +47,25 @@ public @interface ContinuousQuery {
 	 */
 	boolean durable() default false;
 
+	/**
+	 * Determines whether the CQ is executed with initial results, in which case the current results of the query
+	 * are delivered to the listener as {@link org.apache.geode.cache.Operation#CREATE} events before, or interleaved
+	 * with, subsequent CQ events.
+	 *
+	 * Initial results for keys changed by a CQ event received while the initial results are being delivered
+	 * are skipped.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean initialResults() default false;
+
+	/**
+	 * Maximum number of initial results converted to events and delivered to the listener at one time.
+	 *
+	 * Defaults to {@literal 1000}.
+	 */
+	int initialResultsChunkSize() default 1000;
+
 	/**
 	 * {@link String Name} assigned to the registered CQ.
 	 *
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.gemfire.repository.query.annotation.Aggregate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link Aggregation} models an OQL aggregate computed by a query method, either declared with the {@link Aggregate}
+ * annotation or derived from the query method name (e.g. {@literal sumAmountByCustomerId}).
+ *
+ * An {@link Aggregation} resolves the OQL projection and {@literal GROUP BY} expressions and combines
+ * the (partial) aggregate result rows into the final aggregates, keyed by group.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.repository.query.annotation.Aggregate
+ * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+ * @since 2.5.0
+ */
+class Aggregation {
+
+	static final Pattern DERIVED_AGGREGATE_PATTERN = Pattern.compile("^(sum|avg|min|max)(\\p{Lu}\\w*?)(By\\p{Lu}.*)?$");
+
+	static final String AGGREGATE_PROJECTION_TEMPLATE = "%1$s(%2$s)";
+
+	private final Aggregate.Type type;
+
+	private final boolean serverSide;
+
+	private final String partTreeSource;
+	private final String property;
+
+	private final String[] groupBy;
+
+	/**
+	 * Resolves the {@link Aggregation} computed by the given {@link GemfireQueryMethod}, if any.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} to evaluate; must not be {@literal null}.
+	 * @return the {@link Aggregation} computed by the given {@link GemfireQueryMethod}, or {@literal null}
+	 * if the query method does not compute an aggregate.
+	 */
+	static @Nullable Aggregation from(@NonNull GemfireQueryMethod queryMethod) {
+
+		Aggregate aggregate = queryMethod.getAggregate();
+
+		if (aggregate != null) {
+			return new Aggregation(aggregate.type(), aggregate.property(), aggregate.groupBy(),
+				aggregate.serverSide(), queryMethod.getName());
+		}
+
+		Matcher matcher = DERIVED_AGGREGATE_PATTERN.matcher(queryMethod.getName());
+
+		if (matcher.matches()) {
+
+			Aggregate.Type type = Aggregate.Type.valueOf(matcher.group(1).toUpperCase());
+			String property = StringUtils.uncapitalize(matcher.group(2));
+			String partTreeSource = "find".concat(StringUtils.hasText(matcher.group(3)) ? matcher.group(3) : "By");
+
+			return new Aggregation(type, property, new String[0], false, partTreeSource);
+		}
+
+		return null;
+	}
+
+	Aggregation(@NonNull Aggregate.Type type, @Nullable String property, @Nullable String[] groupBy,
+			boolean serverSide, @NonNull String partTreeSource) {
+
+		Assert.notNull(type, "Aggregate type must not be null");
+		Assert.isTrue(type == Aggregate.Type.COUNT || StringUtils.hasText(property),
+			() -> String.format("Property is required for aggregate [%s]", type));
+
+		this.type = type;
+		this.property = property;
+		this.groupBy = groupBy != null ? groupBy : new String[0];
+		this.serverSide = serverSide;
+		this.partTreeSource = partTreeSource;
+	}
+
+	/**
+	 * Returns the {@link String} from which the {@link org.springframework.data.repository.query.parser.PartTree}
+	 * determining the OQL query predicate is parsed.
+	 *
+	 * @return the {@link String} from which the {@link org.springframework.data.repository.query.parser.PartTree}
+	 * is parsed.
+	 */
+	@NonNull String getPartTreeSource() {
+		return this.partTreeSource;
+	}
+
+	@NonNull Aggregate.Type getType() {
+		return this.type;
+	}
+
+	boolean isGrouped() {
+		return this.groupBy.length > 0;
+	}
+
+	boolean isServerSide() {
+		return this.serverSide;
+	}
+
+	/**
+	 * Resolves the {@literal GROUP BY} expressions.
+	 *
+	 * @return an array of {@literal GROUP BY} expressions.
+	 */
+	@NonNull String[] toGroupByExpressions() {
+
+		String[] expressions = new String[this.groupBy.length];
+
+		for (int index = 0; index < expressions.length; index++) {
+			expressions[index] = qualify(this.groupBy[index]);
+		}
+
+		return expressions;
+	}
+
+	/**
+	 * Resolves the OQL projection selecting the {@literal GROUP BY} expressions followed by the aggregate.
+	 *
+	 * For {@literal partial} aggregates, {@literal AVG} is computed as {@literal SUM} and {@literal COUNT}
+	 * so partial averages can be combined.
+	 *
+	 * @param partial boolean value indicating whether partial aggregates are computed.
+	 * @return the OQL projection.
+	 */
+	@NonNull String toProjection(boolean partial) {
+
+		List<String> projection = new ArrayList<>(Arrays.asList(toGroupByExpressions()));
+
+		String expression = StringUtils.hasText(this.property) ? qualify(this.property) : QueryBuilder.STAR_PROJECTION;
+
+		if (partial && this.type == Aggregate.Type.AVG) {
+			projection.add(String.format(AGGREGATE_PROJECTION_TEMPLATE, Aggregate.Type.SUM.getKeyword(), expression));
+			projection.add(String.format(AGGREGATE_PROJECTION_TEMPLATE, Aggregate.Type.COUNT.getKeyword(), expression));
+		}
+		else {
+			projection.add(String.format(AGGREGATE_PROJECTION_TEMPLATE, this.type.getKeyword(), expression));
+		}
+
+		return StringUtils.collectionToDelimitedString(projection, ", ");
+	}
+
+	private String qualify(String property) {
+		return String.format(QueryBuilder.KEY_PROJECTION_TEMPLATE, QueryBuilder.DEFAULT_ALIAS, property);
+	}
+
+	/**
+	 * Combines the aggregate result rows into the final aggregates, keyed by group.
+	 *
+	 * Each row contains the {@literal GROUP BY} values followed by the (partial) aggregate value(s).
+	 * The key of each group is the single {@literal GROUP BY} value, a {@link List} of {@literal GROUP BY} values
+	 * when grouped by multiple properties, or {@literal null} when not grouped.
+	 *
+	 * @param rows {@link Iterable} of result rows.
+	 * @param partial boolean value indicating whether the rows contain partial aggregates.
+	 * @return a {@link Map} of group key to aggregate value.
+	 */
+	@NonNull Map<Object, Object> combine(@NonNull Iterable<Object[]> rows, boolean partial) {
+
+		Map<Object, Object[]> partials = new LinkedHashMap<>();
+
+		int groupCount = this.groupBy.length;
+
+		for (Object[] row : rows) {
+
+			Object key = groupCount == 0 ? null
+				: groupCount == 1 ? row[0]
+				: Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(row, 0, groupCount)));
+
+			Object[] values = Arrays.copyOfRange(row, groupCount, row.length);
+
+			partials.merge(key, values, this::merge);
+		}
+
+		Map<Object, Object> aggregates = new LinkedHashMap<>(partials.size());
+
+		partials.forEach((key, values) -> aggregates.put(key, complete(values, partial)));
+
+		return aggregates;
+	}
+
+	private Object[] merge(Object[] existingValues, Object[] newValues) {
+
+		Object[] mergedValues = new Object[existingValues.length];
+
+		for (int index = 0; index < mergedValues.length; index++) {
+
+			Object existingValue = existingValues[index];
+			Object newValue = newValues[index];
+
+			mergedValues[index] = existingValue == null ? newValue
+				: newValue == null ? existingValue
+				: merge(existingValue, newValue);
+		}
+
+		return mergedValues;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Object merge(Object existingValue, Object newValue) {
+
+		switch (this.type) {
+			case MAX:
+				return ((Comparable) existingValue).compareTo(newValue) >= 0 ? existingValue : newValue;
+			case MIN:
+				return ((Comparable) existingValue).compareTo(newValue) <= 0 ? existingValue : newValue;
+			default:
+				return add(toNumber(existingValue), toNumber(newValue));
+		}
+	}
+
+	private Object complete(Object[] values, boolean partial) {
+
+		if (partial && this.type == Aggregate.Type.AVG) {
+
+			Number sum = toNumber(values[0]);
+			Number count = toNumber(values[1]);
+
+			return sum == null || count == null || count.longValue() == 0L ? null : divide(sum, count);
+		}
+
+		return values.length > 0 ? values[0] : null;
+	}
+
+	static @Nullable Number add(@Nullable Number one, @Nullable Number two) {
+
+		if (one == null || two == null) {
+			return one != null ? one : two;
+		}
+		else if (isDecimal(one) || isDecimal(two)) {
+			return toBigDecimal(one).add(toBigDecimal(two));
+		}
+		else if (isFloatingPoint(one) || isFloatingPoint(two)) {
+			return one.doubleValue() + two.doubleValue();
+		}
+		else {
+			return one.longValue() + two.longValue();
+		}
+	}
+
+	static @NonNull Number divide(@NonNull Number dividend, @NonNull Number divisor) {
+
+		return isDecimal(dividend)
+			? toBigDecimal(dividend).divide(toBigDecimal(divisor), MathContext.DECIMAL128)
+			: dividend.doubleValue() / divisor.doubleValue();
+	}
+
+	private static boolean isDecimal(Number number) {
+		return number instanceof BigDecimal || number instanceof BigInteger;
+	}
+
+	private static boolean isFloatingPoint(Number number) {
+		return number instanceof Double || number instanceof Float;
+	}
+
+	private static BigDecimal toBigDecimal(Number number) {
+
+		return number instanceof BigDecimal ? (BigDecimal) number
+			: number instanceof BigInteger ? new BigDecimal((BigInteger) number)
+			: isFloatingPoint(number) ? BigDecimal.valueOf(number.doubleValue())
+			: BigDecimal.valueOf(number.longValue());
+	}
+
+	private static Number toNumber(Object value) {
+
+		if (value == null || value instanceof Number) {
+			return (Number) value;
+		}
+
+		throw newIllegalStateException("Aggregate value [%s] is not a number", value);
+	}
+}
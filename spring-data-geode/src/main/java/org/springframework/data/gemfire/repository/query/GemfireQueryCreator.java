@@ -42,6 +42,8 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 
 	private Iterator<Integer> indexes;
 
+	private final PartTree tree;
+
 	private final QueryBuilder queryBuilder;
 
 	/**
@@ -51,10 +53,21 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 	 * @param entity must not be {@literal null}.
 	 */
 	public GemfireQueryCreator(PartTree tree, GemfirePersistentEntity<?> entity) {
+		this(tree, new QueryBuilder(entity, tree));
+	}
+
+	/**
+	 * Creates a new {@link GemfireQueryCreator} using the given {@link PartTree} and {@link QueryBuilder}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param queryBuilder must not be {@literal null}.
+	 */
+	GemfireQueryCreator(PartTree tree, QueryBuilder queryBuilder) {
 
 		super(tree);
 
-		this.queryBuilder = new QueryBuilder(entity, tree);
+		this.tree = tree;
+		this.queryBuilder = queryBuilder;
 		this.indexes = new IndexProvider();
 	}
 
@@ -84,7 +97,16 @@ class GemfireQueryCreator extends AbstractQueryCreator<QueryString, Predicates>
 	@Override
 	protected QueryString complete(Predicates criteria, Sort sort) {
 
-		QueryString query = this.queryBuilder.create(criteria).orderBy(sort);
+		QueryString query = this.queryBuilder.create(criteria);
+
+		// Ordering neither changes a count nor whether a match exists; ORDER BY would also select DISTINCT results
+		// ordered by a property that is not projected
+		if (this.tree.isExistsProjection()) {
+			query = query.withLimit(1);
+		}
+		else if (!this.tree.isCountProjection()) {
+			query = query.orderBy(sort);
+		}
 
 		if (logger.isDebugEnabled()) {
 			logger.debug("Created Query [{}]", query.toString());
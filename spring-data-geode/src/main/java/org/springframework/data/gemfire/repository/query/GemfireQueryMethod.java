@@ -15,15 +15,20 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.annotation.Aggregate;
 import org.springframework.data.gemfire.repository.query.annotation.Hint;
 import org.springframework.data.gemfire.repository.query.annotation.Import;
 import org.springframework.data.gemfire.repository.query.annotation.Limit;
+import org.springframework.data.gemfire.repository.query.annotation.ServerSideDelete;
+import org.springframework.data.gemfire.repository.query.annotation.ServerSideQuery;
 import org.springframework.data.gemfire.repository.query.annotation.Trace;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
@@ -255,4 +260,78 @@ public class GemfireQueryMethod extends QueryMethod {
 	public boolean hasTrace() {
 		return getMethod().isAnnotationPresent(Trace.class);
 	}
+
+	/**
+	 * Determines whether this {@literal deleteBy} query method deletes on each data-owning member
+	 * using a Function.
+	 *
+	 * @return a boolean value indicating whether this query method deletes on each data-owning member.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.ServerSideDelete
+	 * @see java.lang.reflect.Method#isAnnotationPresent(Class)
+	 * @since 2.5.0
+	 */
+	public boolean isServerSideDelete() {
+		return getMethod().isAnnotationPresent(ServerSideDelete.class);
+	}
+
+	/**
+	 * Determines whether the OQL query of this query method is executed on each data-owning member
+	 * against the member's local data using a Function.
+	 *
+	 * @return a boolean value indicating whether this query method executes on each data-owning member.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.ServerSideQuery
+	 * @see java.lang.reflect.Method#isAnnotationPresent(Class)
+	 * @since 2.5.0
+	 */
+	public boolean isServerSideQuery() {
+		return getMethod().isAnnotationPresent(ServerSideQuery.class);
+	}
+
+	/**
+	 * Gets the index of the query method parameter annotated with {@link Filter} containing the keys used to route
+	 * a {@link #isServerSideQuery() server-side query} to the members owning those keys.
+	 *
+	 * @return the index of the {@link Filter} parameter or {@literal -1} if no parameter is annotated with
+	 * {@link Filter}.
+	 * @see org.springframework.data.gemfire.function.annotation.Filter
+	 * @since 2.5.0
+	 */
+	public int getFilterParameterIndex() {
+
+		Annotation[][] parameterAnnotations = getMethod().getParameterAnnotations();
+
+		for (int index = 0; index < parameterAnnotations.length; index++) {
+			for (Annotation annotation : parameterAnnotations[index]) {
+				if (annotation instanceof Filter) {
+					return index;
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Determines whether this query method computes an OQL aggregate.
+	 *
+	 * @return a boolean value indicating whether this query method computes an OQL aggregate.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.Aggregate
+	 * @see java.lang.reflect.Method#isAnnotationPresent(Class)
+	 * @since 2.5.0
+	 */
+	public boolean hasAggregate() {
+		return getMethod().isAnnotationPresent(Aggregate.class);
+	}
+
+	/**
+	 * Gets the OQL aggregate computed by this query method.
+	 *
+	 * @return the {@link Aggregate} annotation declared on this query method or {@literal null}.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.Aggregate
+	 * @see java.lang.reflect.Method#getAnnotation(Class)
+	 * @since 2.5.0
+	 */
+	public @Nullable Aggregate getAggregate() {
+		return getMethod().getAnnotation(Aggregate.class);
+	}
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.internal.types.CollectionTypeImpl;
+import org.apache.geode.cache.query.internal.types.ObjectTypeImpl;
+import org.apache.geode.cache.query.types.CollectionType;
+import org.apache.geode.cache.query.types.ObjectType;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable Apache Geode {@link SelectResults} implementation backed by a copy of a given {@link List} of results.
+ *
+ * The {@link ObjectType element type} defaults to {@link Object} and may be set with
+ * {@link #setElementType(ObjectType)}; the results themselves cannot be modified.
+ *
+ * @author John Blum
+ * @see java.util.List
+ * @see org.apache.geode.cache.query.SelectResults
+ * @since 2.5.0
+ */
+public class ImmutableSelectResults<T> extends AbstractCollection<T> implements SelectResults<T> {
+
+	private final List<T> results;
+
+	private volatile ObjectType elementType = new ObjectTypeImpl(Object.class);
+
+	/**
+	 * Constructs a new instance of {@link ImmutableSelectResults} initialized with a copy of
+	 * the given {@link Collection} of results.
+	 *
+	 * @param results {@link Collection} of results; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Collection} is {@literal null}.
+	 */
+	public ImmutableSelectResults(@NonNull Collection<? extends T> results) {
+
+		Assert.notNull(results, "Results must not be null");
+
+		this.results = Collections.unmodifiableList(new ArrayList<>(results));
+	}
+
+	@Override
+	public List<T> asList() {
+		return this.results;
+	}
+
+	@Override
+	public Set<T> asSet() {
+		return Collections.unmodifiableSet(new LinkedHashSet<>(this.results));
+	}
+
+	@Override
+	public CollectionType getCollectionType() {
+		return new CollectionTypeImpl(List.class, this.elementType);
+	}
+
+	@Override
+	public void setElementType(@NonNull ObjectType elementType) {
+
+		Assert.notNull(elementType, "ObjectType must not be null");
+
+		this.elementType = elementType;
+	}
+
+	@Override
+	public boolean isModifiable() {
+		return false;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return this.results.iterator();
+	}
+
+	@Override
+	public int occurrences(T element) {
+		return Collections.frequency(this.results, element);
+	}
+
+	@Override
+	public int size() {
+		return this.results.size();
+	}
+}
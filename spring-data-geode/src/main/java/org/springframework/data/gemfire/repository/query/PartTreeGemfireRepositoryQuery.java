@@ -15,24 +15,59 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.query.SelectResults;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.query.support.AggregateQueryFunction;
+import org.springframework.data.gemfire.repository.query.support.DeleteByQueryFunction;
+import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
 
 /**
  * {@link GemfireRepositoryQuery} backed by a {@link PartTree}, deriving an OQL query
  * from the backing {@link QueryMethod QueryMethod's} name/signature.
  *
+ * {@literal countBy} queries are executed as {@literal SELECT count(*)} and {@literal existsBy} queries select
+ * only the entity identifier with {@literal LIMIT 1}. {@literal deleteBy} queries select only the entity identifiers
+ * and remove the matching entries in batches, or delete on each data-owning member with the
+ * {@link DeleteByQueryFunction} when the query method is annotated with
+ * {@link org.springframework.data.gemfire.repository.query.annotation.ServerSideDelete}.
+ *
+ * Query methods returning a closed interface or DTO projection select only the projected properties
+ * (e.g. {@literal SELECT x.firstname, x.lastname FROM /People x}). The resulting
+ * {@link org.apache.geode.cache.query.Struct Structs} are mapped directly into the projection type
+ * without materializing the entity.
+ *
+ * Query methods annotated with {@link org.springframework.data.gemfire.repository.query.annotation.Aggregate},
+ * or named like {@literal sumAmountByCustomerId}, compute OQL aggregates, optionally grouped and optionally combined
+ * from partial aggregates computed on each data-owning member with the {@link AggregateQueryFunction}.
+ * Aggregate query methods cannot be ordered, neither with {@literal OrderBy} nor with a {@link Sort} parameter.
+ *
  * @author Oliver Gierke
  * @author John Blum
  * @see org.springframework.data.gemfire.GemfireTemplate
@@ -44,6 +79,10 @@ import org.springframework.util.Assert;
  */
 public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	protected static final int DEFAULT_DELETE_BATCH_SIZE = DeleteByQueryFunction.DEFAULT_BATCH_SIZE;
+
+	private final Aggregation aggregation;
+
 	private final GemfireTemplate template;
 
 	private final PartTree tree;
@@ -66,8 +105,19 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		Assert.notNull(template, "GemfireTemplate must not be null");
 
+		this.aggregation = Aggregation.from(queryMethod);
 		this.template = template;
-		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+		this.tree = new PartTree(
+			this.aggregation != null ? this.aggregation.getPartTreeSource() : queryMethod.getName(),
+				queryMethod.getEntityInformation().getJavaType());
+
+		// ORDER BY after the aggregate projection and GROUP BY clause is not valid OQL
+		if (this.aggregation != null
+			&& (this.tree.getSort().isSorted() || queryMethod.getParameters().hasSortParameter())) {
+
+			throw newIllegalStateException("Aggregate query method [%s] must not be ordered with OrderBy"
+				+ " or a Sort parameter", queryMethod.getName());
+		}
 	}
 
 	/**
@@ -98,24 +148,279 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		GemfireQueryMethod queryMethod = getGemfireQueryMethod();
 
-		QueryString query = newQueryString(queryMethod, getPartTree(), arguments);
+		PartTree tree = getPartTree();
+
+		if (this.aggregation != null) {
+			return executeAggregate(queryMethod, this.aggregation, arguments);
+		}
+		else if (tree.isDelete()) {
+			return executeDelete(queryMethod, arguments);
+		}
+
+		ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+
+		String projection = resolveProjection(queryMethod, returnedType, arguments);
+
+		QueryString query = newQueryString(queryMethod, tree, arguments, projection);
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
+
+		Object[] stringParameters = prepareStringParameters(arguments);
+
+		if (tree.isCountProjection()) {
+			return toCount(queryMethod, repositoryQuery.executeQuery(queryMethod, stringParameters).asList());
+		}
+		else if (tree.isExistsProjection()) {
+			return !repositoryQuery.executeQuery(queryMethod, stringParameters).isEmpty();
+		}
+
+		Object result = repositoryQuery.execute(stringParameters);
+
+		return returnedType.isProjecting()
+			? queryMethod.getResultProcessor().processResult(result,
+				new ProjectingResultConverter(queryMethod.getPersistentEntity(), returnedType, projection != null))
+			: result;
+	}
+
+	/**
+	 * Resolves the projection of the OQL query selecting only the properties of an interface or DTO projection
+	 * returned by the query method.
+	 *
+	 * Returns {@literal null}, selecting whole entities, when the query method does not return a projection,
+	 * the projection is open, a projected property is not a persistent property of the entity,
+	 * or the query is ordered or distinct. Ordered queries are executed as {@literal SELECT DISTINCT},
+	 * which would collapse distinct entities having equal projected values.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} being executed.
+	 * @param returnedType {@link ReturnedType} of the query method.
+	 * @param arguments array of query method arguments.
+	 * @return the projection of the projected properties, or {@literal null}.
+	 */
+	private @Nullable String resolveProjection(GemfireQueryMethod queryMethod, ReturnedType returnedType,
+			Object[] arguments) {
+
+		PartTree tree = getPartTree();
+
+		if (tree.isCountProjection() || tree.isExistsProjection() || tree.isDistinct()
+			|| !returnedType.needsCustomConstruction()) {
+
+			return null;
+		}
+
+		Sort sort = tree.getSort()
+			.and(new ParametersParameterAccessor(queryMethod.getParameters(), arguments).getSort());
+
+		if (sort.isSorted()) {
+			return null;
+		}
+
+		List<String> properties = returnedType.getInputProperties();
+
+		GemfirePersistentEntity<?> entity = queryMethod.getPersistentEntity();
+
+		for (String property : properties) {
+			if (entity.getPersistentProperty(property) == null) {
+				return null;
+			}
+		}
+
+		return QueryBuilder.resolveFieldProjection(properties);
+	}
+
+	private Object executeAggregate(GemfireQueryMethod queryMethod, Aggregation aggregation, Object[] arguments) {
+
+		boolean serverSide = aggregation.isServerSide();
+
+		QueryString query = newQueryString(queryMethod, getPartTree(), arguments, aggregation.toProjection(serverSide))
+			.groupBy(aggregation.toGroupByExpressions());
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
+
+		Object[] stringParameters = prepareStringParameters(arguments);
+
+		List<Object[]> rows = new ArrayList<>();
+
+		if (serverSide) {
+
+			String preparedQuery =
+				repositoryQuery.prepareQuery(queryMethod, repositoryQuery.getQuery(), stringParameters);
+
+			List<Object> memberResults = executeFunction(AggregateQueryFunction.ID, AggregateQueryFunction::register,
+				preparedQuery, stringParameters);
+
+			for (Object memberRows : memberResults) {
+				for (Object row : (List<?>) memberRows) {
+					rows.add((Object[]) row);
+				}
+			}
+		}
+		else {
+			for (Object row : repositoryQuery.executeQuery(queryMethod, stringParameters)) {
+				rows.add(AggregateQueryFunction.toRow(row));
+			}
+		}
+
+		Map<Object, Object> aggregates = aggregation.combine(rows, serverSide);
+
+		return aggregation.isGrouped()
+			? toGroupedAggregates(queryMethod, aggregates)
+			: convertAggregate(aggregates.get(null), queryMethod.getReturnedObjectType());
+	}
+
+	private Map<Object, Object> toGroupedAggregates(GemfireQueryMethod queryMethod, Map<Object, Object> aggregates) {
+
+		ResolvableType returnType = ResolvableType.forMethodReturnType(queryMethod.getMethod());
+
+		if (!Map.class.isAssignableFrom(returnType.toClass())) {
+			throw newIllegalStateException("Grouped aggregate query method [%s] must return a Map",
+				queryMethod.getName());
+		}
+
+		Class<?> valueType = returnType.asMap().resolveGeneric(1);
+
+		Map<Object, Object> groupedAggregates = new LinkedHashMap<>(aggregates.size());
+
+		aggregates.forEach((key, value) -> groupedAggregates.put(key, convertAggregate(value, valueType)));
+
+		return groupedAggregates;
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable Object convertAggregate(@Nullable Object value, @Nullable Class<?> type) {
 
-		GemfireRepositoryQuery repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
+		Class<?> targetType = type != null ? ClassUtils.resolvePrimitiveIfNecessary(type) : null;
 
-		return repositoryQuery.execute(prepareStringParameters(arguments));
+		return value instanceof Number && targetType != null && !targetType.isInstance(value)
+			&& Number.class.isAssignableFrom(targetType)
+			? NumberUtils.convertNumberToTargetClass((Number) value, (Class<? extends Number>) targetType)
+			: value;
 	}
 
-	private QueryString newQueryString(GemfireQueryMethod queryMethod, PartTree tree, Object[] arguments) {
+	private Object executeDelete(GemfireQueryMethod queryMethod, Object[] arguments) {
+
+		GemfirePersistentEntity<?> entity = queryMethod.getPersistentEntity();
+
+		boolean returnDeletedEntities = queryMethod.isCollectionQuery() || queryMethod.isQueryForEntity();
+		boolean selectEntities = returnDeletedEntities || !entity.hasIdProperty();
+
+		if (queryMethod.isServerSideDelete() && selectEntities) {
+			throw newIllegalStateException("Server-side delete query method [%1$s] must return void or a count"
+				+ " and the entity type [%2$s] must declare an identifier", queryMethod.getName(), entity.getType());
+		}
+
+		String projection = selectEntities ? QueryBuilder.STAR_PROJECTION : QueryBuilder.resolveKeyProjection(entity);
+
+		QueryString query = newQueryString(queryMethod, getPartTree(), arguments, projection);
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
+
+		Object[] stringParameters = prepareStringParameters(arguments);
+
+		if (queryMethod.isServerSideDelete()) {
+
+			String preparedQuery =
+				repositoryQuery.prepareQuery(queryMethod, repositoryQuery.getQuery(), stringParameters);
+
+			return toCount(queryMethod, executeServerSideDelete(preparedQuery, stringParameters));
+		}
+
+		SelectResults<?> selectResults = repositoryQuery.executeQuery(queryMethod, stringParameters);
+
+		List<?> results = selectResults.asList();
+
+		List<Object> keys = new ArrayList<>(results.size());
+
+		for (Object result : results) {
+			keys.add(selectEntities ? resolveRequiredId(entity, result) : result);
+		}
+
+		removeAll(keys);
+
+		return returnDeletedEntities ? repositoryQuery.processQueryResults(queryMethod, selectResults, arguments)
+			: toCount(queryMethod, keys.size());
+	}
+
+	private List<Object> executeServerSideDelete(String query, Object[] arguments) {
+		return executeFunction(DeleteByQueryFunction.ID, DeleteByQueryFunction::register, query, arguments);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> executeFunction(String functionId, Supplier<?> functionRegistration, String query,
+			Object[] arguments) {
+
+		Region<?, ?> region = getTemplate().getRegion();
+
+		if (!RegionUtils.isClient(region)) {
+			functionRegistration.get();
+		}
+
+		Object[] functionArguments = { query, arguments };
+
+		return (List<Object>) FunctionService.onRegion(region)
+			.setArguments(functionArguments)
+			.execute(functionId)
+			.getResult();
+	}
+
+	private Object resolveRequiredId(GemfirePersistentEntity<?> entity, Object entityObject) {
+
+		Object id = entity.getIdentifierAccessor(entityObject).getIdentifier();
+
+		if (id == null) {
+			throw newIllegalStateException("Cannot delete entity [%1$s] of type [%2$s] without an identifier",
+				entityObject, entity.getType());
+		}
+
+		return id;
+	}
+
+	private void removeAll(List<Object> keys) {
+
+		for (int index = 0, size = keys.size(); index < size; index += DEFAULT_DELETE_BATCH_SIZE) {
+			getTemplate().removeAll(keys.subList(index, Math.min(index + DEFAULT_DELETE_BATCH_SIZE, size)));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable Object toCount(GemfireQueryMethod queryMethod, Object count) {
+
+		long value = 0L;
+
+		if (count instanceof Number) {
+			value = ((Number) count).longValue();
+		}
+		else if (count instanceof Collection) {
+			for (Object element : (Collection<?>) count) {
+				value += element instanceof Number ? ((Number) element).longValue() : 0L;
+			}
+		}
+
+		Class<?> returnType = ClassUtils.resolvePrimitiveIfNecessary(queryMethod.getReturnedObjectType());
+
+		return Void.class.equals(returnType) ? null
+			: Number.class.isAssignableFrom(returnType)
+			? NumberUtils.convertNumberToTargetClass(value, (Class<? extends Number>) returnType)
+			: value;
+	}
+
+	private QueryString newQueryString(GemfireQueryMethod queryMethod, PartTree tree, Object[] arguments,
+			@Nullable String projection) {
 
 		ParametersParameterAccessor parameterAccessor =
 			new ParametersParameterAccessor(queryMethod.getParameters(), arguments);
 
-		GemfireQueryCreator queryCreator = new GemfireQueryCreator(tree, queryMethod.getPersistentEntity());
+		GemfirePersistentEntity<?> entity = queryMethod.getPersistentEntity();
+
+		QueryBuilder queryBuilder = projection != null
+			? new QueryBuilder(entity, tree, projection)
+			: new QueryBuilder(entity, tree);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(tree, queryBuilder);
 
 		return queryCreator.createQuery(parameterAccessor.getSort());
 	}
 
-	private GemfireRepositoryQuery newRepositoryQuery(GemfireQueryMethod queryMethod,
+	private StringBasedGemfireRepositoryQuery newRepositoryQuery(GemfireQueryMethod queryMethod,
 			QueryString query, GemfireTemplate template) {
 
 		StringBasedGemfireRepositoryQuery repositoryQuery =
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring {@link Converter} preparing the results of an OQL query for a query method returning an interface
+ * or DTO projection.
+ *
+ * The projected values are read from a {@link Struct} when the OQL query selects only the projected fields,
+ * from a {@link PdxInstance} when PDX {@literal read-serialized} is enabled, or from the entity otherwise.
+ * Interface projections are prepared as a {@link Map} of property name to value, which is then wrapped
+ * by the {@link org.springframework.data.projection.ProjectionFactory}. DTO projections are instantiated
+ * directly using the DTO's preferred constructor. Open projections are backed by the entity.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Struct
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.core.convert.converter.Converter
+ * @see org.springframework.data.repository.query.ResultProcessor
+ * @see org.springframework.data.repository.query.ReturnedType
+ * @since 2.5.0
+ */
+class ProjectingResultConverter implements Converter<Object, Object> {
+
+	private final boolean fieldsSelected;
+
+	private final GemfirePersistentEntity<?> entity;
+
+	private final List<String> properties;
+
+	private final PreferredConstructor<?, ?> constructor;
+
+	private final ReturnedType returnedType;
+
+	/**
+	 * Constructs a new instance of {@link ProjectingResultConverter}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} being queried; must not be {@literal null}.
+	 * @param returnedType {@link ReturnedType} of the query method; must not be {@literal null}.
+	 * @param fieldsSelected boolean value indicating whether the OQL query selects only the projected fields.
+	 */
+	ProjectingResultConverter(@NonNull GemfirePersistentEntity<?> entity, @NonNull ReturnedType returnedType,
+			boolean fieldsSelected) {
+
+		Assert.notNull(entity, "GemfirePersistentEntity must not be null");
+		Assert.notNull(returnedType, "ReturnedType must not be null");
+
+		this.entity = entity;
+		this.returnedType = returnedType;
+		this.properties = returnedType.getInputProperties();
+		this.fieldsSelected = fieldsSelected;
+		this.constructor = returnedType.getReturnedType().isInterface() ? null
+			: PreferredConstructorDiscoverer.discover(returnedType.getReturnedType());
+	}
+
+	@Override
+	public @Nullable Object convert(@Nullable Object source) {
+
+		if (source == null || !this.returnedType.needsCustomConstruction()) {
+			return resolveValue(source);
+		}
+
+		Object[] values = source instanceof Struct ? readValues((Struct) source)
+			: source instanceof PdxInstance ? readValues((PdxInstance) source)
+			: this.fieldsSelected ? new Object[] { source }
+			: this.entity.getType().isInstance(source) ? readValues(this.entity.getPropertyAccessor(source))
+			: null;
+
+		return values == null ? source
+			: this.returnedType.getReturnedType().isInterface() ? toMap(values)
+			: instantiate(values);
+	}
+
+	private Object[] readValues(Struct struct) {
+
+		Object[] values = new Object[this.properties.size()];
+
+		int index = 0;
+
+		for (String property : this.properties) {
+			values[index++] = resolveValue(struct.get(property));
+		}
+
+		return values;
+	}
+
+	private Object[] readValues(PdxInstance pdxInstance) {
+
+		Object[] values = new Object[this.properties.size()];
+
+		int index = 0;
+
+		for (String property : this.properties) {
+			values[index++] = resolveValue(pdxInstance.getField(property));
+		}
+
+		return values;
+	}
+
+	private Object[] readValues(PersistentPropertyAccessor<?> propertyAccessor) {
+
+		Object[] values = new Object[this.properties.size()];
+
+		int index = 0;
+
+		for (String property : this.properties) {
+
+			GemfirePersistentProperty persistentProperty = this.entity.getPersistentProperty(property);
+
+			values[index++] = persistentProperty != null ? propertyAccessor.getProperty(persistentProperty) : null;
+		}
+
+		return values;
+	}
+
+	private Object resolveValue(Object value) {
+		return value instanceof PdxInstance ? ((PdxInstance) value).getObject() : value;
+	}
+
+	private Map<String, Object> toMap(Object[] values) {
+
+		Map<String, Object> map = new LinkedHashMap<>(values.length);
+
+		int index = 0;
+
+		for (String property : this.properties) {
+			map.put(property, values[index++]);
+		}
+
+		return map;
+	}
+
+	private Object instantiate(Object[] values) {
+
+		Assert.state(this.constructor != null, () -> String.format("No constructor found for projection type [%s]",
+			this.returnedType.getReturnedType().getName()));
+
+		return BeanUtils.instantiateClass(this.constructor.getConstructor(), values);
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.gemfire.repository.query;
 import org.apache.geode.cache.Region;
 
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.repository.query.support.OqlKeyword;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.Nullable;
@@ -33,22 +34,80 @@ import org.springframework.util.Assert;
  */
 class QueryBuilder {
 
+	static final String COUNT_PROJECTION = "count(*)";
 	static final String DEFAULT_ALIAS = "x";
-	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s * FROM /%2$s %3$s";
+	static final String KEY_PROJECTION_TEMPLATE = "%1$s.%2$s";
+	static final String SELECT_OQL_TEMPLATE = "SELECT %1$s %2$s FROM /%3$s %4$s";
+	static final String STAR_PROJECTION = "*";
 	static final String WHERE_CLAUSE_TEMPLATE = "%1$s WHERE %2$s";
 
 	private final String query;
 
 	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree) {
+		return asQuery(entity, tree, resolveProjection(entity, tree));
+	}
+
+	static String asQuery(GemfirePersistentEntity<?> entity, PartTree tree, String projection) {
 
 		String distinctKeyword = tree.isDistinct() ? OqlKeyword.DISTINCT.toString() : "";
 		String regionName = entity.getRegionName();
-		String query = String.format(SELECT_OQL_TEMPLATE, distinctKeyword, regionName, DEFAULT_ALIAS)
+		String query = String.format(SELECT_OQL_TEMPLATE, distinctKeyword, projection, regionName, DEFAULT_ALIAS)
 			.replaceAll("\\s{2,}", " "); // single space tokens
 
 		return query;
 	}
 
+	/**
+	 * Resolves the projection of the OQL query derived from the given {@link PartTree}.
+	 *
+	 * {@literal countBy} queries project {@literal count(*)}. {@literal existsBy} and {@literal deleteBy} queries
+	 * project only the entity identifier when the entity declares one, avoiding the transfer and deserialization
+	 * of whole entities. All other queries project {@literal *}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} being queried.
+	 * @param tree {@link PartTree} from which the OQL query is derived.
+	 * @return the projection of the derived OQL query.
+	 */
+	static String resolveProjection(GemfirePersistentEntity<?> entity, PartTree tree) {
+
+		return tree.isCountProjection() ? COUNT_PROJECTION
+			: tree.isExistsProjection() || tree.isDelete() ? resolveKeyProjection(entity)
+			: STAR_PROJECTION;
+	}
+
+	/**
+	 * Resolves a projection of the entity identifier, or {@literal *} if the entity does not declare an identifier.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} being queried.
+	 * @return a projection of the entity identifier, or {@literal *}.
+	 */
+	static String resolveKeyProjection(GemfirePersistentEntity<?> entity) {
+
+		GemfirePersistentProperty idProperty = entity.getIdProperty();
+
+		return idProperty != null
+			? String.format(KEY_PROJECTION_TEMPLATE, DEFAULT_ALIAS, idProperty.getName())
+			: STAR_PROJECTION;
+	}
+
+	/**
+	 * Resolves a projection of the given entity properties (e.g. {@literal x.firstname, x.lastname}).
+	 *
+	 * @param properties {@link Iterable} of entity property names to project.
+	 * @return a projection of the given entity properties.
+	 */
+	static String resolveFieldProjection(Iterable<String> properties) {
+
+		StringBuilder projection = new StringBuilder();
+
+		for (String property : properties) {
+			projection.append(projection.length() > 0 ? ", " : "")
+				.append(String.format(KEY_PROJECTION_TEMPLATE, DEFAULT_ALIAS, property));
+		}
+
+		return projection.length() > 0 ? projection.toString() : STAR_PROJECTION;
+	}
+
 	static String validateQuery(String query) {
 		Assert.hasText(query, "Query is required");
 		return query;
@@ -79,6 +138,21 @@ class QueryBuilder {
 		this(asQuery(entity, tree));
 	}
 
+	/**
+	 * Constructs a new instance of {@link QueryBuilder} initialized with the given {@link GemfirePersistentEntity},
+	 * {@link PartTree} and {@link String projection}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} used to determine the {@link Region} to query.
+	 * @param tree {@link PartTree} containing parts of the OQL Query for determining things like uniqueness.
+	 * @param projection {@link String} containing the projection of the OQL query.
+	 * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+	 * @see org.springframework.data.repository.query.parser.PartTree
+	 * @see #QueryBuilder(String)
+	 */
+	public QueryBuilder(GemfirePersistentEntity<?> entity, PartTree tree, String projection) {
+		this(asQuery(entity, tree, projection));
+	}
+
 	/**
 	 * Constructs a {@link QueryString} with the given {@link Predicate}.
 	 *
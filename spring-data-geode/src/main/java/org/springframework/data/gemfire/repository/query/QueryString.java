@@ -56,12 +56,24 @@ import org.springframework.util.StringUtils;
 public class QueryString {
 
 	// OQL Query Patterns
+	protected static final Pattern AGGREGATE_FUNCTION_PATTERN =
+		Pattern.compile("\\b(COUNT|SUM|AVG|MIN|MAX)\\s*\\(", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern COUNT_PATTERN =
+		Pattern.compile("\\bSELECT\\s+(DISTINCT\\s+)?COUNT\\s*\\(\\s*\\*\\s*\\)\\s+FROM\\b", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern DISTINCT_PATTERN =
+		Pattern.compile("\\bSELECT\\s+DISTINCT\\b", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern FROM_PATTERN = Pattern.compile("\\bFROM\\b", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern GROUP_BY_PATTERN = Pattern.compile("\\bGROUP\\s+BY\\b", Pattern.CASE_INSENSITIVE);
 	protected static final Pattern HINT_PATTERN = Pattern.compile("<HINT '\\w+'(, '\\w+')*>");
 	protected static final Pattern IMPORT_PATTERN = Pattern.compile("IMPORT .+;");
 	protected static final Pattern LIMIT_PATTERN = Pattern.compile("LIMIT \\d+");
+	protected static final Pattern ORDER_BY_CLAUSE_PATTERN =
+		Pattern.compile("\\sORDER BY\\s+(.+?)(\\s+LIMIT\\s+\\d+)?\\s*$", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern ORDER_BY_PATTERN = Pattern.compile(" ORDER BY ");
 	protected static final Pattern TRACE_PATTERN = Pattern.compile("<TRACE>");
 
 	// OQL Query Templates
+	protected static final String GROUP_BY_OQL_TEMPLATE = "%1$s GROUP BY %2$s%3$s";
 	protected static final String HINTS_OQL_TEMPLATE = "<HINT %1$s> %2$s";
 	protected static final String IMPORT_OQL_TEMPLATE = "IMPORT %1$s; %2$s";
 	protected static final String LIMIT_OQL_TEMPLATE = "%1$s LIMIT %2$d";
@@ -234,6 +246,49 @@ public class QueryString {
 		return LIMIT_PATTERN.matcher(getQuery()).find();
 	}
 
+	/**
+	 * Determines whether the OQL query selects {@literal DISTINCT} results.
+	 *
+	 * @return a boolean value determining whether the OQL query selects {@literal DISTINCT} results.
+	 * @since 2.5.0
+	 */
+	public boolean isDistinct() {
+		return DISTINCT_PATTERN.matcher(getQuery()).find();
+	}
+
+	/**
+	 * Determines whether the OQL query only projects {@literal count(*)}.
+	 *
+	 * @return a boolean value determining whether the OQL query only projects {@literal count(*)}.
+	 * @see #isAggregate()
+	 * @since 2.5.0
+	 */
+	public boolean isCount() {
+		return COUNT_PATTERN.matcher(getQuery()).find() && !GROUP_BY_PATTERN.matcher(getQuery()).find();
+	}
+
+	/**
+	 * Determines whether the OQL query projects an aggregate function ({@literal COUNT}, {@literal SUM},
+	 * {@literal AVG}, {@literal MIN} or {@literal MAX}) or groups results with a {@literal GROUP BY} clause.
+	 *
+	 * @return a boolean value determining whether the OQL query computes aggregate results.
+	 * @since 2.5.0
+	 */
+	public boolean isAggregate() {
+
+		String query = getQuery();
+
+		if (GROUP_BY_PATTERN.matcher(query).find()) {
+			return true;
+		}
+
+		Matcher fromMatcher = FROM_PATTERN.matcher(query);
+
+		String projection = fromMatcher.find() ? query.substring(0, fromMatcher.start()) : query;
+
+		return AGGREGATE_FUNCTION_PATTERN.matcher(projection).find();
+	}
+
 	/**
 	 * Returns the parameter indexes used in this query.
 	 *
@@ -283,6 +338,45 @@ public class QueryString {
 		return Integer.MAX_VALUE;
 	}
 
+	/**
+	 * Gets the {@link Sort} modeling the {@literal ORDER BY} clause of the OQL query.
+	 *
+	 * Each {@literal ORDER BY} expression, for example {@literal x.lastname DESC}, is returned as
+	 * a {@link Sort.Order} on the expression (e.g. {@literal x.lastname}) in the declared direction,
+	 * or {@link Sort.Direction#ASC} if no direction was declared.
+	 *
+	 * @return the {@link Sort} modeling the {@literal ORDER BY} clause of the OQL query,
+	 * or {@link Sort#unsorted()} if the OQL query is not ordered.
+	 * @see org.springframework.data.domain.Sort
+	 * @see #orderBy(Sort)
+	 * @since 2.5.0
+	 */
+	public @NonNull Sort getSort() {
+
+		Matcher matcher = ORDER_BY_CLAUSE_PATTERN.matcher(getQuery());
+
+		List<Sort.Order> orders = new ArrayList<>();
+
+		if (matcher.find()) {
+			for (String expression : matcher.group(1).split(",")) {
+
+				String[] tokens = expression.trim().split("\\s+");
+
+				Optional<Sort.Direction> direction = tokens.length > 1
+					? Sort.Direction.fromOptionalString(tokens[tokens.length - 1])
+					: Optional.empty();
+
+				String property = direction.isPresent()
+					? expression.trim().substring(0, expression.trim().lastIndexOf(tokens[tokens.length - 1])).trim()
+					: expression.trim();
+
+				orders.add(new Sort.Order(direction.orElse(Sort.Direction.ASC), property));
+			}
+		}
+
+		return Sort.by(orders);
+	}
+
 	/**
 	 * Returns the {@link String OQL query statement} from which this {@link QueryString} was constructed.
 	 *
@@ -330,7 +424,7 @@ public class QueryString {
 	 */
 	String asDistinct(String query) {
 
-		return query.contains(OqlKeyword.DISTINCT.getKeyword()) ? query
+		return DISTINCT_PATTERN.matcher(query).find() ? query
 			: query.replaceFirst(OqlKeyword.SELECT.getKeyword(),
 				String.format("%1$s %2$s", OqlKeyword.SELECT.getKeyword(), OqlKeyword.DISTINCT.getKeyword()));
 	}
@@ -415,6 +509,30 @@ public class QueryString {
 		return this;
 	}
 
+	/**
+	 * Applies a GROUP BY clause to the OQL Query, preceding the ORDER BY clause, if present.
+	 *
+	 * @param expressions array of {@link String} expressions to group by.
+	 * @return a new {@link QueryString} if group by expressions were specified, or return this {@link QueryString}.
+	 * @since 2.5.0
+	 */
+	public @NonNull QueryString groupBy(@Nullable String... expressions) {
+
+		if (!ObjectUtils.isEmpty(expressions)) {
+
+			String query = getQuery();
+
+			Matcher orderByMatcher = ORDER_BY_PATTERN.matcher(query);
+
+			int index = orderByMatcher.find() ? orderByMatcher.start() : query.length();
+
+			return QueryString.of(String.format(GROUP_BY_OQL_TEMPLATE, query.substring(0, index),
+				StringUtils.arrayToDelimitedString(expressions, ", "), query.substring(index)));
+		}
+
+		return this;
+	}
+
 	/**
 	 * Null-safe method to determine whether the {@link Sort} is valid (i.e. has been specified by the caller).
 	 *
@@ -32,6 +32,7 @@ import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.repository.Query;
 import org.springframework.data.gemfire.repository.query.support.OqlQueryExecutor;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
+import org.springframework.data.gemfire.repository.query.support.ServerSideOqlQueryExecutor;
 import org.springframework.data.gemfire.repository.query.support.TemplateBasedOqlQueryExecutor;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.repository.Repository;
@@ -72,6 +73,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 	private final OqlQueryExecutor nonPagedQueryExecutor;
 	private final OqlQueryExecutor pagedQueryExecutor;
+	private final OqlQueryExecutor serverSideQueryExecutor;
 
 	private final QueryString query;
 
@@ -83,6 +85,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		this.query = null;
 		this.nonPagedQueryExecutor = (queryMethod, query, arguments) -> null;
 		this.pagedQueryExecutor = (queryMethod, query, arguments) -> null;
+		this.serverSideQueryExecutor = (queryMethod, query, arguments) -> null;
 		this.template = null;
 
 		register(ProvidedQueryPostProcessors.LIMIT
@@ -123,6 +126,8 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			.thenExecuteWith(new TwoPhasePagedOqlQueryExecutor(template)
 				.thenExecuteWith(new TemplateBasedOqlQueryExecutor(template)));
 
+		this.serverSideQueryExecutor = new ServerSideOqlQueryExecutor(template);
+
 		register(ProvidedQueryPostProcessors.LIMIT
 			.processBefore(ProvidedQueryPostProcessors.IMPORT)
 			.processBefore(ProvidedQueryPostProcessors.HINT)
@@ -206,6 +211,20 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return this.pagedQueryExecutor;
 	}
 
+	/**
+	 * Returns the configured {@link OqlQueryExecutor} (strategy) used to execute Apache Geode
+	 * {@link String OQL queries} on each data-owning member.
+	 *
+	 * @return the configured {@link OqlQueryExecutor} (strategy) used to execute Apache Geode
+	 * {@link String OQL queries} on each data-owning member.
+	 * @see org.springframework.data.gemfire.repository.query.annotation.ServerSideQuery
+	 * @see org.springframework.data.gemfire.repository.query.support.OqlQueryExecutor
+	 * @since 2.5.0
+	 */
+	protected @NonNull OqlQueryExecutor getServerSideQueryExecutor() {
+		return this.serverSideQueryExecutor;
+	}
+
 	/**
 	 * Returns a reference to the {@link QueryString managed query}.
 	 *
@@ -234,14 +253,27 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		QueryMethod queryMethod = getQueryMethod();
 
-		QueryString query = getQuery();
+		SelectResults<?> selectResults = executeQuery(queryMethod, arguments);
+
+		return processQueryResults(queryMethod, selectResults, arguments);
+	}
 
-		String preparedQuery = prepareQuery(queryMethod, query, arguments);
+	/**
+	 * Prepares and executes the OQL query, returning the raw {@link SelectResults}.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
+	 * @return the {@link SelectResults} from the execution of the OQL query.
+	 * @see org.apache.geode.cache.query.SelectResults
+	 * @see #prepareQuery(QueryMethod, QueryString, Object[])
+	 * @see #resolveOqlQueryExecutor(QueryMethod)
+	 * @since 2.5.0
+	 */
+	protected @NonNull SelectResults<?> executeQuery(@NonNull QueryMethod queryMethod, @NonNull Object[] arguments) {
 
-		SelectResults<?> selectResults =
-			resolveOqlQueryExecutor(queryMethod).execute(queryMethod, preparedQuery, arguments);
+		String preparedQuery = prepareQuery(queryMethod, getQuery(), arguments);
 
-		return processQueryResults(queryMethod, selectResults, arguments);
+		return resolveOqlQueryExecutor(queryMethod).execute(queryMethod, preparedQuery, arguments);
 	}
 
 	/**
@@ -293,6 +325,10 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 * Resolves the {@link OqlQueryExecutor} used to execute the {@link String OQL query statement} modeled by
 	 * the given {@link QueryMethod}.
 	 *
+	 * Non-paged query methods annotated with
+	 * {@link org.springframework.data.gemfire.repository.query.annotation.ServerSideQuery} are executed
+	 * on each data-owning member.
+	 *
 	 * @param queryMethod {@link QueryMethod} used to resolve the {@link OqlQueryExecutor}; must not be {@literal null}.
 	 * @return the resolve {@link OqlQueryExecutor} appropriate for executing the {@link String OQL query statement}
 	 * modeled by the give {@link QueryMethod}.
@@ -301,11 +337,15 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 */
 	protected @NonNull OqlQueryExecutor resolveOqlQueryExecutor(@NonNull QueryMethod queryMethod) {
 
-		return PagingUtils.isPagingPresent(queryMethod)
-			? getPagedQueryExecutor()
+		return PagingUtils.isPagingPresent(queryMethod) ? getPagedQueryExecutor()
+			: isServerSideQuery(queryMethod) ? getServerSideQueryExecutor()
 			: getNonPagedQueryExecutor();
 	}
 
+	private boolean isServerSideQuery(QueryMethod queryMethod) {
+		return queryMethod instanceof GemfireQueryMethod && ((GemfireQueryMethod) queryMethod).isServerSideQuery();
+	}
+
 	/**
 	 * Processes the OQL query {@link SelectResults result set}.
 	 *
@@ -330,7 +370,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		else if (queryMethod.isPageQuery()) {
 			return new PageImpl<Object>(new ArrayList<>(collection), PagingUtils.getPageRequest(queryMethod, arguments), Integer.MAX_VALUE);
 		}
-		else if (queryMethod.isQueryForEntity()) {
+		else if (queryMethod.isQueryForEntity() || queryMethod.getResultProcessor().getReturnedType().isProjecting()) {
 			if (collection.isEmpty()) {
 				return null;
 			}
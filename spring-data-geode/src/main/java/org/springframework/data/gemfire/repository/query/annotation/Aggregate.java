@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.gemfire.repository.query.support.OqlKeyword;
+
+/**
+ * The Aggregate class is an annotation type indicating that a derived query method computes an OQL aggregate
+ * ({@literal SUM}, {@literal AVG}, {@literal MIN}, {@literal MAX} or {@literal COUNT}) of an entity property,
+ * optionally grouped by one or more entity properties.
+ *
+ * The query method name must be a valid derived query method name (e.g. {@literal findByCustomerId}), which determines
+ * the OQL query predicate. Grouped aggregate query methods must return a {@link java.util.Map}.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.springframework.data.gemfire.repository.query.support.AggregateQueryFunction
+ * @since 2.5.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@SuppressWarnings("unused")
+public @interface Aggregate {
+
+	/**
+	 * The aggregate function to compute.
+	 */
+	Type type();
+
+	/**
+	 * Name of the entity property to aggregate; optional for {@link Type#COUNT}.
+	 */
+	String property() default "";
+
+	/**
+	 * Names of the entity properties to group by.
+	 */
+	String[] groupBy() default {};
+
+	/**
+	 * Determines whether the aggregate is computed on each data-owning member from local data
+	 * using the {@link org.springframework.data.gemfire.repository.query.support.AggregateQueryFunction}
+	 * and the partial aggregates combined on the caller.
+	 */
+	boolean serverSide() default false;
+
+	/**
+	 * The OQL aggregate functions.
+	 */
+	enum Type {
+
+		AVG(OqlKeyword.AVG),
+		COUNT(OqlKeyword.COUNT),
+		MAX(OqlKeyword.MAX),
+		MIN(OqlKeyword.MIN),
+		SUM(OqlKeyword.SUM);
+
+		private final OqlKeyword keyword;
+
+		Type(OqlKeyword keyword) {
+			this.keyword = keyword;
+		}
+
+		/**
+		 * Returns the {@link OqlKeyword} for this aggregate function.
+		 *
+		 * @return the {@link OqlKeyword} for this aggregate function.
+		 * @see org.springframework.data.gemfire.repository.query.support.OqlKeyword
+		 */
+		public OqlKeyword getKeyword() {
+			return this.keyword;
+		}
+	}
+}
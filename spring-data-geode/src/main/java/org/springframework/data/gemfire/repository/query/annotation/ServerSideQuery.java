@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The ServerSideQuery class is an annotation type indicating that the OQL query of a query method is executed
+ * on each data-owning member, against that member's local data only, with the
+ * {@link org.springframework.data.gemfire.repository.query.support.SelectQueryFunction}, rather than being
+ * scattered to the data-owning members and gathered by the calling member.
+ *
+ * The partial results of each member, which are already ordered and limited, are merged by the caller.
+ * A query method parameter annotated with {@link org.springframework.data.gemfire.function.annotation.Filter}
+ * supplies the keys used to route the query to only the buckets owning those keys.
+ *
+ * The {@link org.springframework.data.gemfire.repository.query.support.SelectQueryFunction} must be registered
+ * on every member hosting the Region.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Inherited
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.springframework.data.gemfire.function.annotation.Filter
+ * @see org.springframework.data.gemfire.repository.query.support.SelectQueryFunction
+ * @since 2.5.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@SuppressWarnings("unused")
+public @interface ServerSideQuery {
+
+}
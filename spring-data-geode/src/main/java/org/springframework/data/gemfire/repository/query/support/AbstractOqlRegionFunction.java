@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Abstract base class for Apache Geode {@link Function Functions} executed on a {@link Region} that execute
+ * an OQL query against the data local to each member and return a result computed from the query results.
+ *
+ * The {@link Function} arguments are an {@link Object} array containing the {@link String OQL query}
+ * followed by an {@link Object} array of query bind parameters.
+ *
+ * When the {@link Region} is a {@literal PARTITION} Region, the OQL query is only executed against the local data
+ * of each data-owning member, limited to the buckets of the filter keys, if any. Since the {@link Function}
+ * executes on the members hosting the {@link Region}, each of those members must register it, for example with
+ * the static {@literal register()} method of the {@link Function} implementation.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.query.Query
+ * @since 2.5.0
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractOqlRegionFunction implements Function<Object[]> {
+
+	/**
+	 * Registers the {@link Function} with the given {@link Function#getId() ID} with the {@link FunctionService}
+	 * if not already registered.
+	 *
+	 * @param id {@link String ID} of the {@link Function}.
+	 * @param functionSupplier {@link Supplier} of the {@link Function} to register.
+	 * @return the registered {@link Function}.
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(Function)
+	 */
+	protected static Function<?> register(@NonNull String id,
+			@NonNull Supplier<? extends Function<?>> functionSupplier) {
+
+		Function<?> function = FunctionService.getFunction(id);
+
+		if (function == null) {
+			function = functionSupplier.get();
+			FunctionService.registerFunction(function);
+		}
+
+		return function;
+	}
+
+	/**
+	 * Returns the given OQL query results as a {@link List}.
+	 *
+	 * @param results OQL query results.
+	 * @return the {@link List} of results in a {@link SelectResults} or a {@link List} containing the single result.
+	 */
+	protected static @NonNull List<?> asList(@Nullable Object results) {
+
+		return results instanceof SelectResults ? ((SelectResults<?>) results).asList()
+			: Collections.singletonList(results);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw newIllegalStateException("Function [%s] must be executed on a Region", getId());
+		}
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+		Object[] arguments = functionContext.getArguments();
+
+		if (arguments == null || arguments.length < 1 || !(arguments[0] instanceof String)) {
+			throw newIllegalArgumentException("The first argument to Function [%s] must be an OQL query", getId());
+		}
+
+		String queryString = (String) arguments[0];
+
+		Object[] queryParameters = arguments.length > 1 && arguments[1] instanceof Object[]
+			? (Object[]) arguments[1] : new Object[0];
+
+		Region<Object, Object> region = (Region<Object, Object>) regionFunctionContext.getDataSet();
+
+		try {
+
+			Query query = regionFunctionContext.getCache().getQueryService().newQuery(queryString);
+
+			Object results = PartitionRegionHelper.isPartitionedRegion(region)
+				? query.execute(regionFunctionContext, queryParameters)
+				: query.execute(queryParameters);
+
+			regionFunctionContext.getResultSender().lastResult(processResults(region, results));
+		}
+		catch (Exception cause) {
+			throw newIllegalStateException(cause,
+				"Function [%1$s] failed to process Region [%2$s] using OQL query [%3$s]",
+					getId(), region.getFullPath(), queryString);
+		}
+	}
+
+	/**
+	 * Computes the {@link Function} result from the results of the OQL query executed on this member.
+	 *
+	 * @param region {@link Region} on which the {@link Function} is executed.
+	 * @param results OQL query results, typically {@link SelectResults}.
+	 * @return the {@link Function} result returned by this member.
+	 */
+	protected abstract Object processResults(Region<Object, Object> region, @Nullable Object results);
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean optimizeForWrite() {
+		return false;
+	}
+}
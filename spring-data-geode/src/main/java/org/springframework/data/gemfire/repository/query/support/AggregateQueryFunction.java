@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.Struct;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link AggregateQueryFunction} is an Apache Geode {@link Function} executed on a {@link Region} that computes
+ * partial OQL aggregates from the data local to each member.
+ *
+ * Each member returns its result rows as a {@link List} of {@link Object} arrays, which are combined by the caller.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.data.gemfire.repository.query.support.AbstractOqlRegionFunction
+ * @since 2.5.0
+ */
+@SuppressWarnings("serial")
+public class AggregateQueryFunction extends AbstractOqlRegionFunction {
+
+	public static final String ID = AggregateQueryFunction.class.getName();
+
+	/**
+	 * Registers an instance of {@link AggregateQueryFunction}
+	 * with the {@link org.apache.geode.cache.execute.FunctionService} if not already registered.
+	 *
+	 * @return the registered {@link Function}.
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(Function)
+	 */
+	public static Function<?> register() {
+		return register(ID, AggregateQueryFunction::new);
+	}
+
+	/**
+	 * Converts an aggregate OQL query result row into an {@link Object} array of the projected values,
+	 * replacing {@link QueryService#UNDEFINED} values with {@literal null}.
+	 *
+	 * @param row aggregate OQL query result row; either a {@link Struct} or a single projected value.
+	 * @return an {@link Object} array of the projected values.
+	 */
+	public static @NonNull Object[] toRow(@Nullable Object row) {
+
+		Object[] values = row instanceof Struct ? ((Struct) row).getFieldValues() : new Object[] { row };
+
+		for (int index = 0; index < values.length; index++) {
+			values[index] = QueryService.UNDEFINED.equals(values[index]) ? null : values[index];
+		}
+
+		return values;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected Object processResults(Region<Object, Object> region, Object results) {
+
+		List<?> rows = asList(results);
+
+		List<Object[]> resultRows = new ArrayList<>(rows.size());
+
+		for (Object row : rows) {
+			resultRows.add(toRow(row));
+		}
+
+		return resultRows;
+	}
+}
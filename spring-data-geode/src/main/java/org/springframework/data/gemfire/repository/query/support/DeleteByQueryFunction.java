@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.query.SelectResults;
+
+/**
+ * {@link DeleteByQueryFunction} is an Apache Geode {@link Function} executed on a {@link Region} that removes
+ * all entries whose keys are selected by an OQL query.
+ *
+ * The OQL query must project the entry keys. The selected keys are removed in batches on each member,
+ * which returns the number of entries removed as its {@link Function} result.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.data.gemfire.repository.query.support.AbstractOqlRegionFunction
+ * @since 2.5.0
+ */
+@SuppressWarnings("serial")
+public class DeleteByQueryFunction extends AbstractOqlRegionFunction {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	public static final String ID = DeleteByQueryFunction.class.getName();
+
+	/**
+	 * Registers an instance of {@link DeleteByQueryFunction}
+	 * with the {@link org.apache.geode.cache.execute.FunctionService} if not already registered.
+	 *
+	 * @return the registered {@link Function}.
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(Function)
+	 */
+	public static Function<?> register() {
+		return register(ID, DeleteByQueryFunction::new);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected Object processResults(Region<Object, Object> region, Object results) {
+
+		Collection<?> keys = results instanceof SelectResults ? ((SelectResults<?>) results).asList()
+			: Collections.emptyList();
+
+		List<Object> batch = new ArrayList<>(Math.min(keys.size(), DEFAULT_BATCH_SIZE));
+
+		int count = 0;
+
+		for (Object key : keys) {
+
+			batch.add(key);
+
+			if (batch.size() >= DEFAULT_BATCH_SIZE) {
+				region.removeAll(batch);
+				count += batch.size();
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			region.removeAll(batch);
+			count += batch.size();
+		}
+
+		return count;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+}
@@ -30,10 +30,12 @@ public enum OqlKeyword {
 
 	AND,
 	AS,
+	AVG,
 	COUNT,
 	DISTINCT,
 	ELEMENT,
 	FROM,
+	GROUP_BY("GROUP BY"),
 	HINT,
 	IMPORT,
 	IN,
@@ -41,12 +43,15 @@ public enum OqlKeyword {
 	IS_UNDEFINED,
 	LIMIT,
 	LIKE,
+	MAX,
+	MIN,
 	NOT,
 	NVL,
 	OR,
 	ORDER_BY("ORDER BY"),
 	SELECT,
 	SET,
+	SUM,
 	TRACE,
 	TO_DATE,
 	TYPE,
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+
+/**
+ * {@link SelectQueryFunction} is an Apache Geode {@link Function} executed on a {@link Region} that executes
+ * an OQL query against the data local to each member.
+ *
+ * The {@literal ORDER BY} and {@literal LIMIT} clauses are applied by each member, which returns its results
+ * as a {@link List} in query order to be merged by the caller.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.data.gemfire.repository.query.support.AbstractOqlRegionFunction
+ * @see org.springframework.data.gemfire.repository.query.support.ServerSideOqlQueryExecutor
+ * @since 2.5.0
+ */
+@SuppressWarnings("serial")
+public class SelectQueryFunction extends AbstractOqlRegionFunction {
+
+	public static final String ID = SelectQueryFunction.class.getName();
+
+	/**
+	 * Registers an instance of {@link SelectQueryFunction}
+	 * with the {@link org.apache.geode.cache.execute.FunctionService} if not already registered.
+	 *
+	 * @return the registered {@link Function}.
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(Function)
+	 */
+	public static Function<?> register() {
+		return register(ID, SelectQueryFunction::new);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected Object processResults(Region<Object, Object> region, Object results) {
+		return new ArrayList<>(asList(results));
+	}
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
+import org.springframework.data.gemfire.repository.query.ImmutableSelectResults;
+import org.springframework.data.gemfire.repository.query.QueryString;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link OqlQueryExecutor} implementation executing Apache Geode {@link String OQL queries} on each data-owning member
+ * of the {@link Region} with the {@link SelectQueryFunction}.
+ *
+ * Each member executes the OQL query against its local data only and applies the {@literal ORDER BY}
+ * and {@literal LIMIT} clauses. The ordered partial results are then combined with a k-way merge, preserving
+ * the query order, until the {@literal LIMIT} is reached. When the query method declares a parameter annotated with
+ * {@link org.springframework.data.gemfire.function.annotation.Filter}, the argument is used as the Function filter
+ * so that the OQL query is only executed on the buckets owning the given keys.
+ *
+ * The partial {@literal count(*)} of each member is summed. All other aggregate OQL queries, projecting
+ * {@literal SUM}, {@literal AVG}, {@literal MIN}, {@literal MAX} or {@literal COUNT} of an expression,
+ * or grouping results with {@literal GROUP BY}, cannot be combined from partial results and are rejected with
+ * an {@link UnsupportedQueryExecutionException}.
+ *
+ * This {@link OqlQueryExecutor} only executes OQL queries for {@link GemfireQueryMethod query methods}
+ * annotated with {@link org.springframework.data.gemfire.repository.query.annotation.ServerSideQuery}
+ * and throws an {@link UnsupportedQueryExecutionException} otherwise.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.apache.geode.cache.query.SelectResults
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.repository.query.support.OqlQueryExecutor
+ * @see org.springframework.data.gemfire.repository.query.support.SelectQueryFunction
+ * @since 2.5.0
+ */
+public class ServerSideOqlQueryExecutor implements OqlQueryExecutor {
+
+	private static final Object UNRESOLVED = new Object();
+
+	private static final String AGGREGATE_QUERY_MESSAGE = "Aggregate OQL query [%s] cannot be executed on each member"
+		+ " of the Region since the partial results of each member cannot be combined; only count(*) is supported";
+
+	private final GemfireTemplate template;
+
+	/**
+	 * Constructs a new instance of {@link ServerSideOqlQueryExecutor} initialized with the given,
+	 * required {@link GemfireTemplate} used to access the {@link Region} to query.
+	 *
+	 * @param template {@link GemfireTemplate} used to access the {@link Region} to query;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireTemplate
+	 */
+	public ServerSideOqlQueryExecutor(@NonNull GemfireTemplate template) {
+
+		Assert.notNull(template, "GemfireTemplate must not be null");
+
+		this.template = template;
+	}
+
+	/**
+	 * Gets the configured {@link GemfireTemplate} used to access the {@link Region} to query.
+	 *
+	 * @return the configured {@link GemfireTemplate} used to access the {@link Region} to query.
+	 * @see org.springframework.data.gemfire.GemfireTemplate
+	 */
+	protected @NonNull GemfireTemplate getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	@SuppressWarnings("rawtypes")
+	public SelectResults execute(QueryMethod queryMethod, @NonNull String query, @NonNull Object... arguments) {
+
+		if (!(queryMethod instanceof GemfireQueryMethod) || !((GemfireQueryMethod) queryMethod).isServerSideQuery()) {
+			throw newUnsupportedQueryExecutionException(query);
+		}
+
+		QueryString queryString = QueryString.of(query);
+
+		boolean count = queryString.isCount();
+
+		if (queryString.isAggregate() && !count) {
+			throw new UnsupportedQueryExecutionException(String.format(AGGREGATE_QUERY_MESSAGE, query));
+		}
+
+		List<Object> memberResults = executeFunction((GemfireQueryMethod) queryMethod, query, arguments);
+
+		List<Object> results = count ? Collections.singletonList(sum(memberResults))
+			: merge(memberResults, queryString.getSort(), queryString.getLimit(), queryString.isDistinct());
+
+		return new ImmutableSelectResults<>(results);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> executeFunction(GemfireQueryMethod queryMethod, String query, Object[] arguments) {
+
+		Region<?, ?> region = getTemplate().getRegion();
+
+		if (!RegionUtils.isClient(region)) {
+			SelectQueryFunction.register();
+		}
+
+		Object[] functionArguments = { query, arguments };
+
+		Execution execution = FunctionService.onRegion(region).setArguments(functionArguments);
+
+		Set<?> filter = resolveFilter(queryMethod, arguments);
+
+		execution = filter.isEmpty() ? execution : execution.withFilter(filter);
+
+		return (List<Object>) execution.execute(SelectQueryFunction.ID).getResult();
+	}
+
+	private Set<?> resolveFilter(GemfireQueryMethod queryMethod, Object[] arguments) {
+
+		int filterParameterIndex = queryMethod.getFilterParameterIndex();
+
+		Object filter = filterParameterIndex > -1 && filterParameterIndex < arguments.length
+			? arguments[filterParameterIndex]
+			: null;
+
+		return filter == null ? Collections.emptySet()
+			: filter instanceof Collection ? new HashSet<>((Collection<?>) filter)
+			: filter.getClass().isArray() ? new HashSet<>(Arrays.asList(ObjectUtils.toObjectArray(filter)))
+			: Collections.singleton(filter);
+	}
+
+	/**
+	 * Merges the ordered results from each member into a single, ordered {@link List} of results
+	 * containing at most {@literal limit} results.
+	 *
+	 * @param memberResults {@link List} of results from each member, ordered by the given {@link Sort}.
+	 * @param sort {@link Sort} modeling the {@literal ORDER BY} clause of the OQL query.
+	 * @param limit maximum number of results.
+	 * @param distinct boolean value indicating whether the OQL query selects {@literal DISTINCT} results.
+	 * @return the merged {@link List} of results.
+	 */
+	@SuppressWarnings("unchecked")
+	static List<Object> merge(List<?> memberResults, Sort sort, int limit, boolean distinct) {
+
+		Collection<Object> results = distinct ? new LinkedHashSet<>() : new ArrayList<>();
+
+		if (sort.isUnsorted()) {
+			for (Object memberResult : CollectionUtils.nullSafeList(memberResults)) {
+				for (Object result : (List<?>) memberResult) {
+					if (results.size() >= limit) {
+						return new ArrayList<>(results);
+					}
+					results.add(result);
+				}
+			}
+		}
+		else {
+
+			List<Sort.Order> orders = sort.toList();
+
+			PriorityQueue<Cursor> cursors = new PriorityQueue<>(Math.max(1, memberResults.size()),
+				(cursorOne, cursorTwo) -> compare(orders, cursorOne.keys, cursorTwo.keys));
+
+			for (Object memberResult : CollectionUtils.nullSafeList(memberResults)) {
+
+				Cursor cursor = new Cursor(((List<?>) memberResult).iterator(), orders);
+
+				if (cursor.next()) {
+					cursors.add(cursor);
+				}
+			}
+
+			while (!cursors.isEmpty() && results.size() < limit) {
+
+				Cursor cursor = cursors.poll();
+
+				results.add(cursor.head);
+
+				if (cursor.next()) {
+					cursors.add(cursor);
+				}
+			}
+		}
+
+		return results instanceof List ? (List<Object>) results : new ArrayList<>(results);
+	}
+
+	/**
+	 * Sums the partial {@literal count(*)} results from each member.
+	 *
+	 * @param memberResults {@link List} of results from each member, each containing the member's count.
+	 * @return the total count.
+	 */
+	static Integer sum(List<?> memberResults) {
+
+		int count = 0;
+
+		for (Object memberResult : CollectionUtils.nullSafeList(memberResults)) {
+			for (Object result : (List<?>) memberResult) {
+				count = result instanceof Number ? Math.addExact(count, ((Number) result).intValue()) : count;
+			}
+		}
+
+		return count;
+	}
+
+	private static int compare(List<Sort.Order> orders, Object[] keysOne, Object[] keysTwo) {
+
+		for (int index = 0, size = orders.size(); index < size; index++) {
+
+			int result = compare(orders.get(index), keysOne[index], keysTwo[index]);
+
+			if (result != 0) {
+				return orders.get(index).isAscending() ? result : -result;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Compares the given sort keys of the same {@literal ORDER BY} expression from the results of two members.
+	 *
+	 * {@link Number Numbers} of different types are compared numerically.  Sort keys of any other incompatible
+	 * types cannot be ordered consistently with the {@literal ORDER BY} of each member and are rejected.
+	 *
+	 * @param order {@link Sort.Order} of the sort keys.
+	 * @param keyOne first sort key.
+	 * @param keyTwo second sort key.
+	 * @return the comparison of the sort keys in ascending order.
+	 * @throws IllegalStateException if the sort keys cannot be compared.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static int compare(Sort.Order order, @Nullable Object keyOne, @Nullable Object keyTwo) {
+
+		if (keyOne == null || keyTwo == null) {
+			return keyOne == null ? (keyTwo == null ? 0 : -1) : 1;
+		}
+		else if (keyOne instanceof Comparable && keyOne.getClass().isInstance(keyTwo)) {
+			return ((Comparable) keyOne).compareTo(keyTwo);
+		}
+		else if (keyTwo instanceof Comparable && keyTwo.getClass().isInstance(keyOne)) {
+			return -((Comparable) keyTwo).compareTo(keyOne);
+		}
+		else if (keyOne instanceof Number && keyTwo instanceof Number) {
+			return compare((Number) keyOne, (Number) keyTwo);
+		}
+
+		throw newIllegalStateException("Cannot order results by [%1$s] since values [%2$s] of type [%3$s]"
+			+ " and [%4$s] of type [%5$s] are not comparable", order.getProperty(), keyOne,
+				keyOne.getClass().getName(), keyTwo, keyTwo.getClass().getName());
+	}
+
+	private static int compare(Number numberOne, Number numberTwo) {
+
+		return isFloatingPoint(numberOne) || isFloatingPoint(numberTwo)
+			? Double.compare(numberOne.doubleValue(), numberTwo.doubleValue())
+			: toBigDecimal(numberOne).compareTo(toBigDecimal(numberTwo));
+	}
+
+	private static boolean isFloatingPoint(Number number) {
+		return number instanceof Double || number instanceof Float;
+	}
+
+	private static BigDecimal toBigDecimal(Number number) {
+
+		return number instanceof BigDecimal ? (BigDecimal) number
+			: number instanceof BigInteger ? new BigDecimal((BigInteger) number)
+			: new BigDecimal(number.toString());
+	}
+
+	/**
+	 * Resolves the value of the given {@literal ORDER BY} expression from a query result.
+	 *
+	 * The expression is resolved as given, without the leading query alias (for example, {@literal x.name}),
+	 * and as the last path segment, which is how a projected field is named in a {@link Struct}.
+	 * Values are read from {@link Struct Structs} and {@link PdxInstance PdxInstances} (PDX {@literal read-serialized})
+	 * by field name, from {@link Map Maps} by key and from any other object by property or field.
+	 *
+	 * @param result query result.
+	 * @param expression {@literal ORDER BY} expression.
+	 * @return the value of the expression, or {@literal null} if the expression cannot be resolved.
+	 */
+	static @Nullable Object resolveSortKey(Object result, String expression) {
+
+		int dotIndex = expression.indexOf('.');
+		int lastDotIndex = expression.lastIndexOf('.');
+
+		Object value = resolvePath(result, expression);
+
+		value = value != UNRESOLVED || dotIndex < 0 ? value
+			: resolvePath(result, expression.substring(dotIndex + 1));
+
+		value = value != UNRESOLVED || lastDotIndex <= dotIndex ? value
+			: resolvePath(result, expression.substring(lastDotIndex + 1));
+
+		return value == UNRESOLVED || QueryService.UNDEFINED.equals(value) ? null
+			: value instanceof PdxInstance ? ((PdxInstance) value).getObject()
+			: value;
+	}
+
+	private static Object resolvePath(Object result, String path) {
+
+		Object value = result;
+
+		for (String name : path.split("\\.")) {
+
+			value = value != null ? resolveValue(value, name) : null;
+
+			if (value == UNRESOLVED) {
+				break;
+			}
+		}
+
+		return value;
+	}
+
+	private static Object resolveValue(Object source, String name) {
+
+		if (source instanceof Struct) {
+
+			Struct struct = (Struct) source;
+
+			return Arrays.asList(struct.getStructType().getFieldNames()).contains(name) ? struct.get(name)
+				: UNRESOLVED;
+		}
+		else if (source instanceof PdxInstance) {
+
+			PdxInstance pdxInstance = (PdxInstance) source;
+
+			return pdxInstance.hasField(name) ? pdxInstance.getField(name) : UNRESOLVED;
+		}
+		else if (source instanceof Map) {
+
+			Map<?, ?> map = (Map<?, ?>) source;
+
+			return map.containsKey(name) ? map.get(name) : UNRESOLVED;
+		}
+
+		BeanWrapper beanWrapper = new DirectFieldAccessFallbackBeanWrapper(source);
+
+		return beanWrapper.isReadableProperty(name) ? beanWrapper.getPropertyValue(name) : UNRESOLVED;
+	}
+
+	private static class Cursor {
+
+		private final Iterator<?> iterator;
+
+		private final List<Sort.Order> orders;
+
+		private Object head;
+
+		private Object[] keys;
+
+		private Cursor(Iterator<?> iterator, List<Sort.Order> orders) {
+			this.iterator = iterator;
+			this.orders = orders;
+		}
+
+		private boolean next() {
+
+			if (this.iterator.hasNext()) {
+
+				this.head = this.iterator.next();
+				this.keys = new Object[this.orders.size()];
+
+				for (int index = 0; index < this.keys.length; index++) {
+					this.keys[index] = resolveSortKey(this.head, this.orders.get(index).getProperty());
+				}
+
+				return true;
+			}
+
+			return false;
+		}
+	}
+}
@@ -32,6 +32,7 @@ import org.apache.geode.cache.Region;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -41,6 +42,7 @@ import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.QueryPostProcessor;
+import org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.SpringUtils;
 import org.springframework.data.mapping.context.MappingContext;
@@ -244,6 +246,14 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 			.map(applicationContext -> new QueryPostProcessorRegistrationOnQueryCreationListener(applicationContext))
 			.ifPresent(repositoryFactory::addQueryCreationListener);
 
+		getApplicationContext()
+			.map(applicationContext -> applicationContext.getBeanProvider(DataAccessStatisticsRecorder.class))
+			.map(ObjectProvider::getIfUnique)
+			.ifPresent(statisticsRecorder -> repositoryFactory.addRepositoryProxyPostProcessor(
+				(proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+					new RepositoryStatisticsMethodInterceptor(statisticsRecorder,
+						repositoryInformation.getRepositoryInterface()))));
+
 		return repositoryFactory;
 	}
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import static org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder.REPOSITORY_STATISTICS_TYPE_NAME;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.data.gemfire.statistics.DataAccessStatistics;
+import org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} recording the invocations of
+ * {@link org.springframework.data.repository.Repository} methods in Apache Geode {@link org.apache.geode.Statistics}.
+ *
+ * Each {@link org.springframework.data.repository.Repository} is recorded in {@link DataAccessStatistics} identified
+ * by the simple name of the {@link org.springframework.data.repository.Repository} interface, and each
+ * {@link org.springframework.data.repository.Repository} method, including query methods, in
+ * {@link DataAccessStatistics} identified by the interface name, method name and parameter types.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.data.gemfire.statistics.DataAccessStatistics
+ * @see org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder
+ * @since 2.5.0
+ */
+public class RepositoryStatisticsMethodInterceptor implements MethodInterceptor {
+
+	private final Class<?> repositoryInterface;
+
+	private final DataAccessStatistics repositoryStatistics;
+
+	private final DataAccessStatisticsRecorder statisticsRecorder;
+
+	private final Map<Method, DataAccessStatistics> methodStatistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link RepositoryStatisticsMethodInterceptor}.
+	 *
+	 * @param statisticsRecorder {@link DataAccessStatisticsRecorder} used to create the statistics;
+	 * must not be {@literal null}.
+	 * @param repositoryInterface {@link org.springframework.data.repository.Repository} interface;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link DataAccessStatisticsRecorder}
+	 * or {@link org.springframework.data.repository.Repository} interface is {@literal null}.
+	 */
+	public RepositoryStatisticsMethodInterceptor(@NonNull DataAccessStatisticsRecorder statisticsRecorder,
+			@NonNull Class<?> repositoryInterface) {
+
+		Assert.notNull(statisticsRecorder, "DataAccessStatisticsRecorder must not be null");
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+
+		this.statisticsRecorder = statisticsRecorder;
+		this.repositoryInterface = repositoryInterface;
+		this.repositoryStatistics =
+			statisticsRecorder.getStatistics(REPOSITORY_STATISTICS_TYPE_NAME, repositoryInterface.getSimpleName());
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		if (ReflectionUtils.isObjectMethod(method)) {
+			return invocation.proceed();
+		}
+
+		DataAccessStatistics methodStatistics =
+			this.methodStatistics.computeIfAbsent(method, this::newMethodStatistics);
+
+		long repositoryStartTime = this.repositoryStatistics.startInvocation();
+		long methodStartTime = methodStatistics.startInvocation();
+
+		try {
+
+			Object result = invocation.proceed();
+
+			long resultCount = DataAccessStatistics.countResults(result);
+
+			methodStatistics.endInvocation(methodStartTime, resultCount);
+			this.repositoryStatistics.endInvocation(repositoryStartTime, resultCount);
+
+			return result;
+		}
+		catch (Throwable cause) {
+			methodStatistics.failInvocation(methodStartTime);
+			this.repositoryStatistics.failInvocation(repositoryStartTime);
+			throw cause;
+		}
+	}
+
+	private DataAccessStatistics newMethodStatistics(Method method) {
+
+		String textId = String.format("%1$s.%2$s(%3$s)", this.repositoryInterface.getSimpleName(), method.getName(),
+			Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).collect(Collectors.joining(",")));
+
+		return this.statisticsRecorder.getStatistics(REPOSITORY_STATISTICS_TYPE_NAME, textId);
+	}
+}
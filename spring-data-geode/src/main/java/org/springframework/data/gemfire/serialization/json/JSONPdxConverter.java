@@ -0,0 +1,392 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.serialization.json;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link JSONPdxConverter} class converts between JSON and {@link PdxInstance PdxInstances} by streaming
+ * Jackson tokens directly, without an intermediate JSON {@link String} and without regular expressions.
+ *
+ * Objects are converted to {@link PdxInstance PdxInstances} by writing them with the configured {@link ObjectMapper}
+ * into a {@link TokenBuffer} and reading the buffered tokens straight into a {@link PdxInstanceFactory}.
+ * The resulting {@link PdxInstance PdxInstances} have the same {@link JSONFormatter#JSON_CLASSNAME class name}
+ * and field types as those created by {@link JSONFormatter#fromJSON(String)}.
+ *
+ * {@link PdxInstance PdxInstances} are converted to JSON by writing their fields directly with a {@link JsonGenerator},
+ * producing compact JSON unless pretty printing is requested.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.core.JsonGenerator
+ * @see com.fasterxml.jackson.core.JsonParser
+ * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see com.fasterxml.jackson.databind.util.TokenBuffer
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.apache.geode.pdx.PdxInstanceFactory
+ * @since 2.5.0
+ */
+public class JSONPdxConverter {
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Constructs a new instance of {@link JSONPdxConverter} initialized with a default {@link ObjectMapper}.
+	 */
+	public JSONPdxConverter() {
+		this(new ObjectMapper());
+	}
+
+	/**
+	 * Constructs a new instance of {@link JSONPdxConverter} initialized with the given, shared {@link ObjectMapper}.
+	 *
+	 * @param objectMapper {@link ObjectMapper} used to read and write JSON.
+	 * @throws IllegalArgumentException if {@link ObjectMapper} is {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 */
+	public JSONPdxConverter(@NonNull ObjectMapper objectMapper) {
+
+		Assert.notNull(objectMapper, "ObjectMapper must not be null");
+
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} used to read and write JSON.
+	 *
+	 * @return the {@link ObjectMapper} used to read and write JSON.
+	 */
+	protected @NonNull ObjectMapper getObjectMapper() {
+		return this.objectMapper;
+	}
+
+	/**
+	 * Converts the given {@link Object value} into a {@link PdxInstance}.
+	 *
+	 * {@link String Strings} are parsed as JSON. {@link PdxInstance PdxInstances} are returned as is. All other objects
+	 * are written with the configured {@link ObjectMapper} and must serialize to a JSON object.
+	 *
+	 * @param regionService {@link RegionService} used to create {@link PdxInstanceFactory PdxInstanceFactories}.
+	 * @param value {@link Object} to convert.
+	 * @return the {@link PdxInstance} or {@literal null} if {@link Object value} is {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Object value} cannot be converted into a JSON object.
+	 * @see org.apache.geode.cache.RegionService
+	 * @see org.apache.geode.pdx.PdxInstance
+	 */
+	public @Nullable PdxInstance toPdx(@NonNull RegionService regionService, @Nullable Object value) {
+
+		if (value == null || value instanceof PdxInstance) {
+			return (PdxInstance) value;
+		}
+
+		try (JsonParser parser = newParser(value)) {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw newIllegalArgumentException("Value [%s] cannot be converted into a JSON object", value);
+			}
+
+			return readObject(regionService, parser);
+		}
+		catch (IOException cause) {
+			throw newIllegalArgumentException(cause, "Failed to convert value [%s] into a PdxInstance", value);
+		}
+	}
+
+	private JsonParser newParser(Object value) throws IOException {
+
+		if (value instanceof String) {
+			return getObjectMapper().getFactory().createParser((String) value);
+		}
+
+		TokenBuffer tokenBuffer = new TokenBuffer(getObjectMapper(), false);
+
+		getObjectMapper().writeValue(tokenBuffer, value);
+
+		return tokenBuffer.asParser(getObjectMapper());
+	}
+
+	private PdxInstance readObject(RegionService regionService, JsonParser parser) throws IOException {
+
+		PdxInstanceFactory pdxInstanceFactory =
+			regionService.createPdxInstanceFactory(JSONFormatter.JSON_CLASSNAME).neverDeserialize();
+
+		for (JsonToken token = parser.nextToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
+
+			String fieldName = parser.getCurrentName();
+
+			switch (parser.nextToken()) {
+				case START_OBJECT:
+					pdxInstanceFactory.writeObject(fieldName, readObject(regionService, parser));
+					break;
+				case START_ARRAY:
+					pdxInstanceFactory.writeObject(fieldName, readArray(regionService, parser));
+					break;
+				case VALUE_STRING:
+					pdxInstanceFactory.writeString(fieldName, parser.getText());
+					break;
+				case VALUE_NUMBER_INT:
+					writeIntegralNumber(pdxInstanceFactory, fieldName, readIntegralNumber(parser));
+					break;
+				case VALUE_NUMBER_FLOAT:
+					writeFloatingPointNumber(pdxInstanceFactory, fieldName, readFloatingPointNumber(parser));
+					break;
+				case VALUE_TRUE:
+				case VALUE_FALSE:
+					pdxInstanceFactory.writeBoolean(fieldName, parser.getBooleanValue());
+					break;
+				case VALUE_EMBEDDED_OBJECT:
+					pdxInstanceFactory.writeObject(fieldName, parser.getEmbeddedObject());
+					break;
+				case VALUE_NULL:
+				default:
+					pdxInstanceFactory.writeObject(fieldName, null);
+			}
+		}
+
+		return pdxInstanceFactory.create();
+	}
+
+	private List<Object> readArray(RegionService regionService, JsonParser parser) throws IOException {
+
+		List<Object> list = new ArrayList<>();
+
+		for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+			switch (token) {
+				case START_OBJECT:
+					list.add(readObject(regionService, parser));
+					break;
+				case START_ARRAY:
+					list.add(readArray(regionService, parser));
+					break;
+				case VALUE_STRING:
+					list.add(parser.getText());
+					break;
+				case VALUE_NUMBER_INT:
+					list.add(readIntegralNumber(parser));
+					break;
+				case VALUE_NUMBER_FLOAT:
+					list.add(readFloatingPointNumber(parser));
+					break;
+				case VALUE_TRUE:
+				case VALUE_FALSE:
+					list.add(parser.getBooleanValue());
+					break;
+				case VALUE_EMBEDDED_OBJECT:
+					list.add(parser.getEmbeddedObject());
+					break;
+				case VALUE_NULL:
+				default:
+					list.add(null);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Reads an integral number narrowed to the smallest type that holds its value, matching
+	 * the field types produced by {@link JSONFormatter} when parsing JSON text.
+	 */
+	private Number readIntegralNumber(JsonParser parser) throws IOException {
+
+		if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+
+			BigInteger value = parser.getBigIntegerValue();
+
+			if (value.bitLength() >= Long.SIZE) {
+				return value;
+			}
+		}
+
+		long value = parser.getLongValue();
+
+		return value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE ? (Number) (byte) value
+			: value >= Short.MIN_VALUE && value <= Short.MAX_VALUE ? (Number) (short) value
+			: value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Number) (int) value
+			: (Number) value;
+	}
+
+	/**
+	 * Reads a floating point number as a {@link Double}, or {@link BigDecimal} when the {@link ObjectMapper}
+	 * or source value produced a {@link BigDecimal}, matching the field types produced by {@link JSONFormatter}.
+	 */
+	private Number readFloatingPointNumber(JsonParser parser) throws IOException {
+
+		return parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL
+			? parser.getDecimalValue()
+			: (Number) parser.getDoubleValue();
+	}
+
+	private void writeIntegralNumber(PdxInstanceFactory pdxInstanceFactory, String fieldName, Number value) {
+
+		if (value instanceof Byte) {
+			pdxInstanceFactory.writeByte(fieldName, value.byteValue());
+		}
+		else if (value instanceof Short) {
+			pdxInstanceFactory.writeShort(fieldName, value.shortValue());
+		}
+		else if (value instanceof Integer) {
+			pdxInstanceFactory.writeInt(fieldName, value.intValue());
+		}
+		else if (value instanceof Long) {
+			pdxInstanceFactory.writeLong(fieldName, value.longValue());
+		}
+		else {
+			pdxInstanceFactory.writeObject(fieldName, value);
+		}
+	}
+
+	private void writeFloatingPointNumber(PdxInstanceFactory pdxInstanceFactory, String fieldName, Number value) {
+
+		if (value instanceof Double) {
+			pdxInstanceFactory.writeDouble(fieldName, value.doubleValue());
+		}
+		else {
+			pdxInstanceFactory.writeObject(fieldName, value);
+		}
+	}
+
+	/**
+	 * Converts the given {@link PdxInstance} into JSON.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to convert.
+	 * @param prettyPrint boolean value indicating whether to indent the JSON output.
+	 * @return the JSON {@link String} for the {@link PdxInstance}.
+	 * @see org.apache.geode.pdx.PdxInstance
+	 */
+	public @NonNull String toJson(@NonNull PdxInstance pdxInstance, boolean prettyPrint) {
+
+		StringWriter writer = new StringWriter();
+
+		try (JsonGenerator generator = getObjectMapper().getFactory().createGenerator(writer)) {
+
+			if (prettyPrint) {
+				generator.useDefaultPrettyPrinter();
+			}
+
+			writeObject(generator, pdxInstance);
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException(String.format("Failed to convert PdxInstance [%s] into JSON",
+				pdxInstance.getClassName()), cause);
+		}
+
+		return writer.toString();
+	}
+
+	private void writeObject(JsonGenerator generator, PdxInstance pdxInstance) throws IOException {
+
+		generator.writeStartObject();
+
+		for (String fieldName : pdxInstance.getFieldNames()) {
+			generator.writeFieldName(fieldName);
+			writeValue(generator, pdxInstance.getField(fieldName));
+		}
+
+		generator.writeEndObject();
+	}
+
+	private void writeValue(JsonGenerator generator, Object value) throws IOException {
+
+		if (value == null) {
+			generator.writeNull();
+		}
+		else if (value instanceof String) {
+			generator.writeString((String) value);
+		}
+		else if (value instanceof Boolean) {
+			generator.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+			generator.writeNumber(((Number) value).intValue());
+		}
+		else if (value instanceof Long) {
+			generator.writeNumber((Long) value);
+		}
+		else if (value instanceof Double || value instanceof Float) {
+			generator.writeNumber(((Number) value).doubleValue());
+		}
+		else if (value instanceof BigDecimal) {
+			generator.writeNumber((BigDecimal) value);
+		}
+		else if (value instanceof BigInteger) {
+			generator.writeNumber((BigInteger) value);
+		}
+		else if (value instanceof PdxInstance) {
+			writeObject(generator, (PdxInstance) value);
+		}
+		else if (value instanceof Collection) {
+
+			generator.writeStartArray();
+
+			for (Object element : (Collection<?>) value) {
+				writeValue(generator, element);
+			}
+
+			generator.writeEndArray();
+		}
+		else if (value.getClass().isArray() && !(value instanceof byte[]) && !(value instanceof char[])) {
+
+			generator.writeStartArray();
+
+			for (int index = 0, length = Array.getLength(value); index < length; index++) {
+				writeValue(generator, Array.get(value, index));
+			}
+
+			generator.writeEndArray();
+		}
+		else if (value instanceof Map) {
+
+			generator.writeStartObject();
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				writeValue(generator, entry.getValue());
+			}
+
+			generator.writeEndObject();
+		}
+		else {
+			getObjectMapper().writeValue(generator, value);
+		}
+	}
+}
@@ -16,32 +16,29 @@
  */
 package org.springframework.data.gemfire.serialization.json;
 
-import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
 import static org.springframework.data.gemfire.util.RegionUtils.toRegionName;
 import static org.springframework.data.gemfire.util.RegionUtils.toRegionPath;
 
-import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.query.SelectResults;
-import org.apache.geode.cache.query.types.CollectionType;
-import org.apache.geode.cache.query.types.ObjectType;
-import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
 
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -51,18 +48,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.query.ImmutableSelectResults;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 /**
  * Spring/AspectJ AOP Aspect adapting a {@link Region} to handle JSON data.
  *
+ * JSON is converted to and from {@link PdxInstance PdxInstances} with a {@link JSONPdxConverter} backed by a single,
+ * shared {@link ObjectMapper}. Whether a {@link Region} is included for JSON conversion is decided once per
+ * {@link Region} and cached.
+ *
  * @author David Turanski
  * @author John Blum
  * @see org.apache.geode.cache.Region
- * @see org.apache.geode.pdx.JSONFormatter
  * @see org.apache.geode.pdx.PdxInstance
  * @see org.aspectj.lang.annotation.Aspect
  * @see org.aspectj.lang.annotation.Around
+ * @see org.springframework.data.gemfire.serialization.json.JSONPdxConverter
  */
 @Aspect
 @SuppressWarnings("unused")
@@ -71,7 +75,11 @@ public class JSONRegionAdvice {
 	private boolean convertReturnedCollections = true;
 	private boolean prettyPrint = false;
 
-	private List<String> includedRegions = new ArrayList<>();
+	private final ConcurrentMap<String, Boolean> includedRegionCache = new ConcurrentHashMap<>();
+
+	private JSONPdxConverter jsonPdxConverter = new JSONPdxConverter();
+
+	private volatile Set<String> includedRegions = Collections.emptySet();
 
 	protected final Logger logger = LoggerFactory.getLogger(JSONRegionAdvice.class);
 
@@ -92,7 +100,13 @@ public class JSONRegionAdvice {
 	 * @param regions a List of region names to include
 	 */
 	public void setIncludedRegions(List<Region<?, ?>> regions) {
-		nullSafeList(regions).forEach(region -> this.includedRegions.add(toRegionName(region)));
+
+		Set<String> regionNames = new HashSet<>(this.includedRegions);
+
+		nullSafeList(regions).forEach(region -> regionNames.add(toRegionName(region)));
+
+		this.includedRegions = Collections.unmodifiableSet(regionNames);
+		this.includedRegionCache.clear();
 	}
 
 	/**
@@ -101,7 +115,22 @@ public class JSONRegionAdvice {
 	 * @param regionNames a List of region names to include
 	 */
 	public void setIncludedRegionNames(List<String> regionNames) {
-		this.includedRegions = nullSafeList(regionNames);
+		this.includedRegions = Collections.unmodifiableSet(new HashSet<>(nullSafeList(regionNames)));
+		this.includedRegionCache.clear();
+	}
+
+	/**
+	 * Sets the shared {@link ObjectMapper} used to convert objects to and from JSON.
+	 *
+	 * @param objectMapper {@link ObjectMapper} used to convert objects to and from JSON.
+	 * @throws IllegalArgumentException if {@link ObjectMapper} is {@literal null}.
+	 * @see com.fasterxml.jackson.databind.ObjectMapper
+	 */
+	public void setObjectMapper(@NonNull ObjectMapper objectMapper) {
+
+		Assert.notNull(objectMapper, "ObjectMapper must not be null");
+
+		this.jsonPdxConverter = new JSONPdxConverter(objectMapper);
 	}
 
 	/**
@@ -178,7 +207,7 @@ public class JSONRegionAdvice {
 				Object[] newArgs = Arrays.copyOf(pjp.getArgs(), pjp.getArgs().length);
 				Object val = newArgs[1];
 
-				newArgs[1] = convertToPdx(val);
+				newArgs[1] = convertToPdx(pjp.getTarget(), val);
 				returnValue = pjp.proceed(newArgs);
 				logger.debug("Converting [{}] to JSON", returnValue);
 				returnValue = convertToJson(returnValue);
@@ -205,10 +234,10 @@ public class JSONRegionAdvice {
 				Object[] newArgs = Arrays.copyOf(pjp.getArgs(), pjp.getArgs().length);
 
 				Map<?, ?> map = (Map<?, ?>) newArgs[0];
-				Map<Object, Object> newArg = new HashMap<>();
+				Map<Object, Object> newArg = new HashMap<>(map.size() * 4 / 3 + 1);
 
 				for (Entry<?, ?> entry : map.entrySet()) {
-					newArg.put(entry.getKey(), convertToPdx(entry.getValue()));
+					newArg.put(entry.getKey(), convertToPdx(pjp.getTarget(), entry.getValue()));
 				}
 
 				newArgs[0] = newArg;
@@ -241,7 +270,9 @@ public class JSONRegionAdvice {
 				result = returnValue;
 			}
 			else {
-				result = returnValue.stream().map(this::convertToPdx).collect(Collectors.toList());
+				Object target = pjp.getTarget();
+
+				result = returnValue.stream().map(value -> convertToPdx(target, value)).collect(Collectors.toList());
 			}
 		}
 		catch (Throwable cause) {
@@ -293,77 +324,44 @@ public class JSONRegionAdvice {
 	}
 
 	private boolean isIncludedJsonRegion(Object target) {
-		return target instanceof Region && isIncludedJsonRegion((Region) target);
+		return target instanceof Region && isIncludedJsonRegion((Region<?, ?>) target);
 	}
 
-	private boolean isIncludedJsonRegion(Region region) {
+	private boolean isIncludedJsonRegion(Region<?, ?> region) {
 
-		boolean result = false;
+		return this.includedRegionCache.computeIfAbsent(toRegionPath(region), regionPath -> {
 
-		if (isIncludedJsonRegion(toRegionName(region), toRegionPath(region))) {
+			boolean included = isIncludedJsonRegion(toRegionName(region), regionPath);
 
-			if (logger.isDebugEnabled()) {
+			if (included && logger.isDebugEnabled()) {
 				logger.debug("Region [{}] is included for JSON conversion", region.getName());
 			}
 
-			result = true;
-		}
-
-		return result;
+			return included;
+		});
 	}
 
-	private boolean isIncludedJsonRegion(String... regionReferences) {
+	private boolean isIncludedJsonRegion(String regionName, String regionPath) {
 
-		List<String> regionReferencesList = Arrays.asList(nullSafeArray(regionReferences, String.class));
+		Set<String> includedRegions = this.includedRegions;
 
-		return CollectionUtils.isEmpty(this.includedRegions) || this.includedRegions.stream()
-			.anyMatch(includeRegion -> regionReferencesList.contains(includeRegion));
+		return includedRegions.isEmpty()
+			|| includedRegions.contains(regionName)
+			|| includedRegions.contains(regionPath);
 	}
 
 	private Object convertToJson(Object returnValue) {
 
-		Object result = returnValue;
-
-		if (returnValue instanceof PdxInstance) {
-
-			result = JSONFormatter.toJSON((PdxInstance) returnValue);
-
-			if (!this.prettyPrint) {
-				result = flattenString(result);
-			}
-		}
-
-		return result;
+		return returnValue instanceof PdxInstance
+			? this.jsonPdxConverter.toJson((PdxInstance) returnValue, this.prettyPrint)
+			: returnValue;
 	}
 
-	private PdxInstance convertToPdx(Object value) {
-
-		PdxInstance pdx = null;
-
-		if (value instanceof PdxInstance) {
-			pdx = (PdxInstance) value;
-		}
-		else if (value instanceof String) {
-			pdx = JSONFormatter.fromJSON((String) value);
-		}
-		else {
-
-			ObjectMapper mapper = new ObjectMapper();
+	private PdxInstance convertToPdx(Object target, Object value) {
 
-			try {
-				String json = mapper.writeValueAsString(value);
-				pdx = JSONFormatter.fromJSON(json);
-			}
-			catch (Throwable cause) {
-				handleThrowable(cause);
-			}
-		}
-
-		return pdx;
-	}
+		RegionService regionService = ((Region<?, ?>) target).getRegionService();
 
-	private Object flattenString(Object result) {
-		return result instanceof String ? ((String) result).replaceAll("\\s*", "") : result;
+		return this.jsonPdxConverter.toPdx(regionService, value);
 	}
 
 	private void handleThrowable(Throwable cause) {
@@ -375,53 +373,4 @@ public class JSONRegionAdvice {
 			throw new RuntimeException(cause);
 		}
 	}
-
-	private static final class ImmutableSelectResults<T> extends AbstractCollection<T> implements SelectResults<T> {
-
-		private final List<T> results;
-
-		private ImmutableSelectResults(List<T> results) {
-			this.results = new ArrayList<>(results);
-		}
-
-		@Override
-		public List<T> asList() {
-			return Collections.unmodifiableList(this.results);
-		}
-
-		@Override
-		public Set<T> asSet() {
-			return new HashSet<>(this.results);
-		}
-
-		@Override
-		public void setElementType(ObjectType elementType) {
-			throw new UnsupportedOperationException("Setting element type on an immutable SelectResults object is not supported");
-		}
-
-		@Override
-		public CollectionType getCollectionType() {
-			throw new UnsupportedOperationException("Not Implemented");
-		}
-
-		@Override
-		public boolean isModifiable() {
-			return false;
-		}
-
-		@Override
-		public Iterator<T> iterator() {
-			return asList().iterator();
-		}
-
-		@Override
-		public int occurrences(T element) {
-			return Long.valueOf(asList().stream().filter(item -> item.equals(element)).count()).intValue();
-		}
-
-		@Override
-		public int size() {
-			return this.results.size();
-		}
-	}
 }
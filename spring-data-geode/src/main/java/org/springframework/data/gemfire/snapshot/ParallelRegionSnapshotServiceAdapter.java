@@ -0,0 +1,547 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.snapshot.RegionSnapshotService;
+import org.apache.geode.cache.snapshot.SnapshotFilter;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgress;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ParallelRegionSnapshotServiceAdapter} is a {@link SnapshotServiceFactoryBean.SnapshotServiceAdapter}
+ * that exports and imports a single {@link Region} using multiple snapshot files processed concurrently.
+ *
+ * On export, the {@link Region} entries are streamed once and spread across a fixed number of segments by key.
+ * Each segment is serialized and written to its own file by a dedicated writer {@link Thread}, optionally
+ * GZIP compressed. A {@literal PARTITION} {@link Region} is exported by each member hosting primary buckets,
+ * using the {@link RegionSnapshotExportFunction}. On import, all segment files in the snapshot directory are read
+ * concurrently and loaded into the {@link Region} with bounded {@link Region#putAll(Map)} batches.
+ *
+ * Progress is published as {@link ExportSnapshotApplicationEvent ExportSnapshotApplicationEvents}
+ * and {@link ImportSnapshotApplicationEvent ImportSnapshotApplicationEvents} carrying a {@link SnapshotProgress}
+ * each time a segment file completes.
+ *
+ * Segment files use a format specific to Spring Data for Apache Geode and can only be imported by this adapter.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializer
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.snapshot.RegionSnapshotService
+ * @see org.springframework.context.ApplicationEventPublisher
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+ * @since 2.5.0
+ */
+public class ParallelRegionSnapshotServiceAdapter<K, V>
+		extends SnapshotServiceFactoryBean.RegionSnapshotServiceAdapter<K, V> {
+
+	public static final boolean DEFAULT_COMPRESS = false;
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	protected static final int SNAPSHOT_FILE_MAGIC_NUMBER = 0x53444753;
+	protected static final int SNAPSHOT_FILE_VERSION = 1;
+
+	protected static final String COMPRESSED_FILE_EXTENSION = ".gz";
+	protected static final String SNAPSHOT_FILE_EXTENSION = ".sdgsnapshot";
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private boolean compress = DEFAULT_COMPRESS;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private final Region<K, V> region;
+
+	/**
+	 * Constructs a new instance of {@link ParallelRegionSnapshotServiceAdapter} initialized with
+	 * the {@link Region} to snapshot and its {@link RegionSnapshotService}.
+	 *
+	 * @param region {@link Region} to export and import.
+	 * @param snapshotService {@link RegionSnapshotService} of the {@link Region}.
+	 * @throws IllegalArgumentException if {@link Region} or {@link RegionSnapshotService} is {@literal null}.
+	 * @see org.apache.geode.cache.snapshot.RegionSnapshotService
+	 * @see org.apache.geode.cache.Region
+	 */
+	public ParallelRegionSnapshotServiceAdapter(@NonNull Region<K, V> region,
+			@NonNull RegionSnapshotService<K, V> snapshotService) {
+
+		super(snapshotService);
+
+		Assert.notNull(region, "Region must not be null");
+
+		this.region = region;
+	}
+
+	/**
+	 * Sets the {@link ApplicationEventPublisher} used to publish {@link SnapshotProgress}.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish {@link SnapshotProgress}.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 */
+	public void setApplicationEventPublisher(@Nullable ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	protected @Nullable ApplicationEventPublisher getApplicationEventPublisher() {
+		return this.applicationEventPublisher;
+	}
+
+	/**
+	 * Sets the maximum number of entries written to a segment file, or loaded into the {@link Region}
+	 * with a single {@link Region#putAll(Map)}, at a time.
+	 *
+	 * @param batchSize maximum number of entries processed in a single batch.
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = Math.max(batchSize, 1);
+	}
+
+	protected int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Sets whether segment files are GZIP compressed on export.
+	 *
+	 * Compressed segment files are recognized by their file extension on import regardless of this setting.
+	 *
+	 * @param compress boolean value indicating whether to GZIP compress segment files.
+	 */
+	public void setCompress(boolean compress) {
+		this.compress = compress;
+	}
+
+	protected boolean isCompress() {
+		return this.compress;
+	}
+
+	/**
+	 * Sets the number of segment files written concurrently on export and the number of segment files
+	 * read concurrently on import.
+	 *
+	 * @param parallelism number of segment files processed concurrently.
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(parallelism, 1);
+	}
+
+	protected int getParallelism() {
+		return this.parallelism;
+	}
+
+	protected @NonNull Region<K, V> getRegion() {
+		return this.region;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void doExport(SnapshotMetadata<K, V>... configurations) {
+
+		for (SnapshotMetadata<K, V> configuration : nullSafeArray(configurations, SnapshotMetadata.class)) {
+			export(configuration);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void doImport(SnapshotMetadata<K, V>... configurations) {
+
+		for (SnapshotMetadata<K, V> configuration : nullSafeArray(configurations, SnapshotMetadata.class)) {
+			load(configuration);
+		}
+	}
+
+	/**
+	 * Exports the {@link Region} into segment files in the directory identified by the {@link SnapshotMetadata}.
+	 *
+	 * A {@literal PARTITION} {@link Region} is exported by executing the {@link RegionSnapshotExportFunction}
+	 * on the {@link Region}, so that each member writes the primary buckets it hosts into segment files on its own
+	 * file system. Any other {@link Region} with local storage is exported from this member.
+	 * Client {@link Region Regions} and {@link Region Regions} without local storage are rejected.
+	 *
+	 * Segment files are first written to temporary files and only renamed once all segments have been written,
+	 * at which point the segment files of the previous export are deleted. The export of a {@literal PARTITION}
+	 * {@link Region} fails if its primary buckets move between members such that a bucket is exported
+	 * by more than one member, or by none.
+	 *
+	 * @param configuration {@link SnapshotMetadata} describing the export.
+	 * @throws ExportSnapshotException if the {@link Region} cannot be exported or the export fails.
+	 */
+	protected void export(SnapshotMetadata<K, V> configuration) {
+
+		File directory = configuration.getLocation();
+
+		if (RegionUtils.isClient(getRegion())) {
+			throw new ExportSnapshotException(String.format("Client Region [%s] cannot be exported in parallel;"
+				+ " export the Region on the servers", getRegion().getFullPath()));
+		}
+
+		boolean partitioned = PartitionRegionHelper.isPartitionedRegion(getRegion());
+
+		if (!partitioned && !getRegion().getAttributes().getDataPolicy().withStorage()) {
+			throw new ExportSnapshotException(String.format("Region [%s] does not store data locally;"
+				+ " export the Region on a member hosting its data", getRegion().getFullPath()));
+		}
+
+		String exportId = SnapshotSegmentFiles.newExportId();
+
+		try {
+			if (partitioned) {
+				exportPartitionedRegion(configuration, directory, exportId);
+			}
+			else {
+				exportLocalRegion(configuration, directory, exportId);
+			}
+		}
+		catch (Throwable cause) {
+
+			Throwable unwrappedCause = unwrap(cause);
+
+			try {
+				if (partitioned) {
+					executeExportFunction(RegionSnapshotExportFunction.Operation.ABORT, directory, exportId);
+				}
+				else {
+					SnapshotSegmentFiles.abort(directory, getSegmentFilenamePrefix(), exportId);
+				}
+			}
+			catch (Throwable abortCause) {
+				unwrappedCause.addSuppressed(abortCause);
+			}
+
+			throw new ExportSnapshotException(String.format("Failed to export Region [%1$s] to directory [%2$s]",
+				getRegion().getFullPath(), directory), unwrappedCause);
+		}
+	}
+
+	private void exportLocalRegion(SnapshotMetadata<K, V> configuration, File directory, String exportId)
+			throws Exception {
+
+		int segmentCount = getParallelism();
+
+		AtomicInteger completedFileCount = new AtomicInteger(0);
+		AtomicLong entryCount = new AtomicLong(0L);
+
+		List<SnapshotSegmentFiles.SegmentResult> results = SnapshotSegmentFiles.write(getRegion().entrySet(),
+			configuration.getFilter(), directory, getSegmentFilenamePrefix(), exportId, null, segmentCount,
+			getBatchSize(), isCompress(), result ->
+				publish(ExportSnapshotApplicationEvent.progress(this, getRegion().getFullPath(),
+					new SnapshotProgress(result.getFile(), completedFileCount.incrementAndGet(), segmentCount,
+						entryCount.addAndGet(result.getEntryCount()), false), configuration)));
+
+		SnapshotSegmentFiles.commit(directory, getSegmentFilenamePrefix(), exportId);
+
+		publish(ExportSnapshotApplicationEvent.progress(this, getRegion().getFullPath(),
+			new SnapshotProgress(directory, segmentCount, segmentCount, sum(results), true), configuration));
+	}
+
+	private void exportPartitionedRegion(SnapshotMetadata<K, V> configuration, File directory, String exportId) {
+
+		List<SnapshotSegmentFiles.SegmentResult> results = new ArrayList<>();
+
+		Set<Integer> exportedBucketIds = new HashSet<>();
+
+		for (Object memberResult : executeExportFunction(RegionSnapshotExportFunction.Operation.WRITE, directory,
+				exportId, getParallelism(), getBatchSize(), isCompress(), configuration.getFilter())) {
+
+			RegionSnapshotExportFunction.WriteResult writeResult =
+				(RegionSnapshotExportFunction.WriteResult) memberResult;
+
+			for (Integer bucketId : writeResult.getBucketIds()) {
+				if (!exportedBucketIds.add(bucketId)) {
+					throw newIllegalStateException("Bucket [%1$d] of Region [%2$s] was exported by more than"
+						+ " one member; primary buckets moved during the export", bucketId, getRegion().getFullPath());
+				}
+			}
+
+			results.addAll(writeResult.getSegmentResults());
+		}
+
+		for (Object memberResult : executeExportFunction(RegionSnapshotExportFunction.Operation.VERIFY, directory,
+				exportId)) {
+
+			for (Object bucketId : (Collection<?>) memberResult) {
+				if (!exportedBucketIds.contains(bucketId)) {
+					throw newIllegalStateException("Bucket [%1$s] of Region [%2$s] was not exported;"
+						+ " primary buckets moved during the export", bucketId, getRegion().getFullPath());
+				}
+			}
+		}
+
+		int segmentCount = results.size();
+		int completedFileCount = 0;
+
+		long entryCount = 0L;
+
+		for (SnapshotSegmentFiles.SegmentResult result : results) {
+			entryCount += result.getEntryCount();
+			publish(ExportSnapshotApplicationEvent.progress(this, getRegion().getFullPath(),
+				new SnapshotProgress(result.getFile(), ++completedFileCount, segmentCount, entryCount, false),
+					configuration));
+		}
+
+		executeExportFunction(RegionSnapshotExportFunction.Operation.COMMIT, directory, exportId);
+
+		publish(ExportSnapshotApplicationEvent.progress(this, getRegion().getFullPath(),
+			new SnapshotProgress(directory, segmentCount, segmentCount, entryCount, true), configuration));
+	}
+
+	/**
+	 * Executes the {@link RegionSnapshotExportFunction} on every member hosting the {@link Region}
+	 * and returns the result of each member.
+	 */
+	private List<Object> executeExportFunction(
+			RegionSnapshotExportFunction.Operation operation, File directory, String exportId, Object... arguments) {
+
+		RegionSnapshotExportFunction.register();
+
+		Object[] functionArguments = new Object[3 + arguments.length];
+
+		functionArguments[0] = operation;
+		functionArguments[1] = directory.getPath();
+		functionArguments[2] = exportId;
+
+		System.arraycopy(arguments, 0, functionArguments, 3, arguments.length);
+
+		Object memberResults = FunctionService.onRegion(getRegion())
+			.setArguments(functionArguments)
+			.execute(RegionSnapshotExportFunction.ID)
+			.getResult();
+
+		List<Object> results = new ArrayList<>();
+
+		if (memberResults instanceof Collection) {
+			for (Object memberResult : (Collection<?>) memberResults) {
+				if (memberResult instanceof Throwable) {
+					throw newIllegalStateException((Throwable) memberResult,
+						"Function [%s] failed on a member hosting Region [%s]", RegionSnapshotExportFunction.ID,
+							getRegion().getFullPath());
+				}
+				else if (memberResult != null) {
+					results.add(memberResult);
+				}
+			}
+		}
+
+		return results;
+	}
+
+	private long sum(List<SnapshotSegmentFiles.SegmentResult> results) {
+
+		long total = 0L;
+
+		for (SnapshotSegmentFiles.SegmentResult result : results) {
+			total += result.getEntryCount();
+		}
+
+		return total;
+	}
+
+	/**
+	 * Imports all segment files in the directory identified by the {@link SnapshotMetadata} into the {@link Region}.
+	 *
+	 * @param configuration {@link SnapshotMetadata} describing the import.
+	 * @throws ImportSnapshotException if the import fails.
+	 */
+	@SuppressWarnings("unchecked")
+	protected void load(SnapshotMetadata<K, V> configuration) {
+
+		File directory = configuration.getLocation();
+
+		File[] segmentFiles = listSegmentFiles(directory);
+
+		int segmentCount = segmentFiles.length;
+
+		AtomicInteger completedFileCount = new AtomicInteger(0);
+		AtomicLong entryCount = new AtomicLong(0L);
+
+		ExecutorService executorService = SnapshotSegmentFiles.newExecutorService("Snapshot Import Thread",
+			Math.max(Math.min(getParallelism(), segmentCount), 1));
+
+		try {
+
+			List<Future<Long>> readers = new ArrayList<>(segmentCount);
+
+			for (File segmentFile : segmentFiles) {
+				readers.add(executorService.submit(() -> {
+
+					long count = readSegment(segmentFile, configuration.getFilter());
+
+					publish(ImportSnapshotApplicationEvent.progress(this, getRegion().getFullPath(),
+						new SnapshotProgress(segmentFile, completedFileCount.incrementAndGet(), segmentCount,
+							entryCount.addAndGet(count), false), configuration));
+
+					return count;
+				}));
+			}
+
+			long totalCount = awaitAll(readers);
+
+			publish(ImportSnapshotApplicationEvent.progress(this, getRegion().getFullPath(),
+				new SnapshotProgress(directory, segmentCount, segmentCount, totalCount, true), configuration));
+		}
+		catch (Throwable cause) {
+			throw new ImportSnapshotException(String.format("Failed to import Region [%1$s] from directory [%2$s]",
+				getRegion().getFullPath(), directory), unwrap(cause));
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private long readSegment(File segmentFile, SnapshotFilter<K, V> filter) throws Exception {
+
+		long count = 0L;
+
+		try (DataInputStream in = new DataInputStream(newInputStream(segmentFile))) {
+
+			Assert.state(in.readInt() == SNAPSHOT_FILE_MAGIC_NUMBER,
+				String.format("File [%s] is not a snapshot segment file", segmentFile));
+
+			int version = in.readInt();
+
+			Assert.state(version == SNAPSHOT_FILE_VERSION,
+				String.format("Snapshot segment file [%1$s] version [%2$d] is not supported", segmentFile, version));
+
+			Map<K, V> batch = new HashMap<>(getBatchSize() * 4 / 3 + 1);
+
+			while (readHasNext(in, segmentFile)) {
+
+				K key = DataSerializer.readObject(in);
+				V value = DataSerializer.readObject(in);
+
+				if (filter == null || filter.accept(new AbstractMap.SimpleImmutableEntry<>(key, value))) {
+
+					batch.put(key, value);
+
+					if (batch.size() >= getBatchSize()) {
+						getRegion().putAll(batch);
+						count += batch.size();
+						batch.clear();
+					}
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				getRegion().putAll(batch);
+				count += batch.size();
+			}
+		}
+
+		return count;
+	}
+
+	private boolean readHasNext(DataInputStream in, File segmentFile) throws IOException {
+
+		try {
+			return in.readBoolean();
+		}
+		catch (EOFException cause) {
+			throw new IOException(String.format("Snapshot segment file [%s] is truncated", segmentFile), cause);
+		}
+	}
+
+	private long awaitAll(List<Future<Long>> futures) throws Exception {
+
+		long total = 0L;
+
+		for (Future<Long> future : futures) {
+			total += future.get();
+		}
+
+		return total;
+	}
+
+	private Throwable unwrap(Throwable cause) {
+		return cause instanceof ExecutionException && cause.getCause() != null ? cause.getCause() : cause;
+	}
+
+	private String getSegmentFilenamePrefix() {
+		return SnapshotSegmentFiles.toFilenamePrefix(getRegion());
+	}
+
+	/**
+	 * Lists the committed segment {@link File Files} for the {@link Region} in the given snapshot directory.
+	 *
+	 * @param directory snapshot directory.
+	 * @return the segment {@link File Files} for the {@link Region}; never {@literal null}.
+	 */
+	protected File[] listSegmentFiles(File directory) {
+		return SnapshotSegmentFiles.list(directory, getSegmentFilenamePrefix());
+	}
+
+	private InputStream newInputStream(File file) throws IOException {
+
+		InputStream in = new FileInputStream(file);
+
+		return file.getName().endsWith(COMPRESSED_FILE_EXTENSION)
+			? new BufferedInputStream(new GZIPInputStream(in, 65536), 65536)
+			: new BufferedInputStream(in, 65536);
+	}
+
+	private void publish(SnapshotApplicationEvent<K, V> event) {
+
+		ApplicationEventPublisher applicationEventPublisher = getApplicationEventPublisher();
+
+		if (applicationEventPublisher != null) {
+			applicationEventPublisher.publishEvent(event);
+		}
+
+		logDebug(null, "Snapshot progress [%s]", event.getProgress());
+	}
+}
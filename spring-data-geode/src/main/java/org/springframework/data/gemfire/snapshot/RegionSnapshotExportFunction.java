@@ -0,0 +1,262 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.snapshot.SnapshotFilter;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+/**
+ * {@link RegionSnapshotExportFunction} is an Apache Geode {@link Function} executed on a {@literal PARTITION}
+ * {@link Region} that exports the primary buckets hosted by each member into segment files on the member's
+ * own file system.
+ *
+ * The {@link Function} arguments are an {@link Object} array containing the {@link Operation}, the path of
+ * the snapshot directory and the export identifier. {@link Operation#WRITE} is followed by the number of segments,
+ * the batch size, whether to compress the segment files and an optional {@link SnapshotFilter}.
+ *
+ * {@link Operation#WRITE} writes temporary segment files and returns a {@link WriteResult} identifying
+ * the primary buckets exported by the member. {@link Operation#WRITE} fails when the primary buckets of the member
+ * change while it is writing. {@link Operation#VERIFY} returns the primary buckets currently hosted by the member,
+ * so that buckets that moved between members after they were written can be detected before the export is
+ * committed. {@link Operation#COMMIT} renames the temporary segment files and deletes the segment files
+ * of previous exports. {@link Operation#ABORT} deletes the temporary segment files.
+ *
+ * {@link ParallelRegionSnapshotServiceAdapter} only registers this {@link Function} on the member exporting
+ * the snapshot; servers hosting the {@link Region} register it with {@link #register()}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper#getLocalPrimaryData(Region)
+ * @see org.springframework.data.gemfire.snapshot.ParallelRegionSnapshotServiceAdapter
+ * @since 2.5.0
+ */
+@SuppressWarnings("serial")
+public class RegionSnapshotExportFunction implements Function<Object[]> {
+
+	public static final String ID = RegionSnapshotExportFunction.class.getName();
+
+	/**
+	 * Registers an instance of {@link RegionSnapshotExportFunction} with the {@link FunctionService}
+	 * if not already registered.
+	 *
+	 * @return the registered {@link Function}.
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(Function)
+	 */
+	public static Function<?> register() {
+
+		Function<?> function = FunctionService.getFunction(ID);
+
+		if (function == null) {
+			function = new RegionSnapshotExportFunction();
+			FunctionService.registerFunction(function);
+		}
+
+		return function;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void execute(FunctionContext<Object[]> functionContext) {
+
+		if (!(functionContext instanceof RegionFunctionContext)) {
+			throw newIllegalStateException("Function [%s] must be executed on a Region", getId());
+		}
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) functionContext;
+
+		Object[] arguments = functionContext.getArguments();
+
+		if (arguments == null || arguments.length < 3 || !(arguments[0] instanceof Operation)) {
+			throw newIllegalArgumentException("The arguments to Function [%s] must begin with an Operation,"
+				+ " a snapshot directory and an export identifier", getId());
+		}
+
+		Operation operation = (Operation) arguments[0];
+
+		File directory = new File(String.valueOf(arguments[1]));
+
+		String exportId = String.valueOf(arguments[2]);
+
+		Region region = regionFunctionContext.getDataSet();
+
+		String filenamePrefix = SnapshotSegmentFiles.toFilenamePrefix(region);
+
+		try {
+			switch (operation) {
+				case WRITE:
+
+					if (arguments.length < 7) {
+						throw newIllegalArgumentException("Function [%s] requires the number of segments,"
+							+ " batch size, compression and filter to write a snapshot", getId());
+					}
+
+					Region localPrimaryData = PartitionRegionHelper.isPartitionedRegion(region)
+						? PartitionRegionHelper.getLocalPrimaryData(region)
+						: region;
+
+					String memberId = SnapshotSegmentFiles.toMemberId(regionFunctionContext.getCache()
+						.getDistributedSystem().getDistributedMember().getId());
+
+					Set<Integer> primaryBucketIds = getLocalPrimaryBucketIds(region);
+
+					List<SnapshotSegmentFiles.SegmentResult> results = SnapshotSegmentFiles.write(
+						localPrimaryData.entrySet(), (SnapshotFilter) arguments[6], directory, filenamePrefix,
+						exportId, memberId, (Integer) arguments[3], (Integer) arguments[4],
+						Boolean.TRUE.equals(arguments[5]), result -> {});
+
+					if (!primaryBucketIds.equals(getLocalPrimaryBucketIds(region))) {
+						SnapshotSegmentFiles.abort(directory, filenamePrefix, exportId);
+						throw newIllegalStateException("Primary buckets of Region [%s] moved while they were"
+							+ " being exported", region.getFullPath());
+					}
+
+					regionFunctionContext.getResultSender().lastResult(new WriteResult(primaryBucketIds, results));
+					break;
+				case VERIFY:
+					regionFunctionContext.getResultSender().lastResult(getLocalPrimaryBucketIds(region));
+					break;
+				case COMMIT:
+					SnapshotSegmentFiles.commit(directory, filenamePrefix, exportId);
+					regionFunctionContext.getResultSender().lastResult(Collections.emptyList());
+					break;
+				case ABORT:
+					SnapshotSegmentFiles.abort(directory, filenamePrefix, exportId);
+					regionFunctionContext.getResultSender().lastResult(Collections.emptyList());
+					break;
+			}
+		}
+		catch (RuntimeException cause) {
+			throw cause;
+		}
+		catch (Exception cause) {
+			throw newIllegalStateException(cause, "Failed to %1$s snapshot of Region [%2$s] in directory [%3$s]",
+				operation.name().toLowerCase(), region.getFullPath(), directory);
+		}
+	}
+
+	/**
+	 * Returns the IDs of the primary buckets of the given {@link Region} hosted by this member.
+	 *
+	 * @param region {@link Region} hosting the buckets.
+	 * @return the IDs of the local primary buckets; empty if the {@link Region} is not a {@literal PARTITION}
+	 * {@link Region} or this member does not store its data.
+	 */
+	static Set<Integer> getLocalPrimaryBucketIds(Region<?, ?> region) {
+
+		Set<Integer> primaryBucketIds = new TreeSet<>();
+
+		if (region instanceof PartitionedRegion) {
+
+			PartitionedRegionDataStore dataStore = ((PartitionedRegion) region).getDataStore();
+
+			if (dataStore != null) {
+				primaryBucketIds.addAll(dataStore.getAllLocalPrimaryBucketIds());
+			}
+		}
+
+		return primaryBucketIds;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	/**
+	 * Phases of a snapshot export.
+	 */
+	public enum Operation {
+
+		WRITE,
+		VERIFY,
+		COMMIT,
+		ABORT
+
+	}
+
+	/**
+	 * {@link SnapshotSegmentFiles.SegmentResult Segment results} of a member along with the IDs
+	 * of the primary buckets it exported.
+	 */
+	@SuppressWarnings("serial")
+	static class WriteResult implements Serializable {
+
+		private final List<SnapshotSegmentFiles.SegmentResult> segmentResults;
+
+		private final Set<Integer> bucketIds;
+
+		WriteResult(Set<Integer> bucketIds, List<SnapshotSegmentFiles.SegmentResult> segmentResults) {
+			this.bucketIds = bucketIds;
+			this.segmentResults = segmentResults;
+		}
+
+		Set<Integer> getBucketIds() {
+			return this.bucketIds;
+		}
+
+		List<SnapshotSegmentFiles.SegmentResult> getSegmentResults() {
+			return this.segmentResults;
+		}
+	}
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.snapshot.SnapshotFilter;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SnapshotSegmentFiles} writes, names, lists, commits and discards the segment files of a parallel
+ * {@link Region} snapshot.
+ *
+ * Segment files are named {@literal <region>-<exportId>[-m<member>]-<segment>.sdgsnapshot[.gz]}. An export first
+ * writes temporary files, which are renamed when the export is committed. Committing also deletes the segment files
+ * of previous exports, so that a failed export never destroys the last complete snapshot.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.snapshot.ParallelRegionSnapshotServiceAdapter
+ * @see org.springframework.data.gemfire.snapshot.RegionSnapshotExportFunction
+ * @since 2.5.0
+ */
+abstract class SnapshotSegmentFiles {
+
+	static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+	private static final long WRITER_TERMINATION_TIMEOUT_SECONDS = 30L;
+
+	private static final AtomicLong EXPORT_ID = new AtomicLong(System.currentTimeMillis());
+
+	private static final List<Map.Entry<Object, Object>> END_OF_SEGMENT = Collections.emptyList();
+
+	private static final Pattern MEMBER_ID_INVALID_CHARACTERS = Pattern.compile("[^\\w.]");
+
+	/**
+	 * Returns a new identifier for an export, unique within this JVM and increasing over time.
+	 *
+	 * @return a new export identifier.
+	 */
+	static String newExportId() {
+		return String.valueOf(EXPORT_ID.incrementAndGet());
+	}
+
+	/**
+	 * Returns the filename prefix of the segment files of the given {@link Region}.
+	 *
+	 * Each character of the {@link Region#getFullPath() Region path} other than an ASCII letter or digit is encoded
+	 * as {@literal _} followed by the hexadecimal value of each of its UTF-8 bytes. Distinct {@link Region} paths,
+	 * such as {@literal /a_b} and {@literal /a/b}, therefore never share a prefix, and a prefix never contains
+	 * the {@literal -} separating the parts of a segment filename.
+	 *
+	 * @param region {@link Region} to snapshot.
+	 * @return the filename prefix of the segment files of the {@link Region}.
+	 */
+	static String toFilenamePrefix(Region<?, ?> region) {
+
+		StringBuilder filenamePrefix = new StringBuilder();
+
+		for (byte character : region.getFullPath().substring(1).getBytes(StandardCharsets.UTF_8)) {
+			if ((character >= '0' && character <= '9') || (character >= 'A' && character <= 'Z')
+					|| (character >= 'a' && character <= 'z')) {
+
+				filenamePrefix.append((char) character);
+			}
+			else {
+				filenamePrefix.append(String.format("_%02X", character & 0xFF));
+			}
+		}
+
+		return filenamePrefix.toString();
+	}
+
+	static String toMemberId(String memberId) {
+		return MEMBER_ID_INVALID_CHARACTERS.matcher(memberId).replaceAll("_");
+	}
+
+	static File newSegmentFile(File directory, String filenamePrefix, String exportId, @Nullable String memberId,
+			int segment, boolean compress) {
+
+		String filename = String.format("%1$s-%2$s%3$s-%4$d%5$s%6$s", filenamePrefix, exportId,
+			memberId != null ? "-m" + memberId : "", segment,
+			ParallelRegionSnapshotServiceAdapter.SNAPSHOT_FILE_EXTENSION,
+			compress ? ParallelRegionSnapshotServiceAdapter.COMPRESSED_FILE_EXTENSION : "");
+
+		return new File(directory, filename);
+	}
+
+	private static Pattern segmentFilePattern(String filenamePrefix, String exportId, boolean temporary) {
+
+		return Pattern.compile(Pattern.quote(filenamePrefix) + "-" + exportId + "(-m[\\w.]+)?-\\d+"
+			+ Pattern.quote(ParallelRegionSnapshotServiceAdapter.SNAPSHOT_FILE_EXTENSION)
+			+ "(" + Pattern.quote(ParallelRegionSnapshotServiceAdapter.COMPRESSED_FILE_EXTENSION) + ")?"
+			+ (temporary ? Pattern.quote(TEMPORARY_FILE_EXTENSION) : ""));
+	}
+
+	/**
+	 * Lists the committed segment files for the {@link Region} with the given filename prefix.
+	 *
+	 * @param directory snapshot directory.
+	 * @param filenamePrefix filename prefix of the {@link Region}.
+	 * @return the committed segment files; never {@literal null}.
+	 */
+	static File[] list(File directory, String filenamePrefix) {
+		return list(directory, segmentFilePattern(filenamePrefix, "\\d+", false));
+	}
+
+	private static File[] list(File directory, Pattern pattern) {
+
+		return nullSafeArray(directory.listFiles(file -> file.isFile() && pattern.matcher(file.getName()).matches()),
+			File.class);
+	}
+
+	/**
+	 * Writes the given entries into temporary segment files.
+	 *
+	 * The entries are streamed once and spread across {@code segmentCount} segments by key. Each segment is written
+	 * by a dedicated {@link Thread}. On any failure, including an {@link Error}, all temporary files written
+	 * by this call are deleted.
+	 *
+	 * @return the {@link SegmentResult results} identifying the committed name of each segment file.
+	 */
+	@SuppressWarnings("unchecked")
+	static <K, V> List<SegmentResult> write(Iterable<? extends Map.Entry<K, V>> entries,
+			@Nullable SnapshotFilter<K, V> filter, File directory, String filenamePrefix, String exportId,
+			@Nullable String memberId, int segmentCount, int batchSize, boolean compress,
+			Consumer<SegmentResult> segmentListener) throws Exception {
+
+		Assert.state(directory.isDirectory() || directory.mkdirs(),
+			String.format("Failed to create snapshot directory [%s]", directory));
+
+		List<BlockingQueue<List<Map.Entry<Object, Object>>>> queues = new ArrayList<>(segmentCount);
+		List<File> temporaryFiles = new ArrayList<>(segmentCount);
+		List<Future<SegmentResult>> writers = new ArrayList<>(segmentCount);
+
+		ExecutorService executorService = newExecutorService("Snapshot Export Thread", segmentCount);
+
+		boolean written = false;
+
+		try {
+			for (int segment = 0; segment < segmentCount; segment++) {
+
+				BlockingQueue<List<Map.Entry<Object, Object>>> queue = new ArrayBlockingQueue<>(2);
+
+				File segmentFile = newSegmentFile(directory, filenamePrefix, exportId, memberId, segment, compress);
+				File temporaryFile = toTemporaryFile(segmentFile);
+
+				queues.add(queue);
+				temporaryFiles.add(temporaryFile);
+
+				writers.add(executorService.submit(() -> {
+
+					SegmentResult result = new SegmentResult(segmentFile, writeSegment(temporaryFile, queue));
+
+					segmentListener.accept(result);
+
+					return result;
+				}));
+			}
+
+			try {
+				streamEntries(entries, filter, batchSize, queues);
+			}
+			finally {
+				for (BlockingQueue<List<Map.Entry<Object, Object>>> queue : queues) {
+					queue.put(END_OF_SEGMENT);
+				}
+			}
+
+			List<SegmentResult> results = new ArrayList<>(segmentCount);
+
+			for (Future<SegmentResult> writer : writers) {
+				results.add(writer.get());
+			}
+
+			written = true;
+
+			return results;
+		}
+		catch (ExecutionException cause) {
+
+			Throwable writerFailure = cause.getCause();
+
+			if (writerFailure instanceof Error) {
+				throw (Error) writerFailure;
+			}
+
+			throw writerFailure instanceof Exception ? (Exception) writerFailure : cause;
+		}
+		finally {
+
+			executorService.shutdownNow();
+
+			if (!written) {
+
+				// wait for the writers to close their temporary files before deleting them
+				try {
+					executorService.awaitTermination(WRITER_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+
+				temporaryFiles.forEach(File::delete);
+			}
+		}
+	}
+
+	private static <K, V> void streamEntries(Iterable<? extends Map.Entry<K, V>> entries,
+			@Nullable SnapshotFilter<K, V> filter, int batchSize,
+			List<BlockingQueue<List<Map.Entry<Object, Object>>>> queues) throws InterruptedException {
+
+		int segmentCount = queues.size();
+
+		List<List<Map.Entry<Object, Object>>> batches = new ArrayList<>(segmentCount);
+
+		for (int segment = 0; segment < segmentCount; segment++) {
+			batches.add(new ArrayList<>(batchSize));
+		}
+
+		for (Map.Entry<K, V> entry : entries) {
+
+			K key = entry.getKey();
+			V value = entry.getValue();
+
+			if (value != null
+					&& (filter == null || filter.accept(new AbstractMap.SimpleImmutableEntry<>(key, value)))) {
+
+				int segment = Math.floorMod(key.hashCode(), segmentCount);
+
+				List<Map.Entry<Object, Object>> batch = batches.get(segment);
+
+				batch.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+
+				if (batch.size() >= batchSize) {
+					queues.get(segment).put(batch);
+					batches.set(segment, new ArrayList<>(batchSize));
+				}
+			}
+		}
+
+		for (int segment = 0; segment < segmentCount; segment++) {
+
+			List<Map.Entry<Object, Object>> batch = batches.get(segment);
+
+			if (!batch.isEmpty()) {
+				queues.get(segment).put(batch);
+			}
+		}
+	}
+
+	/**
+	 * Writes the batches taken from the given {@link BlockingQueue} to the segment {@link File}.
+	 *
+	 * After any failure, including an {@link Error}, the remaining batches are drained and discarded so that
+	 * the {@link Thread} streaming the entries never blocks; the failure is then rethrown. A writer interrupted
+	 * while the export is being cancelled does not drain the remaining batches.
+	 */
+	private static long writeSegment(File segmentFile, BlockingQueue<List<Map.Entry<Object, Object>>> queue)
+			throws Exception {
+
+		boolean endOfSegment = false;
+
+		long count = 0L;
+
+		try (DataOutputStream out = new DataOutputStream(newOutputStream(segmentFile))) {
+
+			out.writeInt(ParallelRegionSnapshotServiceAdapter.SNAPSHOT_FILE_MAGIC_NUMBER);
+			out.writeInt(ParallelRegionSnapshotServiceAdapter.SNAPSHOT_FILE_VERSION);
+
+			for (List<Map.Entry<Object, Object>> batch = queue.take(); batch != END_OF_SEGMENT;
+					batch = queue.take()) {
+
+				for (Map.Entry<Object, Object> entry : batch) {
+					out.writeBoolean(true);
+					DataSerializer.writeObject(entry.getKey(), out);
+					DataSerializer.writeObject(entry.getValue(), out);
+					count++;
+				}
+			}
+
+			endOfSegment = true;
+
+			out.writeBoolean(false);
+		}
+		catch (Throwable cause) {
+
+			if (!endOfSegment && !(cause instanceof InterruptedException)) {
+				while (queue.take() != END_OF_SEGMENT) {
+					// drain and discard remaining batches
+				}
+			}
+
+			throw cause;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Commits the export with the given identifier by renaming its temporary segment files and deleting
+	 * the segment files of all other exports of the {@link Region}.
+	 *
+	 * @param directory snapshot directory.
+	 * @param filenamePrefix filename prefix of the {@link Region}.
+	 * @param exportId identifier of the export to commit.
+	 * @throws IllegalStateException if a segment file cannot be renamed or deleted.
+	 */
+	static void commit(File directory, String filenamePrefix, String exportId) {
+
+		for (File temporaryFile : list(directory, segmentFilePattern(filenamePrefix, exportId, true))) {
+
+			File segmentFile = toSegmentFile(temporaryFile);
+
+			try {
+				Files.move(temporaryFile.toPath(), segmentFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (NoSuchFileException ignore) {
+				// renamed by another member sharing the snapshot directory
+			}
+			catch (IOException cause) {
+				throw newIllegalStateException(cause, "Failed to rename snapshot segment file [%1$s] to [%2$s]",
+					temporaryFile, segmentFile);
+			}
+		}
+
+		Pattern exportSegmentFilePattern = segmentFilePattern(filenamePrefix, exportId, false);
+
+		for (File segmentFile : list(directory, filenamePrefix)) {
+			if (!exportSegmentFilePattern.matcher(segmentFile.getName()).matches()) {
+				Assert.state(segmentFile.delete() || !segmentFile.exists(),
+					String.format("Failed to delete previous snapshot segment file [%s]", segmentFile));
+			}
+		}
+	}
+
+	/**
+	 * Discards the export with the given identifier by deleting its temporary segment files.
+	 *
+	 * @param directory snapshot directory.
+	 * @param filenamePrefix filename prefix of the {@link Region}.
+	 * @param exportId identifier of the export to discard.
+	 */
+	static void abort(File directory, String filenamePrefix, String exportId) {
+
+		for (File temporaryFile : list(directory, segmentFilePattern(filenamePrefix, exportId, true))) {
+			temporaryFile.delete();
+		}
+	}
+
+	private static File toTemporaryFile(File segmentFile) {
+		return new File(segmentFile.getParentFile(), segmentFile.getName() + TEMPORARY_FILE_EXTENSION);
+	}
+
+	private static File toSegmentFile(File temporaryFile) {
+
+		String filename = temporaryFile.getName();
+
+		return new File(temporaryFile.getParentFile(),
+			filename.substring(0, filename.length() - TEMPORARY_FILE_EXTENSION.length()));
+	}
+
+	private static OutputStream newOutputStream(File file) throws IOException {
+
+		OutputStream out = new FileOutputStream(file);
+
+		return file.getName().endsWith(ParallelRegionSnapshotServiceAdapter.COMPRESSED_FILE_EXTENSION
+				+ TEMPORARY_FILE_EXTENSION)
+			? new BufferedOutputStream(new GZIPOutputStream(out, 65536), 65536)
+			: new BufferedOutputStream(out, 65536);
+	}
+
+	static ExecutorService newExecutorService(String threadNamePrefix, int threadCount) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		return Executors.newFixedThreadPool(threadCount, runnable -> {
+
+			Thread thread = new Thread(runnable, String.format("%1$s-%2$d", threadNamePrefix,
+				threadNumber.incrementAndGet()));
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	/**
+	 * Number of entries written to a segment file, along with the name of the segment file once committed.
+	 */
+	@SuppressWarnings("serial")
+	static class SegmentResult implements Serializable {
+
+		private final long entryCount;
+
+		private final String path;
+
+		SegmentResult(File segmentFile, long entryCount) {
+			this.path = segmentFile.getPath();
+			this.entryCount = entryCount;
+		}
+
+		long getEntryCount() {
+			return this.entryCount;
+		}
+
+		File getFile() {
+			return new File(this.path);
+		}
+	}
+}
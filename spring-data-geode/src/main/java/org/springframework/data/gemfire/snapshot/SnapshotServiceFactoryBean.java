@@ -48,6 +48,8 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
@@ -67,7 +69,9 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.context.ApplicationEventPublisherAware
  * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.data.gemfire.snapshot.ParallelRegionSnapshotServiceAdapter
  * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
  * @see org.apache.geode.cache.snapshot.CacheSnapshotService
  * @see org.apache.geode.cache.snapshot.RegionSnapshotService
@@ -75,12 +79,19 @@ import org.springframework.util.StringUtils;
  */
 @SuppressWarnings("unused")
 public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport<SnapshotServiceAdapter<K, V>>
-		implements InitializingBean, DisposableBean, ApplicationListener<SnapshotApplicationEvent<K, V>> {
+		implements InitializingBean, DisposableBean, ApplicationEventPublisherAware,
+			ApplicationListener<SnapshotApplicationEvent<K, V>> {
 
 	protected static final SnapshotMetadata[] EMPTY_ARRAY = new SnapshotMetadata[0];
 
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private Boolean compress;
 	private Boolean suppressImportOnInit;
 
+	private Integer batchSize;
+	private Integer parallelism;
+
 	private Cache cache;
 
 	private Region<K, V> region;
@@ -124,16 +135,22 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 * a Region has not been specified, then a GemFire Snapshot Service for the Cache is constructed, otherwise
 	 * the GemFire Snapshot Service for the configured Region is used.
 	 *
+	 * If {@link #setParallelism(Integer) parallelism} is greater than 1 and a Region has been specified,
+	 * then a {@link ParallelRegionSnapshotServiceAdapter} is constructed.
+	 *
 	 * @return a SnapshotServiceAdapter wrapping the appropriate GemFire Snapshot Service (either Cache or Region)
 	 * depending on the FactoryBean configuration.
 	 * @see #wrap(CacheSnapshotService)
 	 * @see #wrap(RegionSnapshotService)
+	 * @see #wrap(Region, RegionSnapshotService)
 	 * @see #getRegion()
 	 */
 	protected SnapshotServiceAdapter create() {
 
 		return Optional.ofNullable(getRegion())
-			.<SnapshotServiceAdapter>map(region -> wrap(region.getSnapshotService()))
+			.<SnapshotServiceAdapter>map(region -> isParallelSnapshotEnabled()
+				? wrap(region, region.getSnapshotService())
+				: wrap(region.getSnapshotService()))
 			.orElseGet(() -> wrap(getCache().getSnapshotService()));
 	}
 
@@ -165,6 +182,114 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		return new RegionSnapshotServiceAdapter<>(regionSnapshotService);
 	}
 
+	/**
+	 * Wraps the given Region and its RegionSnapshotService into a {@link ParallelRegionSnapshotServiceAdapter}
+	 * exporting and importing the Region with multiple snapshot files processed concurrently.
+	 *
+	 * @param region the Region to export and import.
+	 * @param regionSnapshotService the GemFire RegionSnapshotService to wrap.
+	 * @return a {@link ParallelRegionSnapshotServiceAdapter} wrapping the Region.
+	 * @see org.springframework.data.gemfire.snapshot.ParallelRegionSnapshotServiceAdapter
+	 * @since 2.5.0
+	 */
+	protected SnapshotServiceAdapter<K, V> wrap(Region<K, V> region,
+			RegionSnapshotService<K, V> regionSnapshotService) {
+
+		ParallelRegionSnapshotServiceAdapter<K, V> snapshotServiceAdapter =
+			new ParallelRegionSnapshotServiceAdapter<>(region, regionSnapshotService);
+
+		snapshotServiceAdapter.setApplicationEventPublisher(this.applicationEventPublisher);
+		snapshotServiceAdapter.setBatchSize(getBatchSize());
+		snapshotServiceAdapter.setCompress(getCompress());
+		snapshotServiceAdapter.setParallelism(getParallelism());
+
+		return snapshotServiceAdapter;
+	}
+
+	/**
+	 * Sets the {@link ApplicationEventPublisher} used to publish the progress of parallel Region snapshots.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish snapshot progress.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Sets the maximum number of entries written to, or loaded from, a parallel snapshot file in a single batch.
+	 *
+	 * @param batchSize maximum number of entries processed in a single batch.
+	 * @see #getBatchSize()
+	 */
+	public void setBatchSize(Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Gets the maximum number of entries written to, or loaded from, a parallel snapshot file in a single batch.
+	 *
+	 * @return the maximum number of entries processed in a single batch.
+	 * @see #setBatchSize(Integer)
+	 */
+	protected int getBatchSize() {
+		return this.batchSize != null ? this.batchSize : ParallelRegionSnapshotServiceAdapter.DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Sets whether parallel snapshot files are GZIP compressed on export.
+	 *
+	 * @param compress a Boolean value indicating whether parallel snapshot files are GZIP compressed.
+	 * @see #getCompress()
+	 */
+	public void setCompress(Boolean compress) {
+		this.compress = compress;
+	}
+
+	/**
+	 * Determines whether parallel snapshot files are GZIP compressed on export.
+	 *
+	 * @return a boolean value indicating whether parallel snapshot files are GZIP compressed.
+	 * @see #setCompress(Boolean)
+	 */
+	protected boolean getCompress() {
+		return Boolean.TRUE.equals(this.compress);
+	}
+
+	/**
+	 * Sets the number of snapshot files exported and imported concurrently for the configured Region.
+	 *
+	 * A value greater than 1 enables the parallel snapshot mode.
+	 *
+	 * @param parallelism number of snapshot files processed concurrently.
+	 * @see #getParallelism()
+	 */
+	public void setParallelism(Integer parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Gets the number of snapshot files exported and imported concurrently for the configured Region.
+	 *
+	 * @return the number of snapshot files processed concurrently.
+	 * @see #setParallelism(Integer)
+	 */
+	protected int getParallelism() {
+		return this.parallelism != null ? this.parallelism : 1;
+	}
+
+	/**
+	 * Determines whether the configured Region is exported and imported with multiple snapshot files
+	 * processed concurrently.
+	 *
+	 * @return a boolean value indicating whether the parallel snapshot mode is enabled.
+	 * @see #getParallelism()
+	 */
+	protected boolean isParallelSnapshotEnabled() {
+		return getParallelism() > 1;
+	}
+
 	/**
 	 * Sets a reference to the GemFire Cache for which the snapshot will be taken.
 	 *
@@ -334,6 +459,7 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	/**
 	 * Listens for SnapshotApplicationEvents triggering a GemFire Cache-wide or Region data snapshot import/export
 	 * when details of the event match the criteria of this factory's constructed GemFire SnapshotService.
+	 * Events reporting the progress of a snapshot are ignored.
 	 *
 	 * @param event the SnapshotApplicationEvent triggering a GemFire Cache or Region data import/export.
 	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
@@ -349,7 +475,7 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	public void onApplicationEvent(SnapshotApplicationEvent<K, V> event) {
 
 		try {
-			if (isMatch(event)) {
+			if (!event.isProgressEvent() && isMatch(event)) {
 				if (event instanceof ExportSnapshotApplicationEvent) {
 					getObject().doExport(resolveSnapshotMetadata(event));
 				}
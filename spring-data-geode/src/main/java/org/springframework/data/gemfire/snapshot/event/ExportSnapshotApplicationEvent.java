@@ -54,4 +54,40 @@ public class ExportSnapshotApplicationEvent<K, V> extends SnapshotApplicationEve
 		super(source, regionPath, snapshotMetadata);
 	}
 
+	/**
+	 * Factory method used to construct an instance of ExportSnapshotApplicationEvent reporting the progress
+	 * of a parallel Region snapshot export. Progress events do not trigger a snapshot.
+	 *
+	 * @param <K> the class type of the Region key.
+	 * @param <V> the class type of the Region value.
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region.
+	 * @param progress the {@link SnapshotProgress} of the export.
+	 * @param snapshotMetadata an array of SnapshotMetadata containing details for each export.
+	 * @return a new ExportSnapshotApplicationEvent reporting the {@link SnapshotProgress}.
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+	 * @since 2.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> ExportSnapshotApplicationEvent<K, V> progress(Object source, String regionPath,
+			SnapshotProgress progress, SnapshotMetadata<K, V>... snapshotMetadata) {
+
+		return new ExportSnapshotApplicationEvent<>(source, regionPath, progress, snapshotMetadata);
+	}
+
+	/**
+	 * Constructs an instance of ExportSnapshotApplicationEvent reporting the progress of a parallel Region
+	 * snapshot export.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region.
+	 * @param progress the {@link SnapshotProgress} of the export.
+	 * @param snapshotMetadata an array of SnapshotMetadata containing details for each export.
+	 * @since 2.5.0
+	 */
+	protected ExportSnapshotApplicationEvent(Object source, String regionPath, SnapshotProgress progress,
+			SnapshotMetadata<K, V>... snapshotMetadata) {
+
+		super(source, regionPath, progress, snapshotMetadata);
+	}
 }
@@ -54,4 +54,40 @@ public class ImportSnapshotApplicationEvent<K, V> extends SnapshotApplicationEve
 		super(source, regionPath, snapshotMetadata);
 	}
 
+	/**
+	 * Factory method used to construct an instance of ImportSnapshotApplicationEvent reporting the progress
+	 * of a parallel Region snapshot import. Progress events do not trigger a snapshot.
+	 *
+	 * @param <K> the class type of the Region key.
+	 * @param <V> the class type of the Region value.
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region.
+	 * @param progress the {@link SnapshotProgress} of the import.
+	 * @param snapshotMetadata an array of SnapshotMetadata containing details for each import.
+	 * @return a new ImportSnapshotApplicationEvent reporting the {@link SnapshotProgress}.
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+	 * @since 2.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> ImportSnapshotApplicationEvent<K, V> progress(Object source, String regionPath,
+			SnapshotProgress progress, SnapshotMetadata<K, V>... snapshotMetadata) {
+
+		return new ImportSnapshotApplicationEvent<>(source, regionPath, progress, snapshotMetadata);
+	}
+
+	/**
+	 * Constructs an instance of ImportSnapshotApplicationEvent reporting the progress of a parallel Region
+	 * snapshot import.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region.
+	 * @param progress the {@link SnapshotProgress} of the import.
+	 * @param snapshotMetadata an array of SnapshotMetadata containing details for each import.
+	 * @since 2.5.0
+	 */
+	protected ImportSnapshotApplicationEvent(Object source, String regionPath, SnapshotProgress progress,
+			SnapshotMetadata<K, V>... snapshotMetadata) {
+
+		super(source, regionPath, progress, snapshotMetadata);
+	}
 }
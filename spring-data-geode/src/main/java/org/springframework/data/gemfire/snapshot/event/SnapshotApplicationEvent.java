@@ -37,6 +37,8 @@ public abstract class SnapshotApplicationEvent<K, V> extends ApplicationEvent {
 
 	private final SnapshotMetadata<K, V>[] snapshotMetadata;
 
+	private final SnapshotProgress progress;
+
 	private final String regionPath;
 
 	/**
@@ -61,11 +63,52 @@ public abstract class SnapshotApplicationEvent<K, V> extends ApplicationEvent {
 	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata
 	 */
 	public SnapshotApplicationEvent(Object source, String regionPath, SnapshotMetadata<K, V>... snapshotMetadata) {
+		this(source, regionPath, null, snapshotMetadata);
+	}
+
+	/**
+	 * Constructs an instance of SnapshotApplicationEvent reporting the progress of a parallel Region snapshot
+	 * import/export rather than triggering a snapshot.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region.
+	 * @param progress the {@link SnapshotProgress} of the import/export.
+	 * @param snapshotMetadata an array of SnapshotMetadata containing details for each import/export.
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+	 * @since 2.5.0
+	 */
+	protected SnapshotApplicationEvent(Object source, String regionPath, SnapshotProgress progress,
+			SnapshotMetadata<K, V>... snapshotMetadata) {
+
 		super(source);
 		this.snapshotMetadata = snapshotMetadata;
+		this.progress = progress;
 		this.regionPath = regionPath;
 	}
 
+	/**
+	 * Gets the progress of a parallel Region snapshot import/export reported by this event.
+	 *
+	 * @return the {@link SnapshotProgress} or {@literal null} if this event triggers a snapshot.
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+	 * @see #isProgressEvent()
+	 * @since 2.5.0
+	 */
+	public SnapshotProgress getProgress() {
+		return this.progress;
+	}
+
+	/**
+	 * Determines whether this event reports the progress of a snapshot rather than triggering a snapshot.
+	 *
+	 * @return a boolean value indicating whether this event reports the progress of a snapshot.
+	 * @see #getProgress()
+	 * @since 2.5.0
+	 */
+	public boolean isProgressEvent() {
+		return getProgress() != null;
+	}
+
 	/**
 	 * Gets the absolute pathname of the Region in GemFire for which the snapshot will be taken.
 	 *
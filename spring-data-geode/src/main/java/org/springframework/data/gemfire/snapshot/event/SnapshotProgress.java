@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot.event;
+
+import java.io.File;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link SnapshotProgress} class is an immutable value describing the progress of a parallel Region snapshot
+ * export or import, carried by an {@link ExportSnapshotApplicationEvent} or {@link ImportSnapshotApplicationEvent}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent
+ * @see org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent
+ * @since 2.5.0
+ */
+public class SnapshotProgress {
+
+	private final boolean complete;
+
+	private final File file;
+
+	private final int completedFileCount;
+	private final int totalFileCount;
+
+	private final long entryCount;
+
+	/**
+	 * Constructs a new instance of {@link SnapshotProgress}.
+	 *
+	 * @param file the snapshot {@link File} that was completed; may be {@literal null}.
+	 * @param completedFileCount number of snapshot {@link File Files} completed so far.
+	 * @param totalFileCount total number of snapshot {@link File Files} being exported or imported.
+	 * @param entryCount number of Region entries exported or imported so far.
+	 * @param complete boolean value indicating whether the entire export or import has completed.
+	 */
+	public SnapshotProgress(@Nullable File file, int completedFileCount, int totalFileCount, long entryCount,
+			boolean complete) {
+
+		this.file = file;
+		this.completedFileCount = completedFileCount;
+		this.totalFileCount = totalFileCount;
+		this.entryCount = entryCount;
+		this.complete = complete;
+	}
+
+	/**
+	 * Determines whether the entire export or import has completed.
+	 *
+	 * @return a boolean value indicating whether the entire export or import has completed.
+	 */
+	public boolean isComplete() {
+		return this.complete;
+	}
+
+	/**
+	 * Returns the number of snapshot {@link File Files} completed so far.
+	 *
+	 * @return the number of snapshot {@link File Files} completed so far.
+	 */
+	public int getCompletedFileCount() {
+		return this.completedFileCount;
+	}
+
+	/**
+	 * Returns the number of Region entries exported or imported so far.
+	 *
+	 * @return the number of Region entries exported or imported so far.
+	 */
+	public long getEntryCount() {
+		return this.entryCount;
+	}
+
+	/**
+	 * Returns the snapshot {@link File} that was completed, if any.
+	 *
+	 * @return the completed snapshot {@link File} or {@literal null}.
+	 */
+	public @Nullable File getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Returns the total number of snapshot {@link File Files} being exported or imported.
+	 *
+	 * @return the total number of snapshot {@link File Files}.
+	 */
+	public int getTotalFileCount() {
+		return this.totalFileCount;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{file = %2$s, completedFiles = %3$d, totalFiles = %4$d, entries = %5$d,"
+				+ " complete = %6$s}",
+			getClass().getSimpleName(), getFile(), getCompletedFileCount(), getTotalFileCount(), getEntryCount(),
+			isComplete());
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.statistics;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsTypeFactory;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link DataAccessStatistics} class records the invocations of a single Spring Data data access operation,
+ * such as a {@link org.springframework.data.repository.Repository} method, in an Apache Geode {@link Statistics}
+ * instance, which is sampled and written to the statistics archive along with Apache Geode's own statistics.
+ *
+ * The underlying {@link Statistics} are created as atomic, striped statistics and are safe to update from
+ * multiple {@link Thread Threads} without locking.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder
+ * @since 2.5.0
+ */
+public class DataAccessStatistics {
+
+	protected static final String FAILURES = "failures";
+	protected static final String INVOCATIONS = "invocations";
+	protected static final String INVOCATIONS_IN_PROGRESS = "invocationsInProgress";
+	protected static final String INVOCATION_TIME = "invocationTime";
+	protected static final String INVOCATION_TIME_MAX = "invocationTimeMax";
+	protected static final String RESULTS = "results";
+
+	/**
+	 * Creates the {@link StatisticDescriptor StatisticDescriptors} of {@link DataAccessStatistics}.
+	 *
+	 * @param statisticsTypeFactory {@link StatisticsTypeFactory} used to create the descriptors.
+	 * @return the {@link StatisticDescriptor StatisticDescriptors}.
+	 */
+	static StatisticDescriptor[] newStatisticDescriptors(StatisticsTypeFactory statisticsTypeFactory) {
+
+		return new StatisticDescriptor[] {
+			statisticsTypeFactory.createLongCounter(INVOCATIONS,
+				"Number of completed invocations", "operations"),
+			statisticsTypeFactory.createLongGauge(INVOCATIONS_IN_PROGRESS,
+				"Number of invocations currently in progress", "operations"),
+			statisticsTypeFactory.createLongCounter(INVOCATION_TIME,
+				"Total time spent in completed invocations", "nanoseconds", false),
+			statisticsTypeFactory.createLongGauge(INVOCATION_TIME_MAX,
+				"Maximum time spent in a single invocation", "nanoseconds", false),
+			statisticsTypeFactory.createLongCounter(FAILURES,
+				"Number of invocations that threw an exception", "operations"),
+			statisticsTypeFactory.createLongCounter(RESULTS,
+				"Total number of results returned by completed invocations", "entries"),
+		};
+	}
+
+	/**
+	 * Counts the number of results in the given invocation result.
+	 *
+	 * {@link Collection Collections}, {@link Map Maps}, arrays and {@link Slice Slices} count their elements,
+	 * an {@link Optional} counts {@literal 1} if present, {@literal null} counts {@literal 0} and all other values,
+	 * including lazily evaluated results like {@link java.util.stream.Stream Streams}, count {@literal 1}.
+	 *
+	 * @param result invocation result.
+	 * @return the number of results.
+	 */
+	public static long countResults(@Nullable Object result) {
+
+		if (result == null) {
+			return 0L;
+		}
+		else if (result instanceof Collection) {
+			return ((Collection<?>) result).size();
+		}
+		else if (result instanceof Map) {
+			return ((Map<?, ?>) result).size();
+		}
+		else if (result instanceof Slice) {
+			return ((Slice<?>) result).getNumberOfElements();
+		}
+		else if (result instanceof Optional) {
+			return ((Optional<?>) result).isPresent() ? 1L : 0L;
+		}
+		else if (result.getClass().isArray()) {
+			return Array.getLength(result);
+		}
+
+		return 1L;
+	}
+
+	private final int failuresId;
+	private final int invocationsId;
+	private final int invocationsInProgressId;
+	private final int invocationTimeId;
+	private final int resultsId;
+
+	private final LongAccumulator maxInvocationTime = new LongAccumulator(Math::max, 0L);
+
+	private final Statistics statistics;
+
+	/**
+	 * Constructs a new instance of {@link DataAccessStatistics} recording invocations in the given {@link Statistics}.
+	 *
+	 * @param statistics {@link Statistics} created from a {@link org.apache.geode.StatisticsType} with the descriptors
+	 * returned by {@link #newStatisticDescriptors(StatisticsTypeFactory)}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Statistics} are {@literal null}.
+	 * @see org.apache.geode.Statistics
+	 */
+	public DataAccessStatistics(@NonNull Statistics statistics) {
+
+		Assert.notNull(statistics, "Statistics must not be null");
+
+		this.statistics = statistics;
+		this.failuresId = statistics.nameToId(FAILURES);
+		this.invocationsId = statistics.nameToId(INVOCATIONS);
+		this.invocationsInProgressId = statistics.nameToId(INVOCATIONS_IN_PROGRESS);
+		this.invocationTimeId = statistics.nameToId(INVOCATION_TIME);
+		this.resultsId = statistics.nameToId(RESULTS);
+
+		statistics.setLongSupplier(INVOCATION_TIME_MAX, this.maxInvocationTime::get);
+	}
+
+	/**
+	 * Returns the underlying Apache Geode {@link Statistics}.
+	 *
+	 * @return the underlying Apache Geode {@link Statistics}.
+	 * @see org.apache.geode.Statistics
+	 */
+	public Statistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Records the start of an invocation.
+	 *
+	 * @return the start time of the invocation used to {@link #endInvocation(long, long) end} the invocation.
+	 */
+	public long startInvocation() {
+
+		this.statistics.incLong(this.invocationsInProgressId, 1L);
+
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records the successful completion of an invocation.
+	 *
+	 * @param startTime start time returned by {@link #startInvocation()}.
+	 * @param resultCount number of results returned by the invocation.
+	 */
+	public void endInvocation(long startTime, long resultCount) {
+		recordInvocation(startTime);
+		this.statistics.incLong(this.resultsId, resultCount);
+	}
+
+	/**
+	 * Records the failed completion of an invocation.
+	 *
+	 * @param startTime start time returned by {@link #startInvocation()}.
+	 */
+	public void failInvocation(long startTime) {
+		recordInvocation(startTime);
+		this.statistics.incLong(this.failuresId, 1L);
+	}
+
+	private void recordInvocation(long startTime) {
+
+		long invocationTime = System.nanoTime() - startTime;
+
+		this.statistics.incLong(this.invocationsInProgressId, -1L);
+		this.statistics.incLong(this.invocationsId, 1L);
+		this.statistics.incLong(this.invocationTimeId, invocationTime);
+		this.maxInvocationTime.accumulate(invocationTime);
+	}
+
+	public long getFailureCount() {
+		return this.statistics.getLong(this.failuresId);
+	}
+
+	public long getInvocationCount() {
+		return this.statistics.getLong(this.invocationsId);
+	}
+
+	public long getInvocationsInProgress() {
+		return this.statistics.getLong(this.invocationsInProgressId);
+	}
+
+	public long getInvocationTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.statistics.getLong(this.invocationTimeId), TimeUnit.NANOSECONDS);
+	}
+
+	public long getMaxInvocationTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.maxInvocationTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	public long getResultCount() {
+		return this.statistics.getLong(this.resultsId);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[%2$s]", this.statistics.getType().getName(), this.statistics.getTextId());
+	}
+}
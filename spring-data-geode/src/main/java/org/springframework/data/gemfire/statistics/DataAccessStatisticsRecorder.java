@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.statistics;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link DataAccessStatisticsRecorder} class registers custom Apache Geode
+ * {@link StatisticsType StatisticsTypes} for Spring Data data access operations and creates
+ * {@link DataAccessStatistics} for the individual operations, such as
+ * a {@link org.springframework.data.repository.Repository} or a
+ * {@link org.springframework.data.repository.Repository} query method.
+ *
+ * The {@link Statistics} are created with the {@link StatisticsFactory} of the cache's
+ * {@link org.apache.geode.distributed.DistributedSystem} and are therefore sampled and archived together with
+ * Apache Geode's own statistics when statistic sampling is enabled.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Statistics
+ * @see org.apache.geode.StatisticsFactory
+ * @see org.apache.geode.StatisticsType
+ * @see org.springframework.data.gemfire.statistics.DataAccessStatistics
+ * @since 2.5.0
+ */
+public class DataAccessStatisticsRecorder implements BeanFactoryAware, DisposableBean {
+
+	public static final String CONTINUOUS_QUERY_STATISTICS_TYPE_NAME = "SpringDataContinuousQueryStats";
+	public static final String FUNCTION_EXECUTION_STATISTICS_TYPE_NAME = "SpringDataFunctionExecutionStats";
+	public static final String REPOSITORY_STATISTICS_TYPE_NAME = "SpringDataRepositoryStats";
+
+	private static final Map<String, String> STATISTICS_TYPE_DESCRIPTIONS;
+
+	static {
+
+		Map<String, String> statisticsTypeDescriptions = new HashMap<>();
+
+		statisticsTypeDescriptions.put(CONTINUOUS_QUERY_STATISTICS_TYPE_NAME,
+			"Statistics for Spring Data Continuous Query event dispatch");
+		statisticsTypeDescriptions.put(FUNCTION_EXECUTION_STATISTICS_TYPE_NAME,
+			"Statistics for Spring Data Function execution proxy calls");
+		statisticsTypeDescriptions.put(REPOSITORY_STATISTICS_TYPE_NAME,
+			"Statistics for Spring Data Repository method invocations");
+
+		STATISTICS_TYPE_DESCRIPTIONS = Collections.unmodifiableMap(statisticsTypeDescriptions);
+	}
+
+	private final Map<String, DataAccessStatistics> statistics = new ConcurrentHashMap<>();
+
+	private volatile StatisticsFactory statisticsFactory;
+
+	private Supplier<StatisticsFactory> statisticsFactorySupplier;
+
+	/**
+	 * Constructs a new instance of {@link DataAccessStatisticsRecorder} using the {@link StatisticsFactory}
+	 * of the {@link GemFireCache} resolved from the Spring {@link BeanFactory}.
+	 */
+	public DataAccessStatisticsRecorder() {
+		this.statisticsFactorySupplier = () -> {
+			throw newIllegalStateException("StatisticsFactory was not configured");
+		};
+	}
+
+	/**
+	 * Constructs a new instance of {@link DataAccessStatisticsRecorder} initialized with the given
+	 * {@link StatisticsFactory}.
+	 *
+	 * @param statisticsFactory {@link StatisticsFactory} used to create {@link Statistics};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link StatisticsFactory} is {@literal null}.
+	 * @see org.apache.geode.StatisticsFactory
+	 */
+	public DataAccessStatisticsRecorder(@NonNull StatisticsFactory statisticsFactory) {
+
+		Assert.notNull(statisticsFactory, "StatisticsFactory must not be null");
+
+		this.statisticsFactory = statisticsFactory;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.statisticsFactorySupplier = () -> beanFactory.getBean(GemFireCache.class).getDistributedSystem();
+	}
+
+	protected StatisticsFactory getStatisticsFactory() {
+
+		StatisticsFactory statisticsFactory = this.statisticsFactory;
+
+		if (statisticsFactory == null) {
+			synchronized (this) {
+				statisticsFactory = this.statisticsFactory;
+				if (statisticsFactory == null) {
+					statisticsFactory = this.statisticsFactorySupplier.get();
+					this.statisticsFactory = statisticsFactory;
+				}
+			}
+		}
+
+		return statisticsFactory;
+	}
+
+	/**
+	 * Returns the {@link DataAccessStatistics} identified by the given {@link String text identifier}
+	 * for the named {@link StatisticsType}, creating the {@link Statistics} on first use.
+	 *
+	 * @param statisticsTypeName {@link String name} of the {@link StatisticsType}; must be one of
+	 * the {@literal *_STATISTICS_TYPE_NAME} constants.
+	 * @param textId {@link String text identifier} of the {@link Statistics}, for example, the name of
+	 * the {@link org.springframework.data.repository.Repository} method.
+	 * @return the {@link DataAccessStatistics}.
+	 * @throws IllegalArgumentException if the {@link StatisticsType} name is not known.
+	 * @see org.springframework.data.gemfire.statistics.DataAccessStatistics
+	 */
+	public DataAccessStatistics getStatistics(String statisticsTypeName, String textId) {
+
+		if (!STATISTICS_TYPE_DESCRIPTIONS.containsKey(statisticsTypeName)) {
+			throw newIllegalArgumentException("StatisticsType [%s] is not known", statisticsTypeName);
+		}
+
+		return this.statistics.computeIfAbsent(statisticsTypeName + ":" + textId, key ->
+			new DataAccessStatistics(getStatisticsFactory()
+				.createAtomicStatistics(resolveStatisticsType(statisticsTypeName), textId)));
+	}
+
+	private synchronized StatisticsType resolveStatisticsType(String statisticsTypeName) {
+
+		StatisticsFactory statisticsFactory = getStatisticsFactory();
+
+		StatisticsType statisticsType = statisticsFactory.findType(statisticsTypeName);
+
+		return statisticsType != null ? statisticsType
+			: statisticsFactory.createType(statisticsTypeName, STATISTICS_TYPE_DESCRIPTIONS.get(statisticsTypeName),
+				DataAccessStatistics.newStatisticDescriptors(statisticsFactory));
+	}
+
+	/**
+	 * Closes all {@link Statistics} created by this {@link DataAccessStatisticsRecorder}.
+	 */
+	@Override
+	public void destroy() {
+
+		this.statistics.values().stream()
+			.map(DataAccessStatistics::getStatistics)
+			.filter(statistics -> !statistics.isClosed())
+			.forEach(Statistics::close);
+
+		this.statistics.clear();
+	}
+}
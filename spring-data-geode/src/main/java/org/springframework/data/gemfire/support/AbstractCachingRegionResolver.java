@@ -15,14 +15,11 @@
  */
 package org.springframework.data.gemfire.support;
 
-import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.geode.cache.CacheListener;
 import org.apache.geode.cache.Region;
-import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionEvent;
 import org.apache.geode.cache.util.CacheListenerAdapter;
 
@@ -34,9 +31,13 @@ import org.springframework.util.StringUtils;
 /**
  * {@link RegionResolver} implementation capable of caching the results of a Region resolution (lookup) operation.
  *
+ * Cache hits are lock-free. A cached {@link Region} that has been {@link Region#isDestroyed() destroyed}
+ * is detected when it is next resolved, and is then evicted and resolved again. This {@link RegionResolver}
+ * is no longer registered as a {@link org.apache.geode.cache.CacheListener} on resolved {@link Region Regions},
+ * which would otherwise add a listener to every entry event dispatch.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.Region
- * @see org.apache.geode.cache.CacheListener
  * @see org.apache.geode.cache.util.CacheListenerAdapter
  * @see org.springframework.data.gemfire.RegionResolver
  * @since 2.3.0
@@ -52,7 +53,7 @@ public abstract class AbstractCachingRegionResolver extends CacheListenerAdapter
 	 *
 	 * @param region {@link Region} to cache.
 	 */
-	synchronized void cache(@Nullable Region region) {
+	void cache(@Nullable Region region) {
 		Optional.ofNullable(region)
 			.filter(it -> StringUtils.hasText(region.getName()))
 			.ifPresent(it -> this.nameToRegionCache.put(region.getName(), region));
@@ -62,54 +63,42 @@ public abstract class AbstractCachingRegionResolver extends CacheListenerAdapter
 	 * @inheritDoc
 	 */
 	@Nullable @Override @SuppressWarnings("unchecked")
-	public synchronized <K, V> Region<K, V> resolve(@Nullable String regionName) {
+	public <K, V> Region<K, V> resolve(@Nullable String regionName) {
+
+		if (!StringUtils.hasText(regionName)) {
+			return null;
+		}
+
+		Region region = this.nameToRegionCache.get(regionName);
 
-		return StringUtils.hasText(regionName)
-			? this.nameToRegionCache.computeIfAbsent(regionName, this::doResolveAndRegisterResolverAsCacheListener)
-			: null;
+		if (region != null && region.isDestroyed()) {
+			this.nameToRegionCache.remove(regionName, region);
+			region = null;
+		}
+
+		return region != null ? region
+			: this.nameToRegionCache.computeIfAbsent(regionName, this::doResolveIfNotDestroyed);
 	}
 
 	/**
 	 * Performs the actual {@link Region} resolution operation to resolve a {@link Region} with
-	 * the given {@link String name} by calling {@link #doResolve(String)} and then registers
-	 * this {@link RegionResolver} as a {@link CacheListener} with the resolved {@link Region}.
+	 * the given {@link String name} by calling {@link #doResolve(String)}, ignoring the resolved {@link Region}
+	 * if it has been destroyed.
 	 *
 	 * @param <K> {@link Class type} of the {@link Region} key.
 	 * @param <V> {@link Class type} of the {@link Region} value.
 	 * @param regionName {@link String name} of the {@link Region} to resolve.
 	 * @return the resolved {@link Region} with the given {@link String name}; may be {@literal null}.
-	 * @see org.apache.geode.cache.Region
-	 * @see java.lang.String
+	 * @see org.apache.geode.cache.Region#isDestroyed()
 	 * @see #doResolve(String)
 	 */
-	@SuppressWarnings("unchecked")
-	<K, V> Region<K, V> doResolveAndRegisterResolverAsCacheListener(String regionName) {
+	<K, V> Region<K, V> doResolveIfNotDestroyed(String regionName) {
 
 		return Optional.<Region<K, V>>ofNullable(doResolve(regionName))
-			//.filter(this::isResolverNotRegisteredAsCacheListener)
-			.map(Region::getAttributesMutator)
-			.map(attributesMutator -> {
-				attributesMutator.addCacheListener(AbstractCachingRegionResolver.this);
-				return attributesMutator.getRegion();
-			})
+			.filter(region -> !region.isDestroyed())
 			.orElse(null);
 	}
 
-	@SuppressWarnings("unused")
-	private boolean isResolverNotRegisteredAsCacheListener(Region region) {
-		return region != null && !isResolverRegisteredAsCacheListener(region);
-	}
-
-	private boolean isResolverRegisteredAsCacheListener(Region region) {
-
-		return Optional.ofNullable(region)
-			.map(Region::getAttributes)
-			.map(RegionAttributes::getCacheListeners)
-			.map(Arrays::asList)
-			.filter(cacheListeners -> cacheListeners.contains(this))
-			.isPresent();
-	}
-
 	/**
 	 * Performs the actual {@link Region} resolution operation to resolve a {@link Region} with
 	 * the given {@link String name}.
@@ -127,6 +116,9 @@ public abstract class AbstractCachingRegionResolver extends CacheListenerAdapter
 	/**
 	 * Clears the cache entry for the {@link Region} identified by the {@link RegionEvent}.
 	 *
+	 * Destroyed {@link Region Regions} are detected on resolution; this callback only applies when
+	 * this {@link RegionResolver} is explicitly registered as a {@link org.apache.geode.cache.CacheListener}.
+	 *
 	 * @param event {@link RegionEvent} object capturing the details of the {@link Region} destroyed event.
 	 * @see org.apache.geode.cache.RegionEvent
 	 * @see #remove(String)
@@ -147,7 +139,7 @@ public abstract class AbstractCachingRegionResolver extends CacheListenerAdapter
 	 * @param regionName {@link String name} of the {@link Region} to remove from the cache.
 	 * @see java.util.concurrent.ConcurrentHashMap#remove(Object)
 	 */
-	synchronized void remove(@NonNull String regionName) {
+	void remove(@NonNull String regionName) {
 		this.nameToRegionCache.remove(regionName);
 	}
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.transaction;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.CommitConflictException;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} that re-executes a transactional unit of work when the local, cache
+ * transaction fails to commit due to a {@link CommitConflictException}.
+ *
+ * Retries are bounded by the configured maximum number of attempts and are separated by an exponentially increasing,
+ * jittered backoff so that concurrent, conflicting transactions do not immediately collide again.
+ *
+ * This interceptor must be ordered before (outside of) Spring's
+ * {@link org.springframework.transaction.interceptor.TransactionInterceptor} so that each attempt runs in a new
+ * cache transaction. Invocations that join an already active transaction are never retried since the outer
+ * transaction boundary owns the unit of work.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.apache.geode.cache.CommitConflictException
+ * @see org.springframework.aop.ProxyMethodInvocation
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionCommitException
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+ * @since 2.5.0
+ */
+public class CommitConflictRetryInterceptor implements MethodInterceptor {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 1;
+
+	public static final long DEFAULT_INITIAL_BACKOFF = 50L;
+	public static final long DEFAULT_MAX_BACKOFF = 1000L;
+
+	public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0d;
+
+	private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+
+	private final GemfireTransactionMetrics transactionMetrics;
+
+	private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+	private long initialBackoff = DEFAULT_INITIAL_BACKOFF;
+	private long maxBackoff = DEFAULT_MAX_BACKOFF;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * Constructs a new instance of {@link CommitConflictRetryInterceptor} initialized with
+	 * the given {@link GemfireTransactionMetrics} used to record retries.
+	 *
+	 * @param transactionMetrics {@link GemfireTransactionMetrics} used to record retries.
+	 * @throws IllegalArgumentException if {@link GemfireTransactionMetrics} is {@literal null}.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+	 */
+	public CommitConflictRetryInterceptor(@NonNull GemfireTransactionMetrics transactionMetrics) {
+
+		Assert.notNull(transactionMetrics, "GemfireTransactionMetrics must not be null");
+
+		this.transactionMetrics = transactionMetrics;
+	}
+
+	/**
+	 * Sets the multiplier applied to the backoff after each failed attempt.
+	 *
+	 * @param backoffMultiplier multiplier applied to the backoff after each failed attempt; must be at least 1.0.
+	 */
+	public void setBackoffMultiplier(double backoffMultiplier) {
+
+		Assert.isTrue(backoffMultiplier >= 1.0d,
+			String.format("Backoff multiplier [%s] must be greater than or equal to 1.0", backoffMultiplier));
+
+		this.backoffMultiplier = backoffMultiplier;
+	}
+
+	protected double getBackoffMultiplier() {
+		return this.backoffMultiplier;
+	}
+
+	/**
+	 * Sets the backoff in milliseconds applied before the first retry.
+	 *
+	 * @param initialBackoff backoff in milliseconds applied before the first retry.
+	 */
+	public void setInitialBackoff(long initialBackoff) {
+		this.initialBackoff = Math.max(initialBackoff, 0L);
+	}
+
+	protected long getInitialBackoff() {
+		return this.initialBackoff;
+	}
+
+	/**
+	 * Sets the maximum number of times the transactional unit of work is attempted, including the first attempt.
+	 *
+	 * A value of {@literal 1} disables retries.
+	 *
+	 * @param maxAttempts maximum number of attempts.
+	 */
+	public void setMaxAttempts(int maxAttempts) {
+		this.maxAttempts = Math.max(maxAttempts, 1);
+	}
+
+	protected int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	/**
+	 * Sets the upper bound in milliseconds for the backoff between attempts.
+	 *
+	 * @param maxBackoff upper bound in milliseconds for the backoff between attempts.
+	 */
+	public void setMaxBackoff(long maxBackoff) {
+		this.maxBackoff = Math.max(maxBackoff, 0L);
+	}
+
+	protected long getMaxBackoff() {
+		return this.maxBackoff;
+	}
+
+	protected GemfireTransactionMetrics getTransactionMetrics() {
+		return this.transactionMetrics;
+	}
+
+	/**
+	 * Determines whether retries are enabled.
+	 *
+	 * @return a boolean value indicating whether retries are enabled.
+	 * @see #getMaxAttempts()
+	 */
+	public boolean isRetryEnabled() {
+		return getMaxAttempts() > 1;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		if (!isRetryEnabled() || TransactionSynchronizationManager.isActualTransactionActive()
+				|| !(invocation instanceof ProxyMethodInvocation)) {
+
+			return invocation.proceed();
+		}
+
+		ProxyMethodInvocation proxyMethodInvocation = (ProxyMethodInvocation) invocation;
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return proxyMethodInvocation.invocableClone().proceed();
+			}
+			catch (GemfireTransactionCommitException cause) {
+
+				if (!isCommitConflict(cause)) {
+					throw cause;
+				}
+
+				if (attempt >= getMaxAttempts()) {
+
+					getTransactionMetrics().recordCommitRetryExhausted();
+
+					throw cause;
+				}
+
+				long backoff = computeBackoff(attempt);
+
+				if (this.logger.isDebugEnabled()) {
+					this.logger.debug(String.format("Commit conflict on attempt [%1$d] of [%2$d] for [%3$s];"
+						+ " retrying in [%4$d] ms", attempt, getMaxAttempts(), invocation.getMethod(), backoff));
+				}
+
+				if (!sleep(backoff)) {
+					throw cause;
+				}
+
+				getTransactionMetrics().recordCommitRetry();
+			}
+		}
+	}
+
+	/**
+	 * Computes the jittered backoff in milliseconds applied after the given, failed attempt.
+	 *
+	 * The backoff grows exponentially by the {@link #getBackoffMultiplier() backoff multiplier}, capped at the
+	 * {@link #getMaxBackoff() maximum backoff}, and is then randomized between half and the full computed value.
+	 *
+	 * @param attempt the number of the failed attempt, starting at {@literal 1}.
+	 * @return the jittered backoff in milliseconds.
+	 */
+	protected long computeBackoff(int attempt) {
+
+		double exponentialBackoff = getInitialBackoff() * Math.pow(getBackoffMultiplier(), attempt - 1);
+
+		long backoff = (long) Math.min(exponentialBackoff, getMaxBackoff());
+
+		long halfBackoff = backoff / 2L;
+
+		return halfBackoff + ThreadLocalRandom.current().nextLong(backoff - halfBackoff + 1L);
+	}
+
+	private boolean isCommitConflict(Throwable cause) {
+
+		for (Throwable current = cause; current != null; current = current.getCause()) {
+			if (current instanceof CommitConflictException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean sleep(long milliseconds) {
+
+		try {
+			TimeUnit.MILLISECONDS.sleep(milliseconds);
+			return true;
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
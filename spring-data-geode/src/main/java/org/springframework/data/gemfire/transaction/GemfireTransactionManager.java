@@ -16,12 +16,14 @@
 package org.springframework.data.gemfire.transaction;
 
 import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheHolder.newCacheHolder;
+import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheHolder.newReadOnlyCacheHolder;
 import static org.springframework.data.gemfire.transaction.GemfireTransactionManager.CacheTransactionObject.newCacheTransactionObject;
 
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.TransactionId;
@@ -56,6 +58,12 @@ import org.springframework.util.Assert;
  * for <code>get</code> data access operations. As a workaround, one could use explicitly deep copy objects before
  * making changes to them to avoid unnecessary copying on every fetch.
  *
+ * <p>
+ * Optionally, {@link TransactionDefinition#isReadOnly() read-only} transactions can bypass the {@link GemFireCache}
+ * transaction entirely, avoiding the overhead of maintaining transactional state for data access operations that
+ * only read data. Read-only transactions are still bound to the current thread so that transaction boundaries,
+ * synchronizations and propagation behave as expected.
+ *
  * @author Costin Leau
  * @author John Blum
  * @see org.apache.geode.CopyHelper#copy(Object)
@@ -79,8 +87,12 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 	private GemFireCache cache;
 
+	private boolean bypassReadOnlyTransactions = false;
+
 	private boolean copyOnRead = true;
 
+	private GemfireTransactionMetrics transactionMetrics = new GemfireTransactionMetrics();
+
 	private Long resumeWaitTime;
 
 	private TimeUnit resumeWaitTimeUnit = DEFAULT_RESUME_WAIT_TIME_UNIT;
@@ -145,6 +157,19 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 			GemFireCache cache = getCache();
 
+			if (isBypassReadOnlyTransactions() && definition.isReadOnly()) {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Bypassing local cache transaction for read-only transaction [%s]",
+						definition.getName()));
+				}
+
+				TransactionSynchronizationManager.bindResource(cache,
+					cacheTransaction.setAndGetHolder(newReadOnlyCacheHolder()));
+
+				return;
+			}
+
 			if (logger.isDebugEnabled()) {
 				logger.debug(String.format("Acquired GemFire Cache [%s] for local cache transaction", cache));
 			}
@@ -154,6 +179,8 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 			// begin GemFire local cache transaction
 			cacheTransactionManager.begin();
 
+			getTransactionMetrics().recordBegin();
+
 			TransactionId transactionId = cacheTransactionManager.getTransactionId();
 
 			if (transactionId != null) {
@@ -174,14 +201,32 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	@Override
 	protected void doCommit(DefaultTransactionStatus status) throws TransactionException {
 
+		if (isReadOnly(status)) {
+			return;
+		}
+
+		long startTime = System.nanoTime();
+
 		try {
 			if (status.isDebug()) {
 				logger.debug("Committing local cache transaction");
 			}
 
 			getCacheTransactionManager().commit();
+
+			getTransactionMetrics().recordCommit(System.nanoTime() - startTime);
+		}
+		catch (CommitConflictException cause) {
+
+			getTransactionMetrics().recordCommitConflict(System.nanoTime() - startTime);
+
+			throw new GemfireTransactionCommitException(
+				"Unexpected failure occurred on commit of local cache transaction", cause);
 		}
 		catch (org.apache.geode.cache.TransactionException cause) {
+
+			getTransactionMetrics().recordCommitFailure(System.nanoTime() - startTime);
+
 			throw new GemfireTransactionCommitException(
 				"Unexpected failure occurred on commit of local cache transaction", cause);
 		}
@@ -198,6 +243,13 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	@Override
 	protected Object doSuspend(Object transaction) throws TransactionException {
 
+		CacheTransactionObject cacheTransaction = (CacheTransactionObject) transaction;
+
+		if (cacheTransaction.isHolding() && cacheTransaction.getHolder().isReadOnly()) {
+			TransactionSynchronizationManager.unbindResource(getCache());
+			return cacheTransaction.setAndGetExistingHolder(null);
+		}
+
 		if (getCacheTransactionManager().suspend() != null) {
 			TransactionSynchronizationManager.unbindResource(getCache());
 			return ((CacheTransactionObject) transaction).setAndGetExistingHolder(null);
@@ -216,9 +268,11 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 
 			CacheHolder holder = (CacheHolder) suspendedResources;
 
-			boolean resumeSuccessful = isResumeWaitTimeSet()
-				? getCacheTransactionManager().tryResume(holder.getTransactionId(), getResumeWaitTime(), getResumeWaitTimeUnit())
-				: getCacheTransactionManager().tryResume(holder.getTransactionId());
+			boolean resumeSuccessful = holder.isReadOnly()
+				|| (isResumeWaitTimeSet()
+					? getCacheTransactionManager().tryResume(holder.getTransactionId(),
+						getResumeWaitTime(), getResumeWaitTimeUnit())
+					: getCacheTransactionManager().tryResume(holder.getTransactionId()));
 
 			if (resumeSuccessful) {
 				TransactionSynchronizationManager.bindResource(getCache(),
@@ -233,12 +287,18 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	@Override
 	protected void doRollback(DefaultTransactionStatus status) throws TransactionException {
 
+		if (isReadOnly(status)) {
+			return;
+		}
+
 		try {
 			if (status.isDebug()) {
 				logger.debug("Rolling back local cache transaction");
 			}
 
 			getCacheTransactionManager().rollback();
+
+			getTransactionMetrics().recordRollback();
 		}
 		catch (Exception cause) {
 
@@ -249,6 +309,13 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		}
 	}
 
+	private boolean isReadOnly(DefaultTransactionStatus status) {
+
+		CacheHolder holder = ((CacheTransactionObject) status.getTransaction()).getHolder();
+
+		return holder != null && holder.isReadOnly();
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -273,6 +340,36 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		return false;
 	}
 
+	/**
+	 * Set whether {@link TransactionDefinition#isReadOnly() read-only} transactions bypass the local cache transaction
+	 * managed by the {@link CacheTransactionManager}.
+	 *
+	 * When {@literal true}, data access operations performed inside a read-only transaction are not transactional
+	 * and are therefore not isolated from concurrent modifications (i.e. no repeatable reads), but do not incur
+	 * the overhead of maintaining transactional state. Any writes performed inside a read-only transaction,
+	 * including writes from participating transactions, are applied to the cache immediately.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @param bypassReadOnlyTransactions boolean value indicating whether read-only transactions bypass
+	 * the local cache transaction.
+	 * @see org.springframework.transaction.TransactionDefinition#isReadOnly()
+	 */
+	public void setBypassReadOnlyTransactions(boolean bypassReadOnlyTransactions) {
+		this.bypassReadOnlyTransactions = bypassReadOnlyTransactions;
+	}
+
+	/**
+	 * Indicates whether {@link TransactionDefinition#isReadOnly() read-only} transactions bypass the local cache
+	 * transaction managed by the {@link CacheTransactionManager}.
+	 *
+	 * @return a boolean value indicating whether read-only transactions bypass the local cache transaction.
+	 * @see #setBypassReadOnlyTransactions(boolean)
+	 */
+	public boolean isBypassReadOnlyTransactions() {
+		return this.bypassReadOnlyTransactions;
+	}
+
 	/**
 	 * Sets a reference to the {@link GemFireCache} for which this transaction manager
 	 * manages local cache transactions.
@@ -336,6 +433,32 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 		return this.copyOnRead;
 	}
 
+	/**
+	 * Sets the {@link GemfireTransactionMetrics} used to record counters and timings for the local, cache transactions
+	 * managed by this transaction manager.
+	 *
+	 * @param transactionMetrics {@link GemfireTransactionMetrics} used to record transaction counters and timings.
+	 * @throws IllegalArgumentException if {@link GemfireTransactionMetrics} is {@literal null}.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+	 */
+	public void setTransactionMetrics(GemfireTransactionMetrics transactionMetrics) {
+
+		Assert.notNull(transactionMetrics, "GemfireTransactionMetrics must not be null");
+
+		this.transactionMetrics = transactionMetrics;
+	}
+
+	/**
+	 * Returns the {@link GemfireTransactionMetrics} used to record counters and timings for the local,
+	 * cache transactions managed by this transaction manager.
+	 *
+	 * @return the {@link GemfireTransactionMetrics} for this transaction manager.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+	 */
+	public GemfireTransactionMetrics getTransactionMetrics() {
+		return this.transactionMetrics;
+	}
+
 	/**
 	 * Sets the GemFire cache {@link Region} as an alternative in setting in the {@link GemFireCache} directly.
 	 *
@@ -462,6 +585,7 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	 */
 	protected static class CacheHolder {
 
+		private boolean readOnly = false;
 		private boolean rollbackOnly = false;
 
 		private TransactionId transactionId;
@@ -472,6 +596,16 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 			return cacheHolder;
 		}
 
+		static CacheHolder newReadOnlyCacheHolder() {
+			CacheHolder cacheHolder = new CacheHolder();
+			cacheHolder.readOnly = true;
+			return cacheHolder;
+		}
+
+		boolean isReadOnly() {
+			return this.readOnly;
+		}
+
 		void setRollbackOnly() {
 			this.rollbackOnly = true;
 		}
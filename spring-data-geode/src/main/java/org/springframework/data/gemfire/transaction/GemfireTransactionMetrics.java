@@ -0,0 +1,199 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.transaction;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link GemfireTransactionMetrics} class records counters and timings for local, cache transactions
+ * managed by the {@link GemfireTransactionManager}, such as the number of commits, commit conflicts and retries
+ * along with the commit latency.
+ *
+ * All counters are lock-free and safe to update concurrently from multiple transactional {@link Thread Threads}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.atomic.LongAccumulator
+ * @see java.util.concurrent.atomic.LongAdder
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @since 2.5.0
+ */
+public class GemfireTransactionMetrics {
+
+	private final LongAccumulator maxCommitTimeNanos = new LongAccumulator(Math::max, 0L);
+
+	private final LongAdder beginCount = new LongAdder();
+	private final LongAdder commitConflictCount = new LongAdder();
+	private final LongAdder commitCount = new LongAdder();
+	private final LongAdder commitFailureCount = new LongAdder();
+	private final LongAdder commitRetryCount = new LongAdder();
+	private final LongAdder commitRetryExhaustedCount = new LongAdder();
+	private final LongAdder commitTimeNanos = new LongAdder();
+	private final LongAdder rollbackCount = new LongAdder();
+
+	void recordBegin() {
+		this.beginCount.increment();
+	}
+
+	void recordCommit(long durationNanos) {
+		this.commitCount.increment();
+		recordCommitTime(durationNanos);
+	}
+
+	void recordCommitConflict(long durationNanos) {
+		this.commitConflictCount.increment();
+		recordCommitFailure(durationNanos);
+	}
+
+	void recordCommitFailure(long durationNanos) {
+		this.commitFailureCount.increment();
+		recordCommitTime(durationNanos);
+	}
+
+	private void recordCommitTime(long durationNanos) {
+		this.commitTimeNanos.add(durationNanos);
+		this.maxCommitTimeNanos.accumulate(durationNanos);
+	}
+
+	void recordCommitRetry() {
+		this.commitRetryCount.increment();
+	}
+
+	void recordCommitRetryExhausted() {
+		this.commitRetryExhaustedCount.increment();
+	}
+
+	void recordRollback() {
+		this.rollbackCount.increment();
+	}
+
+	/**
+	 * Returns the number of cache transactions that have begun.
+	 *
+	 * @return the number of cache transactions that have begun.
+	 */
+	public long getBeginCount() {
+		return this.beginCount.sum();
+	}
+
+	/**
+	 * Returns the number of cache transactions that failed to commit due to a
+	 * {@link org.apache.geode.cache.CommitConflictException}.
+	 *
+	 * @return the number of cache transaction commit conflicts.
+	 */
+	public long getCommitConflictCount() {
+		return this.commitConflictCount.sum();
+	}
+
+	/**
+	 * Returns the number of cache transactions that committed successfully.
+	 *
+	 * @return the number of successful cache transaction commits.
+	 */
+	public long getCommitCount() {
+		return this.commitCount.sum();
+	}
+
+	/**
+	 * Returns the number of cache transactions that failed to commit for any reason, including conflicts.
+	 *
+	 * @return the number of failed cache transaction commits.
+	 */
+	public long getCommitFailureCount() {
+		return this.commitFailureCount.sum();
+	}
+
+	/**
+	 * Returns the number of times a transactional unit of work was retried after a commit conflict.
+	 *
+	 * @return the number of commit retries.
+	 */
+	public long getCommitRetryCount() {
+		return this.commitRetryCount.sum();
+	}
+
+	/**
+	 * Returns the number of transactional units of work that still failed with a commit conflict
+	 * after all attempts were used.
+	 *
+	 * @return the number of exhausted commit retries.
+	 */
+	public long getCommitRetryExhaustedCount() {
+		return this.commitRetryExhaustedCount.sum();
+	}
+
+	/**
+	 * Returns the average time spent in {@link org.apache.geode.cache.CacheTransactionManager#commit()}
+	 * in the given {@link TimeUnit}.
+	 *
+	 * @param timeUnit {@link TimeUnit} in which to express the average commit time.
+	 * @return the average commit time, or {@literal 0} if no commits were attempted.
+	 * @see java.util.concurrent.TimeUnit
+	 */
+	public long getAverageCommitTime(TimeUnit timeUnit) {
+
+		long commitAttempts = getCommitCount() + getCommitFailureCount();
+
+		return commitAttempts > 0 ? timeUnit.convert(this.commitTimeNanos.sum() / commitAttempts, TimeUnit.NANOSECONDS)
+			: 0L;
+	}
+
+	/**
+	 * Returns the maximum time spent in {@link org.apache.geode.cache.CacheTransactionManager#commit()}
+	 * in the given {@link TimeUnit}.
+	 *
+	 * @param timeUnit {@link TimeUnit} in which to express the maximum commit time.
+	 * @return the maximum commit time.
+	 * @see java.util.concurrent.TimeUnit
+	 */
+	public long getMaxCommitTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.maxCommitTimeNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the total time spent in {@link org.apache.geode.cache.CacheTransactionManager#commit()}
+	 * in the given {@link TimeUnit}.
+	 *
+	 * @param timeUnit {@link TimeUnit} in which to express the total commit time.
+	 * @return the total commit time.
+	 * @see java.util.concurrent.TimeUnit
+	 */
+	public long getTotalCommitTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.commitTimeNanos.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of cache transactions that were rolled back.
+	 *
+	 * @return the number of cache transaction rollbacks.
+	 */
+	public long getRollbackCount() {
+		return this.rollbackCount.sum();
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{begins=%2$d, commits=%3$d, commitFailures=%4$d, commitConflicts=%5$d,"
+				+ " commitRetries=%6$d, commitRetriesExhausted=%7$d, rollbacks=%8$d, averageCommitTimeMicros=%9$d,"
+				+ " maxCommitTimeMicros=%10$d}",
+			getClass().getSimpleName(), getBeginCount(), getCommitCount(), getCommitFailureCount(),
+			getCommitConflictCount(), getCommitRetryCount(), getCommitRetryExhaustedCount(), getRollbackCount(),
+			getAverageCommitTime(TimeUnit.MICROSECONDS), getMaxCommitTime(TimeUnit.MICROSECONDS));
+	}
+}
@@ -23,6 +23,8 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor;
+import org.springframework.data.gemfire.transaction.event.AsyncTransactionListenerAdapter;
 import org.springframework.data.gemfire.transaction.event.TransactionApplicationEvent;
 
 /**
@@ -57,4 +59,108 @@ public @interface EnableGemfireCacheTransactions {
 	 */
 	boolean enableAutoTransactionEventPublishing() default false;
 
+	/**
+	 * Configures whether automatically fired {@link TransactionApplicationEvent} objects are published asynchronously
+	 * on a dedicated {@link Thread}, decoupling commit latency from the latency of application event handlers.
+	 *
+	 * Requires {@link #enableAutoTransactionEventPublishing()} to be {@literal true}.  Asynchronously published events
+	 * are delivered outside the transaction, so {@literal @TransactionalEventListener} handler methods must set
+	 * {@literal fallbackExecution} to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether transaction events are published asynchronously.
+	 * Defaults to {@literal false}.
+	 * @see org.springframework.data.gemfire.transaction.event.AsyncTransactionListenerAdapter
+	 */
+	boolean asyncTransactionEventPublishing() default false;
+
+	/**
+	 * Configures the maximum number of {@link TransactionApplicationEvent TransactionApplicationEvents} waiting to be
+	 * published asynchronously.
+	 *
+	 * @return the capacity of the asynchronous transaction event queue.  Defaults to {@literal 10000}.
+	 * @see #asyncTransactionEventPublishing()
+	 */
+	int transactionEventQueueCapacity() default AsyncTransactionListenerAdapter.DEFAULT_QUEUE_CAPACITY;
+
+	/**
+	 * Configures the policy applied to a {@link TransactionApplicationEvent} when the asynchronous transaction event
+	 * queue is full.
+	 *
+	 * @return the {@link AsyncTransactionListenerAdapter.OverflowPolicy}.
+	 * Defaults to {@link AsyncTransactionListenerAdapter.OverflowPolicy#BLOCK}.
+	 * @see #asyncTransactionEventPublishing()
+	 */
+	AsyncTransactionListenerAdapter.OverflowPolicy transactionEventQueueOverflowPolicy()
+		default AsyncTransactionListenerAdapter.OverflowPolicy.BLOCK;
+
+	/**
+	 * Configures the maximum number of asynchronously published {@link TransactionApplicationEvent
+	 * TransactionApplicationEvents} combined into a single
+	 * {@link org.springframework.data.gemfire.transaction.event.TransactionApplicationEvents} batch event.
+	 *
+	 * @return the maximum number of events in a batch.  Defaults to {@literal 1}, which disables batching.
+	 * @see #asyncTransactionEventPublishing()
+	 */
+	int transactionEventBatchSize() default AsyncTransactionListenerAdapter.DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Configures whether {@link org.springframework.transaction.TransactionDefinition#isReadOnly() read-only}
+	 * transactions bypass the cache transaction entirely.
+	 *
+	 * Data access operations performed inside a read-only transaction are then not transactional (i.e. are not
+	 * isolated from concurrent modifications), but do not incur the overhead of maintaining transactional state.
+	 *
+	 * @return a boolean value indicating whether read-only transactions bypass the cache transaction.
+	 * Defaults to {@literal false}.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager#setBypassReadOnlyTransactions(boolean)
+	 */
+	boolean bypassReadOnlyTransactions() default false;
+
+	/**
+	 * Configures whether the cache returns copies rather than direct references to the objects it manages
+	 * on fetch operations.
+	 *
+	 * Copy-on-read is a cache-wide setting in Apache Geode. Set this to {@literal false} for read-mostly applications
+	 * that deep copy objects (e.g. using {@link org.apache.geode.CopyHelper#copy(Object)}) before modifying them.
+	 *
+	 * @return a boolean value indicating whether the cache returns copies of the objects it manages.
+	 * Defaults to {@literal true}.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager#setCopyOnRead(boolean)
+	 */
+	boolean copyOnRead() default true;
+
+	/**
+	 * Configures the maximum number of times a {@literal @Transactional} unit of work is attempted when the cache
+	 * transaction fails to commit due to a {@link org.apache.geode.cache.CommitConflictException}, including
+	 * the first attempt.
+	 *
+	 * Only outermost transactional method invocations are retried.
+	 *
+	 * @return the maximum number of attempts for a transactional unit of work.  Defaults to {@literal 1},
+	 * which disables retries.
+	 */
+	int maxCommitAttempts() default CommitConflictRetryInterceptor.DEFAULT_MAX_ATTEMPTS;
+
+	/**
+	 * Configures the backoff, in milliseconds, applied before the first retry after a commit conflict.
+	 *
+	 * @return the initial backoff in milliseconds.  Defaults to {@literal 50} ms.
+	 */
+	long commitRetryInitialBackoff() default CommitConflictRetryInterceptor.DEFAULT_INITIAL_BACKOFF;
+
+	/**
+	 * Configures the upper bound, in milliseconds, of the backoff applied between retries after a commit conflict.
+	 *
+	 * @return the maximum backoff in milliseconds.  Defaults to {@literal 1000} ms.
+	 */
+	long commitRetryMaxBackoff() default CommitConflictRetryInterceptor.DEFAULT_MAX_BACKOFF;
+
+	/**
+	 * Configures the multiplier applied to the backoff after each retry.  The resulting backoff is randomly jittered
+	 * so that conflicting transactions do not retry in lockstep.
+	 *
+	 * @return the backoff multiplier.  Defaults to {@literal 2.0}.
+	 */
+	double commitRetryBackoffMultiplier() default CommitConflictRetryInterceptor.DEFAULT_BACKOFF_MULTIPLIER;
+
 }
@@ -16,6 +16,7 @@
 package org.springframework.data.gemfire.transaction.config;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,10 +24,15 @@ import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.TransactionListener;
 import org.apache.geode.cache.TransactionWriter;
 
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportAware;
+import org.springframework.context.annotation.Role;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.Order;
@@ -35,10 +41,14 @@ import org.springframework.data.gemfire.CacheFactoryBean;
 import org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer;
 import org.springframework.data.gemfire.config.annotation.PeerCacheConfigurer;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
+import org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor;
 import org.springframework.data.gemfire.transaction.GemfireTransactionManager;
+import org.springframework.data.gemfire.transaction.GemfireTransactionMetrics;
+import org.springframework.data.gemfire.transaction.event.AsyncTransactionListenerAdapter;
 import org.springframework.data.gemfire.transaction.event.ComposableTransactionWriter;
 import org.springframework.data.gemfire.transaction.event.TransactionListenerAdapter;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
 
 /**
  * The {@link GemfireCacheTransactionsConfiguration} class is a Spring {@link Configuration @Configuration} class
@@ -59,7 +69,10 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * @see org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer
  * @see org.springframework.data.gemfire.config.annotation.PeerCacheConfigurer
  * @see org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
  * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+ * @see org.springframework.data.gemfire.transaction.event.AsyncTransactionListenerAdapter
  * @see org.springframework.data.gemfire.transaction.event.ComposableTransactionWriter
  * @see org.springframework.data.gemfire.transaction.event.TransactionListenerAdapter
  * @see org.springframework.transaction.annotation.EnableTransactionManagement
@@ -70,8 +83,25 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @SuppressWarnings("unused")
 public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
 
+	private volatile boolean asyncTransactionEventPublishing = false;
+	private volatile boolean bypassReadOnlyTransactions = false;
+	private volatile boolean copyOnRead = true;
 	private volatile boolean enableAutoTransactionEventPublishing;
 
+	private volatile double commitRetryBackoffMultiplier = CommitConflictRetryInterceptor.DEFAULT_BACKOFF_MULTIPLIER;
+
+	private volatile int maxCommitAttempts = CommitConflictRetryInterceptor.DEFAULT_MAX_ATTEMPTS;
+	private volatile int transactionEventBatchSize = AsyncTransactionListenerAdapter.DEFAULT_BATCH_SIZE;
+	private volatile int transactionEventQueueCapacity = AsyncTransactionListenerAdapter.DEFAULT_QUEUE_CAPACITY;
+
+	private volatile long commitRetryInitialBackoff = CommitConflictRetryInterceptor.DEFAULT_INITIAL_BACKOFF;
+	private volatile long commitRetryMaxBackoff = CommitConflictRetryInterceptor.DEFAULT_MAX_BACKOFF;
+
+	private volatile AsyncTransactionListenerAdapter.OverflowPolicy transactionEventQueueOverflowPolicy =
+		AsyncTransactionListenerAdapter.OverflowPolicy.BLOCK;
+
+	private final GemfireTransactionMetrics transactionMetrics = new GemfireTransactionMetrics();
+
 	@Override
 	protected Class<? extends Annotation> getAnnotationType() {
 		return EnableGemfireCacheTransactions.class;
@@ -86,6 +116,33 @@ public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationCon
 
 			this.enableAutoTransactionEventPublishing =
 				enableGemfireCacheTransactionsAttributes.getBoolean("enableAutoTransactionEventPublishing");
+
+			this.asyncTransactionEventPublishing =
+				enableGemfireCacheTransactionsAttributes.getBoolean("asyncTransactionEventPublishing");
+
+			this.transactionEventBatchSize =
+				enableGemfireCacheTransactionsAttributes.getNumber("transactionEventBatchSize");
+
+			this.transactionEventQueueCapacity =
+				enableGemfireCacheTransactionsAttributes.getNumber("transactionEventQueueCapacity");
+
+			this.transactionEventQueueOverflowPolicy =
+				enableGemfireCacheTransactionsAttributes.getEnum("transactionEventQueueOverflowPolicy");
+
+			this.bypassReadOnlyTransactions =
+				enableGemfireCacheTransactionsAttributes.getBoolean("bypassReadOnlyTransactions");
+
+			this.copyOnRead = enableGemfireCacheTransactionsAttributes.getBoolean("copyOnRead");
+
+			this.maxCommitAttempts = enableGemfireCacheTransactionsAttributes.getNumber("maxCommitAttempts");
+
+			this.commitRetryInitialBackoff =
+				enableGemfireCacheTransactionsAttributes.getNumber("commitRetryInitialBackoff");
+
+			this.commitRetryMaxBackoff = enableGemfireCacheTransactionsAttributes.getNumber("commitRetryMaxBackoff");
+
+			this.commitRetryBackoffMultiplier =
+				enableGemfireCacheTransactionsAttributes.getNumber("commitRetryBackoffMultiplier");
 		}
 	}
 
@@ -100,39 +157,107 @@ public class GemfireCacheTransactionsConfiguration extends AbstractAnnotationCon
 	 */
 	@Bean
 	public GemfireTransactionManager transactionManager(GemFireCache gemfireCache) {
-		return new GemfireTransactionManager(gemfireCache);
+
+		GemfireTransactionManager transactionManager = new GemfireTransactionManager();
+
+		transactionManager.setBypassReadOnlyTransactions(this.bypassReadOnlyTransactions);
+		transactionManager.setCache(gemfireCache);
+		transactionManager.setCopyOnRead(this.copyOnRead);
+		transactionManager.setTransactionMetrics(gemfireTransactionMetrics());
+
+		return transactionManager;
 	}
 
+	/**
+	 * Declares and registers the {@link GemfireTransactionMetrics} recording counters and timings for local,
+	 * cache transactions managed by SDG's {@link GemfireTransactionManager}.
+	 *
+	 * @return the {@link GemfireTransactionMetrics} shared by the transaction manager and commit retry advice.
+	 * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+	 */
 	@Bean
-	@Order(Ordered.LOWEST_PRECEDENCE)
-	public ClientCacheConfigurer registerTransactionListenerAdapterClientCacheConfigurer(
-		ApplicationEventPublisher applicationEventPublisher) {
+	public GemfireTransactionMetrics gemfireTransactionMetrics() {
+		return this.transactionMetrics;
+	}
+
+	/**
+	 * Declares and registers an AOP {@link Advisor} applying the {@link CommitConflictRetryInterceptor}
+	 * to all {@literal @Transactional} methods when {@link EnableGemfireCacheTransactions#maxCommitAttempts()}
+	 * is greater than {@literal 1}.
+	 *
+	 * The {@link Advisor} is ordered before Spring's transaction advice so that each attempt runs in
+	 * a new cache transaction.
+	 *
+	 * @param transactionAttributeSource {@link TransactionAttributeSource} used to identify transactional methods.
+	 * @return the commit conflict retry {@link Advisor}.
+	 * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+	 * @see org.springframework.transaction.interceptor.TransactionAttributeSource
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public Advisor commitConflictRetryAdvisor(TransactionAttributeSource transactionAttributeSource) {
+
+		CommitConflictRetryInterceptor retryInterceptor = new CommitConflictRetryInterceptor(this.transactionMetrics);
 
-		return (beanName, bean) -> {
+		retryInterceptor.setBackoffMultiplier(this.commitRetryBackoffMultiplier);
+		retryInterceptor.setInitialBackoff(this.commitRetryInitialBackoff);
+		retryInterceptor.setMaxAttempts(this.maxCommitAttempts);
+		retryInterceptor.setMaxBackoff(this.commitRetryMaxBackoff);
 
-			TransactionListenerAdapter transactionListener = newTransactionListenerAdapter(applicationEventPublisher);
+		StaticMethodMatcherPointcut transactionalMethodPointcut = new StaticMethodMatcherPointcut() {
 
-			registerGemFireCacheTransactionEventHandlers(bean, transactionListener);
+			@Override
+			public boolean matches(Method method, Class<?> targetClass) {
+				return retryInterceptor.isRetryEnabled()
+					&& transactionAttributeSource.getTransactionAttribute(method, targetClass) != null;
+			}
 		};
+
+		DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(transactionalMethodPointcut, retryInterceptor);
+
+		advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+
+		return advisor;
 	}
 
+	/**
+	 * Declares and registers the {@link TransactionListenerAdapter} used to publish cache transaction events
+	 * as {@link org.springframework.data.gemfire.transaction.event.TransactionApplicationEvent
+	 * TransactionApplicationEvents} when auto transaction event publishing is enabled.
+	 *
+	 * Returns an {@link AsyncTransactionListenerAdapter} when asynchronous transaction event publishing is enabled.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish transaction events.
+	 * @return the {@link TransactionListenerAdapter} used to publish transaction events.
+	 * @see org.springframework.data.gemfire.transaction.event.AsyncTransactionListenerAdapter
+	 * @see org.springframework.data.gemfire.transaction.event.TransactionListenerAdapter
+	 */
 	@Bean
-	@Order(Ordered.LOWEST_PRECEDENCE)
-	public PeerCacheConfigurer registerTransactionListenerAdapterPeerCacheConfigurer(
-		ApplicationEventPublisher applicationEventPublisher) {
+	public TransactionListenerAdapter gemfireTransactionListenerAdapter(
+			ApplicationEventPublisher applicationEventPublisher) {
 
-		return (beanName, bean) -> {
+		return this.enableAutoTransactionEventPublishing && this.asyncTransactionEventPublishing
+			? new AsyncTransactionListenerAdapter(applicationEventPublisher, this.transactionEventQueueCapacity,
+				this.transactionEventQueueOverflowPolicy, this.transactionEventBatchSize)
+			: new TransactionListenerAdapter(applicationEventPublisher);
+	}
 
-			TransactionListenerAdapter transactionListener = newTransactionListenerAdapter(applicationEventPublisher);
+	@Bean
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	public ClientCacheConfigurer registerTransactionListenerAdapterClientCacheConfigurer(
+		TransactionListenerAdapter gemfireTransactionListenerAdapter) {
 
-			registerGemFireCacheTransactionEventHandlers(bean, transactionListener);
-		};
+		return (beanName, bean) ->
+			registerGemFireCacheTransactionEventHandlers(bean, gemfireTransactionListenerAdapter);
 	}
 
-	private TransactionListenerAdapter newTransactionListenerAdapter(
-			ApplicationEventPublisher applicationEventPublisher) {
+	@Bean
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	public PeerCacheConfigurer registerTransactionListenerAdapterPeerCacheConfigurer(
+		TransactionListenerAdapter gemfireTransactionListenerAdapter) {
 
-		return new TransactionListenerAdapter(applicationEventPublisher);
+		return (beanName, bean) ->
+			registerGemFireCacheTransactionEventHandlers(bean, gemfireTransactionListenerAdapter);
 	}
 
 	protected void registerGemFireCacheTransactionEventHandlers(CacheFactoryBean cacheFactoryBean,
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.transaction.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.TransactionEvent;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link AsyncTransactionListenerAdapter} class is a {@link TransactionListenerAdapter} that publishes
+ * {@link TransactionApplicationEvent TransactionApplicationEvents} asynchronously, decoupling the latency of
+ * application event handlers from the Apache Geode {@link Thread} committing the cache transaction.
+ *
+ * Events are enqueued on a bounded queue and published in order by a single, dedicated publisher {@link Thread},
+ * which is started by {@link #afterPropertiesSet()}.
+ * When the queue is full, the configured {@link OverflowPolicy} determines what happens to the event. Optionally,
+ * queued events are published in batches as a single {@link TransactionApplicationEvents} event.
+ *
+ * Since events are published after the Spring transaction has completed and on a different {@link Thread},
+ * {@link org.springframework.transaction.event.TransactionalEventListener @TransactionalEventListener} annotated
+ * handler methods must set {@literal fallbackExecution} to {@literal true} to receive asynchronously published events.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.BlockingQueue
+ * @see org.apache.geode.cache.TransactionEvent
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.context.ApplicationEventPublisher
+ * @see org.springframework.data.gemfire.transaction.event.TransactionApplicationEvent
+ * @see org.springframework.data.gemfire.transaction.event.TransactionApplicationEvents
+ * @see org.springframework.data.gemfire.transaction.event.TransactionListenerAdapter
+ * @since 2.5.0
+ */
+public class AsyncTransactionListenerAdapter extends TransactionListenerAdapter
+		implements InitializingBean, DisposableBean {
+
+	public static final int DEFAULT_BATCH_SIZE = 1;
+	public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+	protected static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLISECONDS = TimeUnit.SECONDS.toMillis(5);
+	protected static final long QUEUE_POLL_TIMEOUT_MILLISECONDS = 100L;
+
+	protected static final String PUBLISHER_THREAD_NAME = "Transaction Event Publisher";
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private volatile boolean closed = false;
+
+	private final BlockingQueue<TransactionApplicationEvent> queue;
+
+	private final int batchSize;
+
+	private final LongAccumulator maxHandlerLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+	private final LongAdder droppedEventCount = new LongAdder();
+	private final LongAdder handlerLatencyNanos = new LongAdder();
+	private final LongAdder publishCount = new LongAdder();
+	private final LongAdder publishedEventCount = new LongAdder();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final Thread publisherThread = newPublisherThread();
+
+	/**
+	 * Constructs a new instance of the {@link AsyncTransactionListenerAdapter} initialized with the required
+	 * {@link ApplicationEventPublisher} using the default queue capacity, {@link OverflowPolicy#BLOCK} and no batching.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish Apache Geode cache
+	 * {@link TransactionEvent TransactionEvents}.
+	 * @throws IllegalArgumentException if the {@link ApplicationEventPublisher} is {@literal null}.
+	 * @see #AsyncTransactionListenerAdapter(ApplicationEventPublisher, int, OverflowPolicy, int)
+	 */
+	public AsyncTransactionListenerAdapter(ApplicationEventPublisher applicationEventPublisher) {
+		this(applicationEventPublisher, DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of the {@link AsyncTransactionListenerAdapter} initialized with the required
+	 * {@link ApplicationEventPublisher}, the capacity of the event queue, the {@link OverflowPolicy} applied when
+	 * the queue is full and the maximum number of events published in a single {@link TransactionApplicationEvents}
+	 * batch.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish Apache Geode cache
+	 * {@link TransactionEvent TransactionEvents}.
+	 * @param queueCapacity maximum number of events waiting to be published; must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the queue is full;
+	 * defaults to {@link OverflowPolicy#BLOCK}.
+	 * @param batchSize maximum number of events published in a single batch; a value of {@literal 1} disables batching.
+	 * @throws IllegalArgumentException if the {@link ApplicationEventPublisher} is {@literal null}
+	 * or the queue capacity is less than {@literal 1}.
+	 */
+	public AsyncTransactionListenerAdapter(ApplicationEventPublisher applicationEventPublisher, int queueCapacity,
+			OverflowPolicy overflowPolicy, int batchSize) {
+
+		super(applicationEventPublisher);
+
+		Assert.isTrue(queueCapacity > 0,
+			() -> String.format("Queue capacity [%d] must be greater than 0", queueCapacity));
+
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+		this.batchSize = Math.max(batchSize, 1);
+	}
+
+	private Thread newPublisherThread() {
+
+		Thread publisherThread = new Thread(this::runPublisher, PUBLISHER_THREAD_NAME);
+
+		publisherThread.setDaemon(true);
+
+		return publisherThread;
+	}
+
+	/**
+	 * Starts the publisher {@link Thread}.  Events enqueued before this method is called are published once
+	 * the publisher {@link Thread} has started.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		if (!this.closed && this.started.compareAndSet(false, true)) {
+			this.publisherThread.start();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of events published in a single {@link TransactionApplicationEvents} batch.
+	 *
+	 * @return the maximum number of events published in a single batch.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Determines whether events are published in batches.
+	 *
+	 * @return a boolean value indicating whether events are published in batches.
+	 * @see #getBatchSize()
+	 */
+	public boolean isBatching() {
+		return getBatchSize() > 1;
+	}
+
+	/**
+	 * Returns the {@link OverflowPolicy} applied when the event queue is full.
+	 *
+	 * @return the {@link OverflowPolicy} applied when the event queue is full.
+	 */
+	public @NonNull OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Returns the number of events currently waiting to be published.
+	 *
+	 * @return the number of events currently waiting to be published.
+	 */
+	public int getQueueDepth() {
+		return this.queue.size();
+	}
+
+	/**
+	 * Returns the number of events dropped because the queue was full or the adapter was destroyed.
+	 *
+	 * @return the number of dropped events.
+	 */
+	public long getDroppedEventCount() {
+		return this.droppedEventCount.sum();
+	}
+
+	/**
+	 * Returns the number of {@link TransactionApplicationEvent TransactionApplicationEvents} published,
+	 * whether individually or as part of a batch.
+	 *
+	 * @return the number of published events.
+	 */
+	public long getPublishedEventCount() {
+		return this.publishedEventCount.sum();
+	}
+
+	/**
+	 * Returns the average time spent in application event handlers for a single call to
+	 * {@link ApplicationEventPublisher#publishEvent(ApplicationEvent)} in the given {@link TimeUnit}.
+	 *
+	 * @param timeUnit {@link TimeUnit} in which to express the average handler latency.
+	 * @return the average handler latency, or {@literal 0} if no events were published.
+	 */
+	public long getAverageHandlerLatency(@NonNull TimeUnit timeUnit) {
+
+		long publishCount = this.publishCount.sum();
+
+		return publishCount > 0
+			? timeUnit.convert(this.handlerLatencyNanos.sum() / publishCount, TimeUnit.NANOSECONDS)
+			: 0L;
+	}
+
+	/**
+	 * Returns the maximum time spent in application event handlers for a single call to
+	 * {@link ApplicationEventPublisher#publishEvent(ApplicationEvent)} in the given {@link TimeUnit}.
+	 *
+	 * @param timeUnit {@link TimeUnit} in which to express the maximum handler latency.
+	 * @return the maximum handler latency.
+	 */
+	public long getMaxHandlerLatency(@NonNull TimeUnit timeUnit) {
+		return timeUnit.convert(this.maxHandlerLatencyNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Enqueues the given {@link TransactionApplicationEvent} to be published asynchronously, applying the configured
+	 * {@link OverflowPolicy} when the queue is full.
+	 *
+	 * @param event {@link TransactionApplicationEvent} to publish.
+	 * @see #getOverflowPolicy()
+	 */
+	@Override
+	protected void publish(@NonNull TransactionApplicationEvent event) {
+
+		if (this.closed) {
+			this.droppedEventCount.increment();
+			return;
+		}
+
+		switch (getOverflowPolicy()) {
+			case CALLER_RUNS:
+				if (!this.queue.offer(event)) {
+					doPublish(event, 1);
+				}
+				break;
+			case DISCARD:
+				if (!this.queue.offer(event)) {
+					this.droppedEventCount.increment();
+				}
+				break;
+			case DISCARD_OLDEST:
+				while (!this.queue.offer(event)) {
+					if (this.queue.poll() != null) {
+						this.droppedEventCount.increment();
+					}
+				}
+				break;
+			case BLOCK:
+			default:
+				if (!offerUntilClosed(event)) {
+					this.droppedEventCount.increment();
+					return;
+				}
+		}
+
+		// the event was enqueued after the remaining events were removed by destroy()
+		if (this.closed && this.queue.remove(event)) {
+			this.droppedEventCount.increment();
+		}
+	}
+
+	// waits for space in the queue in bounded intervals so that a blocked caller is released when destroyed
+	private boolean offerUntilClosed(TransactionApplicationEvent event) {
+
+		try {
+			while (!this.closed) {
+				if (this.queue.offer(event, QUEUE_POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+
+		return false;
+	}
+
+	private void runPublisher() {
+
+		List<TransactionApplicationEvent> batch = new ArrayList<>(getBatchSize());
+
+		while (!this.closed || !this.queue.isEmpty()) {
+			try {
+
+				TransactionApplicationEvent event =
+					this.queue.poll(QUEUE_POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+
+				if (event != null) {
+					if (isBatching()) {
+						batch.add(event);
+						this.queue.drainTo(batch, getBatchSize() - 1);
+						doPublish(TransactionApplicationEvents.of(batch), batch.size());
+						batch.clear();
+					}
+					else {
+						doPublish(event, 1);
+					}
+				}
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	private void doPublish(ApplicationEvent event, int eventCount) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			getApplicationEventPublisher().publishEvent(event);
+		}
+		catch (RuntimeException cause) {
+			this.logger.warn(String.format("Failed to publish transaction event [%s]", event), cause);
+		}
+		finally {
+
+			long duration = System.nanoTime() - startTime;
+
+			this.handlerLatencyNanos.add(duration);
+			this.maxHandlerLatencyNanos.accumulate(duration);
+			this.publishCount.increment();
+			this.publishedEventCount.add(eventCount);
+		}
+	}
+
+	/**
+	 * Stops accepting new events and waits a bounded amount of time for queued events to be published.
+	 *
+	 * The publisher {@link Thread} is stopped before any events still waiting in the queue are removed
+	 * and counted as dropped.
+	 */
+	@Override
+	public void destroy() {
+
+		this.closed = true;
+
+		if (this.started.get()) {
+			try {
+				this.publisherThread.join(DEFAULT_SHUTDOWN_TIMEOUT_MILLISECONDS);
+
+				if (this.publisherThread.isAlive()) {
+					this.publisherThread.interrupt();
+					this.publisherThread.join(DEFAULT_SHUTDOWN_TIMEOUT_MILLISECONDS);
+				}
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		List<TransactionApplicationEvent> remainingEvents = new ArrayList<>();
+
+		this.queue.drainTo(remainingEvents);
+
+		if (!remainingEvents.isEmpty()) {
+			this.droppedEventCount.add(remainingEvents.size());
+			this.logger.warn("Dropped [{}] unpublished transaction events on shutdown", remainingEvents.size());
+		}
+	}
+
+	/**
+	 * Policy applied to a {@link TransactionApplicationEvent} when the queue of events waiting to be published is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Block the {@link Thread} completing the cache transaction until space is available in the queue.
+		 */
+		BLOCK,
+
+		/**
+		 * Publish the event synchronously on the {@link Thread} completing the cache transaction.
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * Drop the event.
+		 */
+		DISCARD,
+
+		/**
+		 * Drop the oldest event waiting in the queue to make room for the event.
+		 */
+		DISCARD_OLDEST
+
+	}
+}
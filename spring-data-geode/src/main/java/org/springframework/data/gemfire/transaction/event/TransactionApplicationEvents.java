@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.transaction.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link TransactionApplicationEvents} class is an {@link ApplicationEvent} containing a batch of
+ * {@link TransactionApplicationEvent TransactionApplicationEvents} published together by
+ * the {@link AsyncTransactionListenerAdapter}.
+ *
+ * @author John Blum
+ * @see java.lang.Iterable
+ * @see org.springframework.context.ApplicationEvent
+ * @see org.springframework.data.gemfire.transaction.event.AsyncTransactionListenerAdapter
+ * @see org.springframework.data.gemfire.transaction.event.TransactionApplicationEvent
+ * @since 2.5.0
+ */
+public class TransactionApplicationEvents extends ApplicationEvent implements Iterable<TransactionApplicationEvent> {
+
+	/**
+	 * Factory method used to construct a new instance of {@link TransactionApplicationEvents} initialized with
+	 * the given {@link List} of {@link TransactionApplicationEvent TransactionApplicationEvents}.
+	 *
+	 * @param events {@link List} of {@link TransactionApplicationEvent TransactionApplicationEvents} in the batch.
+	 * @return a new instance of {@link TransactionApplicationEvents}.
+	 * @throws IllegalArgumentException if the {@link List} of events is {@literal null}.
+	 * @see #TransactionApplicationEvents(List)
+	 */
+	public static TransactionApplicationEvents of(@NonNull List<TransactionApplicationEvent> events) {
+		return new TransactionApplicationEvents(events);
+	}
+
+	/**
+	 * Constructs a new instance of {@link TransactionApplicationEvents} initialized with the given {@link List} of
+	 * {@link TransactionApplicationEvent TransactionApplicationEvents}.
+	 *
+	 * @param events {@link List} of {@link TransactionApplicationEvent TransactionApplicationEvents} in the batch.
+	 * @throws IllegalArgumentException if the {@link List} of events is {@literal null}.
+	 */
+	public TransactionApplicationEvents(@NonNull List<TransactionApplicationEvent> events) {
+		super(Collections.unmodifiableList(new ArrayList<>(assertNotNull(events))));
+	}
+
+	private static List<TransactionApplicationEvent> assertNotNull(List<TransactionApplicationEvent> events) {
+
+		Assert.notNull(events, "List of TransactionApplicationEvents must not be null");
+
+		return events;
+	}
+
+	/**
+	 * Returns an unmodifiable {@link List} of {@link TransactionApplicationEvent TransactionApplicationEvents}
+	 * in this batch, in the order in which the transactions completed.
+	 *
+	 * @return an unmodifiable {@link List} of {@link TransactionApplicationEvent TransactionApplicationEvents}.
+	 */
+	@SuppressWarnings("unchecked")
+	public @NonNull List<TransactionApplicationEvent> getEvents() {
+		return (List<TransactionApplicationEvent>) getSource();
+	}
+
+	@Override
+	public Iterator<TransactionApplicationEvent> iterator() {
+		return getEvents().iterator();
+	}
+
+	/**
+	 * Returns the number of {@link TransactionApplicationEvent TransactionApplicationEvents} in this batch.
+	 *
+	 * @return the number of {@link TransactionApplicationEvent TransactionApplicationEvents} in this batch.
+	 */
+	public int size() {
+		return getEvents().size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[size = %2$d]", getClass().getSimpleName(), size());
+	}
+}
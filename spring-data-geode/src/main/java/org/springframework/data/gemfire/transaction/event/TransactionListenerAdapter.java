@@ -87,7 +87,7 @@ public class TransactionListenerAdapter implements TransactionListener, Transact
 	 */
 	@Override
 	public void afterCommit(TransactionEvent event) {
-		getApplicationEventPublisher().publishEvent(TransactionApplicationEvent.of(event));
+		publish(TransactionApplicationEvent.of(event));
 	}
 
 	/**
@@ -101,6 +101,19 @@ public class TransactionListenerAdapter implements TransactionListener, Transact
 	 */
 	@Override
 	public void afterRollback(TransactionEvent event) {
-		getApplicationEventPublisher().publishEvent(TransactionApplicationEvent.of(event));
+		publish(TransactionApplicationEvent.of(event));
+	}
+
+	/**
+	 * Publishes the given {@link TransactionApplicationEvent} using the configured {@link ApplicationEventPublisher}.
+	 *
+	 * This method is invoked on the Apache Geode {@link Thread} completing the cache transaction.
+	 *
+	 * @param event {@link TransactionApplicationEvent} to publish.
+	 * @see org.springframework.data.gemfire.transaction.event.TransactionApplicationEvent
+	 * @see #getApplicationEventPublisher()
+	 */
+	protected void publish(@NonNull TransactionApplicationEvent event) {
+		getApplicationEventPublisher().publishEvent(event);
 	}
 }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link LruCache} is a bounded, on-heap, {@literal least recently used (LRU)} cache whose entries optionally expire
+ * after a time-to-live (TTL).
+ *
+ * Lookups do not lock.  When the cache grows beyond its maximum size, the least recently used entries are evicted
+ * in a single pass by the thread that added the entry, so the cache may briefly hold more entries than its
+ * maximum size under concurrent loads.
+ *
+ * A value is loaded on a cache miss with the given loader {@link Function}.  Before loading, a per-key loading marker
+ * is added to the cache.  {@link #invalidate(Object) Invalidating} the key, or {@link #invalidateAll() all keys},
+ * removes the marker so that the value loaded concurrently with the invalidation is returned to the caller,
+ * but not cached.  Invalidating one key does not affect values loaded for other keys.  {@literal null} values
+ * are never cached.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the keys.
+ * @param <V> {@link Class type} of the values.
+ * @see java.util.concurrent.ConcurrentHashMap
+ * @since 2.5.0
+ */
+public class LruCache<K, V> {
+
+	private final int evictionThreshold;
+	private final int maxSize;
+
+	private final long timeToLive;
+
+	private final AtomicLong accessClock = new AtomicLong(0L);
+
+	private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	/**
+	 * Constructs a new instance of {@link LruCache} initialized with the given maximum size and time-to-live.
+	 *
+	 * @param maxSize maximum number of entries in the cache; must be greater than {@literal 0}.
+	 * @param timeToLive number of milliseconds an entry is kept in the cache; {@literal 0} keeps entries
+	 * until evicted or invalidated.
+	 * @throws IllegalArgumentException if {@code maxSize} is less than {@literal 1}
+	 * or {@code timeToLive} is less than {@literal 0}.
+	 */
+	public LruCache(int maxSize, long timeToLive) {
+
+		Assert.isTrue(maxSize > 0, () -> String.format("Maximum size [%d] must be greater than 0", maxSize));
+		Assert.isTrue(timeToLive >= 0,
+			() -> String.format("Time-to-live [%d] must be greater than equal to 0", timeToLive));
+
+		this.maxSize = maxSize;
+		this.timeToLive = timeToLive;
+		this.evictionThreshold = maxSize - maxSize / 10;
+	}
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Returns the cached value for the given key or loads and caches the value using the given loader
+	 * {@link Function} on a cache miss.
+	 *
+	 * @param key key of the value.
+	 * @param loader {@link Function} loading the value for the key on a cache miss.
+	 * @return the cached or loaded value; may be {@literal null}.
+	 */
+	public @Nullable V get(@NonNull K key, @NonNull Function<? super K, ? extends V> loader) {
+
+		long now = System.currentTimeMillis();
+
+		Entry<V> entry = lookup(key, now);
+
+		if (entry != null && !entry.isLoading()) {
+			this.hits.increment();
+			return entry.value;
+		}
+
+		Entry<V> loadingEntry = entry != null ? entry : reserve(key);
+
+		this.misses.increment();
+
+		V value;
+
+		try {
+			value = loader.apply(key);
+		}
+		catch (RuntimeException | Error cause) {
+			this.entries.remove(key, loadingEntry);
+			throw cause;
+		}
+
+		complete(key, loadingEntry, value, now);
+
+		return value;
+	}
+
+	/**
+	 * Returns the cached values for the given keys and loads the values of all keys missing from the cache
+	 * using the given loader {@link Function} in a single call.
+	 *
+	 * @param keys {@link Collection} of keys.
+	 * @param loader {@link Function} loading the values for the keys missing from the cache.
+	 * @return a {@link Map} of the cached and loaded values for the given keys.
+	 */
+	public @NonNull Map<K, V> getAll(@NonNull Collection<? extends K> keys,
+			@NonNull Function<Collection<K>, Map<K, V>> loader) {
+
+		long now = System.currentTimeMillis();
+
+		Map<K, V> values = new LinkedHashMap<>();
+
+		Map<K, Entry<V>> loadingEntries = new LinkedHashMap<>();
+
+		for (K key : keys) {
+
+			Entry<V> entry = lookup(key, now);
+
+			if (entry != null && !entry.isLoading()) {
+				this.hits.increment();
+				values.put(key, entry.value);
+			}
+			else {
+				loadingEntries.put(key, entry != null ? entry : reserve(key));
+			}
+		}
+
+		if (!loadingEntries.isEmpty()) {
+
+			this.misses.add(loadingEntries.size());
+
+			Map<K, V> loadedValues;
+
+			try {
+				loadedValues = loader.apply(new ArrayList<>(loadingEntries.keySet()));
+			}
+			catch (RuntimeException | Error cause) {
+				loadingEntries.forEach(this.entries::remove);
+				throw cause;
+			}
+
+			Map<K, V> resolvedLoadedValues = loadedValues != null ? loadedValues : new LinkedHashMap<>();
+
+			loadingEntries.forEach((key, loadingEntry) ->
+				complete(key, loadingEntry, resolvedLoadedValues.get(key), now));
+
+			values.putAll(resolvedLoadedValues);
+		}
+
+		return values;
+	}
+
+	private @Nullable Entry<V> lookup(K key, long now) {
+
+		Entry<V> entry = this.entries.get(key);
+
+		if (entry != null && !entry.isLoading()) {
+			if (entry.isExpired(now)) {
+				this.entries.remove(key, entry);
+				return null;
+			}
+
+			entry.lastAccessTime = this.accessClock.incrementAndGet();
+		}
+
+		return entry;
+	}
+
+	private Entry<V> reserve(K key) {
+
+		Entry<V> loadingEntry = Entry.loading(this.accessClock.incrementAndGet());
+
+		Entry<V> existingEntry = this.entries.putIfAbsent(key, loadingEntry);
+
+		if (existingEntry == null) {
+			evictIfNecessary();
+			return loadingEntry;
+		}
+
+		// another thread is loading (or has just loaded) the value; the value loaded by this thread is only cached
+		// in place of the other thread's loading marker
+		return existingEntry.isLoading() ? existingEntry : loadingEntry;
+	}
+
+	private void complete(K key, Entry<V> loadingEntry, @Nullable V value, long loadTime) {
+
+		if (value != null) {
+
+			long expirationTime = getTimeToLive() > 0 ? loadTime + getTimeToLive() : Long.MAX_VALUE;
+
+			this.entries.replace(key, loadingEntry, Entry.of(value, expirationTime,
+				this.accessClock.incrementAndGet()));
+		}
+		else {
+			this.entries.remove(key, loadingEntry);
+		}
+	}
+
+	private void evictIfNecessary() {
+
+		if (this.entries.size() > getMaxSize() && this.evictionLock.tryLock()) {
+			try {
+
+				int excess = this.entries.size() - this.evictionThreshold;
+
+				if (excess > 0) {
+
+					List<Map.Entry<K, Entry<V>>> candidates = new ArrayList<>(this.entries.entrySet());
+
+					candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccessTime));
+
+					for (int index = 0, size = Math.min(excess, candidates.size()); index < size; index++) {
+
+						Map.Entry<K, Entry<V>> candidate = candidates.get(index);
+
+						if (this.entries.remove(candidate.getKey(), candidate.getValue())) {
+							this.evictions.increment();
+						}
+					}
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Removes the entry with the given key from the cache.
+	 *
+	 * @param key key of the entry to remove.
+	 */
+	public void invalidate(@NonNull K key) {
+		this.entries.remove(key);
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public void invalidateAll() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Returns the number of entries in the cache, including entries whose values are being loaded.
+	 *
+	 * @return the number of entries in the cache.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	private static final class Entry<V> {
+
+		private static <V> Entry<V> loading(long accessTime) {
+			return new Entry<>(null, Long.MAX_VALUE, accessTime, true);
+		}
+
+		private static <V> Entry<V> of(V value, long expirationTime, long accessTime) {
+			return new Entry<>(value, expirationTime, accessTime, false);
+		}
+
+		private final boolean loading;
+
+		private final long expirationTime;
+
+		private volatile long lastAccessTime;
+
+		private final V value;
+
+		private Entry(V value, long expirationTime, long accessTime, boolean loading) {
+			this.value = value;
+			this.expirationTime = expirationTime;
+			this.lastAccessTime = accessTime;
+			this.loading = loading;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= this.expirationTime;
+		}
+
+		private boolean isLoading() {
+			return this.loading;
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.gemfire.cache.annotation.CacheableAll;
+
+/**
+ * Unit Tests for {@link CacheableAllInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.cache.CacheableAllInterceptor
+ * @see org.springframework.data.gemfire.cache.annotation.CacheableAll
+ * @since 2.5.0
+ */
+public class CacheableAllInterceptorUnitTests {
+
+	private Region<Object, Object> mockRegion;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		this.mockRegion = mock(Region.class);
+		when(this.mockRegion.getName()).thenReturn("Prices");
+	}
+
+	private static <T> T proxy(T target, CacheManager cacheManager) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+
+		proxyFactory.addAdvice(new CacheableAllInterceptor(cacheManager));
+
+		@SuppressWarnings("unchecked")
+		T proxy = (T) proxyFactory.getProxy();
+
+		return proxy;
+	}
+
+	private CacheManager newGemfireCacheManager() {
+
+		CacheManager mockCacheManager = mock(CacheManager.class);
+
+		when(mockCacheManager.getCache("Prices")).thenReturn(GemfireCache.wrap(this.mockRegion));
+
+		return mockCacheManager;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadsOnlyMissingKeysWithSingleBulkGetAndPut() {
+
+		Map<Object, Object> regionValues = new HashMap<>();
+
+		regionValues.put("a", 1);
+		regionValues.put("b", null);
+		regionValues.put("c", 3);
+
+		when(this.mockRegion.getAll(anyCollection())).thenReturn(regionValues);
+
+		TestPriceService target = new TestPriceService();
+
+		PriceService priceService = proxy(target, newGemfireCacheManager());
+
+		Map<String, Integer> prices = priceService.getPrices(Arrays.asList("a", "b", "c"));
+
+		assertThat(prices).containsExactly(entry("a", 1), entry("b", 20), entry("c", 3));
+		assertThat(target.requestedKeys).containsExactly(Arrays.asList("b"));
+
+		verify(this.mockRegion, times(1)).getAll(anyCollection());
+		verify(this.mockRegion, times(1)).putAll(mapOf("b", 20));
+	}
+
+	@Test
+	public void methodIsNotInvokedWhenAllKeysAreCached() {
+
+		Map<Object, Object> regionValues = new HashMap<>();
+
+		regionValues.put("a", 1);
+		regionValues.put("b", 2);
+
+		when(this.mockRegion.getAll(anyCollection())).thenReturn(regionValues);
+
+		TestPriceService target = new TestPriceService();
+
+		PriceService priceService = proxy(target, newGemfireCacheManager());
+
+		assertThat(priceService.getPrices(Arrays.asList("b", "a"))).containsExactly(entry("b", 2), entry("a", 1));
+		assertThat(target.requestedKeys).isEmpty();
+
+		verify(this.mockRegion, never()).putAll(anyMap());
+	}
+
+	@Test
+	public void nonGemfireCachesAreAccessedPerKey() {
+
+		TestPriceService target = new TestPriceService();
+
+		PriceService priceService = proxy(target, new ConcurrentMapCacheManager("Prices"));
+
+		assertThat(priceService.getPrices(Arrays.asList("a", "b"))).containsExactly(entry("a", 10), entry("b", 20));
+		assertThat(priceService.getPrices(Arrays.asList("a", "bb"))).containsExactly(entry("a", 10), entry("bb", 20));
+		assertThat(target.requestedKeys).containsExactly(Arrays.asList("a", "b"), Arrays.asList("bb"));
+	}
+
+	@Test
+	public void valuesFoundInLaterCacheAreStoredInPrecedingCaches() {
+
+		CacheManager cacheManager = new ConcurrentMapCacheManager("Local", "Prices");
+
+		cacheManager.getCache("Prices").put("a", 1);
+
+		TestPriceService target = new TestPriceService();
+
+		PriceService priceService = proxy(target, cacheManager);
+
+		assertThat(priceService.getTieredPrices(Arrays.asList("a", "b")))
+			.containsExactly(entry("a", 1), entry("b", 20));
+		assertThat(target.requestedKeys).containsExactly(Arrays.asList("b"));
+		assertThat(cacheManager.getCache("Local").get("a", Integer.class)).isEqualTo(1);
+		assertThat(cacheManager.getCache("Local").get("b", Integer.class)).isEqualTo(20);
+		assertThat(cacheManager.getCache("Prices").get("b", Integer.class)).isEqualTo(20);
+	}
+
+	@Test
+	public void methodNotReturningMapThrowsIllegalStateException() {
+
+		PriceService priceService = proxy(new TestPriceService(), newGemfireCacheManager());
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> priceService.getPrice("a"))
+			.withMessageContaining("must return a Map");
+	}
+
+	private static Map<Object, Object> mapOf(Object key, Object value) {
+
+		Map<Object, Object> map = new HashMap<>();
+
+		map.put(key, value);
+
+		return map;
+	}
+
+	interface PriceService {
+
+		Map<String, Integer> getPrices(Collection<String> symbols);
+
+		Map<String, Integer> getTieredPrices(Collection<String> symbols);
+
+		Integer getPrice(String symbol);
+
+	}
+
+	static class TestPriceService implements PriceService {
+
+		private final List<List<String>> requestedKeys = new ArrayList<>();
+
+		@Override
+		@CacheableAll("Prices")
+		public Map<String, Integer> getPrices(Collection<String> symbols) {
+
+			this.requestedKeys.add(new ArrayList<>(symbols));
+
+			Map<String, Integer> prices = new HashMap<>();
+
+			symbols.forEach(symbol -> prices.put(symbol, price(symbol)));
+
+			return prices;
+		}
+
+		@Override
+		@CacheableAll({ "Local", "Prices" })
+		public Map<String, Integer> getTieredPrices(Collection<String> symbols) {
+			return getPrices(symbols);
+		}
+
+		@Override
+		@CacheableAll("Prices")
+		public Integer getPrice(String symbol) {
+			return price(symbol);
+		}
+
+		private static Integer price(String symbol) {
+			return (symbol.charAt(0) - 'a' + 1) * 10;
+		}
+	}
+}
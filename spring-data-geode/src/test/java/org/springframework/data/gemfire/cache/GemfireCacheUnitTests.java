@@ -32,6 +32,9 @@ import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.geode.cache.Region;
 
@@ -247,4 +250,133 @@ public class GemfireCacheUnitTests {
 
 		verify(mockRegion, times(1)).putIfAbsent(eq("key"), eq("mockValue"));
 	}
+
+	@Test
+	public void retrieveReturnsValueWrapperForKeyAsynchronously() {
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+
+		assertThat(gemfireCache.retrieve("key").join().get()).isEqualTo("test");
+		assertThat(gemfireCache.retrieve("key", () -> "mockValue").join()).isEqualTo("test");
+	}
+
+	@Test
+	public void retrieveRejectedByExecutorReturnsValueRetrievedOnCallingThread() {
+		when(mockRegion.get(eq("key"))).thenReturn("test");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(runnable -> {
+			throw new RejectedExecutionException("TEST");
+		});
+
+		assertThat(gemfireCache.retrieve("key").join().get()).isEqualTo("test");
+		assertThat(gemfireCache.retrieve("key", () -> "mockValue").join()).isEqualTo("test");
+	}
+
+	@Test
+	public void defaultExecutorIsNotCommonPool() {
+		assertThat(GemfireCache.wrap(mockRegion).getExecutor()).isNotSameAs(ForkJoinPool.commonPool());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderRefreshesValueAheadOfExpiration() throws Exception {
+		AtomicInteger loads = new AtomicInteger(0);
+
+		when(mockRegion.get(eq("key"))).thenReturn(null, null, "v1");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+		gemfireCache.setRefreshAheadRatio(0.5d);
+		gemfireCache.setRefreshAheadTimeToLive(200L);
+
+		Callable<String> valueLoader = () -> "v" + loads.incrementAndGet();
+
+		assertThat(gemfireCache.get("key", valueLoader)).isEqualTo("v1");
+		assertThat(gemfireCache.get("key", valueLoader)).isEqualTo("v1");
+		assertThat(loads.get()).isEqualTo(1);
+
+		Thread.sleep(150L);
+
+		assertThat(gemfireCache.get("key", valueLoader)).isEqualTo("v1");
+		assertThat(loads.get()).isEqualTo(2);
+
+		verify(mockRegion, times(1)).put(eq("key"), eq("v1"));
+		verify(mockRegion, times(1)).put(eq("key"), eq("v2"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderDoesNotRefreshValuesLoadedElsewhere() throws Exception {
+		AtomicInteger loads = new AtomicInteger(0);
+
+		when(mockRegion.get(eq("key"))).thenReturn("v0");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+		gemfireCache.setRefreshAheadRatio(0.5d);
+		gemfireCache.setRefreshAheadTimeToLive(20L);
+
+		Callable<String> valueLoader = () -> "v" + loads.incrementAndGet();
+
+		assertThat(gemfireCache.get("key", valueLoader)).isEqualTo("v0");
+
+		Thread.sleep(15L);
+
+		assertThat(gemfireCache.get("key", valueLoader)).isEqualTo("v0");
+		assertThat(loads.get()).isZero();
+
+		verify(mockRegion, never()).put(anyObject(), anyObject());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderDoesNotRefreshValuesPastTheirTimeToLive() throws Exception {
+		AtomicInteger loads = new AtomicInteger(0);
+
+		when(mockRegion.get(eq("key"))).thenReturn(null, null, "v1");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setExecutor(Runnable::run);
+		gemfireCache.setRefreshAheadRatio(0.5d);
+		gemfireCache.setRefreshAheadTimeToLive(20L);
+
+		Callable<String> valueLoader = () -> "v" + loads.incrementAndGet();
+
+		assertThat(gemfireCache.get("key", valueLoader)).isEqualTo("v1");
+
+		Thread.sleep(40L);
+
+		assertThat(gemfireCache.get("key", valueLoader)).isEqualTo("v1");
+		assertThat(gemfireCache.get("key", valueLoader)).isEqualTo("v1");
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void getWithValueLoaderThrowsIllegalStateExceptionWhenRefreshAheadHasNoTimeToLive() {
+		when(mockRegion.getName()).thenReturn("Example");
+
+		exception.expect(IllegalStateException.class);
+		exception.expectMessage("Refresh-ahead is enabled for cache [Example] but no time-to-live is configured");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setRefreshAheadRatio(0.5d);
+		gemfireCache.get("key", () -> "value");
+	}
+
+	@Test
+	public void setRefreshAheadRatioOutOfRangeThrowsIllegalArgumentException() {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("Refresh-ahead ratio [1.0] must be greater than equal to 0 and less than 1");
+
+		GemfireCache.wrap(mockRegion).setRefreshAheadRatio(1.0d);
+	}
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+/**
+ * Unit Tests for {@link TwoLevelGemfireCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.cache.TwoLevelGemfireCache
+ * @since 2.5.0
+ */
+public class TwoLevelGemfireCacheUnitTests {
+
+	private final AtomicReference<CacheListener<Object, Object>> cacheListener = new AtomicReference<>();
+
+	private Region<Object, Object> mockRegion;
+
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockRegion = mock(Region.class);
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		this.mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(this.mockRegion.getAttributes()).thenReturn(this.mockRegionAttributes);
+
+		doAnswer(invocation -> {
+			this.cacheListener.set(invocation.getArgument(0));
+			return null;
+		}).when(mockAttributesMutator).addCacheListener(any(CacheListener.class));
+	}
+
+	private TwoLevelGemfireCache newTwoLevelGemfireCache(int maxSize, long timeToLive) {
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, maxSize, timeToLive);
+
+		cache.afterPropertiesSet();
+
+		return cache;
+	}
+
+	@Test
+	public void repeatedLookupsAreServedByNearCache() {
+
+		when(this.mockRegion.get("key")).thenReturn("value");
+
+		TwoLevelGemfireCache cache = newTwoLevelGemfireCache(10, 0L);
+
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(cache.get("missing")).isNull();
+
+		verify(this.mockRegion, times(1)).get("key");
+
+		assertThat(cache.getNearCacheHitCount()).isEqualTo(2L);
+		assertThat(cache.getRegionHitCount()).isEqualTo(1L);
+		assertThat(cache.getMissCount()).isEqualTo(1L);
+		assertThat(cache.getNearCacheHitRatio()).isEqualTo(0.5d);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionEntryEventInvalidatesNearCache() {
+
+		when(this.mockRegion.get("key")).thenReturn("one", "two");
+
+		TwoLevelGemfireCache cache = newTwoLevelGemfireCache(10, 0L);
+
+		assertThat(cache.get("key").get()).isEqualTo("one");
+		assertThat(cache.getNearCacheSize()).isOne();
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn("key");
+
+		this.cacheListener.get().afterUpdate(mockEntryEvent);
+
+		assertThat(cache.getNearCacheSize()).isZero();
+		assertThat(cache.get("key").get()).isEqualTo("two");
+	}
+
+	@Test
+	public void leastRecentlyUsedEntriesAreEvicted() {
+
+		when(this.mockRegion.get(1)).thenReturn("one");
+		when(this.mockRegion.get(2)).thenReturn("two");
+		when(this.mockRegion.get(3)).thenReturn("three");
+
+		TwoLevelGemfireCache cache = newTwoLevelGemfireCache(2, 0L);
+
+		cache.get(1);
+		cache.get(2);
+		cache.get(1);
+		cache.get(3);
+
+		assertThat(cache.getNearCacheSize()).isEqualTo(2);
+		assertThat(cache.get(1).get()).isEqualTo("one");
+		assertThat(cache.get(2).get()).isEqualTo("two");
+
+		verify(this.mockRegion, times(1)).get(1);
+		verify(this.mockRegion, times(2)).get(2);
+	}
+
+	@Test
+	public void putInvalidatesNearCacheEntry() {
+
+		when(this.mockRegion.get("key")).thenReturn("one", "two");
+
+		TwoLevelGemfireCache cache = newTwoLevelGemfireCache(10, 0L);
+
+		assertThat(cache.get("key").get()).isEqualTo("one");
+
+		cache.put("key", "two");
+
+		assertThat(cache.getNearCacheSize()).isZero();
+		assertThat(cache.get("key").get()).isEqualTo("two");
+
+		verify(this.mockRegion, times(1)).put("key", "two");
+		verify(this.mockRegion, times(2)).get("key");
+	}
+
+	@Test
+	public void writesToOtherKeysDuringRegionLookupDoNotPreventCaching() {
+
+		TwoLevelGemfireCache cache = newTwoLevelGemfireCache(10, 0L);
+
+		when(this.mockRegion.get("key")).thenAnswer(invocation -> {
+			cache.put("otherKey", "value");
+			return "one";
+		});
+
+		assertThat(cache.get("key").get()).isEqualTo("one");
+		assertThat(cache.get("key").get()).isEqualTo("one");
+		assertThat(cache.getNearCacheHitCount()).isOne();
+
+		verify(this.mockRegion, times(1)).get("key");
+	}
+
+	@Test
+	public void partitionRegionWithoutTimeToLiveIsRejected() {
+
+		when(this.mockRegion.getFullPath()).thenReturn("/Example");
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+
+		TwoLevelGemfireCache cache = new TwoLevelGemfireCache(this.mockRegion, 10, 0L);
+
+		assertThatIllegalStateException()
+			.isThrownBy(cache::afterPropertiesSet)
+			.withMessageContaining("PARTITION Region [/Example]");
+
+		verify(this.mockRegion, never()).getAttributesMutator();
+	}
+
+	@Test
+	public void partitionRegionWithTimeToLiveIsAccepted() {
+
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+
+		newTwoLevelGemfireCache(10, 1000L);
+
+		assertThat(this.cacheListener.get()).isNotNull();
+	}
+
+	@Test
+	public void expiredEntriesAreReadFromRegion() throws Exception {
+
+		when(this.mockRegion.get("key")).thenReturn("one", "two");
+
+		TwoLevelGemfireCache cache = newTwoLevelGemfireCache(10, 1L);
+
+		assertThat(cache.get("key").get()).isEqualTo("one");
+
+		Thread.sleep(10L);
+
+		assertThat(cache.get("key").get()).isEqualTo("two");
+		assertThat(cache.getNearCacheHitCount()).isZero();
+	}
+
+	@Test
+	public void evictRemovesNearCacheEntry() {
+
+		TwoLevelGemfireCache cache = newTwoLevelGemfireCache(10, 0L);
+
+		cache.put("key", "value");
+		cache.evict("key");
+
+		assertThat(cache.getNearCacheSize()).isZero();
+
+		verify(this.mockRegion, times(1)).remove("key");
+	}
+}
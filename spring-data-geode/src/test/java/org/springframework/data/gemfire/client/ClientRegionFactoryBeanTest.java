@@ -22,23 +22,35 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
@@ -54,6 +66,8 @@ import org.junit.Test;
 
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.gemfire.TestUtils;
 import org.springframework.data.gemfire.util.ArrayUtils;
 
@@ -868,4 +882,107 @@ public class ClientRegionFactoryBeanTest {
 
 		verify(factoryBean, times(1)).getObject();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void startBatchesKeyInterestsWithTheSameSettings() {
+
+		Region<Object, Object> mockRegion = mock(Region.class, "MockRegion");
+
+		doReturn(mockRegion).when(factoryBean).getRegion();
+
+		factoryBean.setInterests(new Interest[] {
+			new Interest<>("one", InterestResultPolicy.KEYS_VALUES),
+			new Interest<>("two", InterestResultPolicy.KEYS_VALUES),
+			new Interest<>("three", InterestResultPolicy.KEYS),
+			new Interest<>(Interest.ALL_KEYS, InterestResultPolicy.KEYS_VALUES),
+			new RegexInterest("key.*", InterestResultPolicy.NONE) });
+
+		factoryBean.start();
+
+		verify(mockRegion, times(1)).registerInterestForKeys(eq(Arrays.asList("one", "two")),
+			eq(InterestResultPolicy.KEYS_VALUES), eq(false), eq(true));
+		verify(mockRegion, times(1)).registerInterest(eq("three"),
+			eq(InterestResultPolicy.KEYS), eq(false), eq(true));
+		verify(mockRegion, times(1)).registerInterest(eq(Interest.ALL_KEYS),
+			eq(InterestResultPolicy.KEYS_VALUES), eq(false), eq(true));
+		verify(mockRegion, times(1)).registerInterestRegex(eq("key.*"),
+			eq(InterestResultPolicy.NONE), eq(false), eq(true));
+
+		assertThat(factoryBean.getInterestRegistration()).isCompletedWithValue(mockRegion);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void startRegistersInterestsAsynchronouslyAndPublishesEvent() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class, "MockRegion");
+
+		doAnswer(invocation -> {
+			latch.await();
+			return null;
+		}).when(mockRegion).registerInterestRegex(anyString(), any(InterestResultPolicy.class), anyBoolean(),
+			anyBoolean());
+
+		doReturn(mockRegion).when(factoryBean).getRegion();
+
+		factoryBean.setApplicationEventPublisher(mockApplicationEventPublisher);
+		factoryBean.setInterestRegistrationAsync(true);
+		factoryBean.setInterests(new Interest[] {
+			new Interest<>("one", InterestResultPolicy.KEYS_VALUES),
+			new RegexInterest("key.*", InterestResultPolicy.KEYS_VALUES) });
+
+		factoryBean.start();
+
+		assertThat(factoryBean.getInterestRegistration()).isNotDone();
+
+		verify(mockApplicationEventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+
+		latch.countDown();
+
+		assertThat(factoryBean.getInterestRegistration().get(5, TimeUnit.SECONDS)).isSameAs(mockRegion);
+
+		verify(mockRegion, timeout(5000).times(1)).registerInterest(eq("one"),
+			eq(InterestResultPolicy.KEYS_VALUES), eq(false), eq(true));
+		verify(mockApplicationEventPublisher, timeout(5000).times(1))
+			.publishEvent(argThat((ApplicationEvent event) -> event instanceof InterestRegistrationApplicationEvent
+				&& ((InterestRegistrationApplicationEvent) event).isSuccessful()
+				&& ((InterestRegistrationApplicationEvent) event).getRegion() == mockRegion));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void startWithExecutorWaitsForInterestRegistrationAndRethrowsFailure() {
+
+		Region<Object, Object> mockRegion = mock(Region.class, "MockRegion");
+
+		doThrow(new IllegalStateException("TEST")).when(mockRegion).registerInterestRegex(anyString(),
+			any(InterestResultPolicy.class), anyBoolean(), anyBoolean());
+
+		doReturn(mockRegion).when(factoryBean).getRegion();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		factoryBean.setInterestRegistrationExecutor(executor);
+		factoryBean.setInterests(new Interest[] {
+			new Interest<>("one", InterestResultPolicy.KEYS_VALUES),
+			new RegexInterest("key.*", InterestResultPolicy.KEYS_VALUES) });
+
+		try {
+			factoryBean.start();
+			fail("Expected IllegalStateException");
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected).hasMessage("TEST");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(factoryBean.getInterestRegistration()).isCompletedExceptionally();
+	}
 }
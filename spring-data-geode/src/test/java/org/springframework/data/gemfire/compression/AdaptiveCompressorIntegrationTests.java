@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.EnableCompression;
+import org.springframework.data.gemfire.config.annotation.EnableCompression.CompressionPolicy;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for {@link AdaptiveCompressor} configured with {@link EnableCompression} policies
+ * on an Apache Geode peer cache {@link Region}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
+ * @see org.springframework.data.gemfire.config.annotation.EnableCompression
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class AdaptiveCompressorIntegrationTests {
+
+	@Autowired
+	@Qualifier("Documents")
+	private Region<Integer, Object> documents;
+
+	@Autowired
+	@Qualifier("DocumentsCompressor")
+	private AdaptiveCompressor documentsCompressor;
+
+	@Test
+	public void storesAndRetrievesCompressibleIncompressibleAndSmallValues() {
+
+		assertThat(this.documents.getAttributes().getCompressor()).isSameAs(this.documentsCompressor);
+
+		StringBuilder document = new StringBuilder();
+
+		while (document.length() < 4096) {
+			document.append("The quick brown fox jumps over the lazy dog. ");
+		}
+
+		Random random = new Random(7L);
+
+		byte[] incompressible = new byte[4096];
+
+		random.nextBytes(incompressible);
+
+		this.documents.put(1, document.toString());
+		this.documents.put(2, incompressible);
+		this.documents.put(3, "small");
+
+		assertThat(this.documents.get(1)).isEqualTo(document.toString());
+		assertThat(this.documents.get(2)).isEqualTo(incompressible);
+		assertThat(this.documents.get(3)).isEqualTo("small");
+
+		CompressionStatistics statistics = this.documentsCompressor.getStatistics();
+
+		assertThat(statistics.getCompressedCount()).isOne();
+		assertThat(statistics.getIncompressibleCount()).isOne();
+		assertThat(statistics.getRawCount()).isOne();
+		assertThat(statistics.getDecompressionCount()).isGreaterThanOrEqualTo(1L);
+		assertThat(statistics.getCompressionRatio()).isLessThan(0.6d);
+	}
+
+	@PeerCacheApplication(logLevel = "error")
+	@EnableCompression(policies = @CompressionPolicy(regionNames = "Documents",
+		codec = CompressionCodecType.DEFLATE, level = 6, threshold = 256))
+	static class TestConfiguration {
+
+		@Bean("Documents")
+		ReplicatedRegionFactoryBean<Integer, Object> documentsRegion(GemFireCache gemfireCache) {
+
+			ReplicatedRegionFactoryBean<Integer, Object> documentsRegion = new ReplicatedRegionFactoryBean<>();
+
+			documentsRegion.setCache(gemfireCache);
+			documentsRegion.setClose(false);
+			documentsRegion.setPersistent(false);
+
+			return documentsRegion;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+import org.apache.geode.compression.SnappyCompressor;
+
+/**
+ * Unit Tests for {@link AdaptiveCompressor}, {@link DeflaterCompressionCodec} and {@link SnappyCompressionCodec}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
+ * @see org.springframework.data.gemfire.compression.DeflaterCompressionCodec
+ * @see org.springframework.data.gemfire.compression.SnappyCompressionCodec
+ * @since 2.5.0
+ */
+public class AdaptiveCompressorUnitTests {
+
+	private static byte[] compressibleValue(int index) {
+
+		StringBuilder value = new StringBuilder();
+
+		while (value.length() < 512) {
+			value.append(String.format("{ \"id\": %d, \"firstName\": \"Jon\", \"lastName\": \"Doe\" }", index));
+		}
+
+		return value.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] randomValue(Random random) {
+
+		byte[] value = new byte[512];
+
+		random.nextBytes(value);
+
+		return value;
+	}
+
+	@Test
+	public void compressesAndDecompressesValuesWithEachCodec() {
+
+		byte[] value = compressibleValue(1);
+
+		for (CompressionCodec codec : new CompressionCodec[] { new SnappyCompressionCodec(),
+				new DeflaterCompressionCodec(Deflater.BEST_SPEED),
+				new DeflaterCompressionCodec(Deflater.BEST_COMPRESSION) }) {
+
+			AdaptiveCompressor compressor = new AdaptiveCompressor(codec);
+
+			byte[] compressed = compressor.compress(value);
+
+			assertThat(compressed[0]).isEqualTo(AdaptiveCompressor.MAGIC_NUMBER_HIGH_BYTE);
+			assertThat(compressed[1]).isEqualTo(AdaptiveCompressor.MAGIC_NUMBER_LOW_BYTE);
+			assertThat(compressed[2]).isEqualTo(AdaptiveCompressor.FORMAT_VERSION);
+			assertThat(compressed[3]).isEqualTo(codec.getId());
+			assertThat(compressed.length).isLessThan(value.length);
+			assertThat(compressor.decompress(compressed)).isEqualTo(value);
+			assertThat(compressor.getStatistics().getCompressedCount()).isOne();
+			assertThat(compressor.getStatistics().getDecompressionCount()).isOne();
+			assertThat(compressor.getStatistics().getCompressionRatio()).isLessThan(0.5d);
+		}
+	}
+
+	@Test
+	public void storesValuesBelowThresholdUncompressed() {
+
+		AdaptiveCompressor compressor = new AdaptiveCompressor(new SnappyCompressionCodec());
+
+		compressor.setThreshold(1024);
+
+		byte[] value = compressibleValue(1);
+		byte[] compressed = compressor.compress(value);
+
+		assertThat(compressed).hasSize(value.length + AdaptiveCompressor.HEADER_SIZE);
+		assertThat(compressed[3]).isEqualTo(AdaptiveCompressor.RAW_ID);
+		assertThat(compressor.decompress(compressed)).isEqualTo(value);
+		assertThat(compressor.getStatistics().getRawCount()).isOne();
+		assertThat(compressor.getStatistics().getCompressedCount()).isZero();
+		assertThat(compressor.getStatistics().getDecompressionCount()).isZero();
+	}
+
+	@Test
+	public void bypassesCompressionOfIncompressibleValuesAndRecovers() {
+
+		Random random = new Random(42L);
+
+		AdaptiveCompressor compressor = new AdaptiveCompressor(new DeflaterCompressionCodec());
+
+		compressor.setSampleInterval(10);
+
+		for (int count = 0; count < 100; count++) {
+
+			byte[] value = randomValue(random);
+
+			assertThat(compressor.decompress(compressor.compress(value))).isEqualTo(value);
+		}
+
+		CompressionStatistics statistics = compressor.getStatistics();
+
+		assertThat(compressor.isBypassing()).isTrue();
+		assertThat(statistics.getCompressedCount()).isZero();
+		assertThat(statistics.getBypassedCount()).isGreaterThan(50L);
+		assertThat(statistics.getIncompressibleCount() + statistics.getBypassedCount()).isEqualTo(100L);
+
+		for (int count = 0; count < 500 && compressor.isBypassing(); count++) {
+			compressor.compress(compressibleValue(count));
+		}
+
+		assertThat(compressor.isBypassing()).isFalse();
+		assertThat(statistics.getCompressedCount()).isGreaterThan(0L);
+	}
+
+	@Test
+	public void decompressesValuesWithAdditionalCodecs() {
+
+		byte[] value = compressibleValue(1);
+
+		byte[] compressed = new AdaptiveCompressor(new SnappyCompressionCodec()).compress(value);
+
+		AdaptiveCompressor compressor =
+			new AdaptiveCompressor(new DeflaterCompressionCodec(), new SnappyCompressionCodec());
+
+		assertThat(compressor.decompress(compressed)).isEqualTo(value);
+
+		assertThatExceptionOfType(CompressionException.class)
+			.isThrownBy(() -> new AdaptiveCompressor(new DeflaterCompressionCodec()).decompress(compressed))
+			.withMessage("No CompressionCodec registered for identifier [1]");
+	}
+
+	@Test
+	public void decompressesHeaderlessValuesWithLegacyCompressor() {
+
+		byte[] value = compressibleValue(1);
+
+		byte[] legacyCompressed = new SnappyCompressor().compress(value);
+
+		AdaptiveCompressor compressor = new AdaptiveCompressor(new DeflaterCompressionCodec(),
+			new SnappyCompressionCodec());
+
+		assertThatExceptionOfType(CompressionException.class)
+			.isThrownBy(() -> compressor.decompress(legacyCompressed));
+
+		compressor.setLegacyCompressor(new SnappyCompressor());
+
+		assertThat(compressor.decompress(legacyCompressed)).isEqualTo(value);
+		assertThat(compressor.decompress(compressor.compress(value))).isEqualTo(value);
+	}
+
+	@Test
+	public void decompressesLegacyValuesBeginningWithCodecIdentifierWithLegacyCompressor() {
+
+		byte[] value = new byte[] { SnappyCompressionCodec.ID, 0x7F, 0x7F };
+
+		Compressor mockLegacyCompressor = mock(Compressor.class);
+
+		doReturn(value).when(mockLegacyCompressor).decompress(any(byte[].class));
+
+		AdaptiveCompressor compressor = new AdaptiveCompressor(new SnappyCompressionCodec());
+
+		compressor.setLegacyCompressor(mockLegacyCompressor);
+
+		assertThat(compressor.decompress(value)).isSameAs(value);
+
+		verify(mockLegacyCompressor, times(1)).decompress(value);
+	}
+
+	@Test
+	public void rejectsDuplicateCodecIdentifiers() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new AdaptiveCompressor(new SnappyCompressionCodec(), new DeflaterCompressionCodec(),
+				new DeflaterCompressionCodec(1)))
+			.withMessageContaining("identifier [2] is already used");
+	}
+
+	@Test
+	public void dictionaryImprovesCompressionOfSmallValues() {
+
+		List<byte[]> samples = new ArrayList<>();
+
+		for (int index = 0; index < 100; index++) {
+			samples.add(String.format("{ \"id\": %d, \"firstName\": \"Jon\", \"lastName\": \"Doe\","
+				+ " \"address\": { \"city\": \"Portland\", \"state\": \"OR\" } }", index)
+				.getBytes(StandardCharsets.UTF_8));
+		}
+
+		byte[] dictionary = DeflaterCompressionCodec.trainDictionary(samples, 1024);
+
+		assertThat(dictionary.length).isLessThanOrEqualTo(1024);
+
+		DeflaterCompressionCodec codec = new DeflaterCompressionCodec(Deflater.DEFAULT_COMPRESSION, dictionary);
+		DeflaterCompressionCodec codecWithoutDictionary = new DeflaterCompressionCodec();
+
+		byte[] value = String.format("{ \"id\": %d, \"firstName\": \"Jane\", \"lastName\": \"Doe\","
+			+ " \"address\": { \"city\": \"Portland\", \"state\": \"OR\" } }", 1000).getBytes(StandardCharsets.UTF_8);
+
+		byte[] compressed = codec.compress(value);
+
+		assertThat(compressed.length).isLessThan(codecWithoutDictionary.compress(value).length);
+		assertThat(codec.decompress(compressed)).isEqualTo(value);
+
+		assertThatExceptionOfType(CompressionException.class)
+			.isThrownBy(() -> codecWithoutDictionary.decompress(compressed))
+			.withMessageContaining("no dictionary is configured");
+	}
+}
@@ -17,6 +17,7 @@
 package org.springframework.data.gemfire.config.annotation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.springframework.data.gemfire.config.annotation.CompressionConfiguration.SNAPPY_COMPRESSOR_BEAN_NAME;
 
@@ -40,6 +41,12 @@ import org.springframework.data.gemfire.LocalRegionFactoryBean;
 import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
 import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.compression.AdaptiveCompressor;
+import org.springframework.data.gemfire.compression.CompressionCodec;
+import org.springframework.data.gemfire.compression.CompressionCodecType;
+import org.springframework.data.gemfire.compression.DeflaterCompressionCodec;
+import org.springframework.data.gemfire.compression.SnappyCompressionCodec;
+import org.springframework.data.gemfire.config.annotation.EnableCompression.CompressionPolicy;
 import org.springframework.data.gemfire.test.mock.annotation.EnableGemFireMockObjects;
 import org.springframework.data.gemfire.test.model.Person;
 
@@ -112,6 +119,51 @@ public class EnableCompressionConfigurationUnitTests {
 		});
 	}
 
+	@Test
+	public void enableCompressionWithPolicies() {
+
+		this.applicationContext = newApplicationContext(EnableCompressionWithPoliciesConfiguration.class);
+
+		Compressor peopleCompressor = this.applicationContext.getBean("PeopleCompressor", Compressor.class);
+
+		assertThat(peopleCompressor).isInstanceOf(AdaptiveCompressor.class);
+		assertThat(((AdaptiveCompressor) peopleCompressor).getCodec()).isInstanceOf(DeflaterCompressionCodec.class);
+		assertThat(((DeflaterCompressionCodec) ((AdaptiveCompressor) peopleCompressor).getCodec()).getLevel())
+			.isEqualTo(9);
+		assertThat(((AdaptiveCompressor) peopleCompressor).getThreshold()).isEqualTo(128);
+		assertThat(((AdaptiveCompressor) peopleCompressor).getMaximumRatio())
+			.isEqualTo(AdaptiveCompressor.DEFAULT_MAXIMUM_RATIO);
+		assertThat(((AdaptiveCompressor) peopleCompressor).getLegacyCompressor())
+			.isSameAs(this.applicationContext.getBean(SNAPPY_COMPRESSOR_BEAN_NAME));
+
+		byte[] value = new byte[256];
+
+		Arrays.fill(value, (byte) 'x');
+
+		assertThat(peopleCompressor.decompress(new AdaptiveCompressor(new SnappyCompressionCodec()).compress(value)))
+			.isEqualTo(value);
+		assertThat(peopleCompressor.decompress(new SnappyCompressor().compress(value))).isEqualTo(value);
+
+		AdaptiveCompressor partitionRegionCompressor =
+			this.applicationContext.getBean("ExamplePartitionRegionCompressor", AdaptiveCompressor.class);
+
+		assertThat(partitionRegionCompressor.getCodec())
+			.isSameAs(this.applicationContext.getBean("MockCompressionCodec"));
+		assertThat(partitionRegionCompressor.getMaximumRatio()).isEqualTo(0.75d);
+
+		assertRegionCompressor(this.applicationContext.getBean("People", Region.class), "People",
+			peopleCompressor);
+
+		assertRegionCompressor(this.applicationContext.getBean("ExampleLocalRegion", Region.class),
+			"ExampleLocalRegion", this.applicationContext.getBean(SNAPPY_COMPRESSOR_BEAN_NAME, Compressor.class));
+
+		assertRegionCompressor(this.applicationContext.getBean("ExamplePartitionRegion", Region.class),
+			"ExamplePartitionRegion", partitionRegionCompressor);
+
+		assertRegionCompressor(this.applicationContext.getBean("ExampleReplicateRegion", Region.class),
+			"ExampleReplicateRegion", null);
+	}
+
 	@PeerCacheApplication
 	@EnableGemFireMockObjects
 	@EnableEntityDefinedRegions(basePackageClasses = Person.class)
@@ -180,4 +232,59 @@ public class EnableCompressionConfigurationUnitTests {
 			return mock(Compressor.class);
 		}
 	}
+
+	@PeerCacheApplication
+	@EnableGemFireMockObjects
+	@EnableEntityDefinedRegions(basePackageClasses = Person.class)
+	@EnableCompression(regionNames = { "People", "ExampleLocalRegion" }, policies = {
+		@CompressionPolicy(regionNames = "People", codec = CompressionCodecType.DEFLATE, level = 9, threshold = 128),
+		@CompressionPolicy(regionNames = "ExamplePartitionRegion", codecBeanName = "MockCompressionCodec",
+			maximumRatio = 0.75d)
+	})
+	@SuppressWarnings("unused")
+	static class EnableCompressionWithPoliciesConfiguration {
+
+		@Bean("ExampleLocalRegion")
+		public LocalRegionFactoryBean<Object, Object> localRegion(GemFireCache gemfireCache) {
+
+			LocalRegionFactoryBean<Object, Object> localRegion = new LocalRegionFactoryBean<>();
+
+			localRegion.setCache(gemfireCache);
+			localRegion.setClose(false);
+
+			return localRegion;
+		}
+
+		@Bean("ExamplePartitionRegion")
+		public PartitionedRegionFactoryBean<Object, Object> partitionRegion(GemFireCache gemfireCache) {
+
+			PartitionedRegionFactoryBean<Object, Object> partitionRegion = new PartitionedRegionFactoryBean<>();
+
+			partitionRegion.setCache(gemfireCache);
+			partitionRegion.setClose(false);
+
+			return partitionRegion;
+		}
+
+		@Bean("ExampleReplicateRegion")
+		public ReplicatedRegionFactoryBean<Object, Object> replicateRegion(GemFireCache gemfireCache) {
+
+			ReplicatedRegionFactoryBean<Object, Object> replicateRegion = new ReplicatedRegionFactoryBean<>();
+
+			replicateRegion.setCache(gemfireCache);
+			replicateRegion.setClose(false);
+
+			return replicateRegion;
+		}
+
+		@Bean("MockCompressionCodec")
+		CompressionCodec mockCompressionCodec() {
+
+			CompressionCodec mockCompressionCodec = mock(CompressionCodec.class);
+
+			doReturn((byte) 16).when(mockCompressionCodec).getId();
+
+			return mockCompressionCodec;
+		}
+	}
 }
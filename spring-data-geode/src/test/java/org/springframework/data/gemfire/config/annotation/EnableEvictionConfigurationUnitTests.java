@@ -46,6 +46,8 @@ import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
 import org.springframework.data.gemfire.eviction.EvictionActionType;
 import org.springframework.data.gemfire.eviction.EvictionAttributesFactoryBean;
 import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.data.gemfire.eviction.MappingObjectSizer;
+import org.springframework.data.gemfire.eviction.ObjectSizerType;
 import org.springframework.data.gemfire.util.ArrayUtils;
 
 /**
@@ -171,6 +173,20 @@ public class EnableEvictionConfigurationUnitTests {
 			lastMatchingEvictionAttributes);
 	}
 
+	@Test
+	public void usesMappingObjectSizerEvictionPolicyConfiguration() {
+		applicationContext = newApplicationContext(MappingObjectSizerEvictionPolicyConfiguration.class);
+
+		EvictionAttributes evictionAttributes =
+			getRegion("PartitionRegion").getAttributes().getEvictionAttributes();
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionPolicyType.MEMORY_SIZE.getEvictionAlgorithm());
+		assertThat(evictionAttributes.getObjectSizer()).isInstanceOf(MappingObjectSizer.class);
+
+		assertThat(getRegion("ReplicateRegion").getAttributes().getEvictionAttributes().getObjectSizer())
+			.isSameAs(applicationContext.getBean("mockObjectSizer", ObjectSizer.class));
+	}
+
 	@Configuration
 	@SuppressWarnings("unused")
 	static class CacheRegionConfiguration {
@@ -269,4 +285,12 @@ public class EnableEvictionConfigurationUnitTests {
 	})
 	static class LastMatchingWinsEvictionPolicyConfiguration extends CacheRegionConfiguration { }
 
+	@EnableEviction(policies = {
+		@EvictionPolicy(maximum = 256, type = EvictionPolicyType.MEMORY_SIZE, objectSizer = ObjectSizerType.MAPPING,
+			regionNames = "PartitionRegion"),
+		@EvictionPolicy(maximum = 256, type = EvictionPolicyType.MEMORY_SIZE, objectSizer = ObjectSizerType.MAPPING,
+			objectSizerName = "mockObjectSizer", regionNames = "ReplicateRegion")
+	})
+	static class MappingObjectSizerEvictionPolicyConfiguration extends CacheRegionConfiguration { }
+
 }
@@ -20,12 +20,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.TimeUnit;
+
 import javax.naming.Context;
 import javax.naming.NamingException;
 import javax.resource.ResourceException;
@@ -33,6 +36,7 @@ import javax.resource.ResourceException;
 import org.apache.geode.ra.GFConnection;
 import org.apache.geode.ra.GFConnectionFactory;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -76,6 +80,11 @@ public class GemFireAsLastResourceConnectionAcquiringAspectUnitTests {
 		when(aspect.getLogger()).thenReturn(mockLogger);
 	}
 
+	@After
+	public void tearDown() {
+		AbstractGemFireAsLastResourceAspectSupport.GemFireConnectionHolder.of(null);
+	}
+
 	@Test
 	public void connectionAcquiringAspectHasLowerPriorityThanConnectionClosingAspect() {
 		assertThat(aspect.getOrder()).isGreaterThan(new GemFireAsLastResourceConnectionClosingAspect().getOrder());
@@ -85,6 +94,7 @@ public class GemFireAsLastResourceConnectionAcquiringAspectUnitTests {
 	public void doConnectionFactoryGetConnectionReturnsConnection() throws ResourceException {
 
 		when(mockLogger.isTraceEnabled()).thenReturn(true);
+		doReturn(null).when(aspect).resolveTransactionKey();
 		doReturn(mockGemFireConnectionFactory).when(aspect).resolveGemFireConnectionFactory();
 		when(mockGemFireConnectionFactory.getConnection()).thenReturn(mockGemFireConnection);
 
@@ -158,4 +168,125 @@ public class GemFireAsLastResourceConnectionAcquiringAspectUnitTests {
 			verify(mockContext, times(1)).lookup(eq("java:comp/gemfire/jca"));
 		}
 	}
+
+	@Test
+	public void nestedTransactionalCallsReuseThreadBoundConnection() throws ResourceException {
+
+		doReturn("TX1").when(aspect).resolveTransactionKey();
+		doReturn(mockGemFireConnectionFactory).when(aspect).resolveGemFireConnectionFactory();
+		when(mockGemFireConnectionFactory.getConnection()).thenReturn(mockGemFireConnection);
+
+		GemFireAsLastResourceConnectionClosingAspect closingAspect = new GemFireAsLastResourceConnectionClosingAspect();
+
+		aspect.doGemFireConnectionFactoryGetConnection();
+		aspect.doGemFireConnectionFactoryGetConnection();
+
+		assertThat(AbstractGemFireAsLastResourceAspectSupport.GemFireConnectionHolder.get().orElse(null))
+			.isSameAs(mockGemFireConnection);
+
+		closingAspect.doGemFireConnectionClose();
+
+		verify(mockGemFireConnection, never()).close();
+
+		assertThat(AbstractGemFireAsLastResourceAspectSupport.GemFireConnectionHolder.get().orElse(null))
+			.isSameAs(mockGemFireConnection);
+
+		closingAspect.doGemFireConnectionClose();
+
+		verify(mockGemFireConnectionFactory, times(1)).getConnection();
+		verify(mockGemFireConnection, times(1)).close();
+
+		assertThat(AbstractGemFireAsLastResourceAspectSupport.GemFireConnectionHolder.get()).isNotPresent();
+
+		GemFireAsLastResourceConnectionAcquiringAspect.ConnectionAcquisitionMetrics metrics =
+			aspect.getConnectionAcquisitionMetrics();
+
+		assertThat(metrics.getAcquisitionCount()).isEqualTo(1L);
+		assertThat(metrics.getReuseCount()).isEqualTo(1L);
+		assertThat(metrics.getFailureCount()).isZero();
+	}
+
+	@Test
+	public void nestedTransactionalCallInNewTransactionAcquiresNewConnection() throws ResourceException {
+
+		GFConnection mockNestedGemFireConnection = mock(GFConnection.class);
+
+		doReturn("TX1").doReturn("TX2").when(aspect).resolveTransactionKey();
+		doReturn(mockGemFireConnectionFactory).when(aspect).resolveGemFireConnectionFactory();
+		when(mockGemFireConnectionFactory.getConnection())
+			.thenReturn(mockGemFireConnection, mockNestedGemFireConnection);
+
+		GemFireAsLastResourceConnectionClosingAspect closingAspect = new GemFireAsLastResourceConnectionClosingAspect();
+
+		aspect.doGemFireConnectionFactoryGetConnection();
+		aspect.doGemFireConnectionFactoryGetConnection();
+
+		assertThat(AbstractGemFireAsLastResourceAspectSupport.GemFireConnectionHolder.get().orElse(null))
+			.isSameAs(mockNestedGemFireConnection);
+
+		closingAspect.doGemFireConnectionClose();
+
+		verify(mockNestedGemFireConnection, times(1)).close();
+		verify(mockGemFireConnection, never()).close();
+
+		assertThat(AbstractGemFireAsLastResourceAspectSupport.GemFireConnectionHolder.get().orElse(null))
+			.isSameAs(mockGemFireConnection);
+
+		closingAspect.doGemFireConnectionClose();
+
+		verify(mockGemFireConnectionFactory, times(2)).getConnection();
+		verify(mockGemFireConnection, times(1)).close();
+
+		assertThat(AbstractGemFireAsLastResourceAspectSupport.GemFireConnectionHolder.get()).isNotPresent();
+		assertThat(aspect.getConnectionAcquisitionMetrics().getAcquisitionCount()).isEqualTo(2L);
+		assertThat(aspect.getConnectionAcquisitionMetrics().getReuseCount()).isZero();
+	}
+
+	@Test
+	public void resolveTransactionSynchronizationRegistryLooksUpJndiContextOnce() throws NamingException {
+
+		doReturn(mockContext).when(aspect).resolveContext();
+		when(mockContext.lookup(anyString())).thenThrow(new NamingException("TEST"));
+
+		assertThat(aspect.resolveTransactionKey()).isNull();
+		assertThat(aspect.resolveTransactionKey()).isNull();
+
+		verify(mockContext, times(1)).lookup(eq(
+			GemFireAsLastResourceConnectionAcquiringAspect.DEFAULT_TRANSACTION_SYNCHRONIZATION_REGISTRY_JNDI_NAME));
+	}
+
+	@Test
+	public void failedConnectionAcquisitionIsRecordedInMetrics() throws ResourceException {
+
+		doReturn(null).when(aspect).resolveTransactionKey();
+		doReturn(mockGemFireConnectionFactory).when(aspect).resolveGemFireConnectionFactory();
+		when(mockGemFireConnectionFactory.getConnection()).thenThrow(new ResourceException("TEST"));
+
+		aspect.doGemFireConnectionFactoryGetConnection();
+
+		assertThat(AbstractGemFireAsLastResourceAspectSupport.GemFireConnectionHolder.get()).isNotPresent();
+
+		GemFireAsLastResourceConnectionAcquiringAspect.ConnectionAcquisitionMetrics metrics =
+			aspect.getConnectionAcquisitionMetrics();
+
+		assertThat(metrics.getAcquisitionCount()).isEqualTo(1L);
+		assertThat(metrics.getFailureCount()).isEqualTo(1L);
+		assertThat(metrics.getReuseCount()).isZero();
+		assertThat(metrics.getMaxAcquisitionTime(TimeUnit.NANOSECONDS))
+			.isGreaterThanOrEqualTo(metrics.getAverageAcquisitionTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void resolveGemFireConnectionFactoryLooksUpJndiContextOnce() throws NamingException {
+
+		doReturn(mockContext).when(aspect).resolveContext();
+		when(mockContext.lookup(anyString())).thenReturn(mockGemFireConnectionFactory);
+
+		assertThat(aspect.resolveGemFireConnectionFactory()).isSameAs(mockGemFireConnectionFactory);
+		assertThat(aspect.resolveGemFireConnectionFactory()).isSameAs(mockGemFireConnectionFactory);
+		assertThat(aspect.getGemFireConnectionFactory()).isSameAs(mockGemFireConnectionFactory);
+
+		verify(aspect, times(1)).resolveContext();
+		verify(mockContext, times(1)).lookup(anyString());
+	}
 }
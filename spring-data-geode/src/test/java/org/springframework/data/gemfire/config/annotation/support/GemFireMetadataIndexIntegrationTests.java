@@ -0,0 +1,243 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+
+/**
+ * Integration Tests for {@link GemFireMetadataIndexProcessor}, {@link GemFireMetadataIndex}
+ * and the {@link GemFireComponentClassTypeScanner} using the index.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see javax.tools.JavaCompiler
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndex
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireMetadataIndexProcessor
+ * @since 2.5.0
+ */
+public class GemFireMetadataIndexIntegrationTests {
+
+	private static final String[][] SOURCES = {
+		{ "example/index/model/Book.java",
+			"package example.index.model;\n"
+			+ "@org.springframework.data.gemfire.mapping.annotation.ReplicateRegion(\"Books\")\n"
+			+ "public class Book {\n"
+			+ "  @org.springframework.data.gemfire.mapping.annotation.Indexed String title;\n"
+			+ "}\n" },
+		{ "example/index/model/AbstractAuthor.java",
+			"package example.index.model;\n"
+			+ "@org.springframework.data.gemfire.mapping.annotation.Region(\"Authors\")\n"
+			+ "public abstract class AbstractAuthor { }\n" },
+		{ "example/index/model/Address.java",
+			"package example.index.model;\n"
+			+ "public class Address { }\n" },
+		{ "example/index/service/BookService.java",
+			"package example.index.service;\n"
+			+ "public class BookService extends CachingService {\n"
+			+ "  @org.springframework.data.gemfire.function.annotation.GemfireFunction\n"
+			+ "  public Object countBooks() { return null; }\n"
+			+ "}\n" },
+		{ "example/index/service/CachingService.java",
+			"package example.index.service;\n"
+			+ "@org.springframework.cache.annotation.CacheConfig(cacheNames = \"Books\")\n"
+			+ "public class CachingService {\n"
+			+ "  @org.springframework.data.gemfire.listener.annotation.ContinuousQuery(\n"
+			+ "    query = \"SELECT * FROM /Books\")\n"
+			+ "  public void onEvent(Object event) { }\n"
+			+ "}\n" },
+	};
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File classesDirectory;
+
+	private URLClassLoader classLoader;
+
+	@Before
+	public void compileSourcesWithProcessor() throws IOException {
+
+		File sourceDirectory = this.temporaryFolder.newFolder("src");
+
+		this.classesDirectory = this.temporaryFolder.newFolder("classes");
+
+		String[] sourceFiles = new String[SOURCES.length];
+
+		for (int index = 0; index < SOURCES.length; index++) {
+
+			File sourceFile = new File(sourceDirectory, SOURCES[index][0]);
+
+			assertThat(sourceFile.getParentFile().mkdirs() || sourceFile.getParentFile().isDirectory()).isTrue();
+
+			Files.write(sourceFile.toPath(), SOURCES[index][1].getBytes(StandardCharsets.UTF_8));
+
+			sourceFiles[index] = sourceFile.getAbsolutePath();
+		}
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+		String[] compilerArguments = concat(new String[] {
+			"-classpath", System.getProperty("java.class.path"),
+			"-d", this.classesDirectory.getAbsolutePath(),
+			"-processor", GemFireMetadataIndexProcessor.class.getName()
+		}, sourceFiles);
+
+		assertThat(compiler.run(null, null, null, compilerArguments)).isZero();
+
+		this.classLoader = new URLClassLoader(new URL[] { this.classesDirectory.toURI().toURL() },
+			getClass().getClassLoader());
+
+		GemFireMetadataIndex.clearCache();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+
+		GemFireMetadataIndex.clearCache();
+		SpringProperties.setProperty(GemFireMetadataIndex.IGNORE_INDEX_PROPERTY, null);
+
+		if (this.classLoader != null) {
+			this.classLoader.close();
+		}
+	}
+
+	private static String[] concat(String[] arrayOne, String[] arrayTwo) {
+
+		String[] result = Arrays.copyOf(arrayOne, arrayOne.length + arrayTwo.length);
+
+		System.arraycopy(arrayTwo, 0, result, arrayOne.length, arrayTwo.length);
+
+		return result;
+	}
+
+	@Test
+	public void processorWritesIndexWithStereotypes() throws IOException {
+
+		Properties index = new Properties();
+
+		try (InputStream in = new FileInputStream(new File(this.classesDirectory,
+				GemFireMetadataIndex.INDEX_LOCATION))) {
+
+			index.load(in);
+		}
+
+		assertThat(index).hasSize(4);
+		assertThat(index.getProperty("example.index.model.Book")).isEqualTo("entity,index");
+		assertThat(index.getProperty("example.index.model.AbstractAuthor")).isEqualTo("entity");
+		assertThat(index.getProperty("example.index.service.BookService"))
+			.isEqualTo("caching,continuous-query,function");
+		assertThat(index.getProperty("example.index.service.CachingService")).isEqualTo("caching,continuous-query");
+	}
+
+	@Test
+	public void indexIsCandidateForIndexedAndUnindexedTypes() throws ClassNotFoundException {
+
+		GemFireMetadataIndex index = GemFireMetadataIndex.load(this.classLoader);
+
+		assertThat(index.isPresent()).isTrue();
+		assertThat(index).isSameAs(GemFireMetadataIndex.load(this.classLoader));
+
+		Class<?> address = this.classLoader.loadClass("example.index.model.Address");
+		Class<?> bookService = this.classLoader.loadClass("example.index.service.BookService");
+
+		assertThat(index.isCandidate(bookService, GemFireMetadataIndex.FUNCTION_STEREOTYPE)).isTrue();
+		assertThat(index.isCandidate(bookService, GemFireMetadataIndex.CACHING_STEREOTYPE)).isTrue();
+		assertThat(index.isCandidate(address, GemFireMetadataIndex.CACHING_STEREOTYPE)).isFalse();
+		assertThat(index.isCandidate(address, GemFireMetadataIndex.FUNCTION_STEREOTYPE)).isFalse();
+
+		// types loaded from a classpath root without an index must always be introspected
+		assertThat(index.isCandidate(getClass(), GemFireMetadataIndex.FUNCTION_STEREOTYPE)).isTrue();
+		assertThat(index.isCandidate(null, GemFireMetadataIndex.FUNCTION_STEREOTYPE)).isFalse();
+	}
+
+	@Test
+	public void indexResolvesIndexedRootOncePerPackage() throws ClassNotFoundException {
+
+		GemFireMetadataIndex index = GemFireMetadataIndex.load(this.classLoader);
+
+		Class<?> address = this.classLoader.loadClass("example.index.model.Address");
+		Class<?> book = this.classLoader.loadClass("example.index.model.Book");
+
+		assertThat(index.isCandidate(address, GemFireMetadataIndex.FUNCTION_STEREOTYPE)).isFalse();
+
+		assertThat(new File(this.classesDirectory, "example/index/model/Book.class").delete()).isTrue();
+
+		assertThat(index.isCandidate(book, GemFireMetadataIndex.FUNCTION_STEREOTYPE)).isFalse();
+		assertThat(index.isCandidate(book, GemFireMetadataIndex.ENTITY_STEREOTYPE)).isTrue();
+	}
+
+	@Test
+	public void indexReturnsCandidateTypesForIndexedBasePackages() {
+
+		GemFireMetadataIndex index = GemFireMetadataIndex.load(this.classLoader);
+
+		assertThat(index.getCandidateTypes(this.classLoader, Arrays.asList("example.index"),
+			GemFireMetadataIndex.ENTITY_STEREOTYPE))
+			.hasValueSatisfying(candidateTypes -> assertThat(candidateTypes)
+				.containsExactlyInAnyOrder("example.index.model.AbstractAuthor", "example.index.model.Book"));
+
+		assertThat(index.getCandidateTypes(this.classLoader, Arrays.asList(getClass().getPackage().getName()),
+			GemFireMetadataIndex.ENTITY_STEREOTYPE)).isNotPresent();
+	}
+
+	@Test
+	public void scannerUsesIndexAndAppliesFilters() {
+
+		Set<Class<?>> entityTypes = GemFireComponentClassTypeScanner.from("example.index")
+			.with(this.classLoader)
+			.withIndexedStereotype(GemFireMetadataIndex.ENTITY_STEREOTYPE)
+			.withIncludes(new AnnotationTypeFilter(Region.class))
+			.scan();
+
+		assertThat(entityTypes.stream().map(Class::getName).collect(Collectors.toSet()))
+			.containsExactly("example.index.model.Book");
+	}
+
+	@Test
+	public void indexIsIgnoredWhenDisabled() {
+
+		SpringProperties.setFlag(GemFireMetadataIndex.IGNORE_INDEX_PROPERTY);
+
+		assertThat(GemFireMetadataIndex.load(this.classLoader).isPresent()).isFalse();
+	}
+}
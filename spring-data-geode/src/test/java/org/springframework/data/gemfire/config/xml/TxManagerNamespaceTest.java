@@ -46,6 +46,7 @@ public class TxManagerNamespaceTest {
 		assertTrue(ctx.containsBean("gemfire-transaction-manager"));
 
 		GemfireTransactionManager tx = ctx.getBean("gemfireTransactionManager", GemfireTransactionManager.class);
+		assertTrue(tx.isBypassReadOnlyTransactions());
 		assertFalse(tx.isCopyOnRead());
 	}
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.util.CollectionUtils;
+
+/**
+ * Unit Tests for {@link MappingObjectSizer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see org.springframework.data.gemfire.eviction.MappingObjectSizer
+ * @since 2.5.0
+ */
+public class MappingObjectSizerUnitTests {
+
+	private final GemfireMappingContext mappingContext = newMappingContext();
+
+	private final MappingObjectSizer objectSizer = new MappingObjectSizer(this.mappingContext);
+
+	private static GemfireMappingContext newMappingContext() {
+
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		mappingContext.setInitialEntitySet(CollectionUtils.asSet(Customer.class, Address.class, Node.class));
+		mappingContext.initialize();
+
+		return mappingContext;
+	}
+
+	private static Customer newCustomer(long id) {
+
+		Customer customer = new Customer();
+
+		customer.id = id;
+		customer.name = "Jon Doe " + id;
+		customer.active = true;
+		customer.scores = new int[] { 1, 2, 3, 4, 5 };
+		customer.tags = new ArrayList<>(Arrays.asList("gold", "west", "retail"));
+		customer.address = new Address();
+		customer.address.street = "100 Main St.";
+		customer.address.city = "Portland";
+		customer.attributes = new HashMap<>();
+		customer.attributes.put("segment", "enterprise");
+		customer.attributes.put("region", "northwest");
+
+		return customer;
+	}
+
+	@Test
+	public void sizesEntitiesCloseToReflectionObjectSizer() {
+
+		Customer customer = newCustomer(1L);
+
+		int mappingSize = this.objectSizer.sizeof(customer);
+		int reflectionSize = ObjectSizer.REFLECTION_SIZE.sizeof(customer);
+
+		assertThat((double) mappingSize).isCloseTo(reflectionSize, within(reflectionSize * 0.15d));
+	}
+
+	@Test
+	public void sizesStringsAndPrimitiveArraysExactly() {
+
+		String value = "Hello World";
+
+		assertThat(this.objectSizer.sizeof(value)).isEqualTo(ObjectSizer.REFLECTION_SIZE.sizeof(value));
+		assertThat(this.objectSizer.sizeof(new long[16])).isEqualTo(ObjectSizer.REFLECTION_SIZE.sizeof(new long[16]));
+		assertThat(this.objectSizer.sizeof(null)).isZero();
+	}
+
+	@Test
+	public void sizesCyclicObjectGraphsOnce() {
+
+		Node one = new Node();
+		Node two = new Node();
+
+		one.next = two;
+		two.next = one;
+
+		assertThat(this.objectSizer.sizeof(one)).isEqualTo(2 * this.objectSizer.sizeof(new Node()));
+	}
+
+	@Test
+	public void sizesNonEntityTypesWithFallbackObjectSizer() {
+
+		ObjectSizer mockObjectSizer = mock(ObjectSizer.class);
+
+		MappingObjectSizer objectSizer = new MappingObjectSizer(this.mappingContext, mockObjectSizer);
+
+		objectSizer.sizeof(newCustomer(1L));
+
+		verify(mockObjectSizer, never()).sizeof(any());
+
+		objectSizer.sizeof(new Date());
+
+		verify(mockObjectSizer).sizeof(any(Date.class));
+	}
+
+	@Test
+	public void doesNotRegisterUnmanagedTypesAsEntities() {
+
+		ObjectSizer mockObjectSizer = mock(ObjectSizer.class);
+
+		MappingObjectSizer objectSizer = new MappingObjectSizer(this.mappingContext, mockObjectSizer);
+
+		Unmanaged unmanaged = new Unmanaged();
+
+		objectSizer.sizeof(unmanaged);
+
+		verify(mockObjectSizer).sizeof(unmanaged);
+
+		assertThat(this.mappingContext.hasPersistentEntityFor(Unmanaged.class)).isFalse();
+	}
+
+	@Test
+	public void sizesTypesRegisteredAfterFirstSizingAsEntities() {
+
+		ObjectSizer mockObjectSizer = mock(ObjectSizer.class);
+
+		MappingObjectSizer objectSizer = new MappingObjectSizer(this.mappingContext, mockObjectSizer);
+
+		Unmanaged unmanaged = new Unmanaged();
+
+		objectSizer.sizeof(unmanaged);
+
+		assertThat(objectSizer.resolveTypeSize(Unmanaged.class).isEntity()).isFalse();
+
+		this.mappingContext.getPersistentEntity(Unmanaged.class);
+
+		assertThat(objectSizer.resolveTypeSize(Unmanaged.class).isEntity()).isTrue();
+
+		objectSizer.sizeof(unmanaged);
+
+		verify(mockObjectSizer, times(1)).sizeof(unmanaged);
+	}
+
+	@Test
+	public void samplesEntitySizes() {
+
+		this.objectSizer.setSamplingInterval(4);
+
+		List<Integer> sizes = new ArrayList<>();
+
+		for (int count = 0; count < 8; count++) {
+
+			Customer customer = newCustomer(count);
+
+			customer.name = count % 4 == 0 ? "short" : "a much, much longer name that is not sampled";
+
+			sizes.add(this.objectSizer.sizeof(customer));
+		}
+
+		Customer sampledCustomer = newCustomer(0L);
+
+		sampledCustomer.name = "short";
+
+		assertThat(sizes.get(0)).isEqualTo(new MappingObjectSizer(this.mappingContext).sizeof(sampledCustomer));
+		assertThat(sizes).containsOnly(sizes.get(0));
+	}
+
+	@Test
+	public void sizesMapsAndCollectionsIncludingContents() {
+
+		Map<String, String> map = new HashMap<>();
+
+		int emptyMapSize = this.objectSizer.sizeof(map);
+
+		map.put("key", "value");
+
+		assertThat(this.objectSizer.sizeof(map)).isGreaterThan(emptyMapSize + this.objectSizer.sizeof("key")
+			+ this.objectSizer.sizeof("value"));
+	}
+
+	static class Address {
+
+		String city;
+		String street;
+
+	}
+
+	static class Customer {
+
+		boolean active;
+
+		long id;
+
+		int[] scores;
+
+		Address address;
+
+		List<String> tags;
+
+		Map<String, String> attributes;
+
+		String name;
+
+	}
+
+	static class Node {
+
+		Node next;
+
+	}
+
+	static class Unmanaged {
+
+		String value = "test";
+
+	}
+}
@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.apache.geode.cache.execute.ResultSender;
@@ -167,6 +168,70 @@ public class BatchingResultSenderTest {
 		testBatchingResultSender(new TestListResultSender(),1000);
 	}
 
+	@Test
+	public void iteratorChunkingIsCorrect() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(10, resultSender).sendResults(IntStream.range(0, 25).iterator());
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getChunkCount()).isEqualTo(3);
+		assertThat(resultSender.getResults()).containsExactlyElementsOf(IntStream.range(0, 25).boxed()
+			.collect(Collectors.toList()));
+	}
+
+	@Test
+	public void iteratorChunkingIsCorrectWhenBatchingIsDisabled() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(0, resultSender).sendResults(IntStream.range(0, 25).iterator());
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getChunkCount()).isEqualTo(1);
+		assertThat(resultSender.getResults()).hasSize(25);
+	}
+
+	@Test
+	public void emptyIteratorSendsLastResult() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(10, resultSender).sendResults(Collections.emptyIterator());
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getResults()).isEmpty();
+	}
+
+	@Test
+	public void listChunkingByBytesIsCorrect() {
+
+		List<String> result = new ArrayList<>();
+
+		IntStream.range(0, 100).forEach(index -> result.add(String.valueOf(index)));
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(0, 1L, resultSender).sendResults(result);
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getChunkCount()).isEqualTo(100);
+		assertThat(resultSender.getResults()).containsExactlyElementsOf(result);
+	}
+
+	@Test
+	public void listChunkingByCountOrBytesSendsChunksAtCountWhenBytesAreNotReached() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(10, Long.MAX_VALUE, resultSender).sendResults(IntStream.range(0, 100).iterator());
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getChunkCount()).isEqualTo(10);
+		assertThat(resultSender.getResults()).hasSize(100);
+	}
+
     private void testBatchingResultSender(AbstractTestResultSender resultSender, int batchSize, int resultSetSize){
 
         BatchingResultSender batchResultSender = new BatchingResultSender(batchSize, resultSender);
@@ -196,8 +261,14 @@ public class BatchingResultSenderTest {
 
 		private boolean lastResultSent = false;
 
+		private int chunkCount = 0;
+
 		private List<Object> results = new ArrayList<>();
 
+		public int getChunkCount() {
+			return this.chunkCount;
+		}
+
         public boolean isLastResultSent() {
             return this.lastResultSent;
         }
@@ -206,6 +277,7 @@ public class BatchingResultSenderTest {
 		public void lastResult(Object result) {
 
 		    this.lastResultSent = true;
+		    this.chunkCount++;
 
 			Optional.ofNullable(result)
 				.ifPresent(it -> addResults(it, this.results));
@@ -219,6 +291,8 @@ public class BatchingResultSenderTest {
 		@Override
 		public void sendResult(Object result) {
 
+			this.chunkCount++;
+
 			Optional.ofNullable(result)
 				.ifPresent(it -> addResults(it, this.results));
 		}
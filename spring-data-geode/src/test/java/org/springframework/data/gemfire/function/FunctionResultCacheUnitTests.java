@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.execute.FunctionContext;
+
+/**
+ * Unit Tests for {@link FunctionResultCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.function.FunctionResultCache
+ * @since 2.5.0
+ */
+public class FunctionResultCacheUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private static FunctionContext<Object> mockFunctionContext(String functionId, Object arguments) {
+
+		FunctionContext<Object> mockFunctionContext = mock(FunctionContext.class);
+
+		when(mockFunctionContext.getFunctionId()).thenReturn(functionId);
+		when(mockFunctionContext.getArguments()).thenReturn(arguments);
+
+		return mockFunctionContext;
+	}
+
+	@Test
+	public void equalArgumentsReturnCachedResult() {
+
+		AtomicInteger executions = new AtomicInteger(0);
+
+		FunctionResultCache resultCache = new FunctionResultCache(10, 0L);
+
+		Object resultOne = resultCache.get(mockFunctionContext("price", new Object[] { "ABC", 1 }),
+			executions::incrementAndGet);
+
+		Object resultTwo = resultCache.get(mockFunctionContext("price", new Object[] { "ABC", 1 }),
+			executions::incrementAndGet);
+
+		Object resultThree = resultCache.get(mockFunctionContext("price", new Object[] { "XYZ", 1 }),
+			executions::incrementAndGet);
+
+		assertThat(resultOne).isEqualTo(1);
+		assertThat(resultTwo).isEqualTo(1);
+		assertThat(resultThree).isEqualTo(2);
+		assertThat(resultCache.getHitCount()).isEqualTo(1L);
+		assertThat(resultCache.getMissCount()).isEqualTo(2L);
+		assertThat(resultCache.getHitRatio()).isEqualTo(1.0d / 3.0d);
+	}
+
+	@Test
+	public void leastRecentlyUsedResultsAreEvicted() {
+
+		FunctionResultCache resultCache = new FunctionResultCache(2, 0L);
+
+		resultCache.get(mockFunctionContext("f", 1), () -> "one");
+		resultCache.get(mockFunctionContext("f", 2), () -> "two");
+		resultCache.get(mockFunctionContext("f", 1), () -> "ONE");
+		resultCache.get(mockFunctionContext("f", 3), () -> "three");
+
+		assertThat(resultCache.size()).isEqualTo(2);
+		assertThat(resultCache.getEvictionCount()).isEqualTo(1L);
+		assertThat(resultCache.get(mockFunctionContext("f", 1), () -> "ONE")).isEqualTo("one");
+		assertThat(resultCache.get(mockFunctionContext("f", 2), () -> "TWO")).isEqualTo("TWO");
+	}
+
+	@Test
+	public void expiredResultsAreRecomputed() throws Exception {
+
+		FunctionResultCache resultCache = new FunctionResultCache(10, 1L);
+
+		resultCache.get(mockFunctionContext("f", 1), () -> "one");
+
+		Thread.sleep(10L);
+
+		assertThat(resultCache.get(mockFunctionContext("f", 1), () -> "ONE")).isEqualTo("ONE");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void invalidatingCacheListenerInvalidatesResults() {
+
+		FunctionResultCache resultCache = new FunctionResultCache(10, 0L);
+
+		resultCache.get(mockFunctionContext("f", 1), () -> "one");
+
+		assertThat(resultCache.size()).isEqualTo(1);
+
+		resultCache.newInvalidatingCacheListener().afterUpdate(mock(EntryEvent.class));
+
+		assertThat(resultCache.size()).isZero();
+		assertThat(resultCache.get(mockFunctionContext("f", 1), () -> "ONE")).isEqualTo("ONE");
+	}
+}
@@ -122,6 +122,39 @@ public class GemfireFunctionUtilsUnitTests {
 		assertThat(function.getBatchSize()).isEqualTo(10);
 	}
 
+	@Test
+	public void configureWithResultCache() throws Exception {
+
+		Method functionWithCachedResults = TestFunctions.class.getDeclaredMethod("functionWithCachedResults");
+
+		AnnotationAttributes gemfireFunctionAttributes =
+			GemfireFunctionUtils.getAnnotationAttributes(functionWithCachedResults, GemfireFunction.class);
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(this.testFunctions, functionWithCachedResults);
+
+		GemfireFunctionUtils.configureResultCache(gemfireFunctionAttributes, function);
+
+		assertThat(function.getResultCache()).isNotNull();
+		assertThat(function.getResultCache().getMaxSize()).isEqualTo(50);
+		assertThat(function.getResultCache().getTimeToLive()).isEqualTo(30000L);
+		assertThat(function.getDependentRegions()).containsExactly("Prices");
+	}
+
+	@Test
+	public void configureWithoutResultCache() throws Exception {
+
+		Method functionWithBatchSize = TestFunctions.class.getDeclaredMethod("functionWithBatchSize");
+
+		AnnotationAttributes gemfireFunctionAttributes =
+			GemfireFunctionUtils.getAnnotationAttributes(functionWithBatchSize, GemfireFunction.class);
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(this.testFunctions, functionWithBatchSize);
+
+		GemfireFunctionUtils.configureResultCache(gemfireFunctionAttributes, function);
+
+		assertThat(function.getResultCache()).isNull();
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void configureWithInvalidBatchSizeThrowsIllegalArgumentException() throws Exception {
 
@@ -373,6 +406,9 @@ public class GemfireFunctionUtilsUnitTests {
 		@GemfireFunction(batchSize = -5)
 		void functionWithInvalidBatchSize() { }
 
+		@GemfireFunction(cacheResults = true, cacheMaxSize = 50, cacheTtl = 30000L, dependentRegions = "Prices")
+		Object functionWithCachedResults() { return null; }
+
 		@GemfireFunction(HA = true)
 		void functionWithHighAvailability() { }
 
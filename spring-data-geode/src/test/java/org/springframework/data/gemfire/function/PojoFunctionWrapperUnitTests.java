@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.Scope;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+
+/**
+ * Unit Tests for {@link PojoFunctionWrapper}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.function.FunctionResultCache
+ * @see org.springframework.data.gemfire.function.PojoFunctionWrapper
+ * @since 2.5.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class PojoFunctionWrapperUnitTests {
+
+	private AttributesMutator mockAttributesMutator;
+
+	private Cache mockCache;
+
+	private FunctionContext mockFunctionContext;
+
+	private Region mockRegion;
+
+	private RegionAttributes mockRegionAttributes;
+
+	private TestFunctions testFunctions;
+
+	@Before
+	public void setup() {
+
+		this.mockCache = mock(Cache.class);
+		this.mockAttributesMutator = mock(AttributesMutator.class);
+		this.mockFunctionContext = mock(FunctionContext.class);
+		this.mockRegion = mock(Region.class);
+		this.mockRegionAttributes = mock(RegionAttributes.class);
+		this.testFunctions = new TestFunctions();
+
+		doReturn(this.mockCache).when(this.mockFunctionContext).getCache();
+		doReturn("price").when(this.mockFunctionContext).getFunctionId();
+		doReturn(new Object[0]).when(this.mockFunctionContext).getArguments();
+		doReturn(mock(ResultSender.class)).when(this.mockFunctionContext).getResultSender();
+		doReturn(this.mockRegion).when(this.mockCache).getRegion("Prices");
+		doReturn("/Prices").when(this.mockRegion).getFullPath();
+		doReturn(this.mockAttributesMutator).when(this.mockRegion).getAttributesMutator();
+		doReturn(this.mockRegionAttributes).when(this.mockRegion).getAttributes();
+	}
+
+	private PojoFunctionWrapper newCachingFunction(long timeToLive) throws Exception {
+
+		PojoFunctionWrapper function =
+			new PojoFunctionWrapper(this.testFunctions, TestFunctions.class.getMethod("price"));
+
+		function.setResultCache(new FunctionResultCache(10, timeToLive));
+		function.setDependentRegions("Prices");
+
+		return function;
+	}
+
+	private void withDataPolicy(DataPolicy dataPolicy, Scope scope) {
+		doReturn(dataPolicy).when(this.mockRegionAttributes).getDataPolicy();
+		doReturn(scope).when(this.mockRegionAttributes).getScope();
+	}
+
+	@Test
+	public void replicateDependentRegionCachesResultsAndCloseRemovesCacheListener() throws Exception {
+
+		withDataPolicy(DataPolicy.REPLICATE, Scope.DISTRIBUTED_ACK);
+
+		PojoFunctionWrapper function = newCachingFunction(0L);
+
+		function.execute(this.mockFunctionContext);
+		function.execute(this.mockFunctionContext);
+
+		assertThat(this.testFunctions.invocations.get()).isEqualTo(1);
+
+		ArgumentCaptor<CacheListener> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(this.mockAttributesMutator, times(1)).addCacheListener(cacheListener.capture());
+
+		function.close();
+
+		verify(this.mockAttributesMutator, times(1)).removeCacheListener(cacheListener.getValue());
+		assertThat(function.getResultCache().size()).isZero();
+	}
+
+	@Test
+	public void partitionDependentRegionWithoutTimeToLiveIsRejectedOnInitialization() throws Exception {
+
+		withDataPolicy(DataPolicy.PARTITION, Scope.DISTRIBUTED_ACK);
+
+		PojoFunctionWrapper function = newCachingFunction(0L);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> function.initializeResultCache(this.mockCache))
+			.withMessageContaining("Dependent Region [/Prices] of Function [price] is not a REPLICATE or LOCAL Region");
+
+		verify(this.mockAttributesMutator, never()).addCacheListener(any());
+	}
+
+	@Test
+	public void partitionDependentRegionCreatedAfterInitializationWithoutTimeToLiveDisablesResultCache()
+			throws Exception {
+
+		withDataPolicy(DataPolicy.PARTITION, Scope.DISTRIBUTED_ACK);
+
+		PojoFunctionWrapper function = newCachingFunction(0L);
+
+		function.execute(this.mockFunctionContext);
+		function.execute(this.mockFunctionContext);
+
+		assertThat(this.testFunctions.invocations.get()).isEqualTo(2);
+		assertThat(function.getResultCache().size()).isZero();
+
+		verify(this.mockCache, times(1)).getRegion("Prices");
+		verify(this.mockAttributesMutator, never()).addCacheListener(any());
+	}
+
+	@Test
+	public void initializationRegistersCacheListenerOnReplicateDependentRegion() throws Exception {
+
+		withDataPolicy(DataPolicy.REPLICATE, Scope.DISTRIBUTED_ACK);
+
+		PojoFunctionWrapper function = newCachingFunction(0L);
+
+		function.initializeResultCache(this.mockCache);
+		function.execute(this.mockFunctionContext);
+
+		assertThat(this.testFunctions.invocations.get()).isEqualTo(1);
+
+		verify(this.mockAttributesMutator, times(1)).addCacheListener(any());
+	}
+
+	@Test
+	public void partitionDependentRegionWithTimeToLiveCachesResults() throws Exception {
+
+		withDataPolicy(DataPolicy.PARTITION, Scope.DISTRIBUTED_ACK);
+
+		PojoFunctionWrapper function = newCachingFunction(60000L);
+
+		function.execute(this.mockFunctionContext);
+		function.execute(this.mockFunctionContext);
+
+		assertThat(this.testFunctions.invocations.get()).isEqualTo(1);
+
+		verify(this.mockAttributesMutator, times(1)).addCacheListener(any());
+	}
+
+	@Test
+	public void missingDependentRegionBypassesResultCache() throws Exception {
+
+		PojoFunctionWrapper function = newCachingFunction(0L);
+
+		function.setDependentRegions("Missing");
+		function.execute(this.mockFunctionContext);
+		function.execute(this.mockFunctionContext);
+
+		assertThat(this.testFunctions.invocations.get()).isEqualTo(2);
+		assertThat(function.getResultCache().size()).isZero();
+	}
+
+	public static class TestFunctions {
+
+		private final AtomicInteger invocations = new AtomicInteger(0);
+
+		public String price() {
+			this.invocations.incrementAndGet();
+			return "1.00";
+		}
+	}
+}
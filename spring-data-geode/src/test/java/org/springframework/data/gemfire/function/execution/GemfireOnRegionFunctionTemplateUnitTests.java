@@ -0,0 +1,259 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ServerConnectivityException;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionInvocationTargetException;
+
+/**
+ * Unit Tests for {@link GemfireOnRegionFunctionTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionFunctionTemplate
+ * @since 2.5.0
+ */
+public class GemfireOnRegionFunctionTemplateUnitTests {
+
+	private Region<?, ?> mockRegion;
+
+	@Before
+	public void setup() {
+
+		this.mockRegion = mock(Region.class);
+
+		when(this.mockRegion.getName()).thenReturn("MockRegion");
+	}
+
+	private static Set<Object> keys(int count) {
+		return IntStream.range(0, count).boxed().collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	@Test
+	public void chunkSplitsKeysByChunkSize() {
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion);
+
+		template.setBulkChunkSize(4);
+
+		List<Set<Object>> chunks = template.chunk(keys(10));
+
+		assertThat(chunks).hasSize(3);
+		assertThat(chunks.get(0)).containsExactly(0, 1, 2, 3);
+		assertThat(chunks.get(1)).containsExactly(4, 5, 6, 7);
+		assertThat(chunks.get(2)).containsExactly(8, 9);
+	}
+
+	@Test
+	public void executeInBulkStreamsResultsFromAllChunks() {
+
+		Map<Set<?>, AtomicInteger> executions = new ConcurrentHashMap<>();
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+
+				executions.computeIfAbsent(keys, it -> new AtomicInteger(0)).incrementAndGet();
+
+				return (Iterable<T>) new ArrayList<>(keys);
+			}
+		};
+
+		template.setBulkChunkSize(3);
+		template.setBulkParallelism(2);
+
+		try (Stream<Object> results = template.executeInBulk("testFunction", keys(10))) {
+			assertThat(results.collect(Collectors.toList())).containsExactlyInAnyOrderElementsOf(keys(10));
+		}
+
+		assertThat(executions).hasSize(4);
+	}
+
+	@Test
+	public void executeInBulkRetriesFailedChunks() {
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+
+				if (keys.contains(0) && attempts.incrementAndGet() == 1) {
+					throw new FunctionException(new ServerConnectivityException("TEST"));
+				}
+
+				return (Iterable<T>) new ArrayList<>(keys);
+			}
+		};
+
+		template.setBulkChunkSize(2);
+		template.setBulkRetryAttempts(1);
+
+		assertThat(template.executeInBulk("testFunction", keys(4)).collect(Collectors.toList()))
+			.containsExactlyInAnyOrder(0, 1, 2, 3);
+
+		assertThat(attempts.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void executeInBulkFailsWhenRetriesAreExhausted() {
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+
+				if (keys.contains(0)) {
+					throw new FunctionInvocationTargetException("TEST");
+				}
+
+				return (Iterable<T>) new ArrayList<>(keys);
+			}
+		};
+
+		template.setBulkChunkSize(2);
+		template.setBulkRetryAttempts(2);
+
+		assertThatExceptionOfType(FunctionInvocationTargetException.class)
+			.isThrownBy(() -> template.executeInBulk("testFunction", keys(4)).collect(Collectors.toList()))
+			.withMessage("TEST");
+	}
+
+	@Test
+	public void executeInBulkDoesNotRetryFunctionFailures() {
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+
+				if (keys.contains(0)) {
+					attempts.incrementAndGet();
+					throw new FunctionException(new IllegalStateException("TEST"));
+				}
+
+				return (Iterable<T>) new ArrayList<>(keys);
+			}
+		};
+
+		template.setBulkChunkSize(2);
+		template.setBulkRetryAttempts(2);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> template.executeInBulk("testFunction", keys(4)).collect(Collectors.toList()));
+
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void executeInBulkUsesConfiguredExecutor() {
+
+		AtomicInteger tasks = new AtomicInteger(0);
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+				return (Iterable<T>) new ArrayList<>(keys);
+			}
+		};
+
+		template.setBulkChunkSize(2);
+		template.setBulkParallelism(2);
+		template.setBulkExecutor(runnable -> {
+			tasks.incrementAndGet();
+			runnable.run();
+		});
+
+		try (Stream<Object> results = template.executeInBulk("testFunction", keys(10))) {
+			assertThat(results.collect(Collectors.toList())).containsExactlyInAnyOrderElementsOf(keys(10));
+		}
+
+		assertThat(tasks.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void executeInBulkWithNoKeysDoesNotExecuteFunction() {
+
+		AtomicInteger executions = new AtomicInteger(0);
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion) {
+
+			@Override
+			public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+				executions.incrementAndGet();
+				return null;
+			}
+		};
+
+		assertThat(template.executeInBulk("testFunction", Collections.emptySet())).isEmpty();
+		assertThat(template.executeInBulk("testFunction", null)).isEmpty();
+		assertThat(executions.get()).isZero();
+	}
+
+	@Test
+	public void executeInBulkCompletesAllChunksBeforeReturning() {
+
+		AtomicInteger executions = new AtomicInteger(0);
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(this.mockRegion) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Iterable<T> execute(String functionId, Set<?> keys, Object... args) {
+				executions.incrementAndGet();
+				return (Iterable<T>) new ArrayList<>(keys);
+			}
+		};
+
+		template.setBulkChunkSize(2);
+		template.setBulkParallelism(2);
+
+		Stream<Object> results = template.executeInBulk("testFunction", keys(10));
+
+		assertThat(executions.get()).isEqualTo(5);
+		assertThat(results.collect(Collectors.toList())).containsExactlyInAnyOrderElementsOf(keys(10));
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.data.gemfire.function.annotation.Batched;
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.data.gemfire.test.support.ThreadUtils;
+import org.springframework.data.gemfire.util.CollectionUtils;
+
+/**
+ * Unit Tests for {@link OnRegionFunctionExecutionBatcher}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.function.execution.OnRegionFunctionExecutionBatcher
+ * @since 2.5.0
+ */
+public class OnRegionFunctionExecutionBatcherUnitTests {
+
+	private GemfireOnRegionOperations mockOperations;
+
+	private OnRegionFunctionExecutionBatcher batcher;
+
+	@Before
+	public void setup() {
+		this.mockOperations = mock(GemfireOnRegionOperations.class);
+	}
+
+	@After
+	public void tearDown() {
+
+		if (this.batcher != null) {
+			this.batcher.shutdown();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Iterable<Object> echoKeys(Set<?> keys) {
+
+		Map<Object, Object> results = new HashMap<>();
+
+		keys.forEach(key -> results.put(key, String.valueOf(key).toUpperCase()));
+
+		return Collections.singletonList(results);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void concurrentExecutionsAreCoalescedAndDemultiplexed() {
+
+		when(this.mockOperations.execute(eq("testFunction"), anySet(), any()))
+			.thenAnswer(invocation -> echoKeys(invocation.getArgument(1)));
+
+		this.batcher = new OnRegionFunctionExecutionBatcher(this.mockOperations, 200L, 500);
+
+		CompletableFuture<Iterable<?>> one = CompletableFuture.supplyAsync(() ->
+			this.batcher.execute("testFunction", CollectionUtils.asSet("a", "b"), "arg"));
+
+		CompletableFuture<Iterable<?>> two = CompletableFuture.supplyAsync(() ->
+			this.batcher.execute("testFunction", CollectionUtils.asSet("c"), "arg"));
+
+		assertThat(one.join()).containsExactly(newMap("a", "A", "b", "B"));
+		assertThat(two.join()).containsExactly(newMap("c", "C"));
+
+		verify(this.mockOperations, times(1))
+			.execute(eq("testFunction"), eq(CollectionUtils.asSet("a", "b", "c")), eq("arg"));
+	}
+
+	@Test
+	public void fullBatchIsExecutedImmediately() {
+
+		when(this.mockOperations.execute(eq("testFunction"), anySet(), any()))
+			.thenAnswer(invocation -> echoKeys(invocation.getArgument(1)));
+
+		this.batcher = new OnRegionFunctionExecutionBatcher(this.mockOperations, 60_000L, 2);
+
+		assertThat(this.batcher.execute("testFunction", CollectionUtils.asSet("x", "y")))
+			.containsExactly(newMap("x", "X", "y", "Y"));
+	}
+
+	@Test
+	public void executionFailureIsPropagatedToCallers() {
+
+		when(this.mockOperations.execute(eq("testFunction"), anySet(), any()))
+			.thenThrow(new IllegalStateException("TEST"));
+
+		this.batcher = new OnRegionFunctionExecutionBatcher(this.mockOperations, 1L, 500);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.batcher.execute("testFunction", CollectionUtils.asSet("a")))
+			.withMessage("TEST");
+	}
+
+	@Test
+	public void shutdownFailsPendingExecutions() {
+
+		this.batcher = new OnRegionFunctionExecutionBatcher(this.mockOperations, 60_000L, 500);
+
+		CompletableFuture<Iterable<?>> pending = CompletableFuture.supplyAsync(() ->
+			this.batcher.execute("testFunction", CollectionUtils.asSet("a")));
+
+		assertThat(ThreadUtils.timedWait(5000L, 10L, () -> !this.batcher.hasPendingBatches())).isTrue();
+
+		this.batcher.shutdown();
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> {
+				try {
+					pending.join();
+				}
+				catch (CompletionException cause) {
+					throw cause.getCause();
+				}
+			})
+			.withMessage("Function [testFunction] execution batcher was shutdown");
+
+		verify(this.mockOperations, never()).execute(any(), anySet(), any());
+	}
+
+	@Test
+	public void executeAfterShutdownThrowsIllegalStateException() {
+
+		this.batcher = new OnRegionFunctionExecutionBatcher(this.mockOperations, 1L, 500);
+		this.batcher.shutdown();
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.batcher.execute("testFunction", CollectionUtils.asSet("a")))
+			.withMessage("Function [testFunction] execution batcher was shutdown");
+
+		verify(this.mockOperations, never()).execute(any(), anySet(), any());
+	}
+
+	@Test
+	public void demultiplexMapEntries() {
+
+		List<?> results = Arrays.asList(new AbstractMap.SimpleEntry<>("a", 1), new AbstractMap.SimpleEntry<>("b", 2),
+			newMap("c", 3, "d", 4));
+
+		assertThat(OnRegionFunctionExecutionBatcher.demultiplex(results, CollectionUtils.asSet("b", "c")))
+			.containsExactly(new AbstractMap.SimpleEntry<>("b", 2), newMap("c", 3));
+	}
+
+	@Test
+	public void demultiplexUnkeyedResultThrowsIllegalStateException() {
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> OnRegionFunctionExecutionBatcher.demultiplex(Collections.singletonList("a"),
+				CollectionUtils.asSet("a")))
+			.withMessageContaining("must be a Map or Map.Entry");
+	}
+
+	@Test
+	public void onlyMethodsAnnotatedWithBatchedAreBatched() throws NoSuchMethodException {
+
+		RegionFunctionExecutionMethodMetadata methodMetadata =
+			new RegionFunctionExecutionMethodMetadata(TestFunctions.class);
+
+		assertThat(methodMetadata.getMethodMetadata(TestFunctions.class.getMethod("batched", Set.class))
+			.isBatched()).isTrue();
+
+		assertThat(methodMetadata.getMethodMetadata(TestFunctions.class.getMethod("unbatched", Set.class))
+			.isBatched()).isFalse();
+	}
+
+	private static Map<Object, Object> newMap(Object... keyValues) {
+
+		Map<Object, Object> map = new HashMap<>();
+
+		for (int index = 0; index < keyValues.length; index += 2) {
+			map.put(keyValues[index], keyValues[index + 1]);
+		}
+
+		return map;
+	}
+
+	@SuppressWarnings("unused")
+	interface TestFunctions {
+
+		@Batched
+		Map<Object, Object> batched(@Filter Set<Object> keys);
+
+		Object unbatched(@Filter Set<Object> keys);
+
+	}
+}
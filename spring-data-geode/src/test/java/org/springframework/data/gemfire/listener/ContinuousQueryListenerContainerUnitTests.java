@@ -17,22 +17,27 @@
 package org.springframework.data.gemfire.listener;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executor;
@@ -40,18 +45,23 @@ import java.util.concurrent.Executor;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.query.CqAttributes;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqException;
+import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
 import org.apache.geode.cache.query.CqState;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.Struct;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.DisposableBean;
@@ -677,6 +687,40 @@ public class ContinuousQueryListenerContainerUnitTests {
 		assertThat(cqListenerContainer.getContinuousQueries().peek()).isEqualTo(query);
 	}
 
+	@Test
+	public void addContinuousQueryWithInitialResultsDecoratesCqListenerFromNewCqListener() throws Exception {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		when(mockQueryService.newCq(anyString(), any(CqAttributes.class), anyBoolean()))
+			.thenAnswer(invocation -> mockCqQuery(null, invocation.getArgument(0), invocation.getArgument(1),
+				invocation.getArgument(2)));
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		CqListener mockCqListener = mock(CqListener.class);
+
+		doReturn(mockCqListener).when(cqListenerContainer).newCqListener(eq(mockListener));
+
+		ContinuousQueryDefinition definition =
+			new ContinuousQueryDefinition(null, "SELECT * FROM /Utilization u WHERE u.value > 100",
+				mockListener, false, true, 100);
+
+		cqListenerContainer.setQueryService(mockQueryService);
+
+		CqQuery query = cqListenerContainer.addContinuousQuery(definition);
+
+		CqListener cqListener = query.getCqAttributes().getCqListener();
+
+		assertThat(cqListener).isInstanceOf(ContinuousQueryListenerContainer.InitialResultsCqListenerAdapter.class);
+		assertThat(((ContinuousQueryListenerContainer.InitialResultsCqListenerAdapter) cqListener).getDelegate())
+			.isSameAs(mockCqListener);
+		assertThat(((ContinuousQueryListenerContainer.InitialResultsCqListenerAdapter) cqListener).getChunkSize())
+			.isEqualTo(100);
+
+		verify(cqListenerContainer, times(1)).newCqListener(eq(mockListener));
+	}
+
 	@Test
 	public void cqListenerContainerStartsWhenNotRunning() throws Exception {
 
@@ -734,6 +778,116 @@ public class ContinuousQueryListenerContainerUnitTests {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cqListenerContainerStartExecutesQueryWithInitialResultsDeliveredAsCreateEvents() throws Exception {
+
+		List<CqEvent> events = new ArrayList<>();
+
+		ContinuousQueryListenerContainer.InitialResultsCqListenerAdapter dispatcher =
+			cqListenerContainer.new InitialResultsCqListenerAdapter(
+				cqListenerContainer.new EventDispatcherAdapter(events::add), 2);
+
+		CqAttributes mockAttributes = mock(CqAttributes.class);
+		CqEvent mockLiveEvent = mock(CqEvent.class);
+		CqQuery mockQuery = mock(CqQuery.class);
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		List<Object> initialResults = Arrays.asList(mockStruct("a", 1), mockStruct("b", 2), mockStruct("c", 3));
+
+		when(mockAttributes.getCqListeners()).thenReturn(new CqListener[] { dispatcher });
+		when(mockLiveEvent.getKey()).thenReturn("b");
+		when(mockQuery.getCqAttributes()).thenReturn(mockAttributes);
+		when(mockResults.iterator()).thenAnswer(invocation -> initialResults.iterator());
+		when(mockResults.size()).thenReturn(initialResults.size());
+
+		doAnswer(invocation -> {
+			dispatcher.onEvent(mockLiveEvent);
+			return mockResults;
+		}).when(mockQuery).executeWithInitialResults();
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+		cqListenerContainer.getContinuousQueries().add(mockQuery);
+		cqListenerContainer.start();
+
+		assertThat(cqListenerContainer.isRunning()).isTrue();
+		assertThat(events).hasSize(3);
+		assertThat(events.subList(0, 2)).extracting(CqEvent::getKey).containsExactly("a", "c");
+		assertThat(events.subList(0, 2)).extracting(CqEvent::getNewValue).containsExactly(1, 3);
+		assertThat(events.get(2)).isSameAs(mockLiveEvent);
+		assertThat(events.subList(0, 2)).allSatisfy(event -> {
+			assertThat(event.getBaseOperation()).isEqualTo(Operation.CREATE);
+			assertThat(event.getQueryOperation()).isEqualTo(Operation.CREATE);
+			assertThat(event.getCq()).isSameAs(mockQuery);
+		});
+
+		verify(mockQuery, times(1)).executeWithInitialResults();
+		verify(mockQuery, never()).execute();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bufferedCqEventsAreCoalescedPerKeyAndErrorsAreReplayedAsErrors() throws Exception {
+
+		CqListener mockDelegate = mock(CqListener.class);
+
+		ContinuousQueryListenerContainer.InitialResultsCqListenerAdapter dispatcher =
+			cqListenerContainer.new InitialResultsCqListenerAdapter(mockDelegate, 10);
+
+		CqEvent mockErrorEvent = mock(CqEvent.class);
+		CqEvent mockFirstLiveEvent = mock(CqEvent.class);
+		CqEvent mockSecondLiveEvent = mock(CqEvent.class);
+		CqQuery mockQuery = mock(CqQuery.class);
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		List<Object> initialResults = Arrays.asList(mockStruct("a", 1), mockStruct("b", 2));
+
+		when(mockFirstLiveEvent.getKey()).thenReturn("a");
+		when(mockSecondLiveEvent.getKey()).thenReturn("a");
+		when(mockResults.iterator()).thenAnswer(invocation -> initialResults.iterator());
+		when(mockResults.size()).thenReturn(initialResults.size());
+
+		doAnswer(invocation -> {
+			dispatcher.onEvent(mockFirstLiveEvent);
+			dispatcher.onError(mockErrorEvent);
+			dispatcher.onEvent(mockSecondLiveEvent);
+			return mockResults;
+		}).when(mockQuery).executeWithInitialResults();
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		dispatcher.executeWithInitialResults(mockQuery);
+
+		InOrder inOrder = inOrder(mockDelegate);
+
+		inOrder.verify(mockDelegate, times(1))
+			.onEvent(argThat(event -> "b".equals(event.getKey()) && Integer.valueOf(2).equals(event.getNewValue())));
+		inOrder.verify(mockDelegate, times(1)).onError(eq(mockErrorEvent));
+		inOrder.verify(mockDelegate, times(1)).onEvent(eq(mockSecondLiveEvent));
+
+		verify(mockDelegate, never()).onEvent(eq(mockFirstLiveEvent));
+		verify(mockDelegate, never()).onEvent(eq(mockErrorEvent));
+		verifyNoMoreInteractions(mockDelegate);
+	}
+
+	@Test
+	public void constructInitialResultsCqListenerAdapterWithInvalidMaximumBufferedEvents() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> cqListenerContainer.new InitialResultsCqListenerAdapter(mock(CqListener.class), 10, 0))
+			.withMessage("Maximum buffered events [0] must be greater than 0");
+	}
+
+	private Struct mockStruct(Object key, Object value) {
+
+		Struct mockStruct = mock(Struct.class);
+
+		when(mockStruct.get(eq("key"))).thenReturn(key);
+		when(mockStruct.get(eq("value"))).thenReturn(value);
+
+		return mockStruct;
+	}
+
 	@Test
 	public void cqListenerContainerDoesNotStartWhenAlreadyRunning() {
 
@@ -20,20 +20,27 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
-import org.apache.geode.cache.Operation;
-import org.apache.geode.cache.query.CqEvent;
-import org.apache.geode.cache.query.CqQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
+import org.springframework.data.gemfire.listener.GemfireListenerExecutionFailedException;
 
 /**
  * @author Costin Leau
@@ -273,6 +280,128 @@ public class QueryListenerAdapterTest {
 		assertThat(listener.count, is(1));
 	}
 
+	@Test
+	public void handlesEventsWithPrivateDelegateTypeAndChangingListenerMethodName() {
+
+		PrivatePojoListener listener = new PrivatePojoListener();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(listener) {
+
+			@Override
+			protected String getListenerMethodName(CqEvent event) {
+				return listener.count % 2 == 0 ? "handleKey" : "handleKV";
+			}
+
+			@Override
+			protected void handleListenerException(Throwable cause) {
+				throw new RuntimeException(cause);
+			}
+		};
+
+		CqEvent event = event();
+
+		cqListenerAdapter.onEvent(event);
+		cqListenerAdapter.onEvent(event);
+		cqListenerAdapter.onEvent(event);
+
+		assertThat(listener.count, is(3));
+		assertSame(event.getNewValue(), listener.lastValue);
+	}
+
+	@Test
+	public void invokesListenerMethodResolvedForEachEventWhenInterleaved() {
+
+		RecordingPojoListener listener = new RecordingPojoListener();
+
+		CqEvent keyEvent = event();
+		CqEvent keyValueEvent = event();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(listener) {
+
+			@Override
+			protected String getListenerMethodName(CqEvent event) {
+				return event == keyEvent ? "handleKey" : "handleKV";
+			}
+
+			@Override
+			protected void invokeListenerMethod(CqEvent event, String methodName) {
+
+				// Simulates another thread dispatching an event to a different listener method
+				if (event == keyEvent) {
+					onEvent(keyValueEvent);
+				}
+
+				super.invokeListenerMethod(event, methodName);
+			}
+
+			@Override
+			protected void handleListenerException(Throwable cause) {
+				throw new RuntimeException(cause);
+			}
+		};
+
+		cqListenerAdapter.onEvent(keyEvent);
+
+		assertEquals(Arrays.asList("handleKV", "handleKey"), listener.invokedMethods);
+	}
+
+	@Test
+	public void listenerMethodExceptionIsWrappedInGemfireListenerExecutionFailedException() {
+
+		IllegalStateException expected = new IllegalStateException("TEST");
+
+		AtomicReference<Throwable> handledException = new AtomicReference<>();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(new Object() {
+
+			@SuppressWarnings("unused")
+			public void handleEvent(CqEvent event) {
+				throw expected;
+			}
+
+		}) {
+
+			@Override
+			protected void handleListenerException(Throwable cause) {
+				handledException.set(cause);
+			}
+		};
+
+		cqListenerAdapter.onEvent(event());
+
+		assertTrue(handledException.get() instanceof GemfireListenerExecutionFailedException);
+		assertSame(expected, handledException.get().getCause());
+	}
+
+	private static class PrivatePojoListener {
+
+		private int count;
+
+		private Object lastValue;
+
+		public void handleKey(Object key) {
+			this.count++;
+		}
+
+		public void handleKV(Object key, Object value) {
+			this.count++;
+			this.lastValue = value;
+		}
+	}
+
+	public static class RecordingPojoListener {
+
+		private final List<String> invokedMethods = new ArrayList<>();
+
+		public void handleKey(Object key) {
+			this.invokedMethods.add("handleKey");
+		}
+
+		public void handleKV(Object key, Object value) {
+			this.invokedMethods.add("handleKV");
+		}
+	}
+
 	class SampleListener implements ContinuousQueryListener {
 
 		int count;
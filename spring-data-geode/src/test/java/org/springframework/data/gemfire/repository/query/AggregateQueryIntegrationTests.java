@@ -0,0 +1,231 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.query.annotation.Aggregate;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for aggregate query methods, both derived from the query method name and declared with
+ * the {@link Aggregate} annotation, executed against a {@literal PARTITION} {@link org.apache.geode.cache.Region}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.Aggregation
+ * @see org.springframework.data.gemfire.repository.query.annotation.Aggregate
+ * @see org.springframework.data.gemfire.repository.query.support.AggregateQueryFunction
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class AggregateQueryIntegrationTests {
+
+	private static final List<String> queries = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Before
+	public void setup() {
+
+		this.orderRepository.deleteAll();
+
+		this.orderRepository.saveAll(Arrays.asList(
+			new Order(1L, "jonDoe", 10.0d, 1),
+			new Order(2L, "jonDoe", 20.0d, 2),
+			new Order(3L, "janeDoe", 5.0d, 3),
+			new Order(4L, "janeDoe", 15.0d, 4),
+			new Order(5L, "janeDoe", 40.0d, 5),
+			new Order(6L, "pieDoe", 100.0d, 6)
+		));
+
+		queries.clear();
+	}
+
+	@Test
+	public void derivedSumIsCorrect() {
+
+		assertThat(this.orderRepository.sumAmountByCustomerId("janeDoe")).isEqualTo(60.0d);
+		assertThat(queries).containsExactly("SELECT SUM(x.amount) FROM /Orders x WHERE x.customerId = $1");
+	}
+
+	@Test
+	public void derivedAvgMinAndMaxAreCorrect() {
+
+		assertThat(this.orderRepository.avgAmountByCustomerId("janeDoe")).isCloseTo(20.0d, within(0.001d));
+		assertThat(this.orderRepository.minQuantityByCustomerId("janeDoe")).isEqualTo(3);
+		assertThat(this.orderRepository.maxQuantity()).isEqualTo(6);
+	}
+
+	@Test
+	public void annotatedGroupedSumIsCorrect() {
+
+		Map<String, Double> totals = this.orderRepository.findByQuantityGreaterThan(1);
+
+		assertThat(totals).hasSize(3);
+		assertThat(totals).containsEntry("jonDoe", 20.0d)
+			.containsEntry("janeDoe", 60.0d)
+			.containsEntry("pieDoe", 100.0d);
+		assertThat(queries).containsExactly(
+			"SELECT x.customerId, SUM(x.amount) FROM /Orders x WHERE x.quantity > $1 GROUP BY x.customerId");
+	}
+
+	@Test
+	public void serverSideGroupedAverageCombinesPartials() {
+
+		Map<String, Double> averages = this.orderRepository.findByAmountGreaterThan(0.0d);
+
+		assertThat(averages).hasSize(3);
+		assertThat(averages.get("jonDoe")).isCloseTo(15.0d, within(0.001d));
+		assertThat(averages.get("janeDoe")).isCloseTo(20.0d, within(0.001d));
+		assertThat(averages.get("pieDoe")).isCloseTo(100.0d, within(0.001d));
+		assertThat(queries).containsExactly("SELECT x.customerId, SUM(x.amount), COUNT(x.amount) FROM /Orders x"
+			+ " WHERE x.amount > $1 GROUP BY x.customerId");
+	}
+
+	@Test
+	public void serverSideCountIsCorrect() {
+		assertThat(this.orderRepository.findByCustomerIdLike("%Doe")).isEqualTo(6L);
+	}
+
+	public interface OrderRepository extends GemfireRepository<Order, Long> {
+
+		Double avgAmountByCustomerId(String customerId);
+
+		@Aggregate(type = Aggregate.Type.COUNT, serverSide = true)
+		long findByCustomerIdLike(String customerId);
+
+		@Aggregate(type = Aggregate.Type.AVG, property = "amount", groupBy = "customerId", serverSide = true)
+		Map<String, Double> findByAmountGreaterThan(Double amount);
+
+		@Aggregate(type = Aggregate.Type.SUM, property = "amount", groupBy = "customerId")
+		Map<String, Double> findByQuantityGreaterThan(Integer quantity);
+
+		Integer maxQuantity();
+
+		int minQuantityByCustomerId(String customerId);
+
+		Double sumAmountByCustomerId(String customerId);
+
+	}
+
+	@Region("Orders")
+	public static class Order implements Serializable {
+
+		@Id
+		private Long id;
+
+		private String customerId;
+
+		private Double amount;
+
+		private Integer quantity;
+
+		public Order() { }
+
+		public Order(Long id, String customerId, Double amount, Integer quantity) {
+			this.id = id;
+			this.customerId = customerId;
+			this.amount = amount;
+			this.quantity = quantity;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public String getCustomerId() {
+			return this.customerId;
+		}
+
+		public Double getAmount() {
+			return this.amount;
+		}
+
+		public Integer getQuantity() {
+			return this.quantity;
+		}
+	}
+
+	@PeerCacheApplication(logLevel = "error")
+	static class TestConfiguration {
+
+		@Bean("Orders")
+		PartitionedRegionFactoryBean<Long, Order> ordersRegion(GemFireCache gemfireCache) {
+
+			PartitionedRegionFactoryBean<Long, Order> ordersRegion = new PartitionedRegionFactoryBean<>();
+
+			ordersRegion.setCache(gemfireCache);
+			ordersRegion.setClose(false);
+			ordersRegion.setPersistent(false);
+
+			return ordersRegion;
+		}
+
+		@Bean
+		GemfireMappingContext mappingContext() {
+			return new GemfireMappingContext();
+		}
+
+		@Bean
+		GemfireRepositoryFactoryBean<OrderRepository, Order, Long> orderRepository() {
+			return new GemfireRepositoryFactoryBean<>(OrderRepository.class);
+		}
+
+		@Bean
+		QueryPostProcessor<Repository, String> recordingQueryPostProcessor() {
+
+			return new QueryPostProcessor<Repository, String>() {
+
+				@Override
+				public String postProcess(QueryMethod queryMethod, String query, Object... arguments) {
+					queries.add(query);
+					return query;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.springframework.data.gemfire.repository.query.annotation.Aggregate;
+
+/**
+ * Unit Tests for {@link Aggregation}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.Aggregation
+ * @since 2.5.0
+ */
+public class AggregationUnitTests {
+
+	private static GemfireQueryMethod mockQueryMethod(String name) {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		when(mockQueryMethod.getName()).thenReturn(name);
+
+		return mockQueryMethod;
+	}
+
+	@Test
+	public void fromDerivedQueryMethodName() {
+
+		Aggregation aggregation = Aggregation.from(mockQueryMethod("sumAmountByCustomerId"));
+
+		assertThat(aggregation).isNotNull();
+		assertThat(aggregation.getType()).isEqualTo(Aggregate.Type.SUM);
+		assertThat(aggregation.getPartTreeSource()).isEqualTo("findByCustomerId");
+		assertThat(aggregation.toProjection(false)).isEqualTo("SUM(x.amount)");
+		assertThat(aggregation.isGrouped()).isFalse();
+	}
+
+	@Test
+	public void fromDerivedQueryMethodNameWithoutPredicate() {
+
+		Aggregation aggregation = Aggregation.from(mockQueryMethod("maxQuantity"));
+
+		assertThat(aggregation).isNotNull();
+		assertThat(aggregation.getType()).isEqualTo(Aggregate.Type.MAX);
+		assertThat(aggregation.getPartTreeSource()).isEqualTo("findBy");
+		assertThat(aggregation.toProjection(false)).isEqualTo("MAX(x.quantity)");
+	}
+
+	@Test
+	public void fromNonAggregateQueryMethodIsNull() {
+
+		assertThat(Aggregation.from(mockQueryMethod("findBySummary"))).isNull();
+		assertThat(Aggregation.from(mockQueryMethod("summarize"))).isNull();
+	}
+
+	@Test
+	public void partialAverageProjectionSelectsSumAndCount() {
+
+		Aggregation aggregation = new Aggregation(Aggregate.Type.AVG, "amount", new String[] { "customerId" },
+			true, "findBy");
+
+		assertThat(aggregation.toProjection(false)).isEqualTo("x.customerId, AVG(x.amount)");
+		assertThat(aggregation.toProjection(true)).isEqualTo("x.customerId, SUM(x.amount), COUNT(x.amount)");
+		assertThat(aggregation.toGroupByExpressions()).containsExactly("x.customerId");
+	}
+
+	@Test
+	public void countProjectionWithoutProperty() {
+
+		Aggregation aggregation = new Aggregation(Aggregate.Type.COUNT, "", null, false, "findBy");
+
+		assertThat(aggregation.toProjection(false)).isEqualTo("COUNT(*)");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sumRequiresProperty() {
+		new Aggregation(Aggregate.Type.SUM, null, null, false, "findBy");
+	}
+
+	@Test
+	public void combinesPartialAverages() {
+
+		Aggregation aggregation = new Aggregation(Aggregate.Type.AVG, "amount", new String[] { "customerId" },
+			true, "findBy");
+
+		Map<Object, Object> averages = aggregation.combine(Arrays.asList(
+			new Object[] { "jonDoe", 10.0d, 1 },
+			new Object[] { "janeDoe", 30.0d, 2 },
+			new Object[] { "jonDoe", 20.0d, 3 },
+			new Object[] { "janeDoe", null, 0 }
+		), true);
+
+		assertThat(averages).hasSize(2);
+		assertThat(averages).containsEntry("jonDoe", 7.5d).containsEntry("janeDoe", 15.0d);
+	}
+
+	@Test
+	public void combinesPartialSumsPreservingDecimals() {
+
+		Aggregation aggregation = new Aggregation(Aggregate.Type.SUM, "amount", null, true, "findBy");
+
+		Map<Object, Object> sums = aggregation.combine(Arrays.asList(
+			new Object[] { new BigDecimal("1.10") },
+			new Object[] { 2 },
+			new Object[] { null }
+		), true);
+
+		assertThat(sums).containsOnlyKeys((Object) null);
+		assertThat(sums.get(null)).isEqualTo(new BigDecimal("3.10"));
+	}
+
+	@Test
+	public void combinesPartialMinimumsAndMaximumsOfMultipleGroups() {
+
+		Aggregation min = new Aggregation(Aggregate.Type.MIN, "quantity", new String[] { "a", "b" }, true, "findBy");
+		Aggregation max = new Aggregation(Aggregate.Type.MAX, "quantity", new String[] { "a", "b" }, true, "findBy");
+
+		Iterable<Object[]> rows = Arrays.asList(
+			new Object[] { "x", 1, 5 },
+			new Object[] { "x", 1, 2 },
+			new Object[] { "x", 2, 9 }
+		);
+
+		assertThat(min.combine(rows, true))
+			.containsEntry(Arrays.asList("x", 1), 2)
+			.containsEntry(Arrays.asList("x", 2), 9);
+		assertThat(max.combine(rows, true))
+			.containsEntry(Arrays.asList("x", 1), 5)
+			.containsEntry(Arrays.asList("x", 2), 9);
+	}
+}
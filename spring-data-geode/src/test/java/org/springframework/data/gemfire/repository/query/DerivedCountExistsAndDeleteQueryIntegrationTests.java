@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.query.annotation.ServerSideDelete;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for derived {@literal countBy}, {@literal existsBy} and {@literal deleteBy} query methods
+ * executed against a {@literal PARTITION} {@link org.apache.geode.cache.Region}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.repository.query.annotation.ServerSideDelete
+ * @see org.springframework.data.gemfire.repository.query.support.DeleteByQueryFunction
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class DerivedCountExistsAndDeleteQueryIntegrationTests {
+
+	private static final int DOE_COUNT = 1500;
+
+	private static final List<String> queries = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	private PeopleRepository peopleRepository;
+
+	private static Person newPerson(long id, String firstName, String lastName) {
+		return new Person(id, firstName, lastName);
+	}
+
+	@Before
+	public void setup() {
+
+		this.peopleRepository.deleteAll();
+
+		this.peopleRepository.saveAll(LongStream.rangeClosed(1, DOE_COUNT)
+			.mapToObj(id -> newPerson(id, "Doe" + id, "Doe"))
+			.collect(Collectors.toList()));
+
+		this.peopleRepository.save(newPerson(DOE_COUNT + 1, "Jack", "Handy"));
+		this.peopleRepository.save(newPerson(DOE_COUNT + 2, "Jack", "Sparrow"));
+		this.peopleRepository.save(newPerson(DOE_COUNT + 3, "Agent", "Smith"));
+
+		queries.clear();
+	}
+
+	@Test
+	public void countByUsesCountProjection() {
+
+		assertThat(this.peopleRepository.countByLastname("Doe")).isEqualTo(DOE_COUNT);
+		assertThat(this.peopleRepository.countByFirstname("Jack")).isEqualTo(2);
+		assertThat(this.peopleRepository.countByFirstname("Nobody")).isZero();
+		assertThat(queries).containsExactly(
+			"SELECT count(*) FROM /simple x WHERE x.lastname = $1",
+			"SELECT count(*) FROM /simple x WHERE x.firstname = $1",
+			"SELECT count(*) FROM /simple x WHERE x.firstname = $1"
+		);
+	}
+
+	@Test
+	public void existsBySelectsSingleIdentifier() {
+
+		assertThat(this.peopleRepository.existsByLastname("Doe")).isTrue();
+		assertThat(this.peopleRepository.existsByLastname("Nobody")).isFalse();
+		assertThat(queries).containsExactly(
+			"SELECT x.id FROM /simple x WHERE x.lastname = $1 LIMIT 1",
+			"SELECT x.id FROM /simple x WHERE x.lastname = $1 LIMIT 1"
+		);
+	}
+
+	@Test
+	public void deleteBySelectsIdentifiersAndRemovesInBatches() {
+
+		assertThat(this.peopleRepository.deleteByLastname("Doe")).isEqualTo(DOE_COUNT);
+		assertThat(this.peopleRepository.count()).isEqualTo(3);
+		assertThat(this.peopleRepository.deleteByLastname("Doe")).isZero();
+		assertThat(queries).allMatch("SELECT x.id FROM /simple x WHERE x.lastname = $1"::equals);
+	}
+
+	@Test
+	public void voidDeleteByRemovesMatchingEntities() {
+
+		this.peopleRepository.removeByFirstname("Jack");
+
+		assertThat(this.peopleRepository.count()).isEqualTo(DOE_COUNT + 1);
+		assertThat(this.peopleRepository.existsByFirstname("Jack")).isFalse();
+	}
+
+	@Test
+	public void deleteByReturningEntitiesRemovesAndReturnsMatchingEntities() {
+
+		List<Person> deletedPeople = this.peopleRepository.deleteByFirstname("Jack");
+
+		assertThat(deletedPeople).extracting(Person::getLastname).containsExactlyInAnyOrder("Handy", "Sparrow");
+		assertThat(this.peopleRepository.count()).isEqualTo(DOE_COUNT + 1);
+		assertThat(queries).containsExactly("SELECT * FROM /simple x WHERE x.firstname = $1");
+	}
+
+	@Test
+	public void serverSideDeleteByRemovesMatchingEntitiesOnEachDataOwningMember() {
+
+		assertThat(this.peopleRepository.deleteAllByLastname("Doe")).isEqualTo(DOE_COUNT);
+		assertThat(this.peopleRepository.count()).isEqualTo(3);
+		assertThat(this.peopleRepository.countByLastname("Doe")).isZero();
+		assertThat(queries).startsWith("SELECT x.id FROM /simple x WHERE x.lastname = $1");
+	}
+
+	public interface PeopleRepository extends GemfireRepository<Person, Long> {
+
+		long countByFirstname(String firstName);
+
+		Integer countByLastname(String lastName);
+
+		boolean existsByFirstname(String firstName);
+
+		boolean existsByLastname(String lastName);
+
+		List<Person> deleteByFirstname(String firstName);
+
+		long deleteByLastname(String lastName);
+
+		@ServerSideDelete
+		long deleteAllByLastname(String lastName);
+
+		void removeByFirstname(String firstName);
+
+	}
+
+	@PeerCacheApplication(logLevel = "error")
+	static class TestConfiguration {
+
+		@Bean("simple")
+		PartitionedRegionFactoryBean<Long, Person> peopleRegion(GemFireCache gemfireCache) {
+
+			PartitionedRegionFactoryBean<Long, Person> peopleRegion = new PartitionedRegionFactoryBean<>();
+
+			peopleRegion.setCache(gemfireCache);
+			peopleRegion.setClose(false);
+			peopleRegion.setPersistent(false);
+
+			return peopleRegion;
+		}
+
+		@Bean
+		GemfireMappingContext mappingContext() {
+			return new GemfireMappingContext();
+		}
+
+		@Bean
+		GemfireRepositoryFactoryBean<PeopleRepository, Person, Long> peopleRepository() {
+			return new GemfireRepositoryFactoryBean<>(PeopleRepository.class);
+		}
+
+		@Bean
+		QueryPostProcessor<Repository, String> recordingQueryPostProcessor() {
+
+			return new QueryPostProcessor<Repository, String>() {
+
+				@Override
+				public String postProcess(QueryMethod queryMethod, String query, Object... arguments) {
+					queries.add(query);
+					return query;
+				}
+			};
+		}
+	}
+}
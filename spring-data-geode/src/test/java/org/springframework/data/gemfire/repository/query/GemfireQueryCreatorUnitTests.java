@@ -22,6 +22,7 @@ import static org.junit.Assert.assertThat;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.repository.sample.Person;
@@ -66,4 +67,76 @@ public class GemfireQueryCreatorUnitTests {
 
 		assertThat(query.toString(), is(equalTo("SELECT * FROM /simple x WHERE x.address.city = $1")));
 	}
+
+	@Test
+	public void createsCountQueryCorrectly() {
+
+		PartTree partTree = new PartTree("countByLastname", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT count(*) FROM /simple x WHERE x.lastname = $1")));
+	}
+
+	@Test
+	public void createsDistinctCountQueryCorrectly() {
+
+		PartTree partTree = new PartTree("countDistinctByLastname", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT DISTINCT count(*) FROM /simple x WHERE x.lastname = $1")));
+	}
+
+	@Test
+	public void createsCountQueryWithoutOrderByClause() {
+
+		PartTree partTree = new PartTree("countByLastnameOrderByFirstnameAsc", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT count(*) FROM /simple x WHERE x.lastname = $1")));
+	}
+
+	@Test
+	public void createsExistsQueryWithoutOrderByClause() {
+
+		PartTree partTree = new PartTree("existsByFirstnameOrderByLastnameDesc", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		QueryString query = queryCreator.createQuery(Sort.by("lastname"));
+
+		assertThat(query.toString(), is(equalTo("SELECT x.id FROM /simple x WHERE x.firstname = $1 LIMIT 1")));
+	}
+
+	@Test
+	public void createsExistsQuerySelectingIdentifierWithLimitCorrectly() {
+
+		PartTree partTree = new PartTree("existsByFirstname", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT x.id FROM /simple x WHERE x.firstname = $1 LIMIT 1")));
+	}
+
+	@Test
+	public void createsDeleteQuerySelectingIdentifierCorrectly() {
+
+		PartTree partTree = new PartTree("deleteByLastname", Person.class);
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(partTree, entity);
+
+		QueryString query = queryCreator.createQuery();
+
+		assertThat(query.toString(), is(equalTo("SELECT x.id FROM /simple x WHERE x.lastname = $1")));
+	}
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.types.CollectionType;
+
+/**
+ * Unit Tests for {@link ImmutableSelectResults}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.query.SelectResults
+ * @see org.springframework.data.gemfire.repository.query.ImmutableSelectResults
+ * @since 2.5.0
+ */
+public class ImmutableSelectResultsUnitTests {
+
+	@Test
+	public void selectResultsCopyTheGivenResults() {
+
+		List<String> results = new ArrayList<>(Arrays.asList("a", "b", "a"));
+
+		SelectResults<String> selectResults = new ImmutableSelectResults<>(results);
+
+		results.clear();
+
+		assertThat(selectResults).containsExactly("a", "b", "a");
+		assertThat(selectResults.asSet()).containsExactly("a", "b");
+		assertThat(selectResults.occurrences("a")).isEqualTo(2);
+		assertThat(selectResults.isModifiable()).isFalse();
+	}
+
+	@Test
+	public void selectResultsCannotBeModified() {
+
+		SelectResults<String> selectResults = new ImmutableSelectResults<>(Arrays.asList("a", "b"));
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> selectResults.add("c"));
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> selectResults.asList().clear());
+	}
+
+	@Test
+	public void collectionTypeIsOrderedAndAllowsDuplicates() {
+
+		CollectionType collectionType = new ImmutableSelectResults<>(Arrays.asList("a", "b")).getCollectionType();
+
+		assertThat(collectionType.isOrdered()).isTrue();
+		assertThat(collectionType.allowsDuplicates()).isTrue();
+		assertThat(collectionType.getElementType().resolveClass()).isEqualTo(Object.class);
+	}
+}
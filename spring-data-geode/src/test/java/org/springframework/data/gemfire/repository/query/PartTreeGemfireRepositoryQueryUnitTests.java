@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.repository.core.EntityMetadata;
+import org.springframework.data.repository.query.Parameters;
+
+/**
+ * Unit Tests for {@link PartTreeGemfireRepositoryQuery}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+ * @since 2.5.0
+ */
+public class PartTreeGemfireRepositoryQueryUnitTests {
+
+	@SuppressWarnings("rawtypes")
+	private static GemfireQueryMethod mockQueryMethod(String name, boolean sortParameter) {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		EntityMetadata mockEntityMetadata = mock(EntityMetadata.class);
+
+		Parameters mockParameters = mock(Parameters.class);
+
+		doReturn(name).when(mockQueryMethod).getName();
+		doReturn(mockEntityMetadata).when(mockQueryMethod).getEntityInformation();
+		doReturn(Order.class).when(mockEntityMetadata).getJavaType();
+		doReturn(mockParameters).when(mockQueryMethod).getParameters();
+		doReturn(sortParameter).when(mockParameters).hasSortParameter();
+
+		return mockQueryMethod;
+	}
+
+	@Test
+	public void derivedAggregateIsAccepted() {
+
+		assertThat(new PartTreeGemfireRepositoryQuery(mockQueryMethod("sumAmountByCustomerId", false),
+			mock(GemfireTemplate.class)).getPartTree().isDistinct()).isFalse();
+	}
+
+	@Test
+	public void derivedAggregateWithOrderByIsRejected() {
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> new PartTreeGemfireRepositoryQuery(
+				mockQueryMethod("sumAmountByCustomerIdOrderByAmountDesc", false), mock(GemfireTemplate.class)))
+			.withMessage("Aggregate query method [sumAmountByCustomerIdOrderByAmountDesc] must not be ordered"
+				+ " with OrderBy or a Sort parameter");
+	}
+
+	@Test
+	public void derivedAggregateWithSortParameterIsRejected() {
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> new PartTreeGemfireRepositoryQuery(mockQueryMethod("sumAmountByCustomerId", true),
+				mock(GemfireTemplate.class)));
+	}
+
+	@SuppressWarnings("unused")
+	static class Order {
+
+		private Double amount;
+
+		private String customerId;
+
+	}
+}
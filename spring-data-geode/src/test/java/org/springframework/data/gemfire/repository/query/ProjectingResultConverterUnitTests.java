@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.repository.query.ReturnedType;
+
+/**
+ * Unit Tests for {@link ProjectingResultConverter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.ProjectingResultConverter
+ * @since 2.5.0
+ */
+public class ProjectingResultConverterUnitTests {
+
+	private GemfirePersistentEntity<?> entity;
+
+	@Before
+	public void setup() {
+		this.entity = new GemfireMappingContext().getPersistentEntity(Person.class);
+	}
+
+	private ReturnedType returnedTypeFor(Class<?> projectionType, String... properties) {
+
+		ReturnedType mockReturnedType = mock(ReturnedType.class);
+
+		doReturn(projectionType).when(mockReturnedType).getReturnedType();
+		doReturn(true).when(mockReturnedType).needsCustomConstruction();
+		doReturn(Arrays.asList(properties)).when(mockReturnedType).getInputProperties();
+
+		return mockReturnedType;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void convertsStructToMapForInterfaceProjection() {
+
+		Struct mockStruct = mock(Struct.class);
+
+		when(mockStruct.get("firstname")).thenReturn("Jon");
+		when(mockStruct.get("lastname")).thenReturn("Doe");
+
+		Object result = new ProjectingResultConverter(this.entity,
+				returnedTypeFor(Names.class, "firstname", "lastname"), true)
+			.convert(mockStruct);
+
+		assertThat(result).isInstanceOf(Map.class);
+		assertThat((Map<String, Object>) result).containsEntry("firstname", "Jon").containsEntry("lastname", "Doe");
+	}
+
+	@Test
+	public void convertsPdxInstanceToDtoProjectionWithoutDeserializing() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getField("firstname")).thenReturn("Jack");
+		when(mockPdxInstance.getField("lastname")).thenReturn("Handy");
+
+		Object result = new ProjectingResultConverter(this.entity,
+				returnedTypeFor(FullName.class, "firstname", "lastname"), false)
+			.convert(mockPdxInstance);
+
+		assertThat(result).isInstanceOf(FullName.class);
+		assertThat(result.toString()).isEqualTo("Jack Handy");
+
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void convertsEntityToDtoProjection() {
+
+		Object result = new ProjectingResultConverter(this.entity,
+				returnedTypeFor(FullName.class, "firstname", "lastname"), false)
+			.convert(new Person(1L, "Jane", "Doe"));
+
+		assertThat(result).isInstanceOf(FullName.class);
+		assertThat(result.toString()).isEqualTo("Jane Doe");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void convertsSingleSelectedValueForSinglePropertyProjection() {
+
+		Object result = new ProjectingResultConverter(this.entity, returnedTypeFor(FirstName.class, "firstname"), true)
+			.convert("Jon");
+
+		assertThat((Map<String, Object>) result).containsOnlyKeys("firstname").containsEntry("firstname", "Jon");
+	}
+
+	@Test
+	public void convertsNullToNull() {
+		assertThat(new ProjectingResultConverter(this.entity,
+			returnedTypeFor(Names.class, "firstname", "lastname"), true).convert(null)).isNull();
+	}
+
+	interface FirstName {
+		String getFirstname();
+	}
+
+	interface Names {
+
+		String getFirstname();
+
+		String getLastname();
+
+	}
+
+	static class FullName {
+
+		private final String firstname;
+		private final String lastname;
+
+		FullName(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s %2$s", this.firstname, this.lastname);
+		}
+	}
+}
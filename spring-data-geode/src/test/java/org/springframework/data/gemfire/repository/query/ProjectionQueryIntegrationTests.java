@@ -0,0 +1,234 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.EnablePdx;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for derived query methods returning interface and DTO projections, asserting that
+ * only the projected fields are selected in the OQL query.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.repository.query.ProjectingResultConverter
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class ProjectionQueryIntegrationTests {
+
+	private static final List<String> queries = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	private PeopleRepository peopleRepository;
+
+	@Before
+	public void setup() {
+
+		this.peopleRepository.deleteAll();
+
+		this.peopleRepository.saveAll(Arrays.asList(
+			new Person(1L, "Jon", "Doe"),
+			new Person(2L, "Jane", "Doe"),
+			new Person(3L, "Jack", "Handy")
+		));
+
+		queries.clear();
+	}
+
+	@Test
+	public void interfaceProjectionSelectsOnlyProjectedFields() {
+
+		List<PersonNames> names = this.peopleRepository.findByLastname("Doe");
+
+		assertThat(names).extracting(PersonNames::getFirstname).containsExactlyInAnyOrder("Jon", "Jane");
+		assertThat(names).extracting(PersonNames::getLastname).containsOnly("Doe");
+		assertThat(queries).containsExactly("SELECT x.firstname, x.lastname FROM /simple x WHERE x.lastname = $1");
+	}
+
+	@Test
+	public void singlePropertyInterfaceProjectionSelectsOnlyProjectedField() {
+
+		List<FirstName> firstNames = this.peopleRepository.findFirstNamesByLastname("Doe");
+
+		assertThat(firstNames).extracting(FirstName::getFirstname).containsExactlyInAnyOrder("Jon", "Jane");
+		assertThat(queries).containsExactly("SELECT x.firstname FROM /simple x WHERE x.lastname = $1");
+	}
+
+	@Test
+	public void dtoProjectionSelectsOnlyProjectedFields() {
+
+		Optional<FullName> fullName = this.peopleRepository.findFullNameById(3L);
+
+		assertThat(fullName.map(FullName::toString)).hasValue("Jack Handy");
+		assertThat(this.peopleRepository.findFullNameById(4L)).isNotPresent();
+		assertThat(queries).containsOnly("SELECT x.firstname, x.lastname FROM /simple x WHERE x.id = $1");
+	}
+
+	@Test
+	public void orderedProjectionSelectsEntities() {
+
+		this.peopleRepository.save(new Person(4L, "Jane", "Doe"));
+
+		queries.clear();
+
+		List<PersonNames> names = this.peopleRepository.findByLastnameOrderByFirstnameAsc("Doe");
+
+		assertThat(names).extracting(PersonNames::getFirstname).containsExactly("Jane", "Jane", "Jon");
+		assertThat(queries).containsExactly(
+			"SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY firstname ASC");
+	}
+
+	@Test
+	public void orderingByUnprojectedFieldSelectsEntities() {
+
+		List<FirstName> firstNames = this.peopleRepository.findFirstNamesByLastnameOrderByIdDesc("Doe");
+
+		assertThat(firstNames).extracting(FirstName::getFirstname).containsExactly("Jane", "Jon");
+		assertThat(queries).containsExactly(
+			"SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY id DESC");
+	}
+
+	@Test
+	public void openProjectionSelectsEntities() {
+
+		List<DisplayName> displayNames = this.peopleRepository.findDisplayNamesByLastname("Handy");
+
+		assertThat(displayNames).extracting(DisplayName::getDisplayName).containsExactly("Jack Handy");
+		assertThat(queries).containsExactly("SELECT * FROM /simple x WHERE x.lastname = $1");
+	}
+
+	public interface PeopleRepository extends GemfireRepository<Person, Long> {
+
+		List<PersonNames> findByLastname(String lastName);
+
+		List<PersonNames> findByLastnameOrderByFirstnameAsc(String lastName);
+
+		List<DisplayName> findDisplayNamesByLastname(String lastName);
+
+		List<FirstName> findFirstNamesByLastname(String lastName);
+
+		List<FirstName> findFirstNamesByLastnameOrderByIdDesc(String lastName);
+
+		Optional<FullName> findFullNameById(Long id);
+
+	}
+
+	public interface DisplayName {
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getDisplayName();
+
+	}
+
+	public interface FirstName {
+		String getFirstname();
+	}
+
+	public interface PersonNames {
+
+		String getFirstname();
+
+		String getLastname();
+
+	}
+
+	public static class FullName {
+
+		private final String firstname;
+		private final String lastname;
+
+		public FullName(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s %2$s", this.firstname, this.lastname);
+		}
+	}
+
+	@PeerCacheApplication(logLevel = "error")
+	@EnablePdx(readSerialized = true)
+	static class TestConfiguration {
+
+		@Bean("simple")
+		PartitionedRegionFactoryBean<Long, Person> peopleRegion(GemFireCache gemfireCache) {
+
+			PartitionedRegionFactoryBean<Long, Person> peopleRegion = new PartitionedRegionFactoryBean<>();
+
+			peopleRegion.setCache(gemfireCache);
+			peopleRegion.setClose(false);
+			peopleRegion.setPersistent(false);
+
+			return peopleRegion;
+		}
+
+		@Bean
+		GemfireMappingContext mappingContext() {
+			return new GemfireMappingContext();
+		}
+
+		@Bean
+		GemfireRepositoryFactoryBean<PeopleRepository, Person, Long> peopleRepository() {
+			return new GemfireRepositoryFactoryBean<>(PeopleRepository.class);
+		}
+
+		@Bean
+		QueryPostProcessor<Repository, String> recordingQueryPostProcessor() {
+
+			return new QueryPostProcessor<Repository, String>() {
+
+				@Override
+				public String postProcess(QueryMethod queryMethod, String query, Object... arguments) {
+					queries.add(query);
+					return query;
+				}
+			};
+		}
+	}
+}
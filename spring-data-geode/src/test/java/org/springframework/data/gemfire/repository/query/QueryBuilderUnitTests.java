@@ -19,6 +19,7 @@ package org.springframework.data.gemfire.repository.query;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +27,7 @@ import static org.mockito.Mockito.when;
 import org.junit.Test;
 
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.repository.query.parser.PartTree;
 
 /**
@@ -75,6 +77,104 @@ public class QueryBuilderUnitTests {
 		verify(mockPartTree, times(1)).isDistinct();
 	}
 
+	@Test
+	public void createQueryBuilderWithCountQuery() {
+
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isCountProjection()).thenReturn(true);
+		when(mockPartTree.isDistinct()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree);
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT DISTINCT count(*) FROM /Example x");
+
+		verify(mockPersistentEntity, times(1)).getRegionName();
+		verify(mockPartTree, times(1)).isCountProjection();
+		verify(mockPartTree, times(1)).isDistinct();
+	}
+
+	@Test
+	public void createQueryBuilderWithExistsQuerySelectsIdentifier() {
+
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+
+		GemfirePersistentProperty mockIdProperty = mock(GemfirePersistentProperty.class);
+
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockIdProperty.getName()).thenReturn("id");
+		when(mockPersistentEntity.getIdProperty()).thenReturn(mockIdProperty);
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isExistsProjection()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree);
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT x.id FROM /Example x");
+
+		verify(mockPersistentEntity, times(1)).getIdProperty();
+		verify(mockPartTree, times(1)).isExistsProjection();
+	}
+
+	@Test
+	public void createQueryBuilderWithDeleteQuerySelectsIdentifier() {
+
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+
+		GemfirePersistentProperty mockIdProperty = mock(GemfirePersistentProperty.class);
+
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockIdProperty.getName()).thenReturn("key");
+		when(mockPersistentEntity.getIdProperty()).thenReturn(mockIdProperty);
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isDelete()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree);
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT x.key FROM /Example x");
+
+		verify(mockPersistentEntity, times(1)).getIdProperty();
+		verify(mockPartTree, times(1)).isDelete();
+	}
+
+	@Test
+	public void createQueryBuilderWithDeleteQueryAndNoIdentifierSelectsEntities() {
+
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isDelete()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree);
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT * FROM /Example x");
+
+		verify(mockPersistentEntity, times(1)).getIdProperty();
+	}
+
+	@Test
+	public void createQueryBuilderWithProjection() {
+
+		GemfirePersistentEntity<?> mockPersistentEntity = mock(GemfirePersistentEntity.class);
+
+		PartTree mockPartTree = mock(PartTree.class);
+
+		when(mockPersistentEntity.getRegionName()).thenReturn("Example");
+		when(mockPartTree.isDistinct()).thenReturn(true);
+
+		QueryBuilder queryBuilder = new QueryBuilder(mockPersistentEntity, mockPartTree, "x.name");
+
+		assertThat(queryBuilder.toString()).isEqualTo("SELECT DISTINCT x.name FROM /Example x");
+
+		verify(mockPartTree, never()).isCountProjection();
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void createQueryBuilderWithNullQueryString() {
 
@@ -468,6 +468,34 @@ public class QueryStringUnitTests {
 			.isEqualTo("SELECT DISTINCT p.lastName FROM /People p WHERE p.firstName = $1 ORDER BY lastName ASC");
 	}
 
+	@Test
+	public void addsGroupByClauseCorrectly() {
+
+		QueryString query = QueryString.of("SELECT p.lastName, COUNT(*) FROM /People p WHERE p.age > $1")
+			.groupBy("p.lastName", "p.firstName");
+
+		assertThat(query.toString())
+			.isEqualTo("SELECT p.lastName, COUNT(*) FROM /People p WHERE p.age > $1 GROUP BY p.lastName, p.firstName");
+	}
+
+	@Test
+	public void addsGroupByClauseBeforeOrderByClauseCorrectly() {
+
+		QueryString query = QueryString.of("SELECT DISTINCT p.lastName, COUNT(*) FROM /People p ORDER BY lastName ASC")
+			.groupBy("p.lastName");
+
+		assertThat(query.toString())
+			.isEqualTo("SELECT DISTINCT p.lastName, COUNT(*) FROM /People p GROUP BY p.lastName ORDER BY lastName ASC");
+	}
+
+	@Test
+	public void addsNoGroupByClauseCorrectly() {
+
+		QueryString query = QueryString.of("SELECT * FROM /People p");
+
+		assertThat(query.groupBy()).isSameAs(query);
+	}
+
 	@Test
 	public void withHints() {
 
@@ -549,6 +577,88 @@ public class QueryStringUnitTests {
 			.isEqualTo("<TRACE> <HINT 'IdIdx', 'NameIdx'> IMPORT org.example.domain.Type; SELECT * FROM /Example LIMIT 20");
 	}
 
+	@Test
+	public void getSortFromOrderByClause() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example x WHERE x.age > $1"
+			+ " ORDER BY x.lastName DESC, x.firstName, age asc LIMIT 10");
+
+		assertThat(query.getSort()).containsExactly(Sort.Order.desc("x.lastName"), Sort.Order.asc("x.firstName"),
+			Sort.Order.asc("age"));
+		assertThat(query.isDistinct()).isFalse();
+	}
+
+	@Test
+	public void getSortFromOrderedQueryString() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example").orderBy(Sort.by("name").descending());
+
+		assertThat(query.getSort()).containsExactly(Sort.Order.desc("name"));
+		assertThat(query.isDistinct()).isTrue();
+	}
+
+	@Test
+	public void getSortFromUnorderedQueryIsUnsorted() {
+		assertThat(QueryString.of("SELECT * FROM /Example LIMIT 5").getSort().isUnsorted()).isTrue();
+	}
+
+	@Test
+	public void isDistinctWithSelectDistinctQueryReturnsTrue() {
+
+		assertThat(QueryString.of("SELECT DISTINCT * FROM /Example").isDistinct()).isTrue();
+		assertThat(QueryString.of("select distinct x.name FROM /Example x").isDistinct()).isTrue();
+		assertThat(QueryString.of("<TRACE> SELECT\tDISTINCT * FROM /Example").isDistinct()).isTrue();
+	}
+
+	@Test
+	public void isDistinctWithDistinctOutsideOfProjectionReturnsFalse() {
+
+		assertThat(QueryString.of("SELECT * FROM /Example x WHERE x.name = 'DISTINCT'").isDistinct()).isFalse();
+		assertThat(QueryString.of("SELECT * FROM /Example x WHERE x.isDistinctive = true").isDistinct()).isFalse();
+		assertThat(QueryString.of("SELECT DISTINCTIVE FROM /Example").isDistinct()).isFalse();
+	}
+
+	@Test
+	public void isAggregateWithAggregateFunctionInProjectionReturnsTrue() {
+
+		assertThat(QueryString.of("SELECT count(*) FROM /Example").isAggregate()).isTrue();
+		assertThat(QueryString.of("SELECT DISTINCT COUNT (*) FROM /Example").isAggregate()).isTrue();
+		assertThat(QueryString.of("SELECT sum(x.age) FROM /Example x").isAggregate()).isTrue();
+		assertThat(QueryString.of("SELECT x.name, AVG(x.age) FROM /Example x").isAggregate()).isTrue();
+		assertThat(QueryString.of("<HINT 'IdIdx'> SELECT MIN(x.age), max(x.age) FROM /Example x").isAggregate())
+			.isTrue();
+	}
+
+	@Test
+	public void isCountWithCountProjectionReturnsTrue() {
+
+		assertThat(QueryString.of("SELECT count(*) FROM /Example").isCount()).isTrue();
+		assertThat(QueryString.of("<TRACE> SELECT DISTINCT COUNT( * ) FROM /Example x WHERE x.age > 21").isCount())
+			.isTrue();
+	}
+
+	@Test
+	public void isCountWithOtherProjectionReturnsFalse() {
+
+		assertThat(QueryString.of("SELECT * FROM /Example").isCount()).isFalse();
+		assertThat(QueryString.of("SELECT count(x.name) FROM /Example x").isCount()).isFalse();
+		assertThat(QueryString.of("SELECT x.name, count(*) FROM /Example x GROUP BY x.name").isCount()).isFalse();
+		assertThat(QueryString.of("SELECT count(*) FROM /Example x GROUP BY x.name").isCount()).isFalse();
+	}
+
+	@Test
+	public void isAggregateWithGroupByClauseReturnsTrue() {
+		assertThat(QueryString.of("SELECT x.name FROM /Example x GROUP BY x.name").isAggregate()).isTrue();
+	}
+
+	@Test
+	public void isAggregateWithNonAggregateQueryReturnsFalse() {
+
+		assertThat(QueryString.of("SELECT * FROM /Example").isAggregate()).isFalse();
+		assertThat(QueryString.of("SELECT x.counter, x.maximum FROM /Example x").isAggregate()).isFalse();
+		assertThat(QueryString.of("SELECT * FROM /Example x WHERE x.count(1) > 0").isAggregate()).isFalse();
+	}
+
 	@Getter
 	@ToString(of = "name")
 	@EqualsAndHashCode(of = "name")
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.execute.FunctionService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.annotation.ServerSideQuery;
+import org.springframework.data.gemfire.repository.query.support.SelectQueryFunction;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for query methods annotated with {@link ServerSideQuery} executed against
+ * a {@literal PARTITION} {@link org.apache.geode.cache.Region}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.annotation.ServerSideQuery
+ * @see org.springframework.data.gemfire.repository.query.support.SelectQueryFunction
+ * @see org.springframework.data.gemfire.repository.query.support.ServerSideOqlQueryExecutor
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class ServerSideQueryIntegrationTests {
+
+	@Autowired
+	private InvoiceRepository invoiceRepository;
+
+	@Before
+	public void setup() {
+
+		this.invoiceRepository.deleteAll();
+
+		this.invoiceRepository.saveAll(Arrays.asList(
+			new Invoice(1L, "jonDoe", 10.0d),
+			new Invoice(2L, "jonDoe", 20.0d),
+			new Invoice(3L, "janeDoe", 5.0d),
+			new Invoice(4L, "janeDoe", 15.0d),
+			new Invoice(5L, "janeDoe", 40.0d),
+			new Invoice(6L, "pieDoe", 100.0d)
+		));
+	}
+
+	@Test
+	public void derivedServerSideQueryIsOrdered() {
+
+		assertThat(this.invoiceRepository.findByCustomerIdOrderByAmountDesc("janeDoe"))
+			.extracting(Invoice::getId)
+			.containsExactly(5L, 4L, 3L);
+
+		assertThat(FunctionService.isRegistered(SelectQueryFunction.ID)).isTrue();
+	}
+
+	@Test
+	public void derivedServerSideCountIsCorrect() {
+		assertThat(this.invoiceRepository.countByCustomerId("janeDoe")).isEqualTo(3L);
+	}
+
+	@Test
+	public void userDefinedServerSideQueryIsOrderedAndLimited() {
+
+		assertThat(this.invoiceRepository.findTopInvoices(9.0d))
+			.extracting(Invoice::getId)
+			.containsExactly(1L, 4L, 2L);
+	}
+
+	@Test
+	public void serverSideQueryWithFilterIsCorrect() {
+
+		assertThat(this.invoiceRepository.findByIds(CollectionUtils.asSet(2L, 6L)))
+			.extracting(Invoice::getId)
+			.containsExactlyInAnyOrder(2L, 6L);
+	}
+
+	public interface InvoiceRepository extends GemfireRepository<Invoice, Long> {
+
+		@ServerSideQuery
+		long countByCustomerId(String customerId);
+
+		@ServerSideQuery
+		List<Invoice> findByCustomerIdOrderByAmountDesc(String customerId);
+
+		@ServerSideQuery
+		@Query("SELECT * FROM /Invoices i WHERE i.id IN SET $1")
+		List<Invoice> findByIds(@Filter Set<Long> ids);
+
+		@ServerSideQuery
+		@Query("SELECT * FROM /Invoices i WHERE i.amount > $1 ORDER BY i.amount ASC LIMIT 3")
+		List<Invoice> findTopInvoices(Double amount);
+
+	}
+
+	@Region("Invoices")
+	public static class Invoice implements Serializable {
+
+		@Id
+		private Long id;
+
+		private String customerId;
+
+		private Double amount;
+
+		public Invoice() { }
+
+		public Invoice(Long id, String customerId, Double amount) {
+			this.id = id;
+			this.customerId = customerId;
+			this.amount = amount;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public String getCustomerId() {
+			return this.customerId;
+		}
+
+		public Double getAmount() {
+			return this.amount;
+		}
+	}
+
+	@PeerCacheApplication(logLevel = "error")
+	static class TestConfiguration {
+
+		@Bean("Invoices")
+		PartitionedRegionFactoryBean<Long, Invoice> invoicesRegion(GemFireCache gemfireCache) {
+
+			PartitionedRegionFactoryBean<Long, Invoice> invoicesRegion = new PartitionedRegionFactoryBean<>();
+
+			invoicesRegion.setCache(gemfireCache);
+			invoicesRegion.setClose(false);
+			invoicesRegion.setPersistent(false);
+
+			return invoicesRegion;
+		}
+
+		@Bean
+		GemfireMappingContext mappingContext() {
+			return new GemfireMappingContext();
+		}
+
+		@Bean
+		GemfireRepositoryFactoryBean<InvoiceRepository, Invoice, Long> invoiceRepository() {
+			return new GemfireRepositoryFactoryBean<>(InvoiceRepository.class);
+		}
+	}
+}
@@ -65,6 +65,7 @@ public class OqlKeywordUnitTests {
 		assertIllegalOqlKeyword("NULL VALUE");
 		assertIllegalOqlKeyword("XOR");
 		assertIllegalOqlKeyword("ORDER_BY");
+		assertIllegalOqlKeyword("GROUP_BY");
 		assertIllegalOqlKeyword("INSERT");
 		assertIllegalOqlKeyword("UPDATE");
 		assertIllegalOqlKeyword("LIST");
@@ -86,12 +87,15 @@ public class OqlKeywordUnitTests {
 	}
 
 	@Test
-	public void getKeywordEqualsNameExceptForOrderBy() {
+	public void getKeywordEqualsNameExceptForGroupByAndOrderBy() {
 
 		for (OqlKeyword oqlKeyword : OqlKeyword.values()) {
-			if (!OqlKeyword.ORDER_BY.equals(oqlKeyword)) {
+			if (!OqlKeyword.GROUP_BY.equals(oqlKeyword) && !OqlKeyword.ORDER_BY.equals(oqlKeyword)) {
 				assertThat(oqlKeyword.getKeyword()).isEqualTo(oqlKeyword.name());
 			}
 		}
+
+		assertThat(OqlKeyword.GROUP_BY.getKeyword()).isEqualTo("GROUP BY");
+		assertThat(OqlKeyword.ORDER_BY.getKeyword()).isEqualTo("ORDER BY");
 	}
 }
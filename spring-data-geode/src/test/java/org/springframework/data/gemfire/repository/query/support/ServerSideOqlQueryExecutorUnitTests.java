@@ -0,0 +1,224 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.cache.query.types.StructType;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
+
+/**
+ * Unit Tests for {@link ServerSideOqlQueryExecutor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.support.ServerSideOqlQueryExecutor
+ * @since 2.5.0
+ */
+public class ServerSideOqlQueryExecutorUnitTests {
+
+	private static List<Item> items(Object... values) {
+
+		Item[] items = new Item[values.length / 2];
+
+		for (int index = 0; index < items.length; index++) {
+			items[index] = new Item((String) values[index * 2], (Integer) values[index * 2 + 1]);
+		}
+
+		return Arrays.asList(items);
+	}
+
+	@Test
+	public void mergeOrdersMemberResults() {
+
+		List<?> memberResults = Arrays.asList(
+			items("a", 1, "d", 4, "f", 6),
+			items("b", 2, "c", 3),
+			Collections.emptyList(),
+			items("e", 5, "g", 7));
+
+		List<Object> results = ServerSideOqlQueryExecutor.merge(memberResults, Sort.by("x.rank"),
+			Integer.MAX_VALUE, false);
+
+		assertThat(results).extracting("name").containsExactly("a", "b", "c", "d", "e", "f", "g");
+	}
+
+	@Test
+	public void mergeOrdersMemberResultsDescendingByMultipleProperties() {
+
+		List<?> memberResults = Arrays.asList(
+			items("a", 2, "a", 1),
+			items("a", 3, "b", 3));
+
+		List<Object> results = ServerSideOqlQueryExecutor.merge(memberResults,
+			Sort.by(Sort.Order.asc("name"), Sort.Order.desc("rank")), Integer.MAX_VALUE, false);
+
+		assertThat(results).extracting("rank").containsExactly(3, 2, 1, 3);
+	}
+
+	@Test
+	public void mergeAppliesLimit() {
+
+		List<?> memberResults = Arrays.asList(items("a", 1, "c", 3), items("b", 2, "d", 4));
+
+		assertThat(ServerSideOqlQueryExecutor.merge(memberResults, Sort.by("rank"), 3, false))
+			.extracting("name").containsExactly("a", "b", "c");
+
+		assertThat(ServerSideOqlQueryExecutor.merge(memberResults, Sort.unsorted(), 3, false))
+			.extracting("name").containsExactly("a", "c", "b");
+	}
+
+	@Test
+	public void mergeRemovesDuplicatesFromDistinctQueries() {
+
+		List<?> memberResults = Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("b", "c"));
+
+		assertThat(ServerSideOqlQueryExecutor.merge(memberResults, Sort.unsorted(), Integer.MAX_VALUE, true))
+			.containsExactly("a", "b", "c");
+	}
+
+	@Test
+	public void mergeOrdersMixedNumericTypesNumerically() {
+
+		List<?> memberResults = Arrays.asList(
+			Arrays.asList(Collections.singletonMap("value", 9), Collections.singletonMap("value", 20L)),
+			Collections.singletonList(Collections.singletonMap("value", 10L)));
+
+		assertThat(ServerSideOqlQueryExecutor.merge(memberResults, Sort.by("x.value"), Integer.MAX_VALUE, false))
+			.extracting(result -> ((Map<?, ?>) result).get("value")).containsExactly(9, 10L, 20L);
+	}
+
+	@Test
+	public void compareIncomparableSortKeysThrowsIllegalStateException() {
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> ServerSideOqlQueryExecutor.compare(Sort.Order.asc("x.name"), "10", 9))
+			.withMessageStartingWith("Cannot order results by [x.name]");
+	}
+
+	@Test
+	public void resolveSortKeyFromStruct() {
+
+		Struct mockStruct = mock(Struct.class);
+
+		StructType mockStructType = mock(StructType.class);
+
+		when(mockStruct.getStructType()).thenReturn(mockStructType);
+		when(mockStructType.getFieldNames()).thenReturn(new String[] { "name", "rank" });
+		when(mockStruct.get("rank")).thenReturn(2);
+
+		assertThat(ServerSideOqlQueryExecutor.resolveSortKey(mockStruct, "x.rank")).isEqualTo(2);
+		assertThat(ServerSideOqlQueryExecutor.resolveSortKey(mockStruct, "x.age")).isNull();
+	}
+
+	@Test
+	public void resolveSortKeyFromPdxInstance() {
+
+		PdxInstance mockAddress = mock(PdxInstance.class);
+		PdxInstance mockPerson = mock(PdxInstance.class);
+
+		when(mockPerson.hasField("address")).thenReturn(true);
+		when(mockPerson.getField("address")).thenReturn(mockAddress);
+		when(mockAddress.hasField("city")).thenReturn(true);
+		when(mockAddress.getField("city")).thenReturn("Portland");
+
+		assertThat(ServerSideOqlQueryExecutor.resolveSortKey(mockPerson, "x.address.city")).isEqualTo("Portland");
+	}
+
+	@Test
+	public void executeNonServerSideQueryThrowsUnsupportedQueryExecutionException() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		when(mockQueryMethod.isServerSideQuery()).thenReturn(false);
+
+		assertThatExceptionOfType(UnsupportedQueryExecutionException.class)
+			.isThrownBy(() -> new ServerSideOqlQueryExecutor(mockTemplate)
+				.execute(mockQueryMethod, "SELECT * FROM /Example"));
+
+		verifyNoInteractions(mockTemplate);
+	}
+
+	@Test
+	public void executeAggregateQueryThrowsUnsupportedQueryExecutionException() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		when(mockQueryMethod.isServerSideQuery()).thenReturn(true);
+
+		ServerSideOqlQueryExecutor queryExecutor = new ServerSideOqlQueryExecutor(mockTemplate);
+
+		assertThatExceptionOfType(UnsupportedQueryExecutionException.class)
+			.isThrownBy(() -> queryExecutor.execute(mockQueryMethod, "SELECT sum(x.age) FROM /Example x"))
+			.withMessageContaining("Aggregate OQL query [SELECT sum(x.age) FROM /Example x]");
+
+		assertThatExceptionOfType(UnsupportedQueryExecutionException.class)
+			.isThrownBy(() -> queryExecutor.execute(mockQueryMethod,
+				"SELECT x.name, count(*) FROM /Example x GROUP BY x.name"));
+
+		verifyNoInteractions(mockTemplate);
+	}
+
+	@Test
+	public void sumAddsCountOfEachMember() {
+
+		List<?> memberResults = Arrays.asList(Collections.singletonList(5), Collections.emptyList(),
+			Collections.singletonList(5), Collections.singletonList(2));
+
+		assertThat(ServerSideOqlQueryExecutor.sum(memberResults)).isEqualTo(12);
+	}
+
+	public static class Item {
+
+		private final String name;
+
+		private final Integer rank;
+
+		Item(String name, Integer rank) {
+			this.name = name;
+			this.rank = rank;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public Integer getRank() {
+			return this.rank;
+		}
+	}
+}
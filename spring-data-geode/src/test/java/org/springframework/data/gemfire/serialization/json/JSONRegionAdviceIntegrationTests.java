@@ -22,6 +22,8 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newI
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.Resource;
 
@@ -115,6 +117,44 @@ public class JSONRegionAdviceIntegrationTests {
 		assertEquals("{\"hello2\":\"world2\"}", results.get("key2"));
 	}
 
+	@Test
+	public void whitespaceInStringValuesIsPreserved() {
+
+		String json = "{\"greeting\":\"hello world\",\"message\":\"  spaced\\tout  \"}";
+
+		this.jsonRegion.put("key", json);
+
+		assertEquals(json, this.jsonRegion.get("key"));
+	}
+
+	@Test
+	public void nestedObjectsAndArraysRoundTrip() {
+
+		String json = "{\"name\":\"nested\",\"count\":42,\"big\":12345678901,\"ratio\":0.5,\"active\":true,"
+			+ "\"missing\":null,\"address\":{\"street\":\"100 Main St.\",\"zip\":97205},"
+			+ "\"tags\":[\"a\",\"b\",1,{\"x\":false}]}";
+
+		this.jsonRegion.put("key", json);
+
+		assertEquals(json, this.jsonRegion.get("key"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllAndGetAllConvertsManyValues() {
+
+		int count = 1000;
+
+		Map<String, String> map = IntStream.range(0, count).boxed()
+			.collect(Collectors.toMap(index -> "key" + index, index -> String.format("{\"index\":%d}", index)));
+
+		this.jsonRegion.putAll(map);
+
+		Map<String, String> results = this.jsonRegion.getAll(map.keySet());
+
+		assertEquals(map, results);
+	}
+
 	@Test
 	public void objectToJSon() throws IOException {
 
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Resource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.snapshot.RegionSnapshotService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.test.support.FileSystemUtils;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for {@link ParallelRegionSnapshotServiceAdapter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.snapshot.ParallelRegionSnapshotServiceAdapter
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings({ "rawtypes", "unchecked", "unused" })
+public class ParallelRegionSnapshotServiceAdapterIntegrationTests {
+
+	private static final int ENTRY_COUNT = 1000;
+	private static final int PARALLELISM = 4;
+
+	private static final List<SnapshotApplicationEvent> progressEvents = new CopyOnWriteArrayList<>();
+
+	@Resource(name = "Numbers")
+	private Region<Integer, String> numbers;
+
+	@Autowired
+	private SnapshotServiceFactoryBean.SnapshotServiceAdapter<Integer, String> snapshotService;
+
+	private File snapshotDirectory;
+
+	@Before
+	public void setup() {
+
+		this.snapshotDirectory = new File(new File(FileSystemUtils.WORKING_DIRECTORY, "parallel-snapshots"),
+			String.valueOf(System.nanoTime()));
+
+		this.numbers.putAll(IntStream.range(0, ENTRY_COUNT).boxed()
+			.collect(Collectors.toMap(number -> number, number -> "number-" + number)));
+
+		progressEvents.clear();
+	}
+
+	@After
+	public void tearDown() {
+		this.numbers.removeAll(new HashSet<>(this.numbers.keySet()));
+		FileSystemUtils.deleteRecursive(this.snapshotDirectory.getParentFile());
+	}
+
+	@Test
+	public void exportsAndImportsRegionWithCompressedSegmentFilesInParallel() {
+
+		SnapshotServiceFactoryBean.SnapshotMetadata<Integer, String> metadata =
+			new SnapshotServiceFactoryBean.SnapshotMetadata<>(this.snapshotDirectory);
+
+		assertThat(this.snapshotService).isInstanceOf(ParallelRegionSnapshotServiceAdapter.class);
+
+		this.snapshotService.doExport(metadata);
+
+		File[] segmentFiles = this.snapshotDirectory.listFiles();
+
+		assertThat(segmentFiles).hasSize(PARALLELISM);
+		assertThat(Arrays.stream(segmentFiles).map(File::getName))
+			.allMatch(filename -> filename.startsWith("Numbers-") && filename.endsWith(".sdgsnapshot.gz"));
+
+		assertProgress(ExportSnapshotApplicationEvent.class);
+
+		this.numbers.removeAll(new HashSet<>(this.numbers.keySet()));
+
+		assertThat(this.numbers).isEmpty();
+
+		progressEvents.clear();
+
+		this.snapshotService.doImport(metadata);
+
+		assertThat(this.numbers).hasSize(ENTRY_COUNT);
+
+		IntStream.range(0, ENTRY_COUNT).forEach(number ->
+			assertThat(this.numbers.get(number)).isEqualTo("number-" + number));
+
+		assertProgress(ImportSnapshotApplicationEvent.class);
+	}
+
+	@Test
+	public void exportAppliesSnapshotFilter() {
+
+		SnapshotServiceFactoryBean.SnapshotMetadata<Integer, String> metadata =
+			new SnapshotServiceFactoryBean.SnapshotMetadata<>(this.snapshotDirectory, null,
+				entry -> entry.getKey() % 2 == 0);
+
+		this.snapshotService.doExport(metadata);
+
+		this.numbers.removeAll(new HashSet<>(this.numbers.keySet()));
+
+		this.snapshotService.doImport(new SnapshotServiceFactoryBean.SnapshotMetadata<>(this.snapshotDirectory));
+
+		assertThat(this.numbers).hasSize(ENTRY_COUNT / 2);
+		assertThat(this.numbers.keySet()).allMatch(key -> key % 2 == 0);
+	}
+
+	@Test
+	public void reExportReplacesExistingSegmentFiles() {
+
+		SnapshotServiceFactoryBean.SnapshotMetadata<Integer, String> metadata =
+			new SnapshotServiceFactoryBean.SnapshotMetadata<>(this.snapshotDirectory);
+
+		this.snapshotService.doExport(metadata);
+		this.snapshotService.doExport(metadata);
+
+		assertThat(this.snapshotDirectory.listFiles()).hasSize(PARALLELISM);
+	}
+
+	@Test
+	public void failedExportKeepsPreviousSegmentFiles() {
+
+		SnapshotServiceFactoryBean.SnapshotMetadata<Integer, String> metadata =
+			new SnapshotServiceFactoryBean.SnapshotMetadata<>(this.snapshotDirectory);
+
+		this.snapshotService.doExport(metadata);
+
+		List<String> previousSegmentFilenames = Arrays.stream(this.snapshotDirectory.listFiles())
+			.map(File::getName)
+			.collect(Collectors.toList());
+
+		SnapshotServiceFactoryBean.SnapshotMetadata<Integer, String> failingMetadata =
+			new SnapshotServiceFactoryBean.SnapshotMetadata<>(this.snapshotDirectory, null, entry -> {
+				throw new IllegalStateException("TEST");
+			});
+
+		assertThatExceptionOfType(ExportSnapshotException.class)
+			.isThrownBy(() -> this.snapshotService.doExport(failingMetadata));
+
+		assertThat(Arrays.stream(this.snapshotDirectory.listFiles()).map(File::getName))
+			.containsExactlyInAnyOrderElementsOf(previousSegmentFilenames);
+	}
+
+	@Test
+	public void exportRejectsClientRegion() {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		RegionAttributes<Integer, String> mockRegionAttributes = mock(RegionAttributes.class);
+
+		doReturn("/Example").when(mockRegion).getFullPath();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("DEFAULT").when(mockRegionAttributes).getPoolName();
+
+		ParallelRegionSnapshotServiceAdapter<Integer, String> snapshotService =
+			new ParallelRegionSnapshotServiceAdapter<>(mockRegion, mock(RegionSnapshotService.class));
+
+		assertThatExceptionOfType(ExportSnapshotException.class)
+			.isThrownBy(() -> snapshotService.doExport(
+				new SnapshotServiceFactoryBean.SnapshotMetadata<>(this.snapshotDirectory)))
+			.withMessageContaining("Client Region [/Example]");
+
+		assertThat(this.snapshotDirectory).doesNotExist();
+	}
+
+	private void assertProgress(Class<? extends SnapshotApplicationEvent> expectedEventType) {
+
+		List<SnapshotApplicationEvent> events = new ArrayList<>(progressEvents);
+
+		assertThat(events).hasSize(PARALLELISM + 1);
+		assertThat(events).allMatch(expectedEventType::isInstance);
+		assertThat(events).allMatch(SnapshotApplicationEvent::isProgressEvent);
+		assertThat(events).allMatch(event -> "/Numbers".equals(event.getRegionPath()));
+
+		SnapshotApplicationEvent lastEvent = events.get(events.size() - 1);
+
+		assertThat(lastEvent.getProgress().isComplete()).isTrue();
+		assertThat(lastEvent.getProgress().getCompletedFileCount()).isEqualTo(PARALLELISM);
+		assertThat(lastEvent.getProgress().getEntryCount()).isEqualTo(this.numbers.size());
+	}
+
+	@PeerCacheApplication(logLevel = "error")
+	static class TestConfiguration {
+
+		@Bean("Numbers")
+		PartitionedRegionFactoryBean<Integer, String> numbersRegion(GemFireCache gemfireCache) {
+
+			PartitionedRegionFactoryBean<Integer, String> numbersRegion = new PartitionedRegionFactoryBean<>();
+
+			numbersRegion.setCache(gemfireCache);
+			numbersRegion.setPersistent(false);
+
+			return numbersRegion;
+		}
+
+		@Bean
+		SnapshotServiceFactoryBean<Integer, String> numbersSnapshotService(@Qualifier("Numbers") Region numbers) {
+
+			SnapshotServiceFactoryBean<Integer, String> snapshotService = new SnapshotServiceFactoryBean<>();
+
+			snapshotService.setBatchSize(25);
+			snapshotService.setCompress(true);
+			snapshotService.setParallelism(PARALLELISM);
+			snapshotService.setRegion(numbers);
+
+			return snapshotService;
+		}
+
+		@Bean
+		ApplicationListener<SnapshotApplicationEvent<?, ?>> snapshotProgressListener() {
+
+			return event -> {
+				if (event.isProgressEvent()) {
+					progressEvents.add(event);
+				}
+			};
+		}
+	}
+}
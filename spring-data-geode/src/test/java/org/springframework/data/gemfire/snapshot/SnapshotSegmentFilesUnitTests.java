@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit Tests for {@link SnapshotSegmentFiles}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.SnapshotSegmentFiles
+ * @since 2.5.0
+ */
+public class SnapshotSegmentFilesUnitTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static Region<?, ?> mockRegion(String fullPath) {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		doReturn(fullPath).when(mockRegion).getFullPath();
+
+		return mockRegion;
+	}
+
+	@Test
+	public void filenamePrefixEncodesRegionPathUnambiguously() {
+
+		assertThat(SnapshotSegmentFiles.toFilenamePrefix(mockRegion("/Numbers"))).isEqualTo("Numbers");
+		assertThat(SnapshotSegmentFiles.toFilenamePrefix(mockRegion("/a/b"))).isEqualTo("a_2Fb");
+		assertThat(SnapshotSegmentFiles.toFilenamePrefix(mockRegion("/a_b"))).isEqualTo("a_5Fb");
+		assertThat(SnapshotSegmentFiles.toFilenamePrefix(mockRegion("/a-1"))).isEqualTo("a_2D1");
+	}
+
+	@Test
+	public void errorWhileStreamingEntriesDeletesTemporaryFiles() throws Exception {
+
+		File directory = this.temporaryFolder.newFolder();
+
+		Map.Entry<Object, Object> entry = new AbstractMap.SimpleImmutableEntry<>(1, "one");
+
+		assertThatThrownBy(() -> SnapshotSegmentFiles.write(Arrays.asList(entry, entry), (filteredEntry) -> {
+			throw new AssertionError("TEST");
+		}, directory, "Numbers", "1", null, 2, 1, false, result -> {}))
+			.isInstanceOf(AssertionError.class)
+			.hasMessage("TEST");
+
+		assertThat(directory.listFiles()).isEmpty();
+	}
+}
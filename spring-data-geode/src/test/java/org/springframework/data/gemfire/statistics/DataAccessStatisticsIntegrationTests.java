@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions;
+import org.springframework.data.gemfire.config.annotation.EnableStatistics;
+import org.springframework.data.gemfire.repository.config.EnableGemfireRepositories;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import example.app.model.User;
+import example.app.repo.UserRepository;
+
+/**
+ * Integration Tests for {@link DataAccessStatistics} recorded for
+ * {@link org.springframework.data.repository.Repository} method invocations.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.Statistics
+ * @see org.springframework.data.gemfire.config.annotation.EnableStatistics
+ * @see org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class DataAccessStatisticsIntegrationTests {
+
+	@Autowired
+	private GemFireCache cache;
+
+	@Autowired
+	private DataAccessStatisticsRecorder statisticsRecorder;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private Statistics findStatistics(String textId) {
+
+		Statistics[] statistics = this.cache.getDistributedSystem().findStatisticsByTextId(textId);
+
+		assertThat(statistics).hasSize(1);
+		assertThat(statistics[0].getType().getName())
+			.isEqualTo(DataAccessStatisticsRecorder.REPOSITORY_STATISTICS_TYPE_NAME);
+
+		return statistics[0];
+	}
+
+	@Test
+	public void recordsRepositoryMethodInvocations() {
+
+		this.userRepository.saveAll(Arrays.asList(User.as("jonDoe").identifiedBy(1),
+			User.as("janeDoe").identifiedBy(2), User.as("pieDoe").identifiedBy(3)));
+
+		List<User> users = this.userRepository.findByIdInOrderById(1, 3);
+
+		assertThat(users).hasSize(2);
+
+		Statistics queryMethodStatistics = findStatistics("UserRepository.findByIdInOrderById(Integer[])");
+
+		assertThat(queryMethodStatistics.getLong("invocations")).isOne();
+		assertThat(queryMethodStatistics.getLong("results")).isEqualTo(2L);
+		assertThat(queryMethodStatistics.getLong("invocationsInProgress")).isZero();
+		assertThat(queryMethodStatistics.getLong("failures")).isZero();
+
+		Statistics repositoryStatistics = findStatistics("UserRepository");
+
+		assertThat(repositoryStatistics.getLong("invocations")).isEqualTo(2L);
+		assertThat(repositoryStatistics.getLong("results")).isEqualTo(5L);
+	}
+
+	@ClientCacheApplication(name = "DataAccessStatisticsIntegrationTests", logLevel = "error")
+	@EnableEntityDefinedRegions(basePackageClasses = User.class, clientRegionShortcut = ClientRegionShortcut.LOCAL)
+	@EnableGemfireRepositories(basePackageClasses = UserRepository.class)
+	@EnableStatistics(enableDataAccessStatistics = true)
+	static class TestConfiguration { }
+
+}
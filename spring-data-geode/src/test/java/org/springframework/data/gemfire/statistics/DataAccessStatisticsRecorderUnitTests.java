@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.internal.statistics.StatisticsRegistry;
+
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * Unit Tests for {@link DataAccessStatisticsRecorder} and {@link DataAccessStatistics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.internal.statistics.StatisticsRegistry
+ * @see org.springframework.data.gemfire.statistics.DataAccessStatistics
+ * @see org.springframework.data.gemfire.statistics.DataAccessStatisticsRecorder
+ * @since 2.5.0
+ */
+public class DataAccessStatisticsRecorderUnitTests {
+
+	private final StatisticsFactory statisticsFactory =
+		new StatisticsRegistry("DataAccessStatisticsRecorderUnitTests", System.currentTimeMillis());
+
+	private final DataAccessStatisticsRecorder statisticsRecorder =
+		new DataAccessStatisticsRecorder(this.statisticsFactory);
+
+	@Test
+	public void getStatisticsCreatesStatisticsOnce() {
+
+		DataAccessStatistics statistics = this.statisticsRecorder
+			.getStatistics(DataAccessStatisticsRecorder.REPOSITORY_STATISTICS_TYPE_NAME, "CustomerRepository");
+
+		assertThat(statistics).isNotNull();
+		assertThat(statistics.getStatistics().getTextId()).isEqualTo("CustomerRepository");
+		assertThat(statistics.getStatistics().getType().getName())
+			.isEqualTo(DataAccessStatisticsRecorder.REPOSITORY_STATISTICS_TYPE_NAME);
+		assertThat(this.statisticsRecorder
+			.getStatistics(DataAccessStatisticsRecorder.REPOSITORY_STATISTICS_TYPE_NAME, "CustomerRepository"))
+			.isSameAs(statistics);
+		assertThat(this.statisticsRecorder
+			.getStatistics(DataAccessStatisticsRecorder.FUNCTION_EXECUTION_STATISTICS_TYPE_NAME, "CustomerRepository"))
+			.isNotSameAs(statistics);
+		assertThat(this.statisticsFactory.findStatisticsByTextId("CustomerRepository")).hasSize(2);
+	}
+
+	@Test
+	public void getStatisticsWithUnknownTypeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.statisticsRecorder.getStatistics("UnknownStats", "test"))
+			.withMessage("StatisticsType [UnknownStats] is not known")
+			.withNoCause();
+	}
+
+	@Test
+	public void recordsInvocations() {
+
+		DataAccessStatistics statistics = this.statisticsRecorder
+			.getStatistics(DataAccessStatisticsRecorder.FUNCTION_EXECUTION_STATISTICS_TYPE_NAME, "testFunction");
+
+		long startTime = statistics.startInvocation();
+
+		assertThat(statistics.getInvocationsInProgress()).isOne();
+
+		statistics.endInvocation(startTime, 5L);
+		statistics.failInvocation(statistics.startInvocation());
+
+		assertThat(statistics.getInvocationCount()).isEqualTo(2L);
+		assertThat(statistics.getInvocationsInProgress()).isZero();
+		assertThat(statistics.getFailureCount()).isOne();
+		assertThat(statistics.getResultCount()).isEqualTo(5L);
+		assertThat(statistics.getInvocationTime(TimeUnit.NANOSECONDS)).isPositive();
+		assertThat(statistics.getMaxInvocationTime(TimeUnit.NANOSECONDS))
+			.isPositive()
+			.isLessThanOrEqualTo(statistics.getInvocationTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void countResultsIsCorrect() {
+
+		assertThat(DataAccessStatistics.countResults(null)).isZero();
+		assertThat(DataAccessStatistics.countResults(Arrays.asList(1, 2, 3))).isEqualTo(3L);
+		assertThat(DataAccessStatistics.countResults(Collections.singletonMap("key", "value"))).isOne();
+		assertThat(DataAccessStatistics.countResults(new PageImpl<>(Arrays.asList(1, 2)))).isEqualTo(2L);
+		assertThat(DataAccessStatistics.countResults(Optional.empty())).isZero();
+		assertThat(DataAccessStatistics.countResults(Optional.of("test"))).isOne();
+		assertThat(DataAccessStatistics.countResults(new int[4])).isEqualTo(4L);
+		assertThat(DataAccessStatistics.countResults("test")).isOne();
+	}
+
+	@Test
+	public void destroyClosesStatistics() {
+
+		DataAccessStatistics statistics = this.statisticsRecorder
+			.getStatistics(DataAccessStatisticsRecorder.CONTINUOUS_QUERY_STATISTICS_TYPE_NAME, "TestCq");
+
+		this.statisticsRecorder.destroy();
+
+		assertThat(statistics.getStatistics().isClosed()).isTrue();
+		assertThat(this.statisticsRecorder
+			.getStatistics(DataAccessStatisticsRecorder.CONTINUOUS_QUERY_STATISTICS_TYPE_NAME, "TestCq"))
+			.isNotSameAs(statistics);
+	}
+}
@@ -37,7 +37,6 @@ import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
-import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionEvent;
 
@@ -61,30 +60,64 @@ public class AbstractCachingRegionResolverUnitTests {
 
 		Region mockRegion = mock(Region.class);
 
-		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
-
-		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
-		when(mockAttributesMutator.getRegion()).thenReturn(mockRegion);
-
 		AbstractCachingRegionResolver regionResolver = spy(AbstractCachingRegionResolver.class);
 
 		when(regionResolver.resolve(anyString())).thenCallRealMethod();
-		when(regionResolver.doResolveAndRegisterResolverAsCacheListener(anyString())).thenCallRealMethod();
+		when(regionResolver.doResolveIfNotDestroyed(anyString())).thenCallRealMethod();
 		when(regionResolver.doResolve(anyString())).thenReturn(mockRegion);
 
 		assertThat(regionResolver.resolve("TestRegion")).isEqualTo(mockRegion);
 		assertThat(regionResolver.resolve("TestRegion")).isEqualTo(mockRegion);
 
-		InOrder inOrder = Mockito.inOrder(regionResolver, mockRegion, mockAttributesMutator);
+		InOrder inOrder = Mockito.inOrder(regionResolver, mockRegion);
 
-		inOrder.verify(regionResolver, times(1)).doResolveAndRegisterResolverAsCacheListener(eq("TestRegion"));
+		inOrder.verify(regionResolver, times(1)).doResolveIfNotDestroyed(eq("TestRegion"));
 		inOrder.verify(regionResolver, times(1)).doResolve(eq("TestRegion"));
-		inOrder.verify(mockRegion, times(1)).getAttributesMutator();
-		inOrder.verify(mockAttributesMutator, times(1)).addCacheListener(eq(regionResolver));
-		inOrder.verify(mockAttributesMutator, times(1)).getRegion();
+		inOrder.verify(mockRegion, times(2)).isDestroyed();
 		verifyNoMoreInteractions(mockRegion);
 	}
 
+	@Test
+	public void resolveEvictsAndResolvesDestroyedCachedRegion() {
+
+		Region mockDestroyedRegion = mock(Region.class);
+		Region mockRecreatedRegion = mock(Region.class);
+
+		when(mockDestroyedRegion.getName()).thenReturn("TestRegion");
+
+		AbstractCachingRegionResolver regionResolver = spy(AbstractCachingRegionResolver.class);
+
+		when(regionResolver.doResolve(eq("TestRegion"))).thenReturn(mockRecreatedRegion);
+
+		regionResolver.cache(mockDestroyedRegion);
+
+		assertThat(regionResolver.resolve("TestRegion")).isEqualTo(mockDestroyedRegion);
+
+		when(mockDestroyedRegion.isDestroyed()).thenReturn(true);
+
+		assertThat(regionResolver.resolve("TestRegion")).isEqualTo(mockRecreatedRegion);
+		assertThat(regionResolver.resolve("TestRegion")).isEqualTo(mockRecreatedRegion);
+
+		verify(regionResolver, times(1)).doResolve(eq("TestRegion"));
+	}
+
+	@Test
+	public void resolveDoesNotCacheDestroyedRegion() {
+
+		Region mockRegion = mock(Region.class);
+
+		when(mockRegion.isDestroyed()).thenReturn(true);
+
+		AbstractCachingRegionResolver regionResolver = spy(AbstractCachingRegionResolver.class);
+
+		when(regionResolver.doResolve(eq("TestRegion"))).thenReturn(mockRegion);
+
+		assertThat(regionResolver.<Object, Object>resolve("TestRegion")).isNull();
+		assertThat(regionResolver.<Object, Object>resolve("TestRegion")).isNull();
+
+		verify(regionResolver, times(2)).doResolve(eq("TestRegion"));
+	}
+
 	public void testResolveWithInvalidRegionName(String regionName) {
 
 		AbstractCachingRegionResolver regionResolver = spy(AbstractCachingRegionResolver.class);
@@ -93,7 +126,7 @@ public class AbstractCachingRegionResolverUnitTests {
 
 		assertThat(regionResolver.resolve(regionName)).isNull();
 
-		verify(regionResolver, never()).doResolveAndRegisterResolverAsCacheListener(anyString());
+		verify(regionResolver, never()).doResolveIfNotDestroyed(anyString());
 		verify(regionResolver, never()).doResolve(anyString());
 	}
 
@@ -238,8 +271,6 @@ public class AbstractCachingRegionResolverUnitTests {
 		private AtomicReference<Region> regionResolvedFromThreadOne = new AtomicReference<>(null);
 		private AtomicReference<Region> regionResolvedFromThreadTwo = new AtomicReference<>(null);
 
-		private AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
-
 		private Region mockRegion = mock(Region.class);
 
 		@Override
@@ -247,13 +278,10 @@ public class AbstractCachingRegionResolverUnitTests {
 
 			super.initialize();
 
-			when(this.mockRegion.getAttributesMutator()).thenReturn(this.mockAttributesMutator);
-			when(this.mockAttributesMutator.getRegion()).thenReturn(this.mockRegion);
-
 			this.regionResolver = spy(AbstractCachingRegionResolver.class);
 
 			when(this.regionResolver.resolve(anyString())).thenCallRealMethod();
-			when(this.regionResolver.doResolveAndRegisterResolverAsCacheListener(anyString())).thenCallRealMethod();
+			when(this.regionResolver.doResolveIfNotDestroyed(anyString())).thenCallRealMethod();
 
 			when(this.regionResolver.doResolve(eq("MockRegion"))).thenAnswer(invocation -> {
 
@@ -289,11 +317,9 @@ public class AbstractCachingRegionResolverUnitTests {
 			assertThat(this.regionResolvedFromThreadTwo.get()).isSameAs(this.regionResolvedFromThreadOne.get());
 
 			verify(this.regionResolver, times(2)).resolve(eq("MockRegion"));
-			verify(this.regionResolver, times(1)).doResolveAndRegisterResolverAsCacheListener(eq("MockRegion"));
+			verify(this.regionResolver, times(1)).doResolveIfNotDestroyed(eq("MockRegion"));
 			verify(this.regionResolver, times(1)).doResolve(eq("MockRegion"));
-			verify(this.mockRegion, times(1)).getAttributesMutator();
-			verify(this.mockAttributesMutator, times(1)).addCacheListener(eq(this.regionResolver));
-			verify(this.mockAttributesMutator, times(1)).getRegion();
+			verify(this.mockRegion, never()).getAttributesMutator();
 		}
 	}
 }
@@ -30,7 +30,6 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Region;
 
 import org.springframework.beans.factory.BeanFactory;
@@ -56,14 +55,7 @@ public class BeanFactoryRegionResolverUnitTests {
 	@SuppressWarnings("unchecked")
 	private <K, V> Region<K, V> mockRegion() {
 
-		Region<K, V> mockRegion = mock(Region.class);
-
-		AttributesMutator<K, V> mockAttributesMutator = mock(AttributesMutator.class);
-
-		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
-		when(mockAttributesMutator.getRegion()).thenReturn(mockRegion);
-
-		return mockRegion;
+		return mock(Region.class);
 	}
 
 	@Test
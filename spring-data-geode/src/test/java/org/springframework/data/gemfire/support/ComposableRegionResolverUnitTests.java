@@ -18,7 +18,6 @@ package org.springframework.data.gemfire.support;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -26,7 +25,6 @@ import static org.mockito.Mockito.when;
 
 import java.util.function.Supplier;
 
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InOrder;
@@ -34,7 +32,6 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionDestroyedException;
 
@@ -68,15 +65,6 @@ public class ComposableRegionResolverUnitTests {
 	@Mock(name = "MockRegionResolverThree")
 	private RegionResolver mockRegionResolverThree;
 
-	@Before
-	public void setupMockRegion() {
-
-		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
-
-		when(this.mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
-		when(mockAttributesMutator.getRegion()).thenReturn(this.mockRegion);
-	}
-
 	@Test
 	public void constructComposableRegionResolver() {
 
@@ -29,13 +29,11 @@ import static org.springframework.data.gemfire.support.RegionServiceRegionResolv
 
 import java.util.Optional;
 
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
@@ -68,15 +66,6 @@ public class RegionServiceRegionResolverUnitTests {
 	@Mock
 	private Region mockRegion;
 
-	@Before
-	public void setupMockRegion() {
-
-		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
-
-		when(this.mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
-		when(mockAttributesMutator.getRegion()).thenReturn(this.mockRegion);
-	}
-
 	@Test
 	public void constructRegionServiceRegionResolverWithNonNullRegionServiceResolver() {
 
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.TransactionDataNodeHasDepartedException;
+
+import org.springframework.aop.ProxyMethodInvocation;
+
+/**
+ * Unit Tests for {@link CommitConflictRetryInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+ * @since 2.5.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CommitConflictRetryInterceptorUnitTests {
+
+	@Mock
+	private ProxyMethodInvocation mockInvocation;
+
+	@Mock
+	private ProxyMethodInvocation mockInvocationClone;
+
+	private GemfireTransactionMetrics transactionMetrics;
+
+	private CommitConflictRetryInterceptor retryInterceptor;
+
+	@Before
+	public void setup() {
+
+		this.transactionMetrics = new GemfireTransactionMetrics();
+		this.retryInterceptor = new CommitConflictRetryInterceptor(this.transactionMetrics);
+		this.retryInterceptor.setInitialBackoff(0L);
+		this.retryInterceptor.setMaxBackoff(0L);
+	}
+
+	private GemfireTransactionCommitException newCommitConflict() {
+		return new GemfireTransactionCommitException("TEST", new CommitConflictException("TEST"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullTransactionMetricsThrowsIllegalArgumentException() {
+
+		try {
+			new CommitConflictRetryInterceptor(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemfireTransactionMetrics must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void retryIsDisabledByDefault() throws Throwable {
+
+		when(this.mockInvocation.proceed()).thenReturn("test");
+
+		assertThat(this.retryInterceptor.isRetryEnabled()).isFalse();
+		assertThat(this.retryInterceptor.invoke(this.mockInvocation)).isEqualTo("test");
+
+		verify(this.mockInvocation, times(1)).proceed();
+		verify(this.mockInvocation, never()).invocableClone();
+	}
+
+	@Test
+	public void retriesOnCommitConflictUntilSuccessful() throws Throwable {
+
+		this.retryInterceptor.setMaxAttempts(3);
+
+		when(this.mockInvocation.invocableClone()).thenReturn(this.mockInvocationClone);
+		when(this.mockInvocationClone.proceed()).thenThrow(newCommitConflict()).thenReturn("test");
+
+		assertThat(this.retryInterceptor.invoke(this.mockInvocation)).isEqualTo("test");
+		assertThat(this.transactionMetrics.getCommitRetryCount()).isEqualTo(1L);
+		assertThat(this.transactionMetrics.getCommitRetryExhaustedCount()).isZero();
+
+		verify(this.mockInvocation, times(2)).invocableClone();
+		verify(this.mockInvocationClone, times(2)).proceed();
+	}
+
+	@Test
+	public void rethrowsCommitConflictWhenAttemptsAreExhausted() throws Throwable {
+
+		this.retryInterceptor.setMaxAttempts(2);
+
+		when(this.mockInvocation.invocableClone()).thenReturn(this.mockInvocationClone);
+		when(this.mockInvocationClone.proceed()).thenThrow(newCommitConflict());
+
+		assertThatExceptionOfType(GemfireTransactionCommitException.class)
+			.isThrownBy(() -> this.retryInterceptor.invoke(this.mockInvocation))
+			.withCauseInstanceOf(CommitConflictException.class);
+
+		assertThat(this.transactionMetrics.getCommitRetryCount()).isEqualTo(1L);
+		assertThat(this.transactionMetrics.getCommitRetryExhaustedCount()).isEqualTo(1L);
+
+		verify(this.mockInvocationClone, times(2)).proceed();
+	}
+
+	@Test
+	public void doesNotRetryOtherCommitFailures() throws Throwable {
+
+		this.retryInterceptor.setMaxAttempts(3);
+
+		when(this.mockInvocation.invocableClone()).thenReturn(this.mockInvocationClone);
+		when(this.mockInvocationClone.proceed()).thenThrow(new GemfireTransactionCommitException("TEST",
+			new TransactionDataNodeHasDepartedException("TEST")));
+
+		assertThatExceptionOfType(GemfireTransactionCommitException.class)
+			.isThrownBy(() -> this.retryInterceptor.invoke(this.mockInvocation))
+			.withCauseInstanceOf(TransactionDataNodeHasDepartedException.class);
+
+		assertThat(this.transactionMetrics.getCommitRetryCount()).isZero();
+
+		verify(this.mockInvocationClone, times(1)).proceed();
+	}
+
+	@Test
+	public void computeBackoffIsJitteredAndBounded() {
+
+		this.retryInterceptor.setInitialBackoff(100L);
+		this.retryInterceptor.setMaxBackoff(400L);
+		this.retryInterceptor.setBackoffMultiplier(2.0d);
+
+		for (int count = 0; count < 100; count++) {
+			assertThat(this.retryInterceptor.computeBackoff(1)).isBetween(50L, 100L);
+			assertThat(this.retryInterceptor.computeBackoff(2)).isBetween(100L, 200L);
+			assertThat(this.retryInterceptor.computeBackoff(5)).isBetween(200L, 400L);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setBackoffMultiplierLessThanOneThrowsIllegalArgumentException() {
+		this.retryInterceptor.setBackoffMultiplier(0.5d);
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+import org.apache.geode.cache.CommitConflictException;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.gemfire.transaction.CommitConflictExceptionTransactionalIntegrationTests.Customer;
+import org.springframework.data.gemfire.transaction.CommitConflictExceptionTransactionalIntegrationTests.CustomerRepository;
+import org.springframework.data.gemfire.transaction.CommitConflictExceptionTransactionalIntegrationTests.CustomerService;
+import org.springframework.data.gemfire.transaction.config.EnableGemfireCacheTransactions;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.Assert;
+
+/**
+ * Integration Tests asserting that a {@literal @Transactional} unit of work failing to commit due to
+ * a {@link CommitConflictException} is retried when {@link EnableGemfireCacheTransactions#maxCommitAttempts()}
+ * is greater than {@literal 1}.
+ *
+ * @author John Blum
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @see edu.umd.cs.mtc.TestFramework
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.CommitConflictException
+ * @see org.springframework.data.gemfire.transaction.CommitConflictRetryInterceptor
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionMetrics
+ * @see org.springframework.data.gemfire.transaction.config.EnableGemfireCacheTransactions
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class CommitConflictRetryTransactionalIntegrationTests {
+
+	@Autowired
+	private CustomerService customerService;
+
+	@Autowired
+	private GemfireTransactionMetrics transactionMetrics;
+
+	@Test
+	public void concurrentTransactionalThreadsRetryOnCommitConflict() throws Throwable {
+
+		TestFramework.runOnce(new TransactionalCommitConflictRetryMultithreadedTestCase(this.customerService));
+
+		assertThat(this.transactionMetrics.getCommitConflictCount()).isEqualTo(1L);
+		assertThat(this.transactionMetrics.getCommitRetryCount()).isEqualTo(1L);
+		assertThat(this.transactionMetrics.getCommitRetryExhaustedCount()).isZero();
+	}
+
+	static class TransactionalCommitConflictRetryMultithreadedTestCase extends MultithreadedTestCase {
+
+		private final AtomicInteger thread2Attempts = new AtomicInteger(0);
+
+		private final CustomerService customerService;
+
+		TransactionalCommitConflictRetryMultithreadedTestCase(CustomerService customerService) {
+
+			Assert.notNull(customerService, "CustomerService is required");
+
+			this.customerService = customerService;
+		}
+
+		@Override
+		public void initialize() {
+
+			super.initialize();
+
+			Customer jonDoe = this.customerService.save(Customer.newCustomer(1L, "Jon Doe"));
+
+			assertThat(this.customerService.findById(jonDoe.getId())).isEqualTo(jonDoe);
+		}
+
+		public void thread1() {
+
+			assertTick(0);
+
+			Thread.currentThread().setName("Customer Processing Thread One");
+
+			this.customerService.process(1L, customer -> {
+
+				customer.setName("Pie Doe");
+
+				waitForTick(2);
+
+				return customer;
+
+			}, Function.identity());
+		}
+
+		public void thread2() {
+
+			assertTick(0);
+
+			Thread.currentThread().setName("Customer Processing Thread Two");
+
+			waitForTick(1);
+
+			this.customerService.process(1L, customer -> {
+
+				if (this.thread2Attempts.incrementAndGet() == 1) {
+					assertThat(customer.getName()).isEqualTo("Jon Doe");
+					waitForTick(3);
+				}
+				else {
+					assertThat(customer.getName()).isEqualTo("Pie Doe");
+				}
+
+				customer.setName("Sour Doe");
+
+				return customer;
+
+			}, Function.identity());
+		}
+
+		@Override
+		public void finish() {
+
+			assertThat(this.thread2Attempts.get()).isEqualTo(2);
+			assertThat(this.customerService.findById(1L).getName()).isEqualTo("Sour Doe");
+		}
+	}
+
+	@ClientCacheApplication(logLevel = "error")
+	@EnableEntityDefinedRegions(
+		basePackageClasses = Customer.class,
+		clientRegionShortcut = ClientRegionShortcut.LOCAL
+	)
+	@EnableGemfireCacheTransactions(maxCommitAttempts = 3, commitRetryInitialBackoff = 10L)
+	static class TestConfiguration {
+
+		@Bean
+		GemfireRepositoryFactoryBean<CustomerRepository, Customer, Long> customerRepositoryFactoryBean() {
+
+			GemfireRepositoryFactoryBean<CustomerRepository, Customer, Long> customerRepositoryFactoryBean
+				= new GemfireRepositoryFactoryBean<>(CustomerRepository.class);
+
+			customerRepositoryFactoryBean.setGemfireMappingContext(new GemfireMappingContext());
+
+			return customerRepositoryFactoryBean;
+		}
+
+		@Bean
+		CustomerService customerService(CustomerRepository customerRepository) {
+			return new CustomerService(customerRepository);
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.annotation.Resource;
+
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.LocalRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.transaction.config.EnableGemfireCacheTransactions;
+import org.springframework.stereotype.Service;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Integration Tests for {@link GemfireTransactionManager} asserting that read-only transactions bypass
+ * the {@link CacheTransactionManager} when {@link EnableGemfireCacheTransactions#bypassReadOnlyTransactions()}
+ * is {@literal true}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.CacheTransactionManager
+ * @see org.springframework.data.gemfire.transaction.GemfireTransactionManager
+ * @see org.springframework.data.gemfire.transaction.config.EnableGemfireCacheTransactions
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 2.5.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class ReadOnlyTransactionBypassIntegrationTests {
+
+	@Autowired
+	private GemFireCache gemfireCache;
+
+	@Resource(name = "Example")
+	private Region<Object, Object> example;
+
+	@Autowired
+	private GemfireTransactionManager transactionManager;
+
+	@Autowired
+	private TransactionalService transactionalService;
+
+	@Test
+	public void transactionManagerIsConfigured() {
+
+		assertThat(this.transactionManager.isBypassReadOnlyTransactions()).isTrue();
+		assertThat(this.transactionManager.isCopyOnRead()).isFalse();
+		assertThat(this.gemfireCache.getCopyOnRead()).isFalse();
+	}
+
+	@Test
+	public void readOnlyTransactionBypassesCacheTransaction() {
+
+		long beginCount = this.transactionManager.getTransactionMetrics().getBeginCount();
+
+		this.example.put("key", "value");
+
+		assertThat(this.transactionalService.readOnly("key")).isEqualTo("value");
+		assertThat(this.transactionManager.getTransactionMetrics().getBeginCount()).isEqualTo(beginCount);
+	}
+
+	@Test
+	public void readOnlyTransactionSuspendsAndResumesAroundNewReadWriteTransaction() {
+
+		long beginCount = this.transactionManager.getTransactionMetrics().getBeginCount();
+
+		this.transactionalService.readOnlyThenWrite("tx-key", "tx-value");
+
+		assertThat(this.example.get("tx-key")).isEqualTo("tx-value");
+		assertThat(this.transactionManager.getTransactionMetrics().getBeginCount()).isEqualTo(beginCount + 1);
+	}
+
+	@PeerCacheApplication(name = "ReadOnlyTransactionBypassIntegrationTests", logLevel = "error")
+	@EnableGemfireCacheTransactions(bypassReadOnlyTransactions = true, copyOnRead = false)
+	static class TestConfiguration {
+
+		@Bean(name = "Example")
+		LocalRegionFactoryBean<Object, Object> exampleRegion(GemFireCache gemfireCache) {
+
+			LocalRegionFactoryBean<Object, Object> example = new LocalRegionFactoryBean<>();
+
+			example.setCache(gemfireCache);
+			example.setClose(false);
+			example.setPersistent(false);
+
+			return example;
+		}
+
+		@Bean
+		TransactionalWriter transactionalWriter(GemFireCache gemfireCache) {
+			return new TransactionalWriter(gemfireCache);
+		}
+
+		@Bean
+		TransactionalService transactionalService(GemFireCache gemfireCache, TransactionalWriter writer) {
+			return new TransactionalService(gemfireCache, writer);
+		}
+	}
+
+	@Service
+	static class TransactionalService {
+
+		private final GemFireCache gemfireCache;
+
+		private final TransactionalWriter writer;
+
+		TransactionalService(GemFireCache gemfireCache, TransactionalWriter writer) {
+
+			Assert.notNull(gemfireCache, "GemFireCache must not be null");
+			Assert.notNull(writer, "TransactionalWriter must not be null");
+
+			this.gemfireCache = gemfireCache;
+			this.writer = writer;
+		}
+
+		@Transactional(readOnly = true)
+		public Object readOnly(Object key) {
+
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			assertThat(this.gemfireCache.getCacheTransactionManager().exists()).isFalse();
+
+			return this.gemfireCache.getRegion("Example").get(key);
+		}
+
+		@Transactional(readOnly = true)
+		public void readOnlyThenWrite(Object key, Object value) {
+
+			assertThat(this.gemfireCache.getCacheTransactionManager().exists()).isFalse();
+
+			this.writer.write(key, value);
+
+			assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+			assertThat(this.gemfireCache.getCacheTransactionManager().exists()).isFalse();
+		}
+	}
+
+	@Service
+	static class TransactionalWriter {
+
+		private final GemFireCache gemfireCache;
+
+		TransactionalWriter(GemFireCache gemfireCache) {
+			this.gemfireCache = gemfireCache;
+		}
+
+		@Transactional(propagation = Propagation.REQUIRES_NEW)
+		public void write(Object key, Object value) {
+
+			assertThat(this.gemfireCache.getCacheTransactionManager().exists()).isTrue();
+
+			this.gemfireCache.getRegion("Example").put(key, value);
+		}
+	}
+}
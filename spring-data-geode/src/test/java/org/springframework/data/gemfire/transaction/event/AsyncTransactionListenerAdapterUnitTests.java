@@ -0,0 +1,246 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.transaction.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.TransactionEvent;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit Tests for {@link AsyncTransactionListenerAdapter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.context.ApplicationEventPublisher
+ * @see org.springframework.data.gemfire.transaction.event.AsyncTransactionListenerAdapter
+ * @since 2.5.0
+ */
+public class AsyncTransactionListenerAdapterUnitTests {
+
+	private AsyncTransactionListenerAdapter listener;
+
+	private final CountDownLatch handlerLatch = new CountDownLatch(1);
+
+	private final List<ApplicationEvent> publishedEvents = new CopyOnWriteArrayList<>();
+
+	@After
+	public void tearDown() {
+
+		this.handlerLatch.countDown();
+
+		if (this.listener != null) {
+			this.listener.destroy();
+		}
+	}
+
+	private ApplicationEventPublisher newApplicationEventPublisher(boolean blockHandler) {
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		doAnswer(invocation -> {
+
+			if (blockHandler) {
+				this.handlerLatch.await(5, TimeUnit.SECONDS);
+			}
+
+			this.publishedEvents.add(invocation.getArgument(0));
+
+			return null;
+
+		}).when(mockApplicationEventPublisher).publishEvent(any(ApplicationEvent.class));
+
+		return mockApplicationEventPublisher;
+	}
+
+	private void waitForPublishedEventCount(long count) throws InterruptedException {
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+
+		while (this.listener.getPublishedEventCount() < count && System.currentTimeMillis() < timeout) {
+			TimeUnit.MILLISECONDS.sleep(10);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidQueueCapacityThrowsIllegalArgumentException() {
+
+		try {
+			new AsyncTransactionListenerAdapter(mock(ApplicationEventPublisher.class), 0,
+				AsyncTransactionListenerAdapter.OverflowPolicy.BLOCK, 1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Queue capacity [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void afterCommitPublishesEventAsynchronously() throws InterruptedException {
+
+		TransactionEvent mockTransactionEvent = mock(TransactionEvent.class);
+
+		this.listener = new AsyncTransactionListenerAdapter(newApplicationEventPublisher(true));
+		this.listener.afterPropertiesSet();
+		this.listener.afterCommit(mockTransactionEvent);
+		this.listener.afterRollback(mockTransactionEvent);
+
+		assertThat(this.publishedEvents).isEmpty();
+
+		this.handlerLatch.countDown();
+
+		waitForPublishedEventCount(2);
+
+		assertThat(this.publishedEvents).hasSize(2);
+		assertThat(this.publishedEvents).allMatch(event -> event instanceof TransactionApplicationEvent);
+		assertThat(this.publishedEvents.get(0).getSource()).isSameAs(mockTransactionEvent);
+		assertThat(this.listener.getQueueDepth()).isZero();
+		assertThat(this.listener.getDroppedEventCount()).isZero();
+	}
+
+	@Test
+	public void publishesQueuedEventsInBatches() throws InterruptedException {
+
+		this.listener = new AsyncTransactionListenerAdapter(newApplicationEventPublisher(true), 100,
+			AsyncTransactionListenerAdapter.OverflowPolicy.BLOCK, 10);
+		this.listener.afterPropertiesSet();
+
+		for (int count = 0; count < 11; count++) {
+			this.listener.afterCommit(mock(TransactionEvent.class));
+		}
+
+		this.handlerLatch.countDown();
+
+		waitForPublishedEventCount(11);
+
+		assertThat(this.listener.getPublishedEventCount()).isEqualTo(11L);
+		assertThat(this.publishedEvents).allMatch(event -> event instanceof TransactionApplicationEvents);
+		assertThat(this.publishedEvents.stream().mapToInt(event -> ((TransactionApplicationEvents) event).size()).sum())
+			.isEqualTo(11);
+		assertThat(this.publishedEvents.stream().mapToInt(event -> ((TransactionApplicationEvents) event).size()).max()
+			.orElse(0)).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	public void discardsEventsWhenQueueIsFull() throws InterruptedException {
+
+		this.listener = new AsyncTransactionListenerAdapter(newApplicationEventPublisher(true), 1,
+			AsyncTransactionListenerAdapter.OverflowPolicy.DISCARD, 1);
+		this.listener.afterPropertiesSet();
+
+		this.listener.afterCommit(mock(TransactionEvent.class));
+
+		// wait for the publisher Thread to take the first event and block in the handler
+		while (this.listener.getQueueDepth() > 0) {
+			TimeUnit.MILLISECONDS.sleep(10);
+		}
+
+		this.listener.afterCommit(mock(TransactionEvent.class));
+		this.listener.afterCommit(mock(TransactionEvent.class));
+
+		assertThat(this.listener.getQueueDepth()).isEqualTo(1);
+		assertThat(this.listener.getDroppedEventCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void callerRunsWhenQueueIsFull() throws InterruptedException {
+
+		this.listener = new AsyncTransactionListenerAdapter(newApplicationEventPublisher(false), 1,
+			AsyncTransactionListenerAdapter.OverflowPolicy.CALLER_RUNS, 1);
+		this.listener.afterPropertiesSet();
+
+		for (int count = 0; count < 50; count++) {
+			this.listener.afterCommit(mock(TransactionEvent.class));
+		}
+
+		waitForPublishedEventCount(50);
+
+		assertThat(this.listener.getPublishedEventCount()).isEqualTo(50L);
+		assertThat(this.listener.getDroppedEventCount()).isZero();
+	}
+
+	@Test
+	public void eventsAreOnlyPublishedAfterStart() throws InterruptedException {
+
+		this.listener = new AsyncTransactionListenerAdapter(newApplicationEventPublisher(false));
+		this.listener.afterCommit(mock(TransactionEvent.class));
+
+		TimeUnit.MILLISECONDS.sleep(200);
+
+		assertThat(this.publishedEvents).isEmpty();
+		assertThat(this.listener.getQueueDepth()).isOne();
+
+		this.listener.afterPropertiesSet();
+
+		waitForPublishedEventCount(1);
+
+		assertThat(this.publishedEvents).hasSize(1);
+	}
+
+	@Test
+	public void destroyReleasesBlockedCaller() throws Exception {
+
+		this.listener = new AsyncTransactionListenerAdapter(newApplicationEventPublisher(true), 1,
+			AsyncTransactionListenerAdapter.OverflowPolicy.BLOCK, 1);
+
+		this.listener.afterCommit(mock(TransactionEvent.class));
+
+		CompletableFuture<Void> blockedCaller =
+			CompletableFuture.runAsync(() -> this.listener.afterCommit(mock(TransactionEvent.class)));
+
+		TimeUnit.MILLISECONDS.sleep(200);
+
+		assertThat(blockedCaller).isNotDone();
+
+		this.listener.destroy();
+
+		blockedCaller.get(5, TimeUnit.SECONDS);
+
+		assertThat(this.listener.getDroppedEventCount()).isEqualTo(2L);
+		assertThat(this.listener.getQueueDepth()).isZero();
+		assertThat(this.publishedEvents).isEmpty();
+	}
+
+	@Test
+	public void eventsPublishedAfterDestroyAreDropped() {
+
+		this.listener = new AsyncTransactionListenerAdapter(newApplicationEventPublisher(false));
+		this.listener.afterPropertiesSet();
+		this.listener.destroy();
+		this.listener.afterCommit(mock(TransactionEvent.class));
+
+		assertThat(this.listener.getDroppedEventCount()).isEqualTo(1L);
+		assertThat(this.publishedEvents).isEmpty();
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link LruCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.util.LruCache
+ * @since 2.5.0
+ */
+public class LruCacheUnitTests {
+
+	@Test
+	public void constructWithInvalidMaxSizeThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new LruCache<>(0, 0L))
+			.withMessage("Maximum size [0] must be greater than 0");
+	}
+
+	@Test
+	public void getLoadsAndCachesValue() {
+
+		LruCache<String, String> cache = new LruCache<>(10, 0L);
+
+		assertThat(cache.get("a", String::toUpperCase)).isEqualTo("A");
+		assertThat(cache.get("a", key -> "X")).isEqualTo("A");
+		assertThat(cache.get("b", key -> null)).isNull();
+		assertThat(cache.size()).isOne();
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void invalidateDuringLoadDiscardsOnlyTheLoadedValueOfThatKey() {
+
+		LruCache<String, String> cache = new LruCache<>(10, 0L);
+
+		assertThat(cache.get("a", key -> {
+			cache.invalidate("b");
+			return "A";
+		})).isEqualTo("A");
+
+		assertThat(cache.get("b", key -> {
+			cache.invalidate("b");
+			return "B";
+		})).isEqualTo("B");
+
+		assertThat(cache.get("a", key -> "X")).isEqualTo("A");
+		assertThat(cache.get("b", key -> "Y")).isEqualTo("Y");
+	}
+
+	@Test
+	public void failedLoadIsNotCached() {
+
+		LruCache<String, String> cache = new LruCache<>(10, 0L);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> cache.get("a", key -> {
+				throw new IllegalStateException("TEST");
+			}));
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.get("a", String::toUpperCase)).isEqualTo("A");
+	}
+
+	@Test
+	public void leastRecentlyUsedEntriesAreEvicted() {
+
+		LruCache<Integer, String> cache = new LruCache<>(2, 0L);
+
+		cache.get(1, String::valueOf);
+		cache.get(2, String::valueOf);
+		cache.get(1, String::valueOf);
+		cache.get(3, String::valueOf);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isOne();
+		assertThat(cache.get(1, key -> "X")).isEqualTo("1");
+		assertThat(cache.get(2, key -> "Y")).isEqualTo("Y");
+	}
+
+	@Test
+	public void expiredEntriesAreReloaded() throws Exception {
+
+		LruCache<String, String> cache = new LruCache<>(10, 1L);
+
+		cache.get("a", String::toUpperCase);
+
+		Thread.sleep(10L);
+
+		assertThat(cache.get("a", key -> "X")).isEqualTo("X");
+	}
+
+	@Test
+	public void getAllLoadsOnlyMissingKeys() {
+
+		LruCache<String, String> cache = new LruCache<>(10, 0L);
+
+		cache.get("a", String::toUpperCase);
+
+		Map<String, String> values = cache.getAll(Arrays.asList("a", "b", "c"), keys -> {
+
+			assertThat(keys).containsExactly("b", "c");
+
+			Map<String, String> loadedValues = new HashMap<>();
+
+			loadedValues.put("b", "B");
+
+			return loadedValues;
+		});
+
+		assertThat(values).hasSize(2).containsEntry("a", "A").containsEntry("b", "B");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isEqualTo(3L);
+	}
+}